@@ -0,0 +1,22 @@
+package benchmark;
+
+import business.entity.Customer;
+
+/**
+ * Datos de ejemplo compartidos por los benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Crea un cliente válido cuyo correo electrónico es único para cada índice.
+     *
+     * @param index El índice del cliente.
+     * @return Un cliente que cumple las reglas de {@code CustomerValidatorImpl}.
+     */
+    static Customer customer(long index) {
+        return new Customer(null, "María García López", "cliente" + index + "@example.com", "+34612345678");
+    }
+}
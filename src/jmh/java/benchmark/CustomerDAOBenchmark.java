@@ -0,0 +1,111 @@
+package benchmark;
+
+import business.entity.Customer;
+import repository.CustomerDAO;
+import repository.CustomerDAOImpl;
+import repository.InMemoryCustomerDAOImpl;
+import utility.config.DatabaseConfigLoaderImpl;
+import utility.connection.EmbeddedDatabaseConnectionImpl;
+import utility.loader.PropertiesLoaderImpl;
+import utility.logging.EntityLogMessagesImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark de rendimiento de extremo a extremo de las operaciones CRUD de {@link CustomerDAOImpl} contra una base
+ * de datos H2 embebida en el propio proceso.
+ *
+ * <p>El parámetro {@code implementation=memory} ejecuta las mismas operaciones sobre
+ * {@link InMemoryCustomerDAOImpl}, cuyo rendimiento sirve como cota superior de referencia.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerDAOBenchmark {
+
+    @Param({"1000"})
+    private int initialRows;
+
+    @Param({"jdbc", "memory"})
+    private String implementation;
+
+    private EmbeddedDatabaseConnectionImpl dbConnection;
+
+    private CustomerDAO customerDAO;
+
+    // Contador para generar correos electrónicos únicos en las inserciones.
+    private final AtomicLong emailSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dbConnection = new EmbeddedDatabaseConnectionImpl(
+                new DatabaseConfigLoaderImpl(new PropertiesLoaderImpl(), "h2-benchmark.properties"));
+        dbConnection.getConnection().close();
+        customerDAO = "memory".equals(implementation)
+                ? new InMemoryCustomerDAOImpl(new EntityLogMessagesImpl<>())
+                : new CustomerDAOImpl(dbConnection, new EntityLogMessagesImpl<>());
+        for (int i = 0; i < initialRows; i++) {
+            customerDAO.add(BenchmarkData.customer(emailSequence.incrementAndGet()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        dbConnection.close();
+    }
+
+    @Benchmark
+    public Customer get() {
+        return customerDAO.get(String.valueOf(randomId()));
+    }
+
+    @Benchmark
+    public List<Customer> getAll() {
+        return customerDAO.getAll();
+    }
+
+    @Benchmark
+    public Customer add() {
+        Customer customer = BenchmarkData.customer(emailSequence.incrementAndGet());
+        customerDAO.add(customer);
+        return customer;
+    }
+
+    @Benchmark
+    public Customer update() {
+        long id = randomId();
+        Customer customer = new Customer(String.valueOf(id), "Ana Torres", "actualizado" + id + "@example.com", "+34698765432");
+        customerDAO.update(customer);
+        return customer;
+    }
+
+    /**
+     * Obtiene un identificador aleatorio entre los clientes insertados inicialmente.
+     *
+     * @return Un identificador existente.
+     */
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, initialRows + 1);
+    }
+}
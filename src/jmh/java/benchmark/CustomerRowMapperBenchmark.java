@@ -0,0 +1,67 @@
+package benchmark;
+
+import business.entity.Customer;
+import repository.CustomerRowMapperImpl;
+import repository.RowMapper;
+
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la conversión ResultSet→{@link Customer} realizada por {@link CustomerRowMapperImpl}.
+ *
+ * <p>Utiliza un {@link SimpleResultSet} en memoria para medir únicamente el coste de la conversión, sin la
+ * ejecución de la consulta ni la transferencia de datos.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerRowMapperBenchmark {
+
+    @Param({"1000"})
+    private int rows;
+
+    private final RowMapper<Customer> rowMapper = new CustomerRowMapperImpl();
+
+    private SimpleResultSet resultSet;
+
+    @Setup
+    public void setUp() {
+        resultSet = new SimpleResultSet();
+        resultSet.setAutoClose(false);
+        resultSet.addColumn("id", Types.VARCHAR, 11, 0);
+        resultSet.addColumn("name", Types.VARCHAR, 100, 0);
+        resultSet.addColumn("email", Types.VARCHAR, 100, 0);
+        resultSet.addColumn("phone", Types.VARCHAR, 15, 0);
+        for (int i = 0; i < rows; i++) {
+            Customer customer = BenchmarkData.customer(i);
+            resultSet.addRow(String.valueOf(i + 1), customer.getName(), customer.getEmail(), customer.getPhone());
+        }
+    }
+
+    @Benchmark
+    public void mapAllRows(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(rowMapper.mapRow(resultSet));
+        }
+    }
+}
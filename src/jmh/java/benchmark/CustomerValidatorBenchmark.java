@@ -0,0 +1,61 @@
+package benchmark;
+
+import business.entity.Customer;
+import business.validation.CustomerValidator;
+import business.validation.CustomerValidatorImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link CustomerValidatorImpl#validate(Customer)} para clientes válidos e inválidos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerValidatorBenchmark {
+
+    private final CustomerValidator validator = new CustomerValidatorImpl();
+
+    private final Customer validCustomer = BenchmarkData.customer(1);
+
+    private final Customer validCustomerWithoutPhone =
+            new Customer(null, "José Martínez", "josemartinez@example.com", "");
+
+    private final Customer invalidPhoneCustomer =
+            new Customer(null, "Juan Pérez", "juanperez@example.com", "12345");
+
+    @Benchmark
+    public Customer validCustomer() {
+        validator.validate(validCustomer);
+        return validCustomer;
+    }
+
+    @Benchmark
+    public Customer validCustomerWithoutPhone() {
+        validator.validate(validCustomerWithoutPhone);
+        return validCustomerWithoutPhone;
+    }
+
+    @Benchmark
+    public Object invalidPhone() {
+        try {
+            validator.validate(invalidPhoneCustomer);
+            return invalidPhoneCustomer;
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package benchmark;
+
+import business.entity.Customer;
+import utility.logging.EntityLogMessagesImpl;
+import utility.logging.LogMessages;
+import utility.logging.MessageType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link EntityLogMessagesImpl#getMessage(MessageType, Object...)}, que se invoca en cada operación
+ * del DAO independientemente del nivel de log configurado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogMessagesBenchmark {
+
+    private final LogMessages<Customer> logMessages = new EntityLogMessagesImpl<>();
+
+    private final Customer customer = new Customer("42", "Juan Pérez", "juanperez@example.com", "+34612345678");
+
+    @Benchmark
+    public String successAddWithEntity() {
+        return logMessages.getMessage(MessageType.SUCCESS_ADD, customer);
+    }
+
+    @Benchmark
+    public String successDeleteWithId() {
+        return logMessages.getMessage(MessageType.SUCCESS_DELETE, "42");
+    }
+
+    @Benchmark
+    public String successGetAllConstant() {
+        return logMessages.getMessage(MessageType.SUCCESS_GET_ALL);
+    }
+}
@@ -1,27 +1,96 @@
 import utility.config.AppConfig;
+import utility.config.ApplicationConfigLoader;
+import utility.config.ApplicationConfigLoaderImpl;
 import utility.connection.DatabaseConnection;
+import utility.connection.DatabaseDialect;
+import utility.connection.EmbeddedDatabaseConnectionImpl;
+import utility.connection.InstrumentedDatabaseConnectionImpl;
+import utility.connection.ProfilingDatabaseConnectionImpl;
 import utility.connection.MySQLConnectionImpl;
+import utility.connection.ReplicaRoutingConnectionImpl;
+import utility.connection.ResilientDatabaseConnectionImpl;
+import utility.connection.TransactionalDatabaseConnectionImpl;
 import utility.loader.PropertiesLoader;
 import utility.loader.PropertiesLoaderImpl;
 import utility.config.DatabaseConfigLoader;
 import utility.config.DatabaseConfigLoaderImpl;
+import utility.config.ReplicaDatabaseConfigLoaderImpl;
 
 import business.service.CustomerService;
 import business.service.CustomerServiceImpl;
+import business.service.InstrumentedCustomerServiceImpl;
+import business.service.JdbcUnitOfWorkImpl;
+import business.service.NonTransactionalUnitOfWorkImpl;
+import business.service.UnitOfWork;
 import business.entity.Customer;
+import business.analytics.CustomerAnalytics;
+import business.analytics.ParallelCustomerAnalyticsImpl;
+import business.dedup.MinHashDuplicateDetectorImpl;
+import business.store.OffHeapCustomerStore;
 import utility.logging.LogMessages;
 import utility.logging.EntityLogMessagesImpl;
+import utility.metrics.EdtStallDetector;
+import utility.metrics.MetricsRegistry;
+import utility.metrics.MetricsReporter;
+import utility.metrics.StatementProfiler;
+import utility.datagen.CustomerBulkLoader;
+import utility.datagen.CustomerDataGenerator;
+import utility.jfr.FlightRecording;
+import utility.loadtest.LoadGenerator;
+import utility.loadtest.LoadTestConfig;
+import utility.loadtest.LoadTestResult;
+import utility.metrics.StartupTimer;
+import utility.migration.Migration;
+import utility.migration.MigrationRunner;
+import utility.migration.SqlMigrationRunnerImpl;
+import utility.resilience.CircuitBreaker;
+import utility.resilience.RetryPolicy;
 import repository.CustomerDAO;
 import repository.CustomerDAOImpl;
+import repository.InMemoryCustomerDAOImpl;
+import repository.InstrumentedCustomerDAOImpl;
+import repository.QueryTimeouts;
+import repository.ResilientCustomerDAOImpl;
+import repository.WriteBehindCustomerDAOImpl;
+import repository.analytics.SqlCustomerAnalyticsImpl;
+import repository.sharding.ShardedCustomerDAOImpl;
+import repository.sharding.SnowflakeIdGeneratorImpl;
+import repository.snapshot.CustomerSnapshotStore;
 import business.validation.CustomerValidator;
 import business.validation.CustomerValidatorImpl;
 
 import presentation.view.CustomerView;
 
 import presentation.controller.CustomerControllerImpl;
+import presentation.api.CustomerApiServer;
+import presentation.cli.CustomerCommandLine;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Clase principal que inicializa y configura la aplicación de gestión de clientes.
  *
@@ -34,56 +103,461 @@ import javax.swing.SwingUtilities;
  * 5. La separación de responsabilidades entre el método main y los demás métodos sigue mejor el Principio de
  * Responsabilidad Única (SRP).
  * 6. La estructura del código es más modular y fácil de mantener a medida que la aplicación crece.
+ * 7. El arranque no bloquea la interfaz: la ventana se muestra de inmediato y la conexión, la precarga de clases y la
+ * primera página de clientes se preparan en paralelo en segundo plano.
+ * 8. Con el argumento {@code --server} la aplicación arranca sin interfaz gráfica y expone el servicio de clientes
+ * como API HTTP/JSON.
+ * 9. Las migraciones pendientes del esquema se aplican al arrancar, o solo ellas con el argumento {@code --migrate}.
+ * 10. Con el argumento {@code --loadtest} se ejecuta una prueba de carga sobre el servicio de clientes configurado.
+ * 11. Con el argumento {@code --generate} se generan clientes sintéticos para probar la aplicación con millones de
+ * filas.
+ * 12. Con el argumento {@code --cli} se ejecutan comandos por lotes (importación, exportación, eliminación, informes,
+ * detección de duplicados, migraciones) sin interfaz gráfica, con códigos de salida para su uso desde tareas programadas.
  */
 public class AppMain {
     /**
-     * Conexión a la base de datos utilizada por la aplicación.
+     * Logger para registrar eventos y errores del arranque.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(AppMain.class);
+
+    /**
+     * Número de hilos dedicados a las fases del arranque que se ejecutan en paralelo.
      */
-    private final DatabaseConnection dbConnection;
+    private static final int STARTUP_THREADS = 3;
 
     /**
-     * Servicio de cliente que maneja la lógica de negocio relacionada con los clientes.
+     * Tiempo máximo de espera de la comprobación de la conexión durante el precalentamiento, en segundos.
      */
-    private final CustomerService customerService;
+    private static final int WARM_UP_TIMEOUT_SECONDS = 5;
 
     /**
-     * Vista de cliente que maneja la interfaz de usuario.
+     * Clases que se cargan e inicializan en segundo plano durante el arranque, para que su coste no recaiga en la
+     * primera interacción del usuario.
      */
-    private final CustomerView customerView;
+    private static final String[] PRELOADED_CLASSES = {
+            "presentation.controller.CustomerControllerImpl",
+            "business.validation.CustomerValidatorImpl",
+            "repository.CustomerRowMapperImpl",
+            "utility.logging.EntityLogMessagesImpl",
+            "javax.swing.JOptionPane",
+            "javax.swing.SwingWorker",
+            "javax.swing.table.DefaultTableCellRenderer"
+    };
 
     /**
-     * Constructor que inicializa la configuración de la aplicación.
-     * Crea la conexión a la base de datos, el servicio de cliente y la vista de cliente.
+     * Cargador de propiedades compartido, para que cada archivo de propiedades se lea una sola vez.
+     */
+    private final PropertiesLoader propertiesLoader = new PropertiesLoaderImpl();
+
+    /**
+     * Configuración general de la aplicación.
+     */
+    private final ApplicationConfigLoader appConfig;
+
+    /**
+     * Registro de métricas de la aplicación, o {@code null} si las métricas están desactivadas.
+     */
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * Volcado periódico de las métricas al log, o {@code null} si no está configurado.
+     */
+    private MetricsReporter metricsReporter;
+
+    /**
+     * Perfilado de las sentencias SQL, o {@code null} si el perfilado está desactivado.
+     */
+    private final StatementProfiler statementProfiler;
+
+    /**
+     * Constructor que inicializa la configuración de la aplicación, el registro de métricas y, si está activada, la
+     * grabación de Java Flight Recorder. La conexión a la base de datos, el servicio de cliente y la vista de cliente
+     * se crean durante el arranque de la interfaz.
      */
     public AppMain() {
-        String propertiesFileName = AppConfig.DATABASE_PROPERTIES_FILE;
-        dbConnection = createDatabaseConnection(propertiesFileName);
-        customerService = initializeCustomerService(dbConnection);
-        customerView = initializeCustomerView();
+        appConfig = new ApplicationConfigLoaderImpl(propertiesLoader, AppConfig.APPLICATION_PROPERTIES_FILE);
+        metricsRegistry = initializeMetrics();
+        statementProfiler = initializeStatementProfiler();
+        if (appConfig.getBoolean("jfr.enabled", false)) {
+            FlightRecording.start(Paths.get(appConfig.getString("jfr.file", "data/crud-customer.jfr")),
+                    Duration.ofMinutes(appConfig.getLong("jfr.maxAgeMinutes", 30)));
+        }
     }
 
     /**
      * Punto de entrada principal de la aplicación.
      *
-     * @param args Los argumentos de línea de comandos (no se utilizan en esta aplicación).
+     * @param args Los argumentos de línea de comandos: {@code --server} para arrancar el servidor HTTP/JSON en
+     *             lugar de la interfaz gráfica, o {@code --cli <comando> [archivo]} para ejecutar un comando por
+     *             lotes sin interfaz gráfica y terminar con su código de salida (ver
+     *             {@link CustomerCommandLine#USAGE}). {@code --migrate}, {@code --loadtest} y {@code --generate}
+     *             equivalen a {@code --cli migrate}, {@code --cli loadtest} y {@code --cli generate}.
      */
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(() -> {
-            AppMain appMain = new AppMain();
-            appMain.setupAndShowGUI();
+        List<String> arguments = Arrays.asList(args);
+        String command = null;
+        String file = null;
+        int cliIndex = arguments.indexOf("--cli");
+        if (cliIndex >= 0) {
+            command = cliIndex + 1 < args.length ? args[cliIndex + 1] : "";
+            file = cliIndex + 2 < args.length ? args[cliIndex + 2] : null;
+        } else if (arguments.contains("--migrate")) {
+            command = "migrate";
+        } else if (arguments.contains("--loadtest")) {
+            command = "loadtest";
+        } else if (arguments.contains("--generate")) {
+            command = "generate";
+        }
+        boolean serverMode = arguments.contains("--server");
+        if (command != null || serverMode) {
+            System.setProperty("java.awt.headless", "true");
+        }
+        if (command != null && !isValidCommand(command, file)) {
+            System.err.println(CustomerCommandLine.USAGE);
+            System.exit(CustomerCommandLine.EXIT_USAGE);
+        }
+        StartupTimer startupTimer = new StartupTimer();
+        AppMain appMain = startupTimer.time("config", AppMain::new);
+        if (command != null) {
+            System.exit(appMain.runCommand(command, file));
+        } else if (serverMode) {
+            appMain.startServer(startupTimer);
+        } else {
+            appMain.setupAndShowGUI(startupTimer);
+        }
+    }
+
+    /**
+     * Método para comprobar un comando de línea de comandos antes de inicializar la aplicación.
+     *
+     * @param command El nombre del comando.
+     * @param file    El archivo del comando, o {@code null} si no se ha indicado.
+     * @return {@code true} si el comando existe y tiene archivo si lo necesita.
+     */
+    private static boolean isValidCommand(String command, String file) {
+        if (CustomerCommandLine.isFileCommand(command) || "report".equals(command) || "duplicates".equals(command)) {
+            return file != null;
+        }
+        return "migrate".equals(command) || "loadtest".equals(command) || "generate".equals(command);
+    }
+
+    /**
+     * Método para ejecutar un comando por lotes sin interfaz gráfica. Solo se crean la conexión y el servicio de
+     * cliente, sin cargar ninguna clase de AWT ni de Swing, para que el arranque sea rápido al invocarlo desde
+     * tareas programadas.
+     *
+     * @param command El nombre del comando, ya comprobado.
+     * @param file    El archivo del comando (el nombre del informe en {@code report}), o {@code null} si no lo
+     *                necesita.
+     * @return El código de salida del comando.
+     */
+    private int runCommand(String command, String file) {
+        switch (command) {
+            case "migrate":
+                return migrate();
+            case "loadtest":
+                return runLoadTest();
+            case "generate":
+                return generateData();
+            default:
+                TransactionalDatabaseConnectionImpl dbConnection;
+                CustomerService customerService;
+                try {
+                    dbConnection = initializeDatabaseConnection();
+                    customerService = initializeCustomerService(dbConnection);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Error al inicializar el servicio de clientes", e);
+                    return CustomerCommandLine.EXIT_ERROR;
+                }
+                CustomerCommandLine commandLine = new CustomerCommandLine(customerService,
+                        new CustomerValidatorImpl(), appConfig.getInt("cli.batchSize", 1000));
+                if ("report".equals(command)) {
+                    return commandLine.report(createCustomerAnalytics(dbConnection, customerService), file,
+                            appConfig.getInt("analytics.topK", 20));
+                }
+                if ("duplicates".equals(command)) {
+                    return commandLine.duplicates(new MinHashDuplicateDetectorImpl(), file);
+                }
+                return commandLine.run(command, file);
+        }
+    }
+
+    /**
+     * Método para crear el motor de informes de agregación según la propiedad {@code analytics.engine}: {@code sql}
+     * calcula los informes en la base de datos con {@code GROUP BY} y {@code parallel} recorre los clientes del
+     * servicio por páginas y los agrega en paralelo. Los repositorios {@code memory} y {@code sharded} no tienen una
+     * única base de datos que consultar, por lo que usan siempre {@code parallel}.
+     *
+     * @param dbConnection    La conexión a la base de datos configurada.
+     * @param customerService El servicio de cliente.
+     * @return El motor de informes.
+     */
+    private CustomerAnalytics createCustomerAnalytics(DatabaseConnection dbConnection, CustomerService customerService) {
+        String engine = appConfig.getString("analytics.engine", "sql");
+        if (!"sql".equals(engine) && !"parallel".equals(engine)) {
+            throw new IllegalStateException("Motor de informes no soportado: " + engine);
+        }
+        if ("sql".equals(engine) && "jdbc".equals(appConfig.getString("repository.type", "jdbc"))) {
+            return new SqlCustomerAnalyticsImpl(dbConnection);
+        }
+        return new ParallelCustomerAnalyticsImpl(customerService, appConfig.getInt("analytics.pageSize", 10000));
+    }
+
+    /**
+     * Método para arrancar el servidor HTTP/JSON sin interfaz gráfica. El servidor se detiene de forma ordenada al
+     * finalizar la aplicación.
+     *
+     * @param startupTimer El cronómetro del arranque.
+     */
+    private void startServer(StartupTimer startupTimer) {
+        CustomerService customerService = startupTimer.time("service",
+                () -> initializeCustomerService(startupTimer.time("connection", this::initializeDatabaseConnection)));
+        CustomerApiServer server = startupTimer.time("server", () -> {
+            try {
+                return new CustomerApiServer(customerService,
+                        appConfig.getInt("server.port", 8080),
+                        appConfig.getInt("server.threads", 64),
+                        appConfig.getInt("server.backlog", 1024));
+            } catch (IOException e) {
+                throw new IllegalStateException("No se pudo abrir el puerto del servidor", e);
+            }
         });
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close, "api-server-shutdown"));
+        startupTimer.mark("ready");
+        startupTimer.report();
+    }
+
+    /**
+     * Método para aplicar las migraciones pendientes del esquema de la base de datos configurada, o de cada
+     * fragmento si los clientes se reparten entre varias bases de datos, sin arrancar la aplicación.
+     *
+     * @return El código de salida: {@link CustomerCommandLine#EXIT_OK} si todas las bases de datos quedan al día,
+     * {@link CustomerCommandLine#EXIT_ERROR} si alguna migración falla.
+     */
+    private int migrate() {
+        List<String> propertiesFileNames = new ArrayList<>();
+        if ("sharded".equals(appConfig.getString("repository.type", "jdbc"))) {
+            for (String shardPropertiesFile : appConfig.getString("sharding.shards", "").split(",")) {
+                if (!shardPropertiesFile.isBlank()) {
+                    propertiesFileNames.add(shardPropertiesFile.trim());
+                }
+            }
+        } else {
+            propertiesFileNames.add(
+                    appConfig.getString("database.properties.file", AppConfig.DATABASE_PROPERTIES_FILE));
+        }
+        try {
+            for (String propertiesFileName : propertiesFileNames) {
+                MigrationRunner runner = new SqlMigrationRunnerImpl(createDatabaseConnection(propertiesFileName));
+                List<Migration> migrated = runner.migrate();
+                LOGGER.info("{}: {} migraciones aplicadas {}", propertiesFileName, migrated.size(), migrated);
+            }
+            return CustomerCommandLine.EXIT_OK;
+        } catch (RuntimeException e) {
+            LOGGER.error("Error al migrar el esquema de la base de datos", e);
+            return CustomerCommandLine.EXIT_ERROR;
+        }
+    }
+
+    /**
+     * Método para ejecutar una prueba de carga, con los parámetros {@code loadtest.*}, sobre el servicio de clientes
+     * construido igual que para la interfaz gráfica, con todos sus decoradores.
+     *
+     * @return El código de salida: {@link CustomerCommandLine#EXIT_OK} si la prueba termina sin errores ni
+     * discrepancias de integridad, {@link CustomerCommandLine#EXIT_ERROR} si no.
+     */
+    private int runLoadTest() {
+        CustomerService customerService = initializeCustomerService(initializeDatabaseConnection());
+        try {
+            LoadTestResult result = new LoadGenerator(customerService, LoadTestConfig.from(appConfig)).run();
+            return result.isSuccessful() ? CustomerCommandLine.EXIT_OK : CustomerCommandLine.EXIT_ERROR;
+        } catch (RuntimeException e) {
+            LOGGER.error("Error al ejecutar la prueba de carga", e);
+            return CustomerCommandLine.EXIT_ERROR;
+        }
+    }
+
+    /**
+     * Método para generar clientes sintéticos con los parámetros {@code datagen.*}. Si {@code datagen.file} está
+     * definido, los clientes se escriben en ese archivo para cargarlos con {@code LOAD DATA}, y se cargan además si
+     * {@code datagen.loadFile} está activado; si no, se insertan por lotes en la base de datos configurada, después
+     * de aplicar las migraciones pendientes.
+     *
+     * @return El código de salida: {@link CustomerCommandLine#EXIT_OK} si todos los clientes se generan,
+     * {@link CustomerCommandLine#EXIT_ERROR} si no.
+     */
+    private int generateData() {
+        long rows = appConfig.getLong("datagen.rows", 1_000_000);
+        long firstIndex = appConfig.getLong("datagen.firstIndex", 0);
+        String file = appConfig.getString("datagen.file", "");
+        try {
+            DatabaseConnection connection = createDatabaseConnection(
+                    appConfig.getString("database.properties.file", AppConfig.DATABASE_PROPERTIES_FILE));
+            CustomerBulkLoader loader = new CustomerBulkLoader(connection,
+                    new CustomerDataGenerator(appConfig.getLong("datagen.seed", 42)),
+                    appConfig.getInt("datagen.threads", Runtime.getRuntime().availableProcessors()),
+                    appConfig.getInt("datagen.batchSize", 1000));
+            if (file.isBlank()) {
+                new SqlMigrationRunnerImpl(connection).migrate();
+                loader.load(firstIndex, rows);
+            } else {
+                loader.writeLoadFile(Path.of(file), firstIndex, rows);
+                if (appConfig.getBoolean("datagen.loadFile", false)) {
+                    loader.loadFile(Path.of(file));
+                }
+            }
+            return CustomerCommandLine.EXIT_OK;
+        } catch (RuntimeException e) {
+            LOGGER.error("Error al generar los clientes sintéticos", e);
+            return CustomerCommandLine.EXIT_ERROR;
+        }
     }
 
     /**
-     * Método para crear y devolver una conexión a la base de datos MySQL.
+     * Método para aplicar las migraciones pendientes del esquema al arrancar, si {@code migration.onStartup} está
+     * activado. Un fallo no impide el arranque: la aplicación sigue funcionando con el esquema anterior.
+     *
+     * @param connection La conexión a la base de datos que se migra.
+     */
+    private void migrateOnStartup(DatabaseConnection connection) {
+        if (!appConfig.getBoolean("migration.onStartup", true)) {
+            return;
+        }
+        try {
+            new SqlMigrationRunnerImpl(connection).migrate();
+        } catch (RuntimeException e) {
+            LOGGER.warn("No se pudieron aplicar las migraciones del esquema: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Método para crear la conexión a la base de datos configurada y precalentarla, de modo que el coste de cargar
+     * el driver y establecer la primera conexión no recaiga en la primera consulta del usuario.
+     *
+     * @return La conexión a la base de datos, que permite agrupar varias operaciones en una transacción.
+     */
+    private TransactionalDatabaseConnectionImpl initializeDatabaseConnection() {
+        String propertiesFileName = appConfig.getString("database.properties.file", AppConfig.DATABASE_PROPERTIES_FILE);
+        TransactionalDatabaseConnectionImpl connection =
+                new TransactionalDatabaseConnectionImpl(createDatabaseConnection(propertiesFileName));
+        if ("jdbc".equals(appConfig.getString("repository.type", "jdbc"))) {
+            try (Connection warmUpConnection = connection.getConnection()) {
+                warmUpConnection.isValid(WARM_UP_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                LOGGER.warn("No se pudo precalentar la conexión con la base de datos: {}", e.getMessage());
+            }
+            migrateOnStartup(connection);
+        }
+        return connection;
+    }
+
+    /**
+     * Método para crear y devolver una conexión a la base de datos configurada. Si hay réplicas de solo lectura
+     * configuradas, las lecturas se reparten entre ellas y las escrituras se envían a la base de datos principal.
+     * Si la resiliencia está activada, la conexión se protege con tiempos de espera y un cortocircuito.
      *
      * @param propertiesFileName Nombre del archivo de propiedades para la configuración de la base de datos.
-     * @return Una instancia de DatabaseConnection que representa la conexión a la base de datos MySQL.
+     * @return Una instancia de DatabaseConnection que representa la conexión a la base de datos.
      */
     private DatabaseConnection createDatabaseConnection(String propertiesFileName) {
-        PropertiesLoader propertiesLoader = new PropertiesLoaderImpl();
         DatabaseConfigLoader configLoader = new DatabaseConfigLoaderImpl(propertiesLoader, propertiesFileName);
-        return new MySQLConnectionImpl(configLoader);
+        DatabaseConnection connection = createSingleDatabaseConnection(configLoader);
+
+        List<String> replicaUrls = configLoader.getReplicaUrls();
+        if (!replicaUrls.isEmpty()) {
+            List<DatabaseConnection> replicas = new ArrayList<>();
+            for (String replicaUrl : replicaUrls) {
+                replicas.add(createSingleDatabaseConnection(new ReplicaDatabaseConfigLoaderImpl(configLoader, replicaUrl)));
+            }
+            connection = new ReplicaRoutingConnectionImpl(connection, replicas,
+                    appConfig.getLong("db.replica.readYourWritesMs", 1000),
+                    appConfig.getLong("db.replica.healthCheckIntervalMs", 5000));
+        }
+        if (appConfig.getBoolean("resilience.enabled", true)) {
+            connection = createResilientDatabaseConnection(connection, propertiesFileName);
+        }
+        if (metricsRegistry != null) {
+            connection = new InstrumentedDatabaseConnectionImpl(connection, metricsRegistry.connections());
+        }
+        return connection;
+    }
+
+    /**
+     * Método para proteger una conexión con tiempos de espera y un cortocircuito que falla de inmediato mientras
+     * la base de datos está caída. El estado del cortocircuito se publica como MXBean.
+     *
+     * @param connection         La conexión a proteger.
+     * @param propertiesFileName Nombre del archivo de propiedades de la base de datos, que identifica el circuito.
+     * @return La conexión protegida.
+     */
+    private DatabaseConnection createResilientDatabaseConnection(DatabaseConnection connection,
+                                                                 String propertiesFileName) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(propertiesFileName,
+                appConfig.getInt("resilience.breaker.failureThreshold", 5),
+                appConfig.getLong("resilience.breaker.openMs", 10000));
+        if (metricsRegistry != null) {
+            metricsRegistry.register("type=CircuitBreaker,name=" + propertiesFileName, circuitBreaker);
+        }
+        return new ResilientDatabaseConnectionImpl(connection, circuitBreaker,
+                appConfig.getLong("resilience.connectTimeoutMs", 5000),
+                appConfig.getInt("resilience.networkTimeoutMs", 30000),
+                appConfig.getLong("resilience.breaker.healthCheckIntervalMs", 2000));
+    }
+
+    /**
+     * Método para crear una conexión a una única base de datos según su dialecto: un servidor MySQL o un motor
+     * embebido en el propio proceso. Si el perfilado está activado, sus sentencias se perfilan.
+     *
+     * @param configLoader La configuración de la base de datos.
+     * @return Una instancia de DatabaseConnection para esa base de datos.
+     */
+    private DatabaseConnection createSingleDatabaseConnection(DatabaseConfigLoader configLoader) {
+        DatabaseDialect dialect = DatabaseDialect.fromName(configLoader.getDatabaseDialect());
+        DatabaseConnection connection = dialect.isEmbedded()
+                ? new EmbeddedDatabaseConnectionImpl(configLoader)
+                : new MySQLConnectionImpl(configLoader);
+        return statementProfiler != null
+                ? new ProfilingDatabaseConnectionImpl(connection, statementProfiler)
+                : connection;
+    }
+
+    /**
+     * Método para inicializar el registro de métricas y, si está configurado, su volcado periódico al log, que se
+     * detiene al cerrar la aplicación.
+     *
+     * @return El registro de métricas, o {@code null} si las métricas están desactivadas.
+     */
+    private MetricsRegistry initializeMetrics() {
+        if (!appConfig.getBoolean("metrics.enabled", true)) {
+            return null;
+        }
+        MetricsRegistry registry = new MetricsRegistry(true);
+        long intervalSeconds = appConfig.getLong("metrics.report.intervalSeconds", 0);
+        if (intervalSeconds > 0) {
+            metricsReporter = new MetricsReporter(registry, intervalSeconds);
+            Runtime.getRuntime().addShutdownHook(new Thread(metricsReporter::close, "metrics-reporter-shutdown"));
+        }
+        return registry;
+    }
+
+    /**
+     * Método para inicializar el perfilado de las sentencias SQL. Si las métricas están activadas, se usa el del
+     * registro de métricas, que se publica como MXBean y se incluye en el volcado periódico.
+     *
+     * @return El perfilado de sentencias, o {@code null} si el perfilado está desactivado.
+     */
+    private StatementProfiler initializeStatementProfiler() {
+        if (!appConfig.getBoolean("profiling.enabled", true)) {
+            return null;
+        }
+        long slowThresholdMillis = appConfig.getLong("profiling.slowStatementMs", 200);
+        if (metricsRegistry == null) {
+            return new StatementProfiler(slowThresholdMillis);
+        }
+        StatementProfiler profiler = metricsRegistry.statements();
+        profiler.setSlowThresholdMillis(slowThresholdMillis);
+        return profiler;
     }
 
     /**
@@ -92,28 +566,336 @@ public class AppMain {
      * @param dbConnection La conexión a la base de datos a utilizar por el servicio de cliente.
      * @return Una instancia de CustomerService inicializada y lista para su uso.
      */
-    private CustomerService initializeCustomerService(DatabaseConnection dbConnection) {
+    private CustomerService initializeCustomerService(TransactionalDatabaseConnectionImpl dbConnection) {
         LogMessages<Customer> daoLogMessages = new EntityLogMessagesImpl<>();
-        CustomerDAO customerDAO = new CustomerDAOImpl(dbConnection, daoLogMessages);
+        CustomerDAO customerDAO = createCustomerDAO(dbConnection, daoLogMessages);
+        if (appConfig.getBoolean("resilience.enabled", true)) {
+            customerDAO = createResilientDAO(customerDAO, dbConnection);
+        }
+        if (metricsRegistry != null) {
+            customerDAO = new InstrumentedCustomerDAOImpl(customerDAO, metricsRegistry);
+        }
+        boolean writeBehind = appConfig.getBoolean("writebehind.enabled", false);
+        if (writeBehind) {
+            customerDAO = createWriteBehindDAO(customerDAO);
+        }
+        boolean transactional = "jdbc".equals(appConfig.getString("repository.type", "jdbc")) && !writeBehind;
+        UnitOfWork unitOfWork = transactional
+                ? new JdbcUnitOfWorkImpl(dbConnection)
+                : new NonTransactionalUnitOfWorkImpl();
+        if (!transactional) {
+            LOGGER.warn("Repositorio {}{}: las operaciones por lotes (addAll, deleteAll) no son atómicas",
+                    appConfig.getString("repository.type", "jdbc"), writeBehind ? " con escritura diferida" : "");
+        }
         CustomerValidator customerValidator = new CustomerValidatorImpl();
-        return new CustomerServiceImpl(customerDAO, customerValidator);
+        CustomerService service = new CustomerServiceImpl(customerDAO, customerValidator, unitOfWork);
+        if (metricsRegistry != null) {
+            service = new InstrumentedCustomerServiceImpl(service, metricsRegistry);
+        }
+        return service;
+    }
+
+    /**
+     * Método para crear el DAO de clientes según la propiedad {@code repository.type}: {@code jdbc} para la base de
+     * datos configurada, {@code memory} para el almacenamiento en memoria, que no necesita base de datos, o
+     * {@code sharded} para repartir los clientes entre las bases de datos de {@code sharding.shards}.
+     *
+     * @param dbConnection La conexión a la base de datos a utilizar por el DAO JDBC.
+     * @param logMessages  Los mensajes de log para la entidad Customer.
+     * @return Una instancia de CustomerDAO del tipo configurado.
+     */
+    private CustomerDAO createCustomerDAO(DatabaseConnection dbConnection, LogMessages<Customer> logMessages) {
+        String repositoryType = appConfig.getString("repository.type", "jdbc");
+        switch (repositoryType) {
+            case "jdbc":
+                return new CustomerDAOImpl(dbConnection, logMessages, createQueryTimeouts());
+            case "memory":
+                return new InMemoryCustomerDAOImpl(logMessages);
+            case "sharded":
+                return createShardedCustomerDAO(logMessages);
+            default:
+                throw new IllegalStateException("Tipo de repositorio no soportado: " + repositoryType);
+        }
+    }
+
+    /**
+     * Método para crear un DAO que reparte los clientes entre varias bases de datos. Cada fragmento se configura
+     * con su propio archivo de propiedades de base de datos, listado en {@code sharding.shards}.
+     *
+     * @param logMessages Los mensajes de log para la entidad Customer.
+     * @return Una instancia de CustomerDAO fragmentada.
+     */
+    private CustomerDAO createShardedCustomerDAO(LogMessages<Customer> logMessages) {
+        List<CustomerDAO> shards = new ArrayList<>();
+        for (String shardPropertiesFile : appConfig.getString("sharding.shards", "").split(",")) {
+            if (!shardPropertiesFile.isBlank()) {
+                DatabaseConnection shardConnection = createDatabaseConnection(shardPropertiesFile.trim());
+                migrateOnStartup(shardConnection);
+                checkShardIdColumn(shardConnection, shardPropertiesFile.trim());
+                shards.add(new CustomerDAOImpl(shardConnection, logMessages, createQueryTimeouts()));
+            }
+        }
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("No se ha configurado ningún fragmento en la propiedad sharding.shards");
+        }
+        return new ShardedCustomerDAOImpl(shards, new SnowflakeIdGeneratorImpl(appConfig.getInt("sharding.nodeId", 0)));
+    }
+
+    /**
+     * Método para comprobar que la columna {@code id} de un fragmento admite los identificadores Snowflake, que no
+     * caben en un INT. Las bases de datos anteriores a la migración V4 la tienen como INT hasta que se migran.
+     *
+     * @param shardConnection    La conexión al fragmento.
+     * @param propertiesFileName Nombre del archivo de propiedades del fragmento, para el mensaje de error.
+     * @throws IllegalStateException Si la columna no es BIGINT o no puede comprobarse.
+     */
+    private void checkShardIdColumn(DatabaseConnection shardConnection, String propertiesFileName) {
+        try (Connection conn = shardConnection.getConnection();
+             ResultSet columns = conn.getMetaData().getColumns(conn.getCatalog(), null, "customers", "id")) {
+            if (columns.next() && columns.getInt("DATA_TYPE") != Types.BIGINT) {
+                throw new IllegalStateException("La columna customers.id del fragmento " + propertiesFileName
+                        + " es " + columns.getString("TYPE_NAME") + " y no admite identificadores Snowflake;"
+                        + " aplique las migraciones con --cli migrate");
+            }
+        } catch (SQLException e) {
+            String errorMsg = "No se pudo comprobar el tipo de customers.id en el fragmento " + propertiesFileName;
+            LOGGER.error(errorMsg, e);
+            throw new IllegalStateException(errorMsg, e);
+        }
+    }
+
+    /**
+     * Método para leer los tiempos máximos de ejecución de las sentencias del DAO: {@code dao.timeout.seconds} por
+     * defecto y {@code dao.timeout.<operación>} para cada operación que necesite un tiempo propio.
+     *
+     * @return Los tiempos máximos de ejecución configurados.
+     */
+    private QueryTimeouts createQueryTimeouts() {
+        int defaultSeconds = appConfig.getInt("dao.timeout.seconds", 0);
+        Map<String, Integer> secondsByOperation = new HashMap<>();
+        for (String operation : QueryTimeouts.OPERATIONS) {
+            secondsByOperation.put(operation, appConfig.getInt("dao.timeout." + operation, defaultSeconds));
+        }
+        return new QueryTimeouts(defaultSeconds, secondsByOperation);
+    }
+
+    /**
+     * Método para envolver el DAO de clientes en un decorador que reintenta las operaciones que fallan por un error
+     * transitorio, salvo dentro de una transacción. Los contadores de reintentos se publican como MXBean.
+     *
+     * @param customerDAO  El DAO que realiza las operaciones reales.
+     * @param dbConnection La conexión transaccional, para no reintentar dentro de una transacción.
+     * @return El DAO con reintentos.
+     */
+    private CustomerDAO createResilientDAO(CustomerDAO customerDAO, TransactionalDatabaseConnectionImpl dbConnection) {
+        RetryPolicy retryPolicy = new RetryPolicy(
+                appConfig.getInt("resilience.retry.maxAttempts", 3),
+                appConfig.getLong("resilience.retry.baseDelayMs", 100),
+                appConfig.getLong("resilience.retry.maxDelayMs", 2000));
+        if (metricsRegistry != null) {
+            metricsRegistry.register("type=RetryPolicy,name=dao", retryPolicy);
+        }
+        return new ResilientCustomerDAOImpl(customerDAO, retryPolicy, dbConnection::isTransactionActive);
+    }
+
+    /**
+     * Método para envolver el DAO de clientes en un búfer de escritura diferida, que se vuelca automáticamente al
+     * finalizar la aplicación. Su estado, incluidas las escrituras descartadas, se publica como MXBean.
+     *
+     * @param customerDAO El DAO que realiza las escrituras reales.
+     * @return El DAO con escritura diferida.
+     */
+    private CustomerDAO createWriteBehindDAO(CustomerDAO customerDAO) {
+        WriteBehindCustomerDAOImpl writeBehindDAO = new WriteBehindCustomerDAOImpl(
+                customerDAO,
+                appConfig.getInt("writebehind.maxPending", 500),
+                appConfig.getInt("writebehind.maxBuffered", 10000),
+                appConfig.getLong("writebehind.flushIntervalMs", 1000));
+        if (metricsRegistry != null) {
+            metricsRegistry.register("type=WriteBehind", writeBehindDAO);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(writeBehindDAO::close, "write-behind-shutdown"));
+        return writeBehindDAO;
     }
 
     /**
-     * Método para inicializar la vista de cliente.
+     * Método para inicializar la vista de cliente. Si {@code view.offHeapStore.enabled} está activado, la tabla guarda
+     * los clientes fuera del heap, para mostrar listas muy grandes con un heap pequeño.
      *
      * @return Una instancia de CustomerView inicializada y lista para su uso.
      */
     private CustomerView initializeCustomerView() {
-        return new CustomerView();
+        CustomerView customerView = new CustomerView();
+        if (appConfig.getBoolean("view.offHeapStore.enabled", false)) {
+            customerView.useCustomerStore(
+                    new OffHeapCustomerStore(appConfig.getInt("view.offHeapStore.expectedRows", 10000)));
+        }
+        return customerView;
+    }
+
+    /**
+     * Método para cargar e inicializar en segundo plano las clases que se usarán en la primera interacción.
+     */
+    private void preloadClasses() {
+        ClassLoader classLoader = AppMain.class.getClassLoader();
+        for (String className : PRELOADED_CLASSES) {
+            try {
+                Class.forName(className, true, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOGGER.debug("No se pudo precargar la clase {}: {}", className, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Método para obtener la primera página de clientes, que se muestra mientras se carga la lista completa.
+     *
+     * @param service El servicio de cliente.
+     * @return La primera página de clientes, o {@code null} si no se pudo obtener.
+     */
+    private List<Customer> prefetchFirstPage(CustomerService service) {
+        try {
+            return service.getPage(0, appConfig.getInt("startup.prefetchPageSize", 100));
+        } catch (RuntimeException e) {
+            LOGGER.warn("No se pudo precargar la primera página de clientes: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Método para vigilar el hilo de eventos de Swing, si está activado: instala el detector de bloqueos antes de
+     * que se despache ningún evento de la interfaz y lo expone a través de JMX.
+     */
+    private void startEdtStallDetector() {
+        if (!appConfig.getBoolean("edt.monitor.enabled", true)) {
+            return;
+        }
+        EdtStallDetector detector = new EdtStallDetector(appConfig.getLong("edt.monitor.stallThresholdMs", 200));
+        if (metricsRegistry != null) {
+            metricsRegistry.register("type=EdtStalls", detector);
+        }
+        LOGGER.info("Detector de bloqueos del hilo de eventos activado con un umbral de {} ms",
+                detector.getStallThresholdMillis());
     }
 
     /**
-     * Método para configurar y mostrar la interfaz de usuario.
+     * Método para crear el almacén de la instantánea local de clientes, si está activado.
+     *
+     * @return El almacén de la instantánea, o {@code null} si está desactivado.
+     */
+    private CustomerSnapshotStore createSnapshotStore() {
+        if (!appConfig.getBoolean("snapshot.enabled", true)) {
+            return null;
+        }
+        return new CustomerSnapshotStore(Paths.get(appConfig.getString("snapshot.file", "data/customers.snapshot")));
+    }
+
+    /**
+     * Método para configurar y mostrar la interfaz de usuario. La ventana se muestra de inmediato en estado de carga
+     * mientras, en paralelo, se abre la instantánea local, se crea y precalienta la conexión, se precargan las
+     * clases y se obtiene la primera página de clientes. Los clientes de la instantánea se muestran en cuanto están
+     * disponibles, sin esperar a la base de datos. Cuando todo está listo se crea el controlador, que sincroniza la
+     * lista con la base de datos y guarda una nueva instantánea, y se escribe el informe del arranque.
+     *
+     * @param startupTimer El cronómetro del arranque.
+     */
+    private void setupAndShowGUI(StartupTimer startupTimer) {
+        startEdtStallDetector();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService startupExecutor = Executors.newFixedThreadPool(STARTUP_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "startup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        CustomerSnapshotStore snapshotStore = createSnapshotStore();
+
+        CompletableFuture<CustomerView> viewFuture = new CompletableFuture<>();
+        SwingUtilities.invokeLater(() -> {
+            try {
+                CustomerView customerView = startupTimer.time("view", this::initializeCustomerView);
+                customerView.resetToLoadingState();
+                customerView.setVisible(true);
+                startupTimer.mark("frameVisible");
+                viewFuture.complete(customerView);
+            } catch (RuntimeException e) {
+                viewFuture.completeExceptionally(e);
+            }
+        });
+        CompletableFuture<List<Customer>> snapshotFuture = snapshotStore == null
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.supplyAsync(() -> startupTimer.time("snapshot", snapshotStore::load), startupExecutor);
+        CompletableFuture<Void> preloadFuture = CompletableFuture.runAsync(
+                () -> startupTimer.run("classPreload", this::preloadClasses), startupExecutor);
+        CompletableFuture<CustomerService> serviceFuture = CompletableFuture
+                .supplyAsync(() -> startupTimer.time("connection", this::initializeDatabaseConnection), startupExecutor)
+                .thenApply(connection -> startupTimer.time("service", () -> initializeCustomerService(connection)));
+        CompletableFuture<List<Customer>> initialFuture = serviceFuture.thenCombineAsync(snapshotFuture,
+                (service, snapshot) -> snapshot != null
+                        ? snapshot
+                        : startupTimer.time("firstPage", () -> prefetchFirstPage(service)),
+                startupExecutor);
+
+        AtomicBoolean startupFinished = new AtomicBoolean();
+        AtomicBoolean snapshotShown = new AtomicBoolean();
+        viewFuture.thenAcceptBoth(snapshotFuture, (customerView, snapshot) -> {
+            if (snapshot != null) {
+                SwingUtilities.invokeLater(() -> {
+                    if (!startupFinished.get()) {
+                        startupTimer.run("snapshotView", () -> customerView.setCustomers(snapshot));
+                        startupTimer.mark("snapshotVisible");
+                        snapshotShown.set(true);
+                    }
+                });
+            }
+        });
+        CompletableFuture.allOf(viewFuture, preloadFuture, initialFuture).whenComplete((ignored, error) -> {
+            startupExecutor.shutdown();
+            SwingUtilities.invokeLater(() -> {
+                startupFinished.set(true);
+                finishStartup(viewFuture, serviceFuture, initialFuture, snapshotShown.get(), snapshotStore, startupTimer);
+            });
+        });
+    }
+
+    /**
+     * Método para completar el arranque en el hilo de eventos de Swing: crea el controlador con los clientes
+     * precargados o, si el arranque ha fallado, informa del error al usuario.
+     *
+     * @param viewFuture    La vista de cliente.
+     * @param serviceFuture El servicio de cliente.
+     * @param initialFuture Los clientes que se muestran mientras se sincroniza la lista: los de la instantánea
+     *                      local o, si no hay, la primera página.
+     * @param initialShown  Indica si esos clientes ya se están mostrando, por lo que no hay que volver a mostrarlos.
+     * @param snapshotStore El almacén de la instantánea local, o {@code null} si está desactivado.
+     * @param startupTimer  El cronómetro del arranque.
      */
-    private void setupAndShowGUI() {
+    private void finishStartup(CompletableFuture<CustomerView> viewFuture,
+                               CompletableFuture<CustomerService> serviceFuture,
+                               CompletableFuture<List<Customer>> initialFuture,
+                               boolean initialShown,
+                               CustomerSnapshotStore snapshotStore,
+                               StartupTimer startupTimer) {
+        CustomerView customerView;
+        CustomerService customerService;
+        try {
+            customerView = viewFuture.join();
+            customerService = serviceFuture.join();
+        } catch (CompletionException e) {
+            LOGGER.error("Error al iniciar la aplicación", e.getCause());
+            if (viewFuture.isDone() && !viewFuture.isCompletedExceptionally()) {
+                JOptionPane.showMessageDialog(viewFuture.join(),
+                        "Error al iniciar la aplicación: " + e.getCause().getMessage());
+            }
+            return;
+        }
         LogMessages<Customer> logMessages = new EntityLogMessagesImpl<>();
-        new CustomerControllerImpl(customerService, customerView, logMessages);
-        customerView.setVisible(true);
+        CustomerControllerImpl controller = startupTimer.time("controller", () ->
+                new CustomerControllerImpl(customerService, customerView, logMessages,
+                        initialShown ? null : initialFuture.join()));
+        if (snapshotStore != null) {
+            controller.setEntitiesLoadedListener(snapshotStore::saveAsync);
+        }
+        startupTimer.mark("ready");
+        startupTimer.report();
     }
 }
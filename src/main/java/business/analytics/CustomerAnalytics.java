@@ -0,0 +1,18 @@
+package business.analytics;
+
+/**
+ * Interfaz que define el cálculo de informes de agregación (agrupar, contar y seleccionar los K grupos mayores)
+ * sobre los clientes.
+ */
+public interface CustomerAnalytics {
+
+    /**
+     * Calcula un informe sobre todos los clientes.
+     *
+     * @param report   El informe a calcular.
+     * @param topK     El número de grupos con más clientes que se devuelven.
+     * @param listener El receptor de los resultados parciales, o {@code null} si no se necesitan.
+     * @return El resultado final del informe.
+     */
+    ReportResult run(CustomerReport report, int topK, ReportListener listener);
+}
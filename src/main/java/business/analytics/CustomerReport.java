@@ -0,0 +1,139 @@
+package business.analytics;
+
+import business.entity.Customer;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Informes de agregación sobre los clientes. Cada informe asigna a cada cliente una clave de agrupación y cuenta
+ * los clientes por clave; algunos transforman después esos recuentos con {@link #finish(Map)}.
+ */
+public enum CustomerReport {
+
+    /**
+     * Clientes por dominio del correo electrónico, en minúsculas.
+     */
+    EMAIL_DOMAIN {
+        @Override
+        String keyOf(Customer customer) {
+            return emailDomainOf(customer.getEmail());
+        }
+    },
+
+    /**
+     * Clientes por código de país del teléfono, según los prefijos que reconoce {@code CustomerValidatorImpl}
+     * (+34, 0034 y 34): {@value #SPAIN}, {@value #NO_PREFIX} o {@value #NO_PHONE}.
+     */
+    COUNTRY_CODE {
+        @Override
+        String keyOf(Customer customer) {
+            return countryCodeOf(customer.getPhone());
+        }
+    },
+
+    /**
+     * Clientes duplicados por dominio del correo electrónico: clientes con el mismo nombre (sin distinguir
+     * mayúsculas ni espacios) y el mismo dominio que otro cliente anterior.
+     */
+    DUPLICATES_PER_DOMAIN {
+        @Override
+        String keyOf(Customer customer) {
+            return emailDomainOf(customer.getEmail()) + KEY_SEPARATOR + normalizeName(customer.getName());
+        }
+
+        @Override
+        Map<String, Long> finish(Map<String, Long> counts) {
+            Map<String, Long> duplicates = new HashMap<>();
+            counts.forEach((key, count) -> {
+                if (count > 1) {
+                    duplicates.merge(key.substring(0, key.indexOf(KEY_SEPARATOR)), count - 1, Long::sum);
+                }
+            });
+            return duplicates;
+        }
+    };
+
+    /**
+     * Clave de los teléfonos con prefijo de España.
+     */
+    public static final String SPAIN = "+34";
+
+    /**
+     * Clave de los teléfonos sin prefijo internacional.
+     */
+    public static final String NO_PREFIX = "sin prefijo";
+
+    /**
+     * Clave de los clientes sin teléfono.
+     */
+    public static final String NO_PHONE = "sin teléfono";
+
+    /**
+     * Clave de los clientes sin dominio de correo.
+     */
+    public static final String NO_DOMAIN = "sin dominio";
+
+    // Separador de las claves compuestas, que no puede aparecer en un dominio.
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    // Longitud de un teléfono con el prefijo 34 sin signo ni ceros: 2 + 9 dígitos.
+    private static final int PREFIXED_34_LENGTH = 11;
+
+    /**
+     * Obtiene la clave de agrupación de un cliente.
+     *
+     * @param customer El cliente.
+     * @return La clave.
+     */
+    abstract String keyOf(Customer customer);
+
+    /**
+     * Transforma los recuentos por clave en el resultado del informe. Por defecto los devuelve sin cambios.
+     *
+     * @param counts Los recuentos por clave de agrupación.
+     * @return Los recuentos por grupo del informe.
+     */
+    Map<String, Long> finish(Map<String, Long> counts) {
+        return counts;
+    }
+
+    /**
+     * Obtiene el dominio de un correo electrónico, en minúsculas.
+     *
+     * @param email El correo electrónico.
+     * @return El dominio, o {@value #NO_DOMAIN} si el correo no tiene.
+     */
+    static String emailDomainOf(String email) {
+        int at = email != null ? email.indexOf('@') : -1;
+        return at >= 0 ? email.substring(at + 1).toLowerCase(Locale.ROOT) : NO_DOMAIN;
+    }
+
+    /**
+     * Obtiene el código de país de un teléfono.
+     *
+     * @param phone El teléfono.
+     * @return {@value #SPAIN}, {@value #NO_PREFIX} o {@value #NO_PHONE}.
+     */
+    static String countryCodeOf(String phone) {
+        if (phone == null || phone.isEmpty()) {
+            return NO_PHONE;
+        }
+        if (phone.startsWith("+34") || phone.startsWith("0034")
+                || (phone.startsWith("34") && phone.length() == PREFIXED_34_LENGTH)) {
+            return SPAIN;
+        }
+        return NO_PREFIX;
+    }
+
+    /**
+     * Normaliza un nombre para compararlo: sin espacios sobrantes y en minúsculas.
+     *
+     * @param name El nombre.
+     * @return El nombre normalizado.
+     */
+    static String normalizeName(String name) {
+        return name == null ? "" : name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,47 @@
+package business.analytics;
+
+/**
+ * Resultado de un grupo de un informe: la clave del grupo y el número de clientes que contiene.
+ */
+public final class GroupCount {
+
+    // Clave del grupo.
+    private final String key;
+
+    // Número de clientes del grupo.
+    private final long count;
+
+    /**
+     * Constructor que inicializa el grupo.
+     *
+     * @param key   La clave del grupo.
+     * @param count El número de clientes del grupo.
+     */
+    public GroupCount(String key, long count) {
+        this.key = key;
+        this.count = count;
+    }
+
+    /**
+     * Obtiene la clave del grupo.
+     *
+     * @return La clave.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Obtiene el número de clientes del grupo.
+     *
+     * @return El número de clientes.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return key + "=" + count;
+    }
+}
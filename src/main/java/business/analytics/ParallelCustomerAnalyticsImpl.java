@@ -0,0 +1,170 @@
+package business.analytics;
+
+import business.entity.Customer;
+import business.service.CustomerService;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Implementación de la interfaz {@link CustomerAnalytics} que recorre los clientes por páginas del
+ * {@link CustomerService} y agrega cada página en paralelo con un {@link ForkJoinPool}.
+ *
+ * <p>Las páginas se leen a partir del identificador del último cliente de la anterior, de modo que el coste de
+ * cada lectura no crece a medida que avanza el recorrido. La página siguiente se lee en un hilo aparte mientras se
+ * agrega la actual, de modo que la lectura de la base de datos y el cálculo se solapan. Tras cada página se
+ * notifica un resultado parcial con los recuentos acumulados. Solo se mantienen en memoria una o dos páginas de
+ * clientes, además de los recuentos por grupo.</p>
+ */
+public class ParallelCustomerAnalyticsImpl implements CustomerAnalytics {
+
+    // Número de clientes por debajo del cual una tarea agrega secuencialmente en lugar de dividirse.
+    private static final int SPLIT_THRESHOLD = 4096;
+
+    // Servicio del que se leen los clientes.
+    private final CustomerService customerService;
+
+    // Número de clientes de cada página.
+    private final int pageSize;
+
+    // Grupo de hilos en el que se agregan las páginas.
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor que inicializa el servicio, el tamaño de página y el grupo de hilos.
+     *
+     * @param customerService El servicio del que se leen los clientes.
+     * @param pageSize        El número de clientes de cada página.
+     * @param pool            El grupo de hilos en el que se agregan las páginas.
+     */
+    public ParallelCustomerAnalyticsImpl(CustomerService customerService, int pageSize, ForkJoinPool pool) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor que cero");
+        }
+        this.customerService = customerService;
+        this.pageSize = pageSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Constructor que agrega las páginas en el grupo de hilos común.
+     *
+     * @param customerService El servicio del que se leen los clientes.
+     * @param pageSize        El número de clientes de cada página.
+     */
+    public ParallelCustomerAnalyticsImpl(CustomerService customerService, int pageSize) {
+        this(customerService, pageSize, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public ReportResult run(CustomerReport report, int topK, ReportListener listener) {
+        ExecutorService reader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "analytics-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Map<String, Long> totals = new HashMap<>();
+            long scanned = 0;
+            CompletableFuture<List<Customer>> next = readPage(reader, null);
+            while (true) {
+                List<Customer> page = join(next);
+                boolean last = page.size() < pageSize;
+                next = last ? null : readPage(reader, page.get(page.size() - 1).getId());
+                if (!page.isEmpty()) {
+                    pool.invoke(new CountTask(report, page, 0, page.size()))
+                            .forEach((key, count) -> totals.merge(key, count, Long::sum));
+                    scanned += page.size();
+                }
+                if (last) {
+                    break;
+                }
+                if (listener != null) {
+                    listener.onProgress(ReportResult.of(report, report.finish(totals), topK, scanned, false));
+                }
+            }
+            ReportResult result = ReportResult.of(report, report.finish(totals), topK, scanned, true);
+            if (listener != null) {
+                listener.onProgress(result);
+            }
+            return result;
+        } finally {
+            reader.shutdownNow();
+        }
+    }
+
+    /**
+     * Empieza a leer una página de clientes en segundo plano.
+     *
+     * @param reader  El hilo de lectura.
+     * @param afterId El identificador del último cliente de la página anterior, o {@code null} para la primera.
+     * @return La página de clientes.
+     */
+    private CompletableFuture<List<Customer>> readPage(ExecutorService reader, String afterId) {
+        return CompletableFuture.supplyAsync(() -> customerService.getPageAfter(afterId, pageSize), reader);
+    }
+
+    /**
+     * Espera a que termine la lectura de una página, relanzando el error original si falla.
+     *
+     * @param future La lectura de la página.
+     * @return La página de clientes.
+     */
+    private static List<Customer> join(CompletableFuture<List<Customer>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Tarea que cuenta los clientes de un tramo de una página por clave de agrupación, dividiéndose en dos
+     * mientras el tramo supera {@link #SPLIT_THRESHOLD} clientes.
+     */
+    private static final class CountTask extends RecursiveTask<Map<String, Long>> {
+        private static final long serialVersionUID = 1L;
+
+        private final CustomerReport report;
+        private final List<Customer> customers;
+        private final int from;
+        private final int to;
+
+        private CountTask(CustomerReport report, List<Customer> customers, int from, int to) {
+            this.report = report;
+            this.customers = customers;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<String, Long> compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                Map<String, Long> counts = new HashMap<>();
+                for (int i = from; i < to; i++) {
+                    counts.merge(report.keyOf(customers.get(i)), 1L, Long::sum);
+                }
+                return counts;
+            }
+            int middle = (from + to) >>> 1;
+            CountTask left = new CountTask(report, customers, from, middle);
+            left.fork();
+            Map<String, Long> right = new CountTask(report, customers, middle, to).compute();
+            Map<String, Long> leftCounts = left.join();
+            Map<String, Long> larger = leftCounts.size() >= right.size() ? leftCounts : right;
+            Map<String, Long> smaller = larger == leftCounts ? right : leftCounts;
+            smaller.forEach((key, count) -> larger.merge(key, count, Long::sum));
+            return larger;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package business.analytics;
+
+/**
+ * Receptor de los resultados parciales de un informe, que se notifican a medida que se procesan los clientes.
+ */
+@FunctionalInterface
+public interface ReportListener {
+
+    /**
+     * Recibe un resultado parcial del informe. Se invoca desde el hilo que ejecuta el informe.
+     *
+     * @param partial El resultado con los clientes procesados hasta el momento.
+     */
+    void onProgress(ReportResult partial);
+}
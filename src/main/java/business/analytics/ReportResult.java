@@ -0,0 +1,131 @@
+package business.analytics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado, parcial o final, de un informe de agregación: los grupos con más clientes (top-K) y los totales.
+ */
+public final class ReportResult {
+
+    // Orden de los grupos: más clientes primero y, a igualdad, por clave.
+    private static final Comparator<GroupCount> BY_COUNT_DESC = Comparator
+            .comparingLong(GroupCount::getCount).reversed()
+            .thenComparing(GroupCount::getKey);
+
+    // Informe y grupos con más clientes.
+    private final CustomerReport report;
+    private final List<GroupCount> topGroups;
+
+    // Totales de todos los grupos y estado del cálculo.
+    private final long groupCount;
+    private final long totalCount;
+    private final long scannedCustomers;
+    private final boolean complete;
+
+    /**
+     * Constructor que inicializa el resultado.
+     *
+     * @param report           El informe.
+     * @param topGroups        Los grupos con más clientes, en orden descendente.
+     * @param groupCount       El número total de grupos.
+     * @param totalCount       La suma de los recuentos de todos los grupos.
+     * @param scannedCustomers El número de clientes procesados, o -1 si no se conoce.
+     * @param complete         Indica si el resultado es final o parcial.
+     */
+    public ReportResult(CustomerReport report, List<GroupCount> topGroups, long groupCount, long totalCount,
+                        long scannedCustomers, boolean complete) {
+        this.report = report;
+        this.topGroups = Collections.unmodifiableList(topGroups);
+        this.groupCount = groupCount;
+        this.totalCount = totalCount;
+        this.scannedCustomers = scannedCustomers;
+        this.complete = complete;
+    }
+
+    /**
+     * Crea un resultado a partir de los recuentos de todos los grupos, seleccionando los K con más clientes.
+     *
+     * @param report           El informe.
+     * @param counts           Los recuentos por grupo.
+     * @param topK             El número de grupos a conservar.
+     * @param scannedCustomers El número de clientes procesados.
+     * @param complete         Indica si el resultado es final o parcial.
+     * @return El resultado.
+     */
+    static ReportResult of(CustomerReport report, Map<String, Long> counts, int topK, long scannedCustomers,
+                           boolean complete) {
+        List<GroupCount> groups = new ArrayList<>(counts.size());
+        long total = 0;
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            groups.add(new GroupCount(entry.getKey(), entry.getValue()));
+            total += entry.getValue();
+        }
+        groups.sort(BY_COUNT_DESC);
+        List<GroupCount> top = new ArrayList<>(groups.subList(0, Math.min(topK, groups.size())));
+        return new ReportResult(report, top, groups.size(), total, scannedCustomers, complete);
+    }
+
+    /**
+     * Obtiene el informe.
+     *
+     * @return El informe.
+     */
+    public CustomerReport getReport() {
+        return report;
+    }
+
+    /**
+     * Obtiene los grupos con más clientes, en orden descendente.
+     *
+     * @return Los grupos.
+     */
+    public List<GroupCount> getTopGroups() {
+        return topGroups;
+    }
+
+    /**
+     * Obtiene el número total de grupos, incluidos los que no están entre los K primeros.
+     *
+     * @return El número de grupos.
+     */
+    public long getGroupCount() {
+        return groupCount;
+    }
+
+    /**
+     * Obtiene la suma de los recuentos de todos los grupos.
+     *
+     * @return La suma de los recuentos.
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Obtiene el número de clientes procesados.
+     *
+     * @return El número de clientes, o -1 si no se conoce (por ejemplo, si el informe se calcula en la base de datos).
+     */
+    public long getScannedCustomers() {
+        return scannedCustomers;
+    }
+
+    /**
+     * Indica si el resultado es final o parcial.
+     *
+     * @return {@code true} si el resultado es final.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public String toString() {
+        return report + (complete ? "" : " (parcial)") + ": " + topGroups
+                + " grupos=" + groupCount + " total=" + totalCount;
+    }
+}
@@ -0,0 +1,77 @@
+package business.dedup;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normaliza los datos de los clientes para compararlos: sin acentos, sin distinguir mayúsculas y sin espacios
+ * sobrantes.
+ */
+final class CustomerNormalizer {
+
+    // Marcas diacríticas que quedan separadas de su letra tras la descomposición NFD.
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    // Secuencias de espacios en blanco.
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Caracteres de un teléfono que no son dígitos.
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D+");
+
+    // Número de dígitos de un número nacional, sin prefijo internacional.
+    private static final int NATIONAL_NUMBER_LENGTH = 9;
+
+    private CustomerNormalizer() {
+    }
+
+    /**
+     * Normaliza un nombre: quita los acentos (la ñ pasa a n), pasa a minúsculas y reduce los espacios a uno.
+     *
+     * @param name El nombre.
+     * @return El nombre normalizado, vacío si es {@code null}.
+     */
+    static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        String withoutAccents = DIACRITICS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(withoutAccents.toLowerCase(Locale.ROOT).trim()).replaceAll(" ");
+    }
+
+    /**
+     * Normaliza un correo electrónico: pasa a minúsculas, quita los acentos y elimina de la parte local la
+     * etiqueta tras el signo '+' ({@code ana+tienda@example.com} pasa a {@code ana@example.com}).
+     *
+     * @param email El correo electrónico.
+     * @return El correo normalizado, vacío si es {@code null}.
+     */
+    static String normalizeEmail(String email) {
+        if (email == null) {
+            return "";
+        }
+        String normalized = normalizeName(email).replace(" ", "");
+        int at = normalized.indexOf('@');
+        int plus = normalized.indexOf('+');
+        if (plus > 0 && at > plus) {
+            normalized = normalized.substring(0, plus) + normalized.substring(at);
+        }
+        return normalized;
+    }
+
+    /**
+     * Normaliza un teléfono a su número nacional: los últimos nueve dígitos, sin prefijo internacional.
+     *
+     * @param phone El teléfono.
+     * @return El número nacional, vacío si el teléfono es {@code null}.
+     */
+    static String normalizePhone(String phone) {
+        if (phone == null) {
+            return "";
+        }
+        String digits = NON_DIGITS.matcher(phone).replaceAll("");
+        return digits.length() > NATIONAL_NUMBER_LENGTH
+                ? digits.substring(digits.length() - NATIONAL_NUMBER_LENGTH)
+                : digits;
+    }
+}
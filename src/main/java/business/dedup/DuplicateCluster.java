@@ -0,0 +1,52 @@
+package business.dedup;
+
+import business.entity.Customer;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Grupo de clientes que probablemente son la misma persona.
+ */
+public final class DuplicateCluster {
+
+    // Clientes del grupo.
+    private final List<Customer> customers;
+
+    // Mayor puntuación de similitud entre dos clientes del grupo.
+    private final double maxScore;
+
+    /**
+     * Constructor que inicializa el grupo.
+     *
+     * @param customers Los clientes del grupo.
+     * @param maxScore  La mayor puntuación de similitud entre dos clientes del grupo.
+     */
+    public DuplicateCluster(List<Customer> customers, double maxScore) {
+        this.customers = Collections.unmodifiableList(customers);
+        this.maxScore = maxScore;
+    }
+
+    /**
+     * Obtiene los clientes del grupo.
+     *
+     * @return Los clientes.
+     */
+    public List<Customer> getCustomers() {
+        return customers;
+    }
+
+    /**
+     * Obtiene la mayor puntuación de similitud entre dos clientes del grupo, entre 0 y 1.
+     *
+     * @return La puntuación.
+     */
+    public double getMaxScore() {
+        return maxScore;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DuplicateCluster{score=%.2f, customers=%s}", maxScore, customers);
+    }
+}
@@ -0,0 +1,20 @@
+package business.dedup;
+
+import business.entity.Customer;
+
+import java.util.List;
+
+/**
+ * Interfaz que define la detección de clientes duplicados: clientes registrados más de una vez con datos
+ * ligeramente distintos.
+ */
+public interface DuplicateDetector {
+
+    /**
+     * Agrupa los clientes que probablemente son la misma persona.
+     *
+     * @param customers Los clientes a analizar.
+     * @return Los grupos de dos o más clientes probablemente duplicados, de mayor a menor tamaño.
+     */
+    List<DuplicateCluster> findClusters(List<Customer> customers);
+}
@@ -0,0 +1,378 @@
+package business.dedup;
+
+import business.entity.Customer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Implementación de la interfaz {@link DuplicateDetector} basada en MinHash con LSH (locality-sensitive hashing),
+ * que evita comparar todos los clientes entre sí (O(n²)).
+ *
+ * <p>El proceso tiene cuatro fases:</p>
+ * <ol>
+ *     <li>En paralelo, se normaliza cada cliente con {@link CustomerNormalizer} y se calcula la firma MinHash de los
+ *     trigramas de su nombre y de la parte local de su correo. La firma se divide en bandas y de cada banda se guarda
+ *     un hash.</li>
+ *     <li>Son candidatos los pares de clientes que coinciden en el hash de alguna banda, o en el correo normalizado.
+ *     Los candidatos se obtienen ordenando los hashes de cada banda, sin tablas hash por cliente.</li>
+ *     <li>Los candidatos se puntúan en paralelo, por lotes, comparando los trigramas del nombre y del correo, y el
+ *     teléfono.</li>
+ *     <li>Los pares que alcanzan el umbral se unen en grupos con una estructura union-find. Los pares cuyos clientes
+ *     ya están en el mismo grupo no se vuelven a puntuar.</li>
+ * </ol>
+ *
+ * <p>Con {@code b} bandas de {@code r} filas, dos clientes cuya similitud de trigramas es {@code s} son candidatos
+ * con probabilidad {@code 1 - (1 - s^r)^b}; con los valores por defecto (20 bandas de 5 filas) el punto de corte
+ * está en torno a 0,55.</p>
+ */
+public class MinHashDuplicateDetectorImpl implements DuplicateDetector {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(MinHashDuplicateDetectorImpl.class);
+
+    // Pesos del nombre, el correo y el teléfono en la puntuación de un par.
+    private static final double NAME_WEIGHT = 0.5;
+    private static final double EMAIL_WEIGHT = 0.35;
+    private static final double PHONE_WEIGHT = 0.15;
+
+    // Valor que distingue los trigramas del correo de los del nombre en la firma MinHash.
+    private static final int EMAIL_SHINGLE_TAG = 0x5BD1E995;
+
+    // Número de pares candidatos que se puntúan en cada lote.
+    private static final int BATCH_SIZE = 1 << 16;
+
+    // Semilla fija, para que la detección sea reproducible.
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+
+    // Parámetros de LSH y de la puntuación.
+    private final int bands;
+    private final int rowsPerBand;
+    private final double threshold;
+    private final int maxBucketSize;
+
+    // Semillas de las funciones hash de la firma MinHash.
+    private final int[] hashSeeds;
+
+    // Grupo de hilos en el que se ejecutan las fases en paralelo.
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor que inicializa los parámetros de la detección.
+     *
+     * @param bands         El número de bandas de la firma MinHash.
+     * @param rowsPerBand   El número de valores de cada banda.
+     * @param threshold     La puntuación mínima, entre 0 y 1, para considerar duplicados dos clientes.
+     * @param maxBucketSize El número máximo de clientes con el mismo hash de banda que se comparan con cada uno; en
+     *                      grupos mayores solo se comparan los vecinos, para acotar el número de pares.
+     * @param pool          El grupo de hilos en el que se ejecutan las fases en paralelo.
+     */
+    public MinHashDuplicateDetectorImpl(int bands, int rowsPerBand, double threshold, int maxBucketSize,
+                                        ForkJoinPool pool) {
+        if (bands <= 0 || rowsPerBand <= 0 || maxBucketSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Las bandas, las filas por banda y el tamaño de grupo deben ser positivos");
+        }
+        this.bands = bands;
+        this.rowsPerBand = rowsPerBand;
+        this.threshold = threshold;
+        this.maxBucketSize = maxBucketSize;
+        this.pool = pool;
+        this.hashSeeds = new SplittableRandom(SEED).ints(bands * rowsPerBand).toArray();
+    }
+
+    /**
+     * Constructor que usa 20 bandas de 5 filas, un umbral de 0,75, grupos de hasta 20 clientes y el grupo de hilos
+     * común.
+     */
+    public MinHashDuplicateDetectorImpl() {
+        this(20, 5, 0.75, 20, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public List<DuplicateCluster> findClusters(List<Customer> customers) {
+        long start = System.nanoTime();
+        int n = customers.size();
+        NormalizedCustomer[] normalized = new NormalizedCustomer[n];
+        int signatureBands = bands + 1;
+        int[] bandHashes = new int[signatureBands * n];
+
+        pool.submit(() -> IntStream.range(0, n).parallel().forEach(i -> {
+            normalized[i] = new NormalizedCustomer(customers.get(i));
+            computeBandHashes(normalized[i], bandHashes, i * signatureBands);
+            // Banda adicional con el correo normalizado completo, para no perder los duplicados exactos.
+            bandHashes[i * signatureBands + bands] = normalized[i].email.hashCode();
+        })).join();
+        long signed = System.nanoTime();
+
+        Linker linker = new Linker(normalized);
+        long[] keys = new long[n];
+        for (int band = 0; band < signatureBands; band++) {
+            for (int i = 0; i < n; i++) {
+                keys[i] = ((long) bandHashes[i * signatureBands + band] << 32) | i;
+            }
+            Arrays.parallelSort(keys);
+            int runStart = 0;
+            for (int k = 1; k <= n; k++) {
+                if (k < n && (keys[k] >>> 32) == (keys[runStart] >>> 32)) {
+                    continue;
+                }
+                for (int p = runStart; p < k; p++) {
+                    int last = Math.min(k, p + 1 + maxBucketSize);
+                    for (int q = p + 1; q < last; q++) {
+                        int i = (int) keys[p];
+                        int j = (int) keys[q];
+                        if (!collideInEarlierBand(bandHashes, signatureBands, band, i, j)) {
+                            linker.offer(i, j);
+                        }
+                    }
+                }
+                runStart = k;
+            }
+        }
+        linker.flush();
+
+        List<DuplicateCluster> clusters = linker.clusters(customers);
+        LOGGER.info("Detección de duplicados: {} clientes, {} pares puntuados, {} grupos (firmas {} ms, total {} ms)",
+                n, linker.scoredPairs, clusters.size(), (signed - start) / 1_000_000,
+                (System.nanoTime() - start) / 1_000_000);
+        return clusters;
+    }
+
+    /**
+     * Calcula la firma MinHash de un cliente y guarda el hash de cada banda.
+     *
+     * @param customer   El cliente normalizado.
+     * @param bandHashes Los hashes de banda de todos los clientes.
+     * @param offset     La posición del primer hash de banda del cliente.
+     */
+    private void computeBandHashes(NormalizedCustomer customer, int[] bandHashes, int offset) {
+        int[] signature = new int[hashSeeds.length];
+        for (int k = 0; k < hashSeeds.length; k++) {
+            int min = Integer.MAX_VALUE;
+            for (int shingle : customer.nameShingles) {
+                min = Math.min(min, mix(shingle ^ hashSeeds[k]));
+            }
+            for (int shingle : customer.emailShingles) {
+                min = Math.min(min, mix(shingle ^ EMAIL_SHINGLE_TAG ^ hashSeeds[k]));
+            }
+            signature[k] = min;
+        }
+        for (int band = 0; band < bands; band++) {
+            int hash = band;
+            for (int row = 0; row < rowsPerBand; row++) {
+                hash = hash * 31 + signature[band * rowsPerBand + row];
+            }
+            bandHashes[offset + band] = mix(hash);
+        }
+    }
+
+    /**
+     * Comprueba si dos clientes ya coincidieron en una banda anterior, en cuyo caso el par ya se ha ofrecido.
+     */
+    private static boolean collideInEarlierBand(int[] bandHashes, int signatureBands, int band, int i, int j) {
+        for (int earlier = 0; earlier < band; earlier++) {
+            if (bandHashes[i * signatureBands + earlier] == bandHashes[j * signatureBands + earlier]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Puntúa la similitud de dos clientes normalizados: la similitud de Jaccard de los trigramas del nombre y de la
+     * parte local del correo, y la coincidencia del teléfono, ponderadas.
+     *
+     * @return La puntuación, entre 0 y 1; 1 si los correos normalizados coinciden.
+     */
+    private static double score(NormalizedCustomer a, NormalizedCustomer b) {
+        if (!a.email.isEmpty() && a.email.equals(b.email)) {
+            return 1.0;
+        }
+        double nameSimilarity = jaccard(a.nameShingles, b.nameShingles);
+        double emailSimilarity = jaccard(a.emailShingles, b.emailShingles);
+        double phoneSimilarity = !a.phone.isEmpty() && a.phone.equals(b.phone) ? 1.0 : 0.0;
+        return NAME_WEIGHT * nameSimilarity + EMAIL_WEIGHT * emailSimilarity + PHONE_WEIGHT * phoneSimilarity;
+    }
+
+    /**
+     * Obtiene los trigramas de un texto, incluidos los de sus extremos, como hashes ordenados y sin repetir.
+     *
+     * @param text El texto.
+     * @return Los hashes de los trigramas.
+     */
+    private static int[] shingles(String text) {
+        if (text.isEmpty()) {
+            return new int[0];
+        }
+        String padded = ' ' + text + ' ';
+        int[] shingles = new int[padded.length() - 2];
+        for (int i = 0; i < shingles.length; i++) {
+            shingles[i] = (padded.charAt(i) * 31 + padded.charAt(i + 1)) * 31 + padded.charAt(i + 2);
+        }
+        Arrays.sort(shingles);
+        int unique = 0;
+        for (int i = 0; i < shingles.length; i++) {
+            if (unique == 0 || shingles[i] != shingles[unique - 1]) {
+                shingles[unique++] = shingles[i];
+            }
+        }
+        return unique == shingles.length ? shingles : Arrays.copyOf(shingles, unique);
+    }
+
+    /**
+     * Calcula la similitud de Jaccard de dos conjuntos ordenados.
+     *
+     * @return El tamaño de la intersección entre el de la unión, o 0 si ambos están vacíos.
+     */
+    private static double jaccard(int[] a, int[] b) {
+        int i = 0;
+        int j = 0;
+        int common = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        int union = a.length + b.length - common;
+        return union == 0 ? 0.0 : (double) common / union;
+    }
+
+    private static String localPart(String email) {
+        int at = email.indexOf('@');
+        return at >= 0 ? email.substring(0, at) : email;
+    }
+
+    /**
+     * Mezcla los bits de un entero (finalizador de MurmurHash3), para usarlo como función hash.
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Datos normalizados de un cliente y sus trigramas, calculados una sola vez.
+     */
+    private static final class NormalizedCustomer {
+        private final String email;
+        private final String phone;
+        private final int[] nameShingles;
+        private final int[] emailShingles;
+
+        private NormalizedCustomer(Customer customer) {
+            this.email = CustomerNormalizer.normalizeEmail(customer.getEmail());
+            this.phone = CustomerNormalizer.normalizePhone(customer.getPhone());
+            this.nameShingles = shingles(CustomerNormalizer.normalizeName(customer.getName()));
+            this.emailShingles = shingles(localPart(email));
+        }
+    }
+
+    /**
+     * Puntúa los pares candidatos por lotes en paralelo y une en grupos (union-find) los que alcanzan el umbral.
+     * Solo se mantiene en memoria un lote de pares, además de la mejor puntuación de cada cliente unido.
+     */
+    private final class Linker {
+        private final NormalizedCustomer[] customers;
+        private final int[] parent;
+        private final long[] batch = new long[BATCH_SIZE];
+        private final double[] batchScores = new double[BATCH_SIZE];
+        private final Map<Integer, Double> linkScores = new HashMap<>();
+        private int batchCount;
+        private long scoredPairs;
+
+        private Linker(NormalizedCustomer[] customers) {
+            this.customers = customers;
+            this.parent = IntStream.range(0, customers.length).toArray();
+        }
+
+        /**
+         * Añade un par candidato al lote, salvo que sus clientes ya estén en el mismo grupo.
+         */
+        private void offer(int i, int j) {
+            if (find(i) == find(j)) {
+                return;
+            }
+            batch[batchCount++] = ((long) i << 32) | j;
+            if (batchCount == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * Puntúa en paralelo los pares del lote y une los que alcanzan el umbral.
+         */
+        private void flush() {
+            int count = batchCount;
+            pool.submit(() -> IntStream.range(0, count).parallel().forEach(p ->
+                    batchScores[p] = score(customers[(int) (batch[p] >>> 32)], customers[(int) batch[p]]))).join();
+            for (int p = 0; p < count; p++) {
+                if (batchScores[p] >= threshold) {
+                    int i = (int) (batch[p] >>> 32);
+                    int j = (int) batch[p];
+                    linkScores.merge(i, batchScores[p], Math::max);
+                    linkScores.merge(j, batchScores[p], Math::max);
+                    union(i, j);
+                }
+            }
+            scoredPairs += count;
+            batchCount = 0;
+        }
+
+        /**
+         * Obtiene los grupos de dos o más clientes, de mayor a menor tamaño y puntuación.
+         */
+        private List<DuplicateCluster> clusters(List<Customer> source) {
+            Map<Integer, Double> maxScores = new HashMap<>();
+            linkScores.forEach((i, linkScore) -> maxScores.merge(find(i), linkScore, Math::max));
+            Map<Integer, List<Customer>> members = new HashMap<>();
+            for (int i = 0; i < parent.length; i++) {
+                int root = find(i);
+                if (maxScores.containsKey(root)) {
+                    members.computeIfAbsent(root, key -> new ArrayList<>()).add(source.get(i));
+                }
+            }
+            List<DuplicateCluster> clusters = new ArrayList<>(members.size());
+            members.forEach((root, cluster) -> clusters.add(new DuplicateCluster(cluster, maxScores.get(root))));
+            clusters.sort(Comparator.comparingInt((DuplicateCluster cluster) -> cluster.getCustomers().size())
+                    .thenComparingDouble(DuplicateCluster::getMaxScore)
+                    .reversed());
+            return clusters;
+        }
+
+        private int find(int i) {
+            while (parent[i] != i) {
+                parent[i] = parent[parent[i]];
+                i = parent[i];
+            }
+            return i;
+        }
+
+        private void union(int a, int b) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA != rootB) {
+                parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+            }
+        }
+    }
+}
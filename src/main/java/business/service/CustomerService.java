@@ -2,6 +2,8 @@ package business.service;
 
 import business.entity.Customer;
 
+import java.util.List;
+
 /**
  * Interfaz específica para definir operaciones de servicio relacionadas con entidades de Customer.
  * Extiende la interfaz {@link GenericService} parametrizada con {@link Customer}.
@@ -9,8 +11,24 @@ import business.entity.Customer;
 public interface CustomerService extends GenericService<Customer> {
 
     /**
-     * Esta interfaz no define métodos adicionales específicos para la entidad Customer en este momento.
-     * Se utiliza para proporcionar operaciones estándar CRUD (Crear, Leer, Actualizar, Eliminar) para la entidad Customer.
+     * Busca clientes por nombre o correo electrónico y devuelve los primeros resultados.
+     *
+     * @param text  El texto a buscar.
+     * @param limit El número máximo de resultados.
+     * @return Una lista con los clientes encontrados.
      */
+    default List<Customer> search(String text, int limit) {
+        return search(text, 0, limit);
+    }
 
+    /**
+     * Busca clientes por nombre o correo electrónico y devuelve una página de resultados, ordenados por relevancia
+     * si la base de datos dispone de un índice de texto completo.
+     *
+     * @param text   El texto a buscar.
+     * @param offset El número de resultados que se omiten desde el principio.
+     * @param limit  El número máximo de resultados.
+     * @return Una lista con los clientes encontrados.
+     */
+    List<Customer> search(String text, int offset, int limit);
 }
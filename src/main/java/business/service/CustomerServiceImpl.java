@@ -8,6 +8,9 @@ import java.util.List;
 
 /**
  * Implementación del servicio para la entidad Customer, que proporciona operaciones CRUD y validación.
+ *
+ * <p>Las operaciones por lotes se ejecutan en una {@link UnitOfWork}, de modo que todas las llamadas al DAO
+ * comparten una conexión y se confirman una sola vez al final.</p>
  */
 public class CustomerServiceImpl implements CustomerService {
 
@@ -17,6 +20,9 @@ public class CustomerServiceImpl implements CustomerService {
     // Validador para validar entidades de tipo Customer.
     private final CustomerValidator customerValidator;
 
+    // Unidad de trabajo en la que se ejecutan las operaciones por lotes.
+    private final UnitOfWork unitOfWork;
+
     /**
      * Constructor que inicializa el DAO y el validador para Customer.
      *
@@ -24,8 +30,20 @@ public class CustomerServiceImpl implements CustomerService {
      * @param customerValidator  La instancia de CustomerValidator para la validación de datos.
      */
     public CustomerServiceImpl(CustomerDAO customerDAO, CustomerValidator customerValidator) {
+        this(customerDAO, customerValidator, new NonTransactionalUnitOfWorkImpl());
+    }
+
+    /**
+     * Constructor que inicializa el DAO, el validador y la unidad de trabajo para Customer.
+     *
+     * @param customerDAO       La instancia de CustomerDAO para la persistencia de datos.
+     * @param customerValidator La instancia de CustomerValidator para la validación de datos.
+     * @param unitOfWork        La unidad de trabajo en la que se ejecutan las operaciones por lotes.
+     */
+    public CustomerServiceImpl(CustomerDAO customerDAO, CustomerValidator customerValidator, UnitOfWork unitOfWork) {
         this.customerDAO = customerDAO;
         this.customerValidator = customerValidator;
+        this.unitOfWork = unitOfWork;
     }
 
     /**
@@ -80,4 +98,79 @@ public class CustomerServiceImpl implements CustomerService {
     public List<Customer> getAll() {
         return customerDAO.getAll();
     }
+
+    /**
+     * Obtiene una página de Customers ordenados por ID.
+     *
+     * @param offset El número de clientes que se omiten desde el principio.
+     * @param limit  El número máximo de clientes de la página.
+     * @return Una lista con los clientes de la página.
+     * @throws IllegalArgumentException Si el desplazamiento es negativo o el límite no es positivo.
+     */
+    @Override
+    public List<Customer> getPage(int offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("Parámetros de paginación inválidos: offset=" + offset + ", limit=" + limit);
+        }
+        return customerDAO.getPage(offset, limit);
+    }
+
+    /**
+     * Obtiene la página de Customers que siguen a un ID, ordenados por ID.
+     *
+     * @param afterId El ID a partir del cual, sin incluirlo, empieza la página, o {@code null} para la primera.
+     * @param limit   El número máximo de clientes de la página.
+     * @return Una lista con los clientes de la página.
+     * @throws IllegalArgumentException Si el ID no es numérico o el límite no es positivo.
+     */
+    @Override
+    public List<Customer> getPageAfter(String afterId, int limit) {
+        if (limit <= 0 || (afterId != null && !afterId.matches("-?\\d{1,19}"))) {
+            throw new IllegalArgumentException("Parámetros de paginación inválidos: afterId=" + afterId + ", limit=" + limit);
+        }
+        return customerDAO.getPageAfter(afterId, limit);
+    }
+
+    /**
+     * Busca Customers por nombre o correo electrónico.
+     *
+     * @param text   El texto a buscar.
+     * @param offset El número de resultados que se omiten desde el principio.
+     * @param limit  El número máximo de resultados.
+     * @return Una lista con los clientes encontrados, vacía si el texto está vacío.
+     * @throws IllegalArgumentException Si el desplazamiento es negativo o el límite no es positivo.
+     */
+    @Override
+    public List<Customer> search(String text, int offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("Página de búsqueda inválida: offset=" + offset + ", limit=" + limit);
+        }
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return customerDAO.search(text.trim(), offset, limit);
+    }
+
+    /**
+     * Añade varios Customers en una única unidad de trabajo. Todos se validan antes de escribir ninguno. La escritura
+     * solo es atómica si la unidad de trabajo es transaccional (véase {@link NonTransactionalUnitOfWorkImpl}).
+     *
+     * @param customers Los clientes a añadir.
+     */
+    @Override
+    public void addAll(List<Customer> customers) {
+        customers.forEach(customerValidator::validate);
+        unitOfWork.run(() -> customers.forEach(customerDAO::add));
+    }
+
+    /**
+     * Elimina varios Customers en una única unidad de trabajo, atómica solo si la unidad de trabajo es
+     * transaccional.
+     *
+     * @param customerIds Los IDs de los clientes a eliminar.
+     */
+    @Override
+    public void deleteAll(List<String> customerIds) {
+        unitOfWork.run(() -> customerIds.forEach(customerDAO::delete));
+    }
 }
@@ -44,4 +44,43 @@ public interface GenericService<T> {
      * @return Una lista con todas las entidades almacenadas en el servicio.
      */
     List<T> getAll();
+
+    /**
+     * Obtiene una página de entidades, ordenadas por su identificador.
+     *
+     * @param offset El número de entidades que se omiten desde el principio.
+     * @param limit  El número máximo de entidades de la página.
+     * @return Una lista con las entidades de la página, vacía si no hay más entidades.
+     */
+    List<T> getPage(int offset, int limit);
+
+    /**
+     * Obtiene la página de entidades que siguen a un identificador, ordenadas por su identificador. Permite recorrer
+     * todas las entidades página a página, con un coste por página que no depende de cuántas la preceden.
+     *
+     * @param afterId El identificador a partir del cual, sin incluirlo, empieza la página, o {@code null} para la
+     *                primera página.
+     * @param limit   El número máximo de entidades de la página.
+     * @return Una lista con las entidades de la página, vacía si no hay más entidades.
+     */
+    List<T> getPageAfter(String afterId, int limit);
+
+    /**
+     * Agrega varias entidades. Con una unidad de trabajo transaccional (repositorio {@code jdbc} sin escritura
+     * diferida) la operación es atómica: o se agregan todas o no se agrega ninguna. Con los repositorios
+     * {@code memory} y {@code sharded}, o con la escritura diferida, las entidades se agregan una a una y un error
+     * deja agregadas las anteriores.
+     *
+     * @param entities Las entidades que se van a agregar.
+     */
+    void addAll(List<T> entities);
+
+    /**
+     * Elimina varias entidades. Como {@link #addAll(List)}, la operación solo es atómica (o se eliminan todas o no
+     * se elimina ninguna) con una unidad de trabajo transaccional; en otro caso un error deja eliminadas las
+     * anteriores.
+     *
+     * @param ids Los identificadores únicos de las entidades que se van a eliminar.
+     */
+    void deleteAll(List<String> ids);
 }
@@ -0,0 +1,226 @@
+package business.service;
+
+import business.entity.Customer;
+import utility.jfr.ServiceCallEvent;
+import utility.metrics.MetricsRegistry;
+import utility.metrics.OperationMetrics;
+import utility.metrics.Outcome;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Implementación de la interfaz {@link CustomerService} que decora otro servicio para registrar la latencia y el
+ * resultado de cada operación en el {@link MetricsRegistry}, bajo la capa {@value #LAYER}. Cada operación se
+ * registra además como un {@link ServiceCallEvent} de Java Flight Recorder.
+ *
+ * <p>Los errores de validación ({@link IllegalArgumentException}) se contabilizan como rechazos y no como errores,
+ * para distinguir los datos inválidos introducidos por el usuario de los fallos del sistema.</p>
+ */
+public class InstrumentedCustomerServiceImpl implements CustomerService {
+
+    /**
+     * Nombre de la capa con el que se registran las métricas de este servicio.
+     */
+    public static final String LAYER = "service";
+
+    // Servicio decorado.
+    private final CustomerService delegate;
+
+    // Métricas de cada operación.
+    private final OperationMetrics addMetrics;
+    private final OperationMetrics updateMetrics;
+    private final OperationMetrics deleteMetrics;
+    private final OperationMetrics getMetrics;
+    private final OperationMetrics getAllMetrics;
+    private final OperationMetrics getPageMetrics;
+    private final OperationMetrics getPageAfterMetrics;
+    private final OperationMetrics searchMetrics;
+    private final OperationMetrics addAllMetrics;
+    private final OperationMetrics deleteAllMetrics;
+
+    /**
+     * Constructor que inicializa el servicio decorado y las métricas de cada operación.
+     *
+     * @param delegate La instancia de {@link CustomerService} que se decora.
+     * @param registry El registro en el que se publican las métricas.
+     */
+    public InstrumentedCustomerServiceImpl(CustomerService delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.addMetrics = registry.operation(LAYER, "add");
+        this.updateMetrics = registry.operation(LAYER, "update");
+        this.deleteMetrics = registry.operation(LAYER, "delete");
+        this.getMetrics = registry.operation(LAYER, "get");
+        this.getAllMetrics = registry.operation(LAYER, "getAll");
+        this.getPageMetrics = registry.operation(LAYER, "getPage");
+        this.getPageAfterMetrics = registry.operation(LAYER, "getPageAfter");
+        this.searchMetrics = registry.operation(LAYER, "search");
+        this.addAllMetrics = registry.operation(LAYER, "addAll");
+        this.deleteAllMetrics = registry.operation(LAYER, "deleteAll");
+    }
+
+    @Override
+    public void add(Customer customer) {
+        ServiceCallEvent event = ServiceCallEvent.start("add");
+        long start = System.nanoTime();
+        try {
+            delegate.add(customer);
+            record(addMetrics, event, Outcome.SUCCESS, start, 1);
+        } catch (RuntimeException e) {
+            record(addMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public void update(Customer customer) {
+        ServiceCallEvent event = ServiceCallEvent.start("update");
+        long start = System.nanoTime();
+        try {
+            delegate.update(customer);
+            record(updateMetrics, event, Outcome.SUCCESS, start, 1);
+        } catch (RuntimeException e) {
+            record(updateMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(String customerId) {
+        ServiceCallEvent event = ServiceCallEvent.start("delete");
+        long start = System.nanoTime();
+        try {
+            delegate.delete(customerId);
+            record(deleteMetrics, event, Outcome.SUCCESS, start, 1);
+        } catch (RuntimeException e) {
+            record(deleteMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public Customer get(String customerId) {
+        ServiceCallEvent event = ServiceCallEvent.start("get");
+        long start = System.nanoTime();
+        try {
+            Customer customer = delegate.get(customerId);
+            record(getMetrics, event, customer != null ? Outcome.SUCCESS : Outcome.NOT_FOUND, start,
+                    customer != null ? 1 : 0);
+            return customer;
+        } catch (RuntimeException e) {
+            record(getMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Customer> getAll() {
+        ServiceCallEvent event = ServiceCallEvent.start("getAll");
+        long start = System.nanoTime();
+        try {
+            List<Customer> customers = delegate.getAll();
+            record(getAllMetrics, event, Outcome.SUCCESS, start, customers.size());
+            return customers;
+        } catch (RuntimeException e) {
+            record(getAllMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Customer> getPage(int offset, int limit) {
+        ServiceCallEvent event = ServiceCallEvent.start("getPage");
+        long start = System.nanoTime();
+        try {
+            List<Customer> customers = delegate.getPage(offset, limit);
+            record(getPageMetrics, event, Outcome.SUCCESS, start, customers.size());
+            return customers;
+        } catch (RuntimeException e) {
+            record(getPageMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Customer> getPageAfter(String afterId, int limit) {
+        ServiceCallEvent event = ServiceCallEvent.start("getPageAfter");
+        long start = System.nanoTime();
+        try {
+            List<Customer> customers = delegate.getPageAfter(afterId, limit);
+            record(getPageAfterMetrics, event, Outcome.SUCCESS, start, customers.size());
+            return customers;
+        } catch (RuntimeException e) {
+            record(getPageAfterMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Customer> search(String text, int offset, int limit) {
+        ServiceCallEvent event = ServiceCallEvent.start("search");
+        long start = System.nanoTime();
+        try {
+            List<Customer> customers = delegate.search(text, offset, limit);
+            record(searchMetrics, event, Outcome.SUCCESS, start, customers.size());
+            return customers;
+        } catch (RuntimeException e) {
+            record(searchMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public void addAll(List<Customer> customers) {
+        ServiceCallEvent event = ServiceCallEvent.start("addAll");
+        long start = System.nanoTime();
+        try {
+            delegate.addAll(customers);
+            record(addAllMetrics, event, Outcome.SUCCESS, start, customers.size());
+        } catch (RuntimeException e) {
+            record(addAllMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public void deleteAll(List<String> customerIds) {
+        ServiceCallEvent event = ServiceCallEvent.start("deleteAll");
+        long start = System.nanoTime();
+        try {
+            delegate.deleteAll(customerIds);
+            record(deleteAllMetrics, event, Outcome.SUCCESS, start, customerIds.size());
+        } catch (RuntimeException e) {
+            record(deleteAllMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    /**
+     * Registra una invocación en sus métricas y termina su evento de Java Flight Recorder.
+     *
+     * @param metrics  Las métricas de la operación.
+     * @param event    El evento de la operación.
+     * @param outcome  El resultado de la invocación.
+     * @param start    El instante (en nanosegundos) en el que empezó la invocación.
+     * @param rowCount El número de clientes afectados o devueltos.
+     */
+    private static void record(OperationMetrics metrics, ServiceCallEvent event, Outcome outcome, long start,
+                               long rowCount) {
+        metrics.record(outcome, System.nanoTime() - start);
+        event.finish(outcome, rowCount);
+    }
+
+    /**
+     * Determina el resultado que corresponde a una excepción lanzada por el servicio decorado.
+     *
+     * @param e La excepción lanzada.
+     * @return {@link Outcome#REJECTED} para errores de validación, {@link Outcome#CANCELLED} para operaciones
+     * canceladas y {@link Outcome#ERROR} en otro caso.
+     */
+    private static Outcome outcomeOf(RuntimeException e) {
+        if (e instanceof IllegalArgumentException) {
+            return Outcome.REJECTED;
+        }
+        return e instanceof CancellationException ? Outcome.CANCELLED : Outcome.ERROR;
+    }
+}
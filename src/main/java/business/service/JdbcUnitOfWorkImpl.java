@@ -0,0 +1,78 @@
+package business.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utility.connection.TransactionalDatabaseConnectionImpl;
+
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * Implementación de la interfaz {@link UnitOfWork} que ejecuta cada unidad de trabajo en una transacción JDBC,
+ * vinculando una única conexión al hilo actual mediante {@link TransactionalDatabaseConnectionImpl}.
+ */
+public class JdbcUnitOfWorkImpl implements UnitOfWork {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdbcUnitOfWorkImpl.class);
+
+    // Conexión que vincula la transacción al hilo actual; los DAO deben usar esta misma conexión.
+    private final TransactionalDatabaseConnectionImpl connection;
+
+    /**
+     * Constructor que inicializa la conexión transaccional.
+     *
+     * @param connection La conexión transaccional compartida con los DAO.
+     */
+    public JdbcUnitOfWorkImpl(TransactionalDatabaseConnectionImpl connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Ejecuta una unidad de trabajo en una transacción. Si ya hay una transacción abierta en el hilo actual, las
+     * operaciones se unen a ella.
+     *
+     * @param work Las operaciones a ejecutar.
+     * @param <R>  El tipo del resultado.
+     * @return El resultado de las operaciones.
+     * @throws IllegalStateException Si no se puede abrir o confirmar la transacción.
+     */
+    @Override
+    public <R> R execute(Supplier<R> work) {
+        if (connection.isTransactionActive()) {
+            return work.get();
+        }
+        try {
+            connection.begin();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Error al abrir la transacción", e);
+        }
+        R result;
+        try {
+            result = work.get();
+        } catch (RuntimeException | Error e) {
+            rollbackQuietly(e);
+            throw e;
+        }
+        try {
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Error al confirmar la transacción", e);
+        }
+        return result;
+    }
+
+    /**
+     * Deshace la transacción tras un fallo, añadiendo cualquier error de la reversión al error original.
+     *
+     * @param cause El error que provoca la reversión.
+     */
+    private void rollbackQuietly(Throwable cause) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            LOGGER.error("Error al deshacer la transacción", e);
+            cause.addSuppressed(e);
+        }
+    }
+}
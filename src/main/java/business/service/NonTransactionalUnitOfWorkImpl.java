@@ -0,0 +1,19 @@
+package business.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Implementación de la interfaz {@link UnitOfWork} que ejecuta las operaciones directamente, sin transacción.
+ *
+ * <p>Se utiliza con los repositorios que no admiten transacciones JDBC sobre una única conexión: el almacenamiento
+ * en memoria, la base de datos fragmentada (cuyas operaciones pueden abarcar varias bases de datos) y la escritura
+ * diferida (cuyas escrituras se vuelcan más tarde desde otro hilo). Con esta implementación las operaciones por
+ * lotes del servicio no son atómicas: si una operación falla, las anteriores ya se han aplicado.</p>
+ */
+public class NonTransactionalUnitOfWorkImpl implements UnitOfWork {
+
+    @Override
+    public <R> R execute(Supplier<R> work) {
+        return work.get();
+    }
+}
@@ -0,0 +1,34 @@
+package business.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Interfaz que define una unidad de trabajo: un conjunto de operaciones de los DAO que se ejecutan de forma atómica,
+ * sobre una misma conexión y con una única confirmación al final.
+ *
+ * <p>Las unidades de trabajo anidadas se unen a la exterior, que es la única que confirma o deshace.</p>
+ */
+public interface UnitOfWork {
+
+    /**
+     * Ejecuta una unidad de trabajo y devuelve su resultado. Si la unidad termina con una excepción, todos sus
+     * cambios se deshacen y la excepción se propaga.
+     *
+     * @param work Las operaciones a ejecutar.
+     * @param <R>  El tipo del resultado.
+     * @return El resultado de las operaciones.
+     */
+    <R> R execute(Supplier<R> work);
+
+    /**
+     * Ejecuta una unidad de trabajo sin resultado.
+     *
+     * @param work Las operaciones a ejecutar.
+     */
+    default void run(Runnable work) {
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+}
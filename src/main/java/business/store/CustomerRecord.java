@@ -0,0 +1,102 @@
+package business.store;
+
+import business.entity.Customer;
+
+/**
+ * Vista ligera (flyweight) de una fila de un {@link OffHeapCustomerStore}. No copia los datos: cada getter los lee
+ * del almacén en el momento de la llamada, y la misma instancia puede reutilizarse para recorrer todas las filas
+ * con {@link #moveTo(int)} sin crear un objeto por cliente.
+ */
+public final class CustomerRecord {
+
+    // Almacén al que pertenece la fila.
+    private final OffHeapCustomerStore store;
+
+    // Fila a la que apunta la vista.
+    private int row;
+
+    /**
+     * Constructor que inicializa la vista sobre una fila del almacén.
+     *
+     * @param store El almacén.
+     * @param row   La fila.
+     */
+    CustomerRecord(OffHeapCustomerStore store, int row) {
+        this.store = store;
+        this.row = row;
+    }
+
+    /**
+     * Desplaza la vista a otra fila del almacén.
+     *
+     * @param row La nueva fila.
+     * @return Esta misma vista.
+     */
+    public CustomerRecord moveTo(int row) {
+        this.row = row;
+        return this;
+    }
+
+    /**
+     * Obtiene la fila a la que apunta la vista.
+     *
+     * @return La fila.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Obtiene el identificador del cliente.
+     *
+     * @return El identificador, o {@code null} si no tiene.
+     */
+    public String getId() {
+        return store.getId(row);
+    }
+
+    /**
+     * Obtiene el nombre del cliente.
+     *
+     * @return El nombre.
+     */
+    public String getName() {
+        return store.getName(row);
+    }
+
+    /**
+     * Obtiene el correo electrónico del cliente.
+     *
+     * @return El correo electrónico.
+     */
+    public String getEmail() {
+        return store.getEmail(row);
+    }
+
+    /**
+     * Obtiene el dominio del correo electrónico del cliente, sin decodificar el resto del correo.
+     *
+     * @return El dominio, o {@code null} si el correo no tiene.
+     */
+    public String getEmailDomain() {
+        return store.getEmailDomain(row);
+    }
+
+    /**
+     * Obtiene el teléfono del cliente.
+     *
+     * @return El teléfono.
+     */
+    public String getPhone() {
+        return store.getPhone(row);
+    }
+
+    /**
+     * Copia la fila en un nuevo objeto {@link Customer}.
+     *
+     * @return El cliente.
+     */
+    public Customer toCustomer() {
+        return store.get(row);
+    }
+}
@@ -0,0 +1,474 @@
+package business.store;
+
+import business.entity.Customer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Almacén de clientes en formato columnar fuera del heap de Java, pensado para mantener millones de clientes en el
+ * cliente sin crear un {@link Customer} y cuatro {@link String} por fila.
+ *
+ * <p>Cada fila ocupa {@value #ROW_BYTES} bytes en un {@link ByteBuffer} directo con referencias de tamaño fijo:</p>
+ * <ul>
+ *     <li>El identificador como {@code long}.</li>
+ *     <li>El nombre, la parte local del correo y el número de teléfono como desplazamientos en un segundo buffer
+ *     directo de textos, donde cada texto se guarda en UTF-8 precedido de su longitud.</li>
+ *     <li>El dominio del correo y el prefijo telefónico (+34, 0034, 34) como códigos de diccionario, de modo que
+ *     cada valor distinto se guarda una sola vez.</li>
+ * </ul>
+ *
+ * <p>El acceso se hace a través de vistas {@link CustomerRecord} reutilizables, o de los getters por fila, que
+ * decodifican solo el campo pedido. La memoria directa está limitada por {@code -XX:MaxDirectMemorySize}, que por
+ * defecto coincide con el tamaño máximo del heap.</p>
+ *
+ * <p>Esta clase no es segura para hilos: debe usarse desde un único hilo (normalmente el EDT) o con sincronización
+ * externa. Un almacén que ya no se modifica puede leerse desde varios hilos.</p>
+ */
+public class OffHeapCustomerStore {
+
+    // Tamaño de cada fila y posición de cada columna dentro de ella.
+    private static final int ROW_BYTES = 28;
+    private static final int ID = 0;
+    private static final int NAME = 8;
+    private static final int EMAIL_LOCAL = 12;
+    private static final int EMAIL_DOMAIN = 16;
+    private static final int PHONE_PREFIX = 20;
+    private static final int PHONE_NUMBER = 24;
+
+    // Referencia o código que representa un valor nulo.
+    private static final int NULL_REF = -1;
+
+    // Identificador que representa un cliente sin identificador.
+    private static final long NULL_ID = Long.MIN_VALUE;
+
+    // Prefijos telefónicos que se codifican en diccionario, seguidos de un número nacional de 9 dígitos.
+    private static final String[] PHONE_PREFIXES = {"+34", "0034", "34"};
+    private static final int NATIONAL_NUMBER_LENGTH = 9;
+
+    // Capacidades iniciales mínimas.
+    private static final int MIN_ROWS = 16;
+    private static final int MIN_STRING_BYTES = 1024;
+
+    // Filas y textos codificados.
+    private ByteBuffer rows;
+    private ByteBuffer strings;
+    private int size;
+
+    // Diccionarios de dominios de correo y prefijos telefónicos.
+    private final StringDictionary domains = new StringDictionary();
+    private final StringDictionary phonePrefixes = new StringDictionary();
+
+    /**
+     * Constructor que reserva espacio para un número de clientes estimado.
+     *
+     * @param expectedRows El número de clientes que se espera almacenar.
+     */
+    public OffHeapCustomerStore(int expectedRows) {
+        int initialRows = Math.max(MIN_ROWS, expectedRows);
+        this.rows = ByteBuffer.allocateDirect(Math.multiplyExact(initialRows, ROW_BYTES));
+        // Estimación de unos 32 bytes de texto por cliente (nombre, parte local del correo y teléfono).
+        this.strings = ByteBuffer.allocateDirect(
+                (int) Math.min(Integer.MAX_VALUE, Math.max(MIN_STRING_BYTES, 32L * initialRows)));
+    }
+
+    /**
+     * Constructor que crea un almacén vacío con la capacidad mínima.
+     */
+    public OffHeapCustomerStore() {
+        this(MIN_ROWS);
+    }
+
+    /**
+     * Obtiene el número de clientes almacenados.
+     *
+     * @return El número de clientes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Agrega un cliente al final del almacén.
+     *
+     * @param customer El cliente a agregar; su identificador debe ser numérico o {@code null}.
+     * @throws IllegalArgumentException Si el identificador del cliente no es numérico.
+     */
+    public void add(Customer customer) {
+        ensureRowCapacity(size + 1);
+        int base = size * ROW_BYTES;
+        rows.putLong(base + ID, encodeId(customer.getId()));
+        rows.putInt(base + NAME, writeString(customer.getName()));
+
+        String email = customer.getEmail();
+        int at = email != null ? email.lastIndexOf('@') : -1;
+        rows.putInt(base + EMAIL_LOCAL, writeString(at >= 0 ? email.substring(0, at) : email));
+        rows.putInt(base + EMAIL_DOMAIN, at >= 0 ? domains.encode(email.substring(at + 1)) : NULL_REF);
+
+        String phone = customer.getPhone();
+        String prefix = phonePrefixOf(phone);
+        rows.putInt(base + PHONE_PREFIX, prefix != null ? phonePrefixes.encode(prefix) : NULL_REF);
+        rows.putInt(base + PHONE_NUMBER, writeString(prefix != null ? phone.substring(prefix.length()) : phone));
+        size++;
+    }
+
+    /**
+     * Agrega varios clientes al final del almacén.
+     *
+     * @param customers Los clientes a agregar.
+     */
+    public void addAll(List<Customer> customers) {
+        ensureRowCapacity(size + customers.size());
+        for (Customer customer : customers) {
+            add(customer);
+        }
+    }
+
+    /**
+     * Sustituye el contenido del almacén por los clientes indicados, reutilizando la memoria ya reservada.
+     *
+     * @param customers Los nuevos clientes.
+     */
+    public void replaceAll(List<Customer> customers) {
+        clear();
+        addAll(customers);
+    }
+
+    /**
+     * Elimina todos los clientes del almacén, conservando la memoria reservada para reutilizarla.
+     */
+    public void clear() {
+        size = 0;
+        strings.clear();
+        domains.clear();
+        phonePrefixes.clear();
+    }
+
+    /**
+     * Obtiene una vista de una fila del almacén.
+     *
+     * @param row La fila.
+     * @return Una nueva vista sobre la fila.
+     */
+    public CustomerRecord record(int row) {
+        checkRow(row);
+        return new CustomerRecord(this, row);
+    }
+
+    /**
+     * Copia una fila del almacén en un nuevo objeto {@link Customer}.
+     *
+     * @param row La fila.
+     * @return El cliente.
+     */
+    public Customer get(int row) {
+        return new Customer(getId(row), getName(row), getEmail(row), getPhone(row));
+    }
+
+    /**
+     * Obtiene el identificador del cliente de una fila.
+     *
+     * @param row La fila.
+     * @return El identificador, o {@code null} si el cliente no tiene.
+     */
+    public String getId(int row) {
+        checkRow(row);
+        long id = rows.getLong(row * ROW_BYTES + ID);
+        return id == NULL_ID ? null : Long.toString(id);
+    }
+
+    /**
+     * Obtiene el nombre del cliente de una fila.
+     *
+     * @param row La fila.
+     * @return El nombre.
+     */
+    public String getName(int row) {
+        checkRow(row);
+        return readString(rows.getInt(row * ROW_BYTES + NAME));
+    }
+
+    /**
+     * Obtiene el correo electrónico del cliente de una fila.
+     *
+     * @param row La fila.
+     * @return El correo electrónico.
+     */
+    public String getEmail(int row) {
+        checkRow(row);
+        int base = row * ROW_BYTES;
+        String local = readString(rows.getInt(base + EMAIL_LOCAL));
+        int domain = rows.getInt(base + EMAIL_DOMAIN);
+        return domain == NULL_REF ? local : local + '@' + domains.decode(domain);
+    }
+
+    /**
+     * Obtiene el dominio del correo electrónico del cliente de una fila, sin decodificar la parte local.
+     *
+     * @param row La fila.
+     * @return El dominio, o {@code null} si el correo no tiene.
+     */
+    public String getEmailDomain(int row) {
+        checkRow(row);
+        int domain = rows.getInt(row * ROW_BYTES + EMAIL_DOMAIN);
+        return domain == NULL_REF ? null : domains.decode(domain);
+    }
+
+    /**
+     * Obtiene el teléfono del cliente de una fila.
+     *
+     * @param row La fila.
+     * @return El teléfono.
+     */
+    public String getPhone(int row) {
+        checkRow(row);
+        int base = row * ROW_BYTES;
+        String number = readString(rows.getInt(base + PHONE_NUMBER));
+        int prefix = rows.getInt(base + PHONE_PREFIX);
+        return prefix == NULL_REF ? number : phonePrefixes.decode(prefix) + number;
+    }
+
+    /**
+     * Busca las filas cuyo nombre o correo contienen un texto, sin distinguir mayúsculas de minúsculas.
+     *
+     * <p>Si el texto es ASCII y no contiene '@', la comparación se hace directamente sobre los bytes almacenados y
+     * se evalúa una sola vez por dominio, sin crear objetos por fila. En otro caso se decodifican los textos.</p>
+     *
+     * @param text  El texto a buscar.
+     * @param limit El número máximo de filas a devolver.
+     * @return Las filas encontradas, en orden.
+     */
+    public int[] search(String text, int limit) {
+        String needle = text.toLowerCase(Locale.ROOT);
+        int[] found = new int[Math.max(0, Math.min(limit, size))];
+        int count = 0;
+        if (isAscii(needle) && needle.indexOf('@') < 0) {
+            byte[] pattern = needle.getBytes(StandardCharsets.US_ASCII);
+            boolean[] domainMatches = new boolean[domains.size()];
+            for (int code = 0; code < domainMatches.length; code++) {
+                domainMatches[code] = domains.decode(code).toLowerCase(Locale.ROOT).contains(needle);
+            }
+            for (int row = 0; row < size && count < found.length; row++) {
+                int base = row * ROW_BYTES;
+                int domain = rows.getInt(base + EMAIL_DOMAIN);
+                if ((domain != NULL_REF && domainMatches[domain])
+                        || containsIgnoreCase(rows.getInt(base + NAME), pattern)
+                        || containsIgnoreCase(rows.getInt(base + EMAIL_LOCAL), pattern)) {
+                    found[count++] = row;
+                }
+            }
+        } else {
+            for (int row = 0; row < size && count < found.length; row++) {
+                String name = getName(row);
+                String email = getEmail(row);
+                if ((name != null && name.toLowerCase(Locale.ROOT).contains(needle))
+                        || (email != null && email.toLowerCase(Locale.ROOT).contains(needle))) {
+                    found[count++] = row;
+                }
+            }
+        }
+        return count == found.length ? found : Arrays.copyOf(found, count);
+    }
+
+    /**
+     * Obtiene una vista de solo lectura del almacén como lista, que decodifica cada cliente al acceder a él. Permite
+     * pasar el almacén a código que espera una {@link List} sin copiar todas las filas en el heap.
+     *
+     * <p>La vista refleja el contenido actual del almacén, que no debe modificarse mientras se use. Si nadie lo
+     * modifica, la vista puede leerse desde otro hilo una vez publicado el almacén de forma segura.</p>
+     *
+     * @return La vista del almacén.
+     */
+    public List<Customer> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Customer get(int index) {
+                return OffHeapCustomerStore.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Obtiene el número de bytes de memoria directa reservados por el almacén.
+     *
+     * @return Los bytes reservados.
+     */
+    public long getOffHeapBytes() {
+        return (long) rows.capacity() + strings.capacity();
+    }
+
+    /**
+     * Codifica un identificador como {@code long}.
+     *
+     * @param id El identificador.
+     * @return El identificador codificado.
+     */
+    private static long encodeId(String id) {
+        if (id == null) {
+            return NULL_ID;
+        }
+        try {
+            long value = Long.parseLong(id);
+            if (value == NULL_ID) {
+                throw new IllegalArgumentException("Identificador fuera de rango: " + id);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("El identificador no es numérico: " + id, e);
+        }
+    }
+
+    /**
+     * Obtiene el prefijo telefónico que se codifica en diccionario, si el teléfono lo tiene.
+     *
+     * @param phone El teléfono.
+     * @return El prefijo, o {@code null} si el teléfono no empieza por uno de los prefijos conocidos seguido de un
+     * número nacional.
+     */
+    private static String phonePrefixOf(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        for (String prefix : PHONE_PREFIXES) {
+            if (phone.length() == prefix.length() + NATIONAL_NUMBER_LENGTH && phone.startsWith(prefix)) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Escribe un texto en el buffer de textos.
+     *
+     * @param value El texto.
+     * @return El desplazamiento del texto, o {@value #NULL_REF} si es {@code null}.
+     */
+    private int writeString(String value) {
+        if (value == null) {
+            return NULL_REF;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureStringCapacity(Integer.BYTES + bytes.length);
+        int offset = strings.position();
+        strings.putInt(bytes.length).put(bytes);
+        return offset;
+    }
+
+    /**
+     * Lee un texto del buffer de textos.
+     *
+     * @param offset El desplazamiento del texto.
+     * @return El texto, o {@code null} si el desplazamiento es {@value #NULL_REF}.
+     */
+    private String readString(int offset) {
+        if (offset == NULL_REF) {
+            return null;
+        }
+        byte[] bytes = new byte[strings.getInt(offset)];
+        strings.get(offset + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Comprueba si un texto almacenado contiene un patrón ASCII en minúsculas, ignorando mayúsculas en los bytes
+     * ASCII del texto.
+     *
+     * @param offset  El desplazamiento del texto.
+     * @param pattern El patrón en minúsculas.
+     * @return {@code true} si el texto contiene el patrón.
+     */
+    private boolean containsIgnoreCase(int offset, byte[] pattern) {
+        if (offset == NULL_REF) {
+            return false;
+        }
+        int start = offset + Integer.BYTES;
+        int last = start + strings.getInt(offset) - pattern.length;
+        for (int i = start; i <= last; i++) {
+            int j = 0;
+            while (j < pattern.length && toLowerAscii(strings.get(i + j)) == pattern[j]) {
+                j++;
+            }
+            if (j == pattern.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte toLowerAscii(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Comprueba que una fila existe.
+     *
+     * @param row La fila.
+     */
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Fila " + row + " fuera de rango [0, " + size + ")");
+        }
+    }
+
+    /**
+     * Amplía el buffer de filas, duplicando su capacidad, si no caben las filas indicadas.
+     *
+     * @param requiredRows El número de filas que deben caber.
+     */
+    private void ensureRowCapacity(int requiredRows) {
+        long required = (long) requiredRows * ROW_BYTES;
+        if (required > rows.capacity()) {
+            rows = grow(rows, required, size * ROW_BYTES);
+        }
+    }
+
+    /**
+     * Amplía el buffer de textos, duplicando su capacidad, si no caben los bytes indicados.
+     *
+     * @param additionalBytes Los bytes que se van a escribir.
+     */
+    private void ensureStringCapacity(int additionalBytes) {
+        long required = (long) strings.position() + additionalBytes;
+        if (required > strings.capacity()) {
+            int position = strings.position();
+            strings = grow(strings, required, position);
+            strings.position(position);
+        }
+    }
+
+    /**
+     * Copia el contenido de un buffer en otro buffer directo de mayor capacidad.
+     *
+     * @param buffer   El buffer actual.
+     * @param required La capacidad mínima necesaria.
+     * @param used     Los bytes ocupados del buffer actual.
+     * @return El nuevo buffer.
+     */
+    private static ByteBuffer grow(ByteBuffer buffer, long required, int used) {
+        if (required > Integer.MAX_VALUE) {
+            throw new IllegalStateException("El almacén supera el tamaño máximo de un buffer directo");
+        }
+        int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(required, 2L * buffer.capacity()));
+        ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+        grown.put(buffer.duplicate().position(0).limit(used));
+        return grown;
+    }
+}
@@ -0,0 +1,62 @@
+package business.store;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Diccionario que codifica valores de texto repetidos (dominios de correo, prefijos telefónicos) como enteros
+ * consecutivos, para guardar cada valor distinto una sola vez.
+ */
+final class StringDictionary {
+
+    // Valores por código.
+    private final List<String> values = new ArrayList<>();
+
+    // Códigos por valor.
+    private final Map<String, Integer> codes = new HashMap<>();
+
+    /**
+     * Obtiene el código de un valor, añadiéndolo al diccionario si no existe.
+     *
+     * @param value El valor a codificar.
+     * @return El código del valor.
+     */
+    int encode(String value) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            values.add(value);
+            codes.put(value, code);
+        }
+        return code;
+    }
+
+    /**
+     * Obtiene el valor de un código.
+     *
+     * @param code El código.
+     * @return El valor correspondiente.
+     */
+    String decode(int code) {
+        return values.get(code);
+    }
+
+    /**
+     * Obtiene el número de valores distintos del diccionario.
+     *
+     * @return El número de valores.
+     */
+    int size() {
+        return values.size();
+    }
+
+    /**
+     * Elimina todos los valores del diccionario.
+     */
+    void clear() {
+        values.clear();
+        codes.clear();
+    }
+}
@@ -1,6 +1,7 @@
 package business.validation;
 
 import business.entity.Customer;
+import utility.jfr.ValidationFailureEvent;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,6 +68,7 @@ public class CustomerValidatorImpl implements CustomerValidator {
 
     /**
      * Valida un campo según un patrón específico y lanza una excepción si el campo no cumple con el formato válido.
+     * El rechazo se registra como un {@link ValidationFailureEvent} de Java Flight Recorder.
      *
      * @param fieldName El nombre del campo a validar.
      * @param fieldValue El valor del campo a validar.
@@ -75,6 +77,7 @@ public class CustomerValidatorImpl implements CustomerValidator {
      */
     private void validateField(String fieldName, String fieldValue, Pattern pattern) {
         if (!pattern.matcher(fieldValue).matches()) {
+            ValidationFailureEvent.emit(fieldName, fieldValue);
             String errorMessage = getInvalidFieldErrorMessage(fieldName, fieldValue);
             logger.error(errorMessage);
             throw new IllegalArgumentException(errorMessage);
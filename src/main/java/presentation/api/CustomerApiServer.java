@@ -0,0 +1,104 @@
+package presentation.api;
+
+import business.service.CustomerService;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servidor HTTP/JSON sin interfaz gráfica que expone el {@link CustomerService} a otros sistemas, construido sobre
+ * el servidor HTTP incluido en el JDK ({@code com.sun.net.httpserver}).
+ *
+ * <p>Cada petición se atiende en un hilo de un grupo fijo. Como las operaciones bloquean en JDBC, el tamaño del grupo
+ * limita las peticiones simultáneas contra la base de datos; las que llegan por encima esperan en cola. También se
+ * publica {@code GET /api/health} para las comprobaciones de disponibilidad.</p>
+ */
+public class CustomerApiServer implements AutoCloseable {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(CustomerApiServer.class);
+
+    // Propiedad del servidor HTTP del JDK que activa TCP_NODELAY en las conexiones aceptadas.
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    // Segundos que se esperan a que terminen las peticiones en curso al detener el servidor.
+    private static final int STOP_DELAY_SECONDS = 2;
+
+    // Servidor HTTP del JDK.
+    private final HttpServer server;
+
+    // Hilos que atienden las peticiones.
+    private final ExecutorService executor;
+
+    /**
+     * Constructor que crea el servidor y registra las rutas de la API, sin empezar a atender peticiones.
+     *
+     * @param customerService El servicio de clientes que se expone.
+     * @param port            El puerto de escucha; 0 para elegir uno libre.
+     * @param threads         El número de hilos que atienden las peticiones.
+     * @param backlog         La longitud máxima de la cola de conexiones pendientes de aceptar.
+     * @throws IOException Si no se puede abrir el puerto.
+     */
+    public CustomerApiServer(CustomerService customerService, int port, int threads, int backlog) throws IOException {
+        // Sin TCP_NODELAY, las respuestas pequeñas esperan al ACK retrasado del cliente (~40 ms por petición).
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress(port), backlog);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "api-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext(CustomerHttpHandler.CONTEXT, new CustomerHttpHandler(customerService));
+        server.createContext("/api/health", exchange -> {
+            byte[] body = "{\"status\":\"UP\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+    }
+
+    /**
+     * Empieza a atender peticiones.
+     */
+    public void start() {
+        server.start();
+        LOGGER.info("Servidor de la API de clientes escuchando en el puerto {}", getPort());
+    }
+
+    /**
+     * Obtiene el puerto en el que escucha el servidor.
+     *
+     * @return El puerto de escucha.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Detiene el servidor, esperando brevemente a que terminen las peticiones en curso.
+     */
+    @Override
+    public void close() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOGGER.info("Servidor de la API de clientes detenido");
+    }
+}
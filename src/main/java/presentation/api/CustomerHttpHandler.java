@@ -0,0 +1,492 @@
+package presentation.api;
+
+import business.entity.Customer;
+import business.service.CustomerService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utility.resilience.CircuitBreakerOpenException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Manejador HTTP que expone el {@link CustomerService} como API JSON bajo {@value #CONTEXT}.
+ *
+ * <ul>
+ *     <li>{@code GET    /api/customers?offset=0&limit=100}: página de clientes ordenados por ID, con
+ *     {@code offset} hasta 99000 y {@code limit} hasta 1000.</li>
+ *     <li>{@code GET    /api/customers?q=texto&offset=0&limit=50}: búsqueda por nombre o correo electrónico,
+ *     por relevancia si la base de datos tiene un índice de texto completo.</li>
+ *     <li>{@code GET    /api/customers/{id}}: un cliente, o 404 si no existe.</li>
+ *     <li>{@code POST   /api/customers}: alta de un cliente.</li>
+ *     <li>{@code PUT    /api/customers/{id}}: actualización de un cliente.</li>
+ *     <li>{@code DELETE /api/customers/{id}}: eliminación de un cliente.</li>
+ *     <li>{@code POST   /api/customers/bulk}: alta de un array de clientes.</li>
+ *     <li>{@code POST   /api/customers/bulk-delete}: eliminación de un array de IDs.</li>
+ * </ul>
+ *
+ * <p>Las operaciones por lotes son atómicas solo con el repositorio {@code jdbc} sin escritura diferida. Con los
+ * repositorios {@code memory} y {@code sharded}, o con la escritura diferida, un error a mitad del lote deja
+ * aplicados los elementos anteriores (véase {@link CustomerService#addAll(List)}).</p>
+ *
+ * <p>En las altas, el campo {@code id} del cuerpo se ignora y el ID lo asigna el repositorio. Los datos inválidos
+ * se responden con 400, la base de datos no disponible con 503 y el resto de errores con 500, siempre con un cuerpo
+ * {@code {"error":"..."}}.</p>
+ */
+public class CustomerHttpHandler implements HttpHandler {
+
+    /**
+     * Ruta base de la API de clientes.
+     */
+    public static final String CONTEXT = "/api/customers";
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(CustomerHttpHandler.class);
+
+    // Tamaño de página por defecto y máximo.
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+
+    // Desplazamiento máximo de las páginas: cada página se lee omitiendo las anteriores y, con fragmentación, cada
+    // fragmento devuelve offset + limit clientes (hasta ShardedCustomerDAOImpl.MAX_PAGE_WINDOW).
+    private static final int MAX_OFFSET = 99_000;
+
+    // Tamaño máximo del cuerpo de una petición, en bytes.
+    private static final int MAX_BODY_BYTES = 16 * 1024 * 1024;
+
+    // Tamaño de las respuestas que se envían de una vez con Content-Length; las mayores se envían por bloques.
+    private static final int RESPONSE_BUFFER_BYTES = 64 * 1024;
+
+    // Servicio de clientes expuesto por la API.
+    private final CustomerService customerService;
+
+    /**
+     * Constructor que inicializa el servicio de clientes.
+     *
+     * @param customerService El servicio que maneja la lógica de negocio de los clientes.
+     */
+    public CustomerHttpHandler(CustomerService customerService) {
+        this.customerService = customerService;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            route(exchange);
+        } catch (HttpStatusException e) {
+            sendError(exchange, e.status, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (RuntimeException e) {
+            if (isDatabaseUnavailable(e)) {
+                exchange.getResponseHeaders().set("Retry-After", "5");
+                sendError(exchange, 503, "La base de datos no está disponible");
+            } else {
+                LOGGER.error("Error al atender {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+                sendError(exchange, 500, e.getMessage());
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Dirige la petición a la operación correspondiente según el método y la ruta.
+     *
+     * @param exchange La petición HTTP.
+     * @throws IOException Si ocurre un error de entrada/salida.
+     */
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath().substring(CONTEXT.length());
+        if (path.isEmpty() || "/".equals(path)) {
+            if ("GET".equals(method)) {
+                list(exchange);
+            } else if ("POST".equals(method)) {
+                add(exchange);
+            } else {
+                throw new HttpStatusException(405, "Método no permitido: " + method);
+            }
+        } else if ("/bulk".equals(path)) {
+            requireMethod(method, "POST");
+            addAll(exchange);
+        } else if ("/bulk-delete".equals(path)) {
+            requireMethod(method, "POST");
+            deleteAll(exchange);
+        } else if (path.indexOf('/', 1) < 0) {
+            String id = URLDecoder.decode(path.substring(1), StandardCharsets.UTF_8);
+            switch (method) {
+                case "GET":
+                    get(exchange, id);
+                    break;
+                case "PUT":
+                    update(exchange, id);
+                    break;
+                case "DELETE":
+                    customerService.delete(id);
+                    sendNoContent(exchange);
+                    break;
+                default:
+                    throw new HttpStatusException(405, "Método no permitido: " + method);
+            }
+        } else {
+            throw new HttpStatusException(404, "Recurso no encontrado: " + exchange.getRequestURI().getPath());
+        }
+    }
+
+    /**
+     * Responde con una página de clientes o con el resultado de una búsqueda si se indica {@code q}.
+     *
+     * @param exchange La petición HTTP.
+     * @throws IOException Si ocurre un error de entrada/salida.
+     */
+    private void list(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        int offset = intParameter(query, "offset", 0);
+        int limit = Math.min(intParameter(query, "limit", DEFAULT_LIMIT), MAX_LIMIT);
+        if (offset < 0 || offset > MAX_OFFSET) {
+            throw new IllegalArgumentException(
+                    "El parámetro 'offset' debe estar entre 0 y " + MAX_OFFSET + ": " + offset);
+        }
+        List<Customer> customers = query.containsKey("q")
+                ? customerService.search(query.get("q"), offset, limit)
+                : customerService.getPage(offset, limit);
+        sendJson(exchange, 200, writer -> CustomerJsonWriter.writeCustomers(writer, customers));
+    }
+
+    /**
+     * Responde con un cliente dado su ID.
+     *
+     * @param exchange La petición HTTP.
+     * @param id       El ID del cliente.
+     * @throws IOException Si ocurre un error de entrada/salida.
+     */
+    private void get(HttpExchange exchange, String id) throws IOException {
+        Customer customer = customerService.get(id);
+        if (customer == null) {
+            throw new HttpStatusException(404, "Cliente no encontrado: " + id);
+        }
+        sendJson(exchange, 200, writer -> CustomerJsonWriter.writeCustomer(writer, customer));
+    }
+
+    /**
+     * Da de alta el cliente del cuerpo de la petición.
+     *
+     * @param exchange La petición HTTP.
+     * @throws IOException Si ocurre un error de entrada/salida.
+     */
+    private void add(HttpExchange exchange) throws IOException {
+        Customer customer = toCustomer(JsonParser.parse(readBody(exchange)), null);
+        customerService.add(customer);
+        if (customer.getId() != null) {
+            exchange.getResponseHeaders().set("Location", CONTEXT + "/" + customer.getId());
+        }
+        sendJson(exchange, 201, writer -> CustomerJsonWriter.writeCustomer(writer, customer));
+    }
+
+    /**
+     * Actualiza el cliente indicado en la ruta con los datos del cuerpo de la petición.
+     *
+     * @param exchange La petición HTTP.
+     * @param id       El ID del cliente.
+     * @throws IOException Si ocurre un error de entrada/salida.
+     */
+    private void update(HttpExchange exchange, String id) throws IOException {
+        Customer customer = toCustomer(JsonParser.parse(readBody(exchange)), id);
+        customerService.update(customer);
+        sendJson(exchange, 200, writer -> CustomerJsonWriter.writeCustomer(writer, customer));
+    }
+
+    /**
+     * Da de alta el array de clientes del cuerpo de la petición, de forma atómica solo si la unidad de trabajo del
+     * servicio es transaccional.
+     *
+     * @param exchange La petición HTTP.
+     * @throws IOException Si ocurre un error de entrada/salida.
+     */
+    private void addAll(HttpExchange exchange) throws IOException {
+        List<Customer> customers = new ArrayList<>();
+        for (Object element : toList(JsonParser.parse(readBody(exchange)))) {
+            customers.add(toCustomer(element, null));
+        }
+        customerService.addAll(customers);
+        sendJson(exchange, 201, writer -> writer.write("{\"created\":" + customers.size() + "}"));
+    }
+
+    /**
+     * Elimina el array de IDs del cuerpo de la petición, de forma atómica solo si la unidad de trabajo del servicio
+     * es transaccional.
+     *
+     * @param exchange La petición HTTP.
+     * @throws IOException Si ocurre un error de entrada/salida.
+     */
+    private void deleteAll(HttpExchange exchange) throws IOException {
+        List<String> ids = new ArrayList<>();
+        for (Object element : toList(JsonParser.parse(readBody(exchange)))) {
+            if (!(element instanceof String)) {
+                throw new IllegalArgumentException("Se esperaba un array de IDs de texto");
+            }
+            ids.add((String) element);
+        }
+        customerService.deleteAll(ids);
+        sendJson(exchange, 200, writer -> writer.write("{\"deleted\":" + ids.size() + "}"));
+    }
+
+    /**
+     * Convierte un objeto JSON en un cliente.
+     *
+     * @param json El objeto JSON.
+     * @param id   El ID que se asigna al cliente, o {@code null} en las altas. El campo {@code id} del objeto se
+     *             ignora siempre: en las altas el ID lo asigna el repositorio, igual que en la importación por
+     *             línea de comandos.
+     * @return El cliente.
+     */
+    private static Customer toCustomer(Object json, String id) {
+        if (!(json instanceof Map)) {
+            throw new IllegalArgumentException("Se esperaba un objeto JSON con los datos del cliente");
+        }
+        Map<?, ?> object = (Map<?, ?>) json;
+        return new Customer(
+                id,
+                stringField(object, "name"),
+                stringField(object, "email"),
+                stringField(object, "phone"));
+    }
+
+    /**
+     * Obtiene un campo de texto de un objeto JSON.
+     *
+     * @param object El objeto JSON.
+     * @param name   El nombre del campo.
+     * @return El valor del campo, o {@code null} si no existe.
+     */
+    private static String stringField(Map<?, ?> object, String name) {
+        Object value = object.get(name);
+        if (value != null && !(value instanceof String)) {
+            throw new IllegalArgumentException("El campo '" + name + "' debe ser de texto");
+        }
+        return (String) value;
+    }
+
+    /**
+     * Comprueba que un valor JSON es un array.
+     *
+     * @param json El valor JSON.
+     * @return Los elementos del array.
+     */
+    private static List<?> toList(Object json) {
+        if (!(json instanceof List)) {
+            throw new IllegalArgumentException("Se esperaba un array JSON");
+        }
+        return (List<?>) json;
+    }
+
+    /**
+     * Lee el cuerpo de la petición como texto UTF-8.
+     *
+     * @param exchange La petición HTTP.
+     * @return El cuerpo de la petición.
+     * @throws IOException Si ocurre un error de lectura.
+     */
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] bytes = body.readNBytes(MAX_BODY_BYTES + 1);
+            if (bytes.length > MAX_BODY_BYTES) {
+                throw new HttpStatusException(413, "El cuerpo de la petición supera " + MAX_BODY_BYTES + " bytes");
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Analiza los parámetros de la cadena de consulta.
+     *
+     * @param rawQuery La cadena de consulta sin decodificar, o {@code null}.
+     * @return Los parámetros decodificados.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    /**
+     * Obtiene un parámetro entero de la cadena de consulta.
+     *
+     * @param query        Los parámetros de la consulta.
+     * @param name         El nombre del parámetro.
+     * @param defaultValue El valor por defecto si el parámetro no existe.
+     * @return El valor del parámetro.
+     */
+    private static int intParameter(Map<String, String> query, String name, int defaultValue) {
+        String value = query.get(name);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("El parámetro '" + name + "' debe ser un número entero: " + value);
+        }
+    }
+
+    /**
+     * Comprueba que la petición usa el método esperado.
+     *
+     * @param method   El método de la petición.
+     * @param expected El método esperado.
+     */
+    private static void requireMethod(String method, String expected) {
+        if (!expected.equals(method)) {
+            throw new HttpStatusException(405, "Método no permitido: " + method);
+        }
+    }
+
+    /**
+     * Determina si un error se debe a que la base de datos no está disponible.
+     *
+     * @param error El error producido.
+     * @return {@code true} si el error lo causa un circuito abierto.
+     */
+    private static boolean isDatabaseUnavailable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CircuitBreakerOpenException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Envía una respuesta JSON codificándola directamente en el flujo de salida. Si la respuesta completa cabe en
+     * el búfer se envía de una vez con su longitud; si no, se envía por bloques a medida que se codifica.
+     *
+     * @param exchange La petición HTTP.
+     * @param status   El código de estado.
+     * @param body     El codificador del cuerpo.
+     * @throws IOException Si ocurre un error de escritura.
+     */
+    private static void sendJson(HttpExchange exchange, int status, JsonBody body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new ResponseStream(exchange, status), StandardCharsets.UTF_8), 8192)) {
+            body.write(writer);
+        }
+    }
+
+    /**
+     * Envía una respuesta de error con un cuerpo {@code {"error":"..."}}.
+     *
+     * @param exchange La petición HTTP.
+     * @param status   El código de estado.
+     * @param message  La descripción del error.
+     * @throws IOException Si ocurre un error de escritura.
+     */
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, writer -> CustomerJsonWriter.writeField(writer, "error", message));
+    }
+
+    /**
+     * Envía una respuesta 204 sin cuerpo.
+     *
+     * @param exchange La petición HTTP.
+     * @throws IOException Si ocurre un error de escritura.
+     */
+    private static void sendNoContent(HttpExchange exchange) throws IOException {
+        exchange.sendResponseHeaders(204, -1);
+    }
+
+    /**
+     * Codificador del cuerpo de una respuesta JSON.
+     */
+    @FunctionalInterface
+    private interface JsonBody {
+        void write(Writer writer) throws IOException;
+    }
+
+    /**
+     * Flujo de salida de una respuesta que retrasa el envío de las cabeceras: acumula el cuerpo hasta
+     * {@value #RESPONSE_BUFFER_BYTES} bytes y, si se cierra antes, lo envía con Content-Length en una sola
+     * escritura. Si el cuerpo supera el búfer, pasa a enviarlo por bloques (chunked).
+     */
+    private static final class ResponseStream extends OutputStream {
+        private final HttpExchange exchange;
+        private final int status;
+        private byte[] buffer = new byte[1024];
+        private int count;
+        private OutputStream streaming;
+
+        private ResponseStream(HttpExchange exchange, int status) {
+            this.exchange = exchange;
+            this.status = status;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (streaming == null && count + length > RESPONSE_BUFFER_BYTES) {
+                exchange.sendResponseHeaders(status, 0);
+                streaming = exchange.getResponseBody();
+                streaming.write(buffer, 0, count);
+            }
+            if (streaming != null) {
+                streaming.write(bytes, offset, length);
+                return;
+            }
+            if (count + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + length));
+            }
+            System.arraycopy(bytes, offset, buffer, count, length);
+            count += length;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (streaming == null) {
+                exchange.sendResponseHeaders(status, count);
+                streaming = exchange.getResponseBody();
+                streaming.write(buffer, 0, count);
+            }
+            streaming.close();
+        }
+    }
+
+    /**
+     * Error que se responde con un código de estado HTTP concreto.
+     */
+    private static final class HttpStatusException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        private HttpStatusException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
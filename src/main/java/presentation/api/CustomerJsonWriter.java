@@ -0,0 +1,126 @@
+package presentation.api;
+
+import business.entity.Customer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Codificador JSON de clientes que escribe directamente en un {@link Writer}, sin construir cadenas ni árboles
+ * intermedios. Las listas se escriben elemento a elemento, de modo que una respuesta grande puede enviarse por
+ * bloques mientras se codifica.
+ */
+public final class CustomerJsonWriter {
+
+    // Dígitos hexadecimales para los escapes \\uXXXX.
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Constructor privado: clase de utilidad.
+     */
+    private CustomerJsonWriter() {
+    }
+
+    /**
+     * Escribe un cliente como objeto JSON.
+     *
+     * @param writer   El destino.
+     * @param customer El cliente a escribir.
+     * @throws IOException Si ocurre un error de escritura.
+     */
+    public static void writeCustomer(Writer writer, Customer customer) throws IOException {
+        writer.write("{\"id\":");
+        writeString(writer, customer.getId());
+        writer.write(",\"name\":");
+        writeString(writer, customer.getName());
+        writer.write(",\"email\":");
+        writeString(writer, customer.getEmail());
+        writer.write(",\"phone\":");
+        writeString(writer, customer.getPhone());
+        writer.write('}');
+    }
+
+    /**
+     * Escribe una lista de clientes como array JSON.
+     *
+     * @param writer    El destino.
+     * @param customers Los clientes a escribir.
+     * @throws IOException Si ocurre un error de escritura.
+     */
+    public static void writeCustomers(Writer writer, List<Customer> customers) throws IOException {
+        writer.write('[');
+        for (int i = 0; i < customers.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCustomer(writer, customers.get(i));
+        }
+        writer.write(']');
+    }
+
+    /**
+     * Escribe un objeto JSON con un único campo de texto, por ejemplo {@code {"error":"..."}}.
+     *
+     * @param writer El destino.
+     * @param name   El nombre del campo.
+     * @param value  El valor del campo.
+     * @throws IOException Si ocurre un error de escritura.
+     */
+    public static void writeField(Writer writer, String name, String value) throws IOException {
+        writer.write('{');
+        writeString(writer, name);
+        writer.write(':');
+        writeString(writer, value);
+        writer.write('}');
+    }
+
+    /**
+     * Escribe una cadena JSON entre comillas, escapando los caracteres de control, las comillas y las barras
+     * invertidas. Un valor nulo se escribe como {@code null}.
+     *
+     * @param writer El destino.
+     * @param value  La cadena a escribir.
+     * @throws IOException Si ocurre un error de escritura.
+     */
+    public static void writeString(Writer writer, String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        int length = value.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            writer.write(value, start, i - start);
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    writer.write("\\u00");
+                    writer.write(HEX[c >> 4]);
+                    writer.write(HEX[c & 0xF]);
+            }
+            start = i + 1;
+        }
+        writer.write(value, start, length - start);
+        writer.write('"');
+    }
+}
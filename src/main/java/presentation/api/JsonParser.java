@@ -0,0 +1,308 @@
+package presentation.api;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Analizador JSON mínimo para los cuerpos de las peticiones de la API. Convierte el texto en objetos Java:
+ * {@link Map} para los objetos, {@link List} para los arrays, {@link String}, {@link Double}, {@link Boolean} y
+ * {@code null}.
+ *
+ * <p>Los errores de sintaxis se notifican con {@link IllegalArgumentException}, que la API traduce en una respuesta
+ * 400. Los objetos y arrays se analizan de forma recursiva, por lo que su anidamiento se limita a
+ * {@value #MAX_DEPTH} niveles para que un documento malicioso no agote la pila del hilo.</p>
+ */
+public final class JsonParser {
+
+    /**
+     * Número máximo de objetos y arrays anidados.
+     */
+    public static final int MAX_DEPTH = 64;
+
+    // Texto que se analiza.
+    private final String text;
+
+    // Posición actual en el texto.
+    private int position;
+
+    // Número de objetos y arrays abiertos en la posición actual.
+    private int depth;
+
+    /**
+     * Constructor privado: se usa a través de {@link #parse(String)}.
+     *
+     * @param text El texto a analizar.
+     */
+    private JsonParser(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Analiza un documento JSON completo.
+     *
+     * @param text El texto JSON.
+     * @return El valor representado por el texto.
+     * @throws IllegalArgumentException Si el texto no es JSON válido.
+     */
+    public static Object parse(String text) {
+        JsonParser parser = new JsonParser(text);
+        Object value = parser.readValue();
+        parser.skipWhitespace();
+        if (parser.position != text.length()) {
+            throw parser.error("contenido inesperado tras el valor");
+        }
+        return value;
+    }
+
+    /**
+     * Lee un valor JSON en la posición actual.
+     *
+     * @return El valor leído.
+     */
+    private Object readValue() {
+        skipWhitespace();
+        if (position >= text.length()) {
+            throw error("fin inesperado del documento");
+        }
+        char c = text.charAt(position);
+        switch (c) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return readString();
+            case 't':
+                return readLiteral("true", Boolean.TRUE);
+            case 'f':
+                return readLiteral("false", Boolean.FALSE);
+            case 'n':
+                return readLiteral("null", null);
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return readNumber();
+                }
+                throw error("carácter inesperado '" + c + "'");
+        }
+    }
+
+    /**
+     * Lee un objeto JSON.
+     *
+     * @return Los campos del objeto, en el orden del documento.
+     */
+    private Map<String, Object> readObject() {
+        Map<String, Object> object = new LinkedHashMap<>();
+        enterNested();
+        position++;
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            depth--;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("se esperaba el nombre de un campo");
+            }
+            String name = readString();
+            skipWhitespace();
+            expect(':');
+            object.put(name, readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                position++;
+            } else {
+                expect('}');
+                depth--;
+                return object;
+            }
+        }
+    }
+
+    /**
+     * Lee un array JSON.
+     *
+     * @return Los elementos del array.
+     */
+    private List<Object> readArray() {
+        List<Object> array = new ArrayList<>();
+        enterNested();
+        position++;
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            depth--;
+            return array;
+        }
+        while (true) {
+            array.add(readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                position++;
+            } else {
+                expect(']');
+                depth--;
+                return array;
+            }
+        }
+    }
+
+    /**
+     * Abre un objeto o un array, comprobando el límite de anidamiento.
+     */
+    private void enterNested() {
+        if (++depth > MAX_DEPTH) {
+            throw error("se superan los " + MAX_DEPTH + " niveles de anidamiento");
+        }
+    }
+
+    /**
+     * Lee una cadena JSON, resolviendo sus secuencias de escape.
+     *
+     * @return La cadena leída.
+     */
+    private String readString() {
+        position++;
+        StringBuilder builder = null;
+        int start = position;
+        while (position < text.length()) {
+            char c = text.charAt(position);
+            if (c == '"') {
+                String value = builder == null
+                        ? text.substring(start, position)
+                        : builder.append(text, start, position).toString();
+                position++;
+                return value;
+            }
+            if (c == '\\') {
+                if (builder == null) {
+                    builder = new StringBuilder();
+                }
+                builder.append(text, start, position);
+                builder.append(readEscape());
+                start = position;
+            } else {
+                position++;
+            }
+        }
+        throw error("cadena sin terminar");
+    }
+
+    /**
+     * Lee una secuencia de escape a partir de la barra invertida.
+     *
+     * @return El carácter representado por la secuencia.
+     */
+    private char readEscape() {
+        if (position + 1 >= text.length()) {
+            throw error("secuencia de escape incompleta");
+        }
+        char c = text.charAt(position + 1);
+        position += 2;
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                if (position + 4 > text.length()) {
+                    throw error("secuencia \\u incompleta");
+                }
+                try {
+                    char unicode = (char) Integer.parseInt(text.substring(position, position + 4), 16);
+                    position += 4;
+                    return unicode;
+                } catch (NumberFormatException e) {
+                    throw error("secuencia \\u inválida");
+                }
+            default:
+                throw error("secuencia de escape inválida '\\" + c + "'");
+        }
+    }
+
+    /**
+     * Lee un número JSON.
+     *
+     * @return El número leído.
+     */
+    private Double readNumber() {
+        int start = position;
+        while (position < text.length() && "+-0123456789.eE".indexOf(text.charAt(position)) >= 0) {
+            position++;
+        }
+        try {
+            return Double.valueOf(text.substring(start, position));
+        } catch (NumberFormatException e) {
+            throw error("número inválido");
+        }
+    }
+
+    /**
+     * Lee un literal ({@code true}, {@code false} o {@code null}).
+     *
+     * @param literal El literal esperado.
+     * @param value   El valor que representa.
+     * @return El valor del literal.
+     */
+    private Object readLiteral(String literal, Object value) {
+        if (!text.startsWith(literal, position)) {
+            throw error("literal inválido");
+        }
+        position += literal.length();
+        return value;
+    }
+
+    /**
+     * Omite los espacios en blanco en la posición actual.
+     */
+    private void skipWhitespace() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    /**
+     * Obtiene el carácter de la posición actual sin avanzar.
+     *
+     * @return El carácter actual, o {@code 0} al final del texto.
+     */
+    private char peek() {
+        return position < text.length() ? text.charAt(position) : 0;
+    }
+
+    /**
+     * Comprueba que el carácter actual es el esperado y avanza.
+     *
+     * @param expected El carácter esperado.
+     */
+    private void expect(char expected) {
+        if (peek() != expected) {
+            throw error("se esperaba '" + expected + "'");
+        }
+        position++;
+    }
+
+    /**
+     * Crea el error de sintaxis para la posición actual.
+     *
+     * @param message La descripción del error.
+     * @return La excepción a lanzar.
+     */
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("JSON inválido en la posición " + position + ": " + message);
+    }
+}
@@ -0,0 +1,544 @@
+package presentation.cli;
+
+import business.analytics.CustomerAnalytics;
+import business.analytics.CustomerReport;
+import business.analytics.GroupCount;
+import business.analytics.ReportResult;
+import business.dedup.DuplicateCluster;
+import business.dedup.DuplicateDetector;
+import business.entity.Customer;
+import business.service.CustomerService;
+import business.validation.CustomerValidator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Comandos por lotes sobre el servicio de clientes, para ejecutar la aplicación sin interfaz gráfica desde la línea
+ * de comandos o desde tareas programadas.
+ *
+ * <p>Los clientes se leen y escriben como texto UTF-8 separado por tabuladores, el mismo formato que los archivos de
+ * carga de {@code utility.datagen.CustomerBulkLoader}. Los archivos se procesan línea a línea y las escrituras se
+ * agrupan en lotes que se confirman en una transacción cada uno (solo con el repositorio {@code jdbc} sin escritura
+ * diferida; véase {@link CustomerService#addAll(List)}), de modo que la memoria usada no depende del tamaño del
+ * archivo. El nombre de archivo {@code -} representa la entrada o la salida estándar.</p>
+ *
+ * <ul>
+ *     <li>{@code import <archivo>}: añade los clientes de un archivo con las columnas {@code name}, {@code email} y
+ *     {@code phone}, o {@code id}, {@code name}, {@code email} y {@code phone}, en cuyo caso el identificador se
+ *     ignora y lo asigna la base de datos. Las líneas inválidas o que rechaza la base de datos (por ejemplo, por un
+ *     correo repetido) se registran y se omiten.</li>
+ *     <li>{@code export <archivo>}: escribe todos los clientes, página a página por orden de identificador, con las
+ *     columnas {@code id}, {@code name}, {@code email} y {@code phone}.</li>
+ *     <li>{@code delete <archivo>}: elimina los clientes cuyo identificador es la primera columna de cada línea, de
+ *     modo que admite tanto una lista de identificadores como un archivo exportado.</li>
+ *     <li>{@code report <informe>}: escribe en la salida estándar los grupos con más clientes de un informe de
+ *     {@link CustomerReport} ({@code email_domain}, {@code country_code} o {@code duplicates_per_domain}), con las
+ *     columnas {@code group} y {@code count}.</li>
+ *     <li>{@code duplicates <archivo>}: escribe los grupos de clientes probablemente duplicados, un cliente por
+ *     línea, con las columnas {@code cluster}, {@code score}, {@code id}, {@code name}, {@code email} y
+ *     {@code phone}. Los clientes de un mismo grupo comparten el número de {@code cluster}, y {@code score} es la
+ *     mayor similitud entre dos clientes del grupo.</li>
+ * </ul>
+ */
+public class CustomerCommandLine {
+
+    // Códigos de salida.
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_ERROR = 1;
+    public static final int EXIT_USAGE = 2;
+    public static final int EXIT_REJECTED = 3;
+
+    // Instrucciones de uso.
+    public static final String USAGE = String.join(System.lineSeparator(),
+            "Uso: AppMain --cli <comando> [archivo]",
+            "  import <archivo|->      añade los clientes de un archivo separado por tabuladores",
+            "  export <archivo|->      escribe todos los clientes en un archivo separado por tabuladores",
+            "  delete <archivo|->      elimina los clientes cuyos identificadores lista el archivo",
+            "  report <informe>        escribe los grupos con más clientes de un informe: email_domain, country_code",
+            "                          o duplicates_per_domain",
+            "  duplicates <archivo|->  escribe los grupos de clientes probablemente duplicados",
+            "  migrate                 aplica las migraciones pendientes del esquema",
+            "  loadtest                ejecuta una prueba de carga con los parámetros loadtest.*",
+            "  generate                genera clientes sintéticos con los parámetros datagen.*",
+            "Códigos de salida: 0 correcto, 1 error, 2 uso incorrecto, 3 líneas rechazadas en la importación");
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(CustomerCommandLine.class);
+
+    // Nombre de archivo que representa la entrada o la salida estándar.
+    private static final String STANDARD_STREAM = "-";
+
+    // Cabecera de los archivos exportados.
+    private static final String EXPORT_HEADER = "id\tname\temail\tphone";
+
+    // Cabecera de los informes.
+    private static final String REPORT_HEADER = "group\tcount";
+
+    // Cabecera de los archivos de duplicados.
+    private static final String DUPLICATES_HEADER = "cluster\tscore\tid\tname\temail\tphone";
+
+    // Tamaño del búfer de lectura y escritura de los archivos.
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Servicio de cliente sobre el que se ejecutan los comandos.
+    private final CustomerService customerService;
+
+    // Validador de los clientes importados, para rechazar solo las líneas inválidas en lugar del lote completo.
+    private final CustomerValidator customerValidator;
+
+    // Clientes de cada lote de escritura y de cada página de lectura.
+    private final int batchSize;
+
+    /**
+     * Constructor que inicializa el servicio, el validador y el tamaño de los lotes.
+     *
+     * @param customerService   El servicio de cliente sobre el que se ejecutan los comandos.
+     * @param customerValidator El validador de los clientes importados.
+     * @param batchSize         El número de clientes de cada lote de escritura y de cada página de lectura.
+     * @throws IllegalArgumentException Si el tamaño de los lotes no es positivo.
+     */
+    public CustomerCommandLine(CustomerService customerService, CustomerValidator customerValidator, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de los lotes debe ser mayor que cero");
+        }
+        this.customerService = customerService;
+        this.customerValidator = customerValidator;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Indica si un comando se ejecuta sobre el servicio de cliente con un archivo como argumento.
+     *
+     * @param command El nombre del comando.
+     * @return {@code true} si es {@code import}, {@code export} o {@code delete}.
+     */
+    public static boolean isFileCommand(String command) {
+        return "import".equals(command) || "export".equals(command) || "delete".equals(command);
+    }
+
+    /**
+     * Ejecuta un comando sobre un archivo.
+     *
+     * @param command El nombre del comando: {@code import}, {@code export} o {@code delete}.
+     * @param file    El archivo de entrada o de salida, o {@code -} para la entrada o la salida estándar.
+     * @return El código de salida del comando.
+     */
+    public int run(String command, String file) {
+        long start = System.nanoTime();
+        try {
+            switch (command) {
+                case "import":
+                    try (BufferedReader reader = openReader(file)) {
+                        return importCustomers(reader, start);
+                    }
+                case "export":
+                    try (Writer writer = openWriter(file)) {
+                        exportCustomers(writer, start);
+                        return EXIT_OK;
+                    }
+                case "delete":
+                    try (BufferedReader reader = openReader(file)) {
+                        deleteCustomers(reader, start);
+                        return EXIT_OK;
+                    }
+                default:
+                    System.err.println(USAGE);
+                    return EXIT_USAGE;
+            }
+        } catch (IOException e) {
+            LOGGER.error("Error de lectura o escritura en el comando {} con el archivo {}", command, file, e);
+            return EXIT_ERROR;
+        } catch (RuntimeException e) {
+            LOGGER.error("Error al ejecutar el comando {} con el archivo {}", command, file, e);
+            return EXIT_ERROR;
+        }
+    }
+
+    /**
+     * Calcula un informe de agregación y escribe en la salida estándar sus grupos con más clientes, separados por
+     * tabuladores. Los resultados parciales se registran en el log a medida que llegan.
+     *
+     * @param analytics  El motor que calcula el informe.
+     * @param reportName El nombre del informe, sin distinguir mayúsculas: {@code email_domain}, {@code country_code}
+     *                   o {@code duplicates_per_domain}.
+     * @param topK       El número de grupos con más clientes que se escriben.
+     * @return El código de salida del comando.
+     */
+    public int report(CustomerAnalytics analytics, String reportName, int topK) {
+        CustomerReport report;
+        try {
+            report = CustomerReport.valueOf(reportName.toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Informe desconocido: " + reportName);
+            System.err.println(USAGE);
+            return EXIT_USAGE;
+        }
+        long start = System.nanoTime();
+        try (Writer writer = openWriter(STANDARD_STREAM)) {
+            ReportResult result = analytics.run(report, topK, partial -> {
+                if (!partial.isComplete()) {
+                    LOGGER.info("Informe {}: {} clientes procesados", report, partial.getScannedCustomers());
+                }
+            });
+            writer.write(REPORT_HEADER);
+            writer.write('\n');
+            for (GroupCount group : result.getTopGroups()) {
+                writer.write(field(group.getKey()));
+                writer.write('\t');
+                writer.write(Long.toString(group.getCount()));
+                writer.write('\n');
+            }
+            writer.flush();
+            LOGGER.info("Informe {} terminado: {} grupos y un total de {} en {} ms", report, result.getGroupCount(),
+                    result.getTotalCount(), elapsedMillis(start));
+            return EXIT_OK;
+        } catch (IOException e) {
+            LOGGER.error("Error de escritura en el informe {}", report, e);
+            return EXIT_ERROR;
+        } catch (RuntimeException e) {
+            LOGGER.error("Error al calcular el informe {}", report, e);
+            return EXIT_ERROR;
+        }
+    }
+
+    /**
+     * Busca los clientes probablemente duplicados entre todos los clientes y escribe sus grupos, de mayor a menor
+     * tamaño, separados por tabuladores.
+     *
+     * @param detector El detector de duplicados.
+     * @param file     El archivo de salida, o {@code -} para la salida estándar.
+     * @return El código de salida del comando.
+     */
+    public int duplicates(DuplicateDetector detector, String file) {
+        long start = System.nanoTime();
+        try (Writer writer = openWriter(file)) {
+            List<Customer> customers = customerService.getAll();
+            List<DuplicateCluster> clusters = detector.findClusters(customers);
+            writer.write(DUPLICATES_HEADER);
+            writer.write('\n');
+            long duplicated = 0;
+            for (int i = 0; i < clusters.size(); i++) {
+                DuplicateCluster cluster = clusters.get(i);
+                String prefix = (i + 1) + "\t" + String.format(Locale.ROOT, "%.3f", cluster.getMaxScore()) + '\t';
+                for (Customer customer : cluster.getCustomers()) {
+                    writer.write(prefix);
+                    writer.write(field(customer.getId()));
+                    writer.write('\t');
+                    writer.write(field(customer.getName()));
+                    writer.write('\t');
+                    writer.write(field(customer.getEmail()));
+                    writer.write('\t');
+                    writer.write(field(customer.getPhone()));
+                    writer.write('\n');
+                }
+                duplicated += cluster.getCustomers().size();
+            }
+            writer.flush();
+            LOGGER.info("Detección de duplicados terminada: {} grupos con {} de {} clientes en {} ms",
+                    clusters.size(), duplicated, customers.size(), elapsedMillis(start));
+            return EXIT_OK;
+        } catch (IOException e) {
+            LOGGER.error("Error de escritura en el archivo de duplicados {}", file, e);
+            return EXIT_ERROR;
+        } catch (RuntimeException e) {
+            LOGGER.error("Error al buscar los clientes duplicados", e);
+            return EXIT_ERROR;
+        }
+    }
+
+    /**
+     * Añade los clientes de un archivo por lotes, omitiendo la cabecera, las líneas vacías y las inválidas. Si la base
+     * de datos rechaza un lote (por ejemplo, por un correo repetido), se reintenta cliente a cliente para omitir solo
+     * las líneas rechazadas.
+     *
+     * @param reader La entrada con un cliente por línea.
+     * @param start  El instante de inicio del comando, en nanosegundos.
+     * @return {@link #EXIT_OK} si se han añadido todas las líneas, o {@link #EXIT_REJECTED} si alguna se ha omitido
+     * por ser inválida o por rechazarla la base de datos.
+     * @throws IOException Si la entrada no puede leerse.
+     */
+    private int importCustomers(BufferedReader reader, long start) throws IOException {
+        List<Customer> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+        long imported = 0;
+        long rejected = 0;
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+                continue;
+            }
+            Customer customer = parseCustomer(line);
+            try {
+                customerValidator.validate(customer);
+            } catch (IllegalArgumentException e) {
+                rejected++;
+                LOGGER.warn("Línea {} rechazada: {}", lineNumber, e.getMessage());
+                continue;
+            }
+            batch.add(customer);
+            batchLines.add(lineNumber);
+            if (batch.size() == batchSize) {
+                long batchRejected = addBatch(batch, batchLines);
+                imported += batch.size() - batchRejected;
+                rejected += batchRejected;
+                batch.clear();
+                batchLines.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            long batchRejected = addBatch(batch, batchLines);
+            imported += batch.size() - batchRejected;
+            rejected += batchRejected;
+        }
+        LOGGER.info("Importación terminada: {} clientes añadidos y {} líneas rechazadas en {} ms",
+                imported, rejected, elapsedMillis(start));
+        return rejected == 0 ? EXIT_OK : EXIT_REJECTED;
+    }
+
+    /**
+     * Añade un lote de clientes en una transacción. Si falla porque la base de datos rechaza algún cliente, se añade
+     * cliente a cliente, omitiendo los rechazados. Sin transacciones (escritura diferida o repositorios memory y
+     * sharded), los clientes añadidos antes del fallo se conservan y no se vuelven a añadir.
+     *
+     * @param batch      Los clientes del lote, ya validados.
+     * @param batchLines Los números de línea de cada cliente del lote, para los mensajes de log.
+     * @return El número de clientes rechazados.
+     * @throws RuntimeException Si el error no se debe a los datos de un cliente (por ejemplo, la base de datos no
+     *                          responde).
+     */
+    private long addBatch(List<Customer> batch, List<Long> batchLines) {
+        try {
+            customerService.addAll(batch);
+            return 0;
+        } catch (RuntimeException e) {
+            if (!isRejection(e)) {
+                throw e;
+            }
+            LOGGER.warn("Lote de las líneas {} a {} rechazado; se añade cliente a cliente: {}", batchLines.get(0),
+                    batchLines.get(batchLines.size() - 1), e.getMessage());
+        }
+        long rejected = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Customer customer = batch.get(i);
+            if (customer.getId() != null) {
+                // Ya tiene identificador: sin transacción se añadió antes del fallo; si no, se deshizo con el lote.
+                if (customerService.get(customer.getId()) != null) {
+                    continue;
+                }
+                customer.setId(null);
+            }
+            try {
+                customerService.add(customer);
+            } catch (RuntimeException e) {
+                if (!isRejection(e)) {
+                    throw e;
+                }
+                rejected++;
+                LOGGER.warn("Línea {} rechazada por la base de datos: {}", batchLines.get(i), e.getMessage());
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * Indica si un error se debe a los datos de un cliente y no a la base de datos: una validación fallida, una
+     * restricción de la tabla (SQLState de clase {@code 23}, como un correo repetido) o un valor inválido para su
+     * columna (clase {@code 22}).
+     *
+     * @param error El error de la operación.
+     * @return {@code true} si el cliente se ha rechazado por sus datos.
+     */
+    private static boolean isRejection(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IllegalArgumentException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                String sqlState = ((SQLException) cause).getSQLState();
+                return sqlState != null && (sqlState.startsWith("23") || sqlState.startsWith("22"));
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Escribe todos los clientes, leyéndolos página a página a partir del identificador del último cliente de la
+     * página anterior, de modo que cada página cuesta lo mismo sea cual sea su posición. Cada cliente se escribe una
+     * sola vez aunque haya escrituras simultáneas; los añadidos durante la exportación se incluyen si su
+     * identificador es posterior a la página en curso.
+     *
+     * @param writer La salida.
+     * @param start  El instante de inicio del comando, en nanosegundos.
+     * @throws IOException Si la salida no puede escribirse.
+     */
+    private void exportCustomers(Writer writer, long start) throws IOException {
+        writer.write(EXPORT_HEADER);
+        writer.write('\n');
+        long exported = 0;
+        String afterId = null;
+        List<Customer> page;
+        do {
+            page = customerService.getPageAfter(afterId, batchSize);
+            for (Customer customer : page) {
+                writer.write(field(customer.getId()));
+                writer.write('\t');
+                writer.write(field(customer.getName()));
+                writer.write('\t');
+                writer.write(field(customer.getEmail()));
+                writer.write('\t');
+                writer.write(field(customer.getPhone()));
+                writer.write('\n');
+            }
+            exported += page.size();
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == batchSize);
+        writer.flush();
+        LOGGER.info("Exportación terminada: {} clientes en {} ms", exported, elapsedMillis(start));
+    }
+
+    /**
+     * Elimina por lotes los clientes cuyo identificador es la primera columna de cada línea.
+     *
+     * @param reader La entrada con un identificador por línea.
+     * @param start  El instante de inicio del comando, en nanosegundos.
+     * @throws IOException Si la entrada no puede leerse.
+     */
+    private void deleteCustomers(BufferedReader reader, long start) throws IOException {
+        List<String> batch = new ArrayList<>(batchSize);
+        long deleted = 0;
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+                continue;
+            }
+            int tab = line.indexOf('\t');
+            batch.add((tab < 0 ? line : line.substring(0, tab)).trim());
+            if (batch.size() == batchSize) {
+                customerService.deleteAll(batch);
+                deleted += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            customerService.deleteAll(batch);
+            deleted += batch.size();
+        }
+        LOGGER.info("Eliminación terminada: {} identificadores procesados en {} ms", deleted, elapsedMillis(start));
+    }
+
+    /**
+     * Convierte una línea separada por tabuladores en un cliente sin identificador.
+     *
+     * @param line La línea con las columnas {@code name}, {@code email} y {@code phone}, opcionalmente precedidas
+     *             de {@code id}.
+     * @return El cliente.
+     */
+    private static Customer parseCustomer(String line) {
+        String[] columns = line.split("\t", -1);
+        int first = columns.length >= 4 ? 1 : 0;
+        String name = column(columns, first);
+        String email = column(columns, first + 1);
+        String phone = column(columns, first + 2);
+        return new Customer(null, name, email, phone);
+    }
+
+    /**
+     * Obtiene una columna de una línea, sin espacios alrededor.
+     *
+     * @param columns Las columnas de la línea.
+     * @param index   La posición de la columna.
+     * @return El valor de la columna, o una cadena vacía si la línea no la tiene.
+     */
+    private static String column(String[] columns, int index) {
+        return index < columns.length ? columns[index].trim() : "";
+    }
+
+    /**
+     * Indica si una línea es la cabecera de un archivo exportado o de carga.
+     *
+     * @param line La primera línea del archivo.
+     * @return {@code true} si empieza por el nombre de la columna {@code id} o {@code name}.
+     */
+    private static boolean isHeader(String line) {
+        return line.startsWith("id\t") || line.startsWith("name\t") || line.equals("id");
+    }
+
+    /**
+     * Prepara un valor para escribirlo como columna, sustituyendo los separadores por espacios.
+     *
+     * @param value El valor, que puede ser {@code null}.
+     * @return El valor sin tabuladores ni saltos de línea.
+     */
+    private static String field(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.indexOf('\t') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0
+                ? value
+                : value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    /**
+     * Abre un archivo para leerlo línea a línea.
+     *
+     * @param file El archivo, o {@code -} para la entrada estándar.
+     * @return El lector del archivo.
+     * @throws IOException Si el archivo no puede abrirse.
+     */
+    private static BufferedReader openReader(String file) throws IOException {
+        if (STANDARD_STREAM.equals(file)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+        return new BufferedReader(
+                new InputStreamReader(Files.newInputStream(Path.of(file)), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Abre un archivo para escribirlo, sobrescribiéndolo si existe.
+     *
+     * @param file El archivo, o {@code -} para la salida estándar.
+     * @return El escritor del archivo.
+     * @throws IOException Si el archivo no puede abrirse.
+     */
+    private static Writer openWriter(String file) throws IOException {
+        if (STANDARD_STREAM.equals(file)) {
+            return new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+        return new BufferedWriter(
+                new OutputStreamWriter(Files.newOutputStream(Path.of(file)), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Calcula el tiempo transcurrido desde el inicio de un comando.
+     *
+     * @param start El instante de inicio, en nanosegundos.
+     * @return El tiempo transcurrido en milisegundos.
+     */
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -3,27 +3,67 @@ package presentation.controller;
 import presentation.view.CustomerView;
 import business.entity.Customer;
 import business.service.CustomerService;
+import business.store.OffHeapCustomerStore;
+import repository.CancellationToken;
+import utility.jfr.ControllerActionEvent;
 import utility.logging.MessageType;
+import utility.metrics.Outcome;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import utility.logging.LogMessages;
 
 import javax.swing.JOptionPane;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 /**
  * Controlador que maneja la lógica de negocio entre la vista (CustomerView) y el modelo (CustomerService).
  * Se encarga de gestionar los eventos de la interfaz de usuario y actualizar la vista según sea necesario.
+ * Las acciones del usuario y las cargas en segundo plano se registran como eventos {@link ControllerActionEvent} de
+ * Java Flight Recorder.
  */
 public class CustomerControllerImpl implements EntityController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CustomerControllerImpl.class);
 
+    // Espera tras la última pulsación antes de lanzar la búsqueda mientras se escribe, en milisegundos.
+    private static final int LIVE_SEARCH_DEBOUNCE_MS = 250;
+
+    // Resultados de la primera entrega de la búsqueda, que se muestra antes de obtener el resto.
+    private static final int LIVE_SEARCH_FIRST_RESULTS = 50;
+
+    // Número máximo de resultados de la búsqueda mientras se escribe.
+    private static final int LIVE_SEARCH_MAX_RESULTS = 1000;
+
+    // Clientes de cada página con la que se llena el almacén fuera del heap.
+    private static final int STORE_LOAD_PAGE_SIZE = 1000;
+
     private final CustomerService customerService;
     private final CustomerView customerView;
     private final LogMessages<Customer> logMessages;
 
+    // Receptor de la lista completa de clientes cada vez que se carga desde el servicio, o null.
+    private Consumer<List<Customer>> entitiesLoadedListener;
+
+    // Temporizador que agrupa las pulsaciones y lanza la búsqueda cuando el usuario deja de escribir.
+    private final Timer liveSearchTimer = new Timer(LIVE_SEARCH_DEBOUNCE_MS, event -> runLiveSearch());
+
+    // Token de la búsqueda en curso, o null si no hay ninguna.
+    private CancellationToken liveSearchToken;
+
+    // Lista completa de clientes cargada fuera del heap, si la tabla usa un almacén; no se modifica tras cargarse.
+    private OffHeapCustomerStore loadedStore;
+
     /**
      * Constructor que inicializa el servicio de clientes, la vista de clientes y los mensajes de log.
      *
@@ -32,18 +72,50 @@ public class CustomerControllerImpl implements EntityController {
      * @param logMessages Los mensajes de log específicos para la entidad Customer.
      */
     public CustomerControllerImpl(CustomerService customerService, CustomerView customerView, LogMessages<Customer> logMessages) {
+        this(customerService, customerView, logMessages, null);
+    }
+
+    /**
+     * Constructor que inicializa el controlador mostrando de inmediato unos clientes ya obtenidos (por ejemplo, la
+     * primera página precargada durante el arranque) mientras se carga la lista completa en segundo plano.
+     *
+     * @param customerService  El servicio que maneja la lógica de negocio de los clientes.
+     * @param customerView     La vista que muestra la interfaz de usuario para los clientes.
+     * @param logMessages      Los mensajes de log específicos para la entidad Customer.
+     * @param initialCustomers Los clientes que se muestran mientras se carga la lista completa, o {@code null}.
+     */
+    public CustomerControllerImpl(CustomerService customerService, CustomerView customerView,
+                                  LogMessages<Customer> logMessages, List<Customer> initialCustomers) {
         this.customerService = customerService;
         this.customerView = customerView;
         this.logMessages = logMessages;
-        initializeController();
+        initializeController(initialCustomers);
+    }
+
+    /**
+     * Registra un receptor que se invoca, en el hilo de eventos de Swing, con la lista completa de clientes cada vez
+     * que se carga desde el servicio. Permite, por ejemplo, guardar una instantánea local tras cada sincronización.
+     * Si la tabla usa un almacén fuera del heap, la lista es una vista de solo lectura del almacén.
+     *
+     * @param listener El receptor, o {@code null} para eliminarlo.
+     */
+    public void setEntitiesLoadedListener(Consumer<List<Customer>> listener) {
+        this.entitiesLoadedListener = listener;
     }
 
     /**
-     * Inicializa el controlador configurando los listeners y cargando los datos iniciales.
+     * Inicializa el controlador configurando los listeners, mostrando los datos iniciales disponibles y cargando
+     * la lista completa en segundo plano.
+     *
+     * @param initialCustomers Los clientes que se muestran de inmediato, o {@code null}.
      */
-    private void initializeController() {
+    private void initializeController(List<Customer> initialCustomers) {
         configureButtonListeners();
         configureTableListener();
+        configureLiveSearchListener();
+        if (initialCustomers != null) {
+            showEntities(initialCustomers);
+        }
         loadEntities();
         customerView.resetToDefaultState();
     }
@@ -52,12 +124,12 @@ public class CustomerControllerImpl implements EntityController {
      * Configura los listeners de los botones de la vista.
      */
     private void configureButtonListeners() {
-        customerView.getAddButton().addActionListener(event -> onAddButtonClicked());
-        customerView.getUpdateButton().addActionListener(event -> onUpdateButtonClicked());
-        customerView.getDeleteButton().addActionListener(event -> onDeleteButtonClicked());
-        customerView.getSearchButton().addActionListener(event -> onSearchButtonClicked());
-        customerView.getAcceptButton().addActionListener(event -> onAcceptButtonClicked());
-        customerView.getCancelButton().addActionListener(event -> onCancelButtonClicked());
+        customerView.getAddButton().addActionListener(event -> runAction("add", this::onAddButtonClicked));
+        customerView.getUpdateButton().addActionListener(event -> runActionWithOutcome("update", this::updateCustomer));
+        customerView.getDeleteButton().addActionListener(event -> runActionWithOutcome("delete", this::deleteCustomer));
+        customerView.getSearchButton().addActionListener(event -> runAction("search", this::onSearchButtonClicked));
+        customerView.getAcceptButton().addActionListener(event -> runActionWithOutcome("accept", this::accept));
+        customerView.getCancelButton().addActionListener(event -> runAction("cancel", this::onCancelButtonClicked));
     }
 
     /**
@@ -66,26 +138,208 @@ public class CustomerControllerImpl implements EntityController {
     private void configureTableListener() {
         customerView.getCustomerTable().getSelectionModel().addListSelectionListener(event -> {
             if (!event.getValueIsAdjusting()) {
-                onTableRowSelected();
+                runAction("rowSelected", this::onTableRowSelected);
             }
         });
     }
 
     /**
-     * Carga los datos de los clientes desde el servicio y los muestra en la tabla de la vista.
+     * Configura el listener del campo de búsqueda mientras se escribe.
+     */
+    private void configureLiveSearchListener() {
+        liveSearchTimer.setRepeats(false);
+        customerView.getLiveSearchField().getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent event) {
+                onLiveSearchTextChanged();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent event) {
+                onLiveSearchTextChanged();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent event) {
+                onLiveSearchTextChanged();
+            }
+        });
+    }
+
+    /**
+     * Carga los datos de los clientes desde el servicio en segundo plano y los muestra en la tabla de la vista
+     * cuando están disponibles, sin bloquear el hilo de eventos de Swing. Si la tabla guarda los clientes fuera del
+     * heap, se cargan página a página en un almacén nuevo, sin construir la lista completa en el heap.
      */
     private void loadEntities() {
-        try {
-            List<Customer> customers = customerService.getAll();
-            customerView.clearTable();
-            for (Customer customer : customers) {
-                customerView.addCustomerToTable(customer);
+        if (customerView.usesCustomerStore()) {
+            loadEntitiesIntoStore();
+            return;
+        }
+        new SwingWorker<List<Customer>, Void>() {
+            @Override
+            protected List<Customer> doInBackground() {
+                return runLoad("loadEntities", customerService::getAll, List::size);
             }
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(customerView, logMessages.getMessage(MessageType.ERROR_GET_ALL) + ": " + e.getMessage());
+
+            @Override
+            protected void done() {
+                try {
+                    List<Customer> customers = get();
+                    // Si hay una búsqueda activa, la tabla muestra sus resultados y no la lista completa.
+                    if (getLiveSearchText().isEmpty()) {
+                        showEntities(customers);
+                    }
+                    if (entitiesLoadedListener != null) {
+                        entitiesLoadedListener.accept(customers);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    LOGGER.error(logMessages.getMessage(MessageType.ERROR_GET_ALL), cause);
+                    JOptionPane.showMessageDialog(customerView, logMessages.getMessage(MessageType.ERROR_GET_ALL) + ": " + cause.getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Carga la lista completa de clientes en un nuevo almacén fuera del heap, página a página, y la muestra filtrada
+     * por la búsqueda activa. El almacén anterior se sigue mostrando hasta que termina la carga.
+     */
+    private void loadEntitiesIntoStore() {
+        int expectedRows = loadedStore != null ? loadedStore.size() : STORE_LOAD_PAGE_SIZE;
+        new SwingWorker<OffHeapCustomerStore, Void>() {
+            @Override
+            protected OffHeapCustomerStore doInBackground() {
+                return runLoad("loadEntities", () -> {
+                    OffHeapCustomerStore store = new OffHeapCustomerStore(expectedRows);
+                    List<Customer> page;
+                    String afterId = null;
+                    do {
+                        page = customerService.getPageAfter(afterId, STORE_LOAD_PAGE_SIZE);
+                        store.addAll(page);
+                        if (!page.isEmpty()) {
+                            afterId = page.get(page.size() - 1).getId();
+                        }
+                    } while (page.size() == STORE_LOAD_PAGE_SIZE);
+                    return store;
+                }, OffHeapCustomerStore::size);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    loadedStore = get();
+                    // La búsqueda activa se resuelve sobre el almacén recién cargado.
+                    cancelLiveSearch();
+                    showLoadedStore();
+                    if (entitiesLoadedListener != null) {
+                        entitiesLoadedListener.accept(loadedStore.asList());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    LOGGER.error(logMessages.getMessage(MessageType.ERROR_GET_ALL), cause);
+                    JOptionPane.showMessageDialog(customerView, logMessages.getMessage(MessageType.ERROR_GET_ALL) + ": " + cause.getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Muestra el almacén cargado filtrado por el texto de búsqueda, sin consultar la base de datos ni copiar los
+     * clientes encontrados: la tabla muestra directamente sus filas.
+     */
+    private void showLoadedStore() {
+        String text = getLiveSearchText();
+        customerView.showCustomerStore(loadedStore,
+                text.isEmpty() ? null : loadedStore.search(text, LIVE_SEARCH_MAX_RESULTS));
+    }
+
+    /**
+     * Ejecuta una acción del usuario que no puede fallar registrándola como un evento de Java Flight Recorder.
+     *
+     * @param action  El nombre de la acción.
+     * @param handler La acción a ejecutar.
+     */
+    private static void runAction(String action, Runnable handler) {
+        runActionWithOutcome(action, () -> {
+            handler.run();
+            return Outcome.SUCCESS;
+        });
+    }
+
+    /**
+     * Ejecuta una acción del usuario registrándola como un evento de Java Flight Recorder con el resultado que
+     * informa la propia acción, que muestra sus errores al usuario en lugar de lanzarlos.
+     *
+     * @param action  El nombre de la acción.
+     * @param handler La acción a ejecutar, que devuelve su resultado.
+     */
+    private static void runActionWithOutcome(String action, Supplier<Outcome> handler) {
+        ControllerActionEvent event = ControllerActionEvent.start(action);
+        try {
+            event.finish(handler.get(), 0);
+        } catch (RuntimeException e) {
+            event.finish(Outcome.ERROR, 0);
+            throw e;
         }
     }
 
+    /**
+     * Obtiene clientes en segundo plano registrando la carga como un evento de Java Flight Recorder.
+     *
+     * @param action   El nombre de la carga.
+     * @param loader   La carga de los clientes.
+     * @param rowCount El número de clientes obtenidos, para el evento.
+     * @param <T>      El tipo del resultado de la carga.
+     * @return Los clientes obtenidos.
+     */
+    private static <T> T runLoad(String action, Supplier<T> loader, ToIntFunction<T> rowCount) {
+        ControllerActionEvent event = ControllerActionEvent.start(action);
+        try {
+            T customers = loader.get();
+            event.finish(Outcome.SUCCESS, rowCount.applyAsInt(customers));
+            return customers;
+        } catch (RuntimeException e) {
+            event.finish(e instanceof CancellationException ? Outcome.CANCELLED : Outcome.ERROR, 0);
+            throw e;
+        }
+    }
+
+    /**
+     * Vuelve a cargar la tabla tras un cambio: los resultados de la búsqueda activa o, si no hay, la lista completa.
+     * Si la tabla usa un almacén fuera del heap, se recarga la lista completa y se vuelve a filtrar localmente.
+     */
+    private void refreshEntities() {
+        if (customerView.usesCustomerStore() || getLiveSearchText().isEmpty()) {
+            loadEntities();
+        } else {
+            runLiveSearch();
+        }
+    }
+
+    /**
+     * Obtiene el texto del campo de búsqueda mientras se escribe, sin espacios en los extremos.
+     *
+     * @return El texto de búsqueda, vacío si no hay búsqueda activa.
+     */
+    private String getLiveSearchText() {
+        return customerView.getLiveSearchField().getText().trim();
+    }
+
+    /**
+     * Muestra una lista de clientes en la tabla de la vista, sustituyendo su contenido.
+     *
+     * @param customers Los clientes a mostrar.
+     */
+    private void showEntities(List<Customer> customers) {
+        customerView.setCustomers(customers);
+    }
+
     /**
      * Acción que ocurre cuando se hace clic en el botón "Agregar".
      * Limpia los campos y prepara la vista para agregar un nuevo cliente.
@@ -112,11 +366,16 @@ public class CustomerControllerImpl implements EntityController {
      */
     @Override
     public void onAcceptButtonClicked() {
-        if (customerView.getIdField().isEditable()) {
-            searchCustomer();
-        } else {
-            addCustomer();
-        }
+        accept();
+    }
+
+    /**
+     * Busca o agrega un cliente según el estado de los campos.
+     *
+     * @return El resultado de la búsqueda o del alta.
+     */
+    private Outcome accept() {
+        return customerView.getIdField().isEditable() ? searchCustomer() : addCustomer();
     }
 
     /**
@@ -129,23 +388,27 @@ public class CustomerControllerImpl implements EntityController {
         customerView.resetToDefaultState();
 
         if (!customerView.getIdField().isEditable()) {
-            loadEntities();
+            refreshEntities();
         }
     }
 
     /**
      * Agrega un nuevo cliente a través del servicio y actualiza la vista.
+     *
+     * @return El resultado del alta.
      */
-    private void addCustomer() {
+    private Outcome addCustomer() {
         try {
             Customer customer = customerView.getCustomerFromView();
             customerService.add(customer);
-            loadEntities();
+            refreshEntities();
             customerView.clearFields();
             customerView.resetToDefaultState();
             JOptionPane.showMessageDialog(customerView, logMessages.getMessage(MessageType.SUCCESS_ADD, customer));
+            return Outcome.SUCCESS;
         } catch (Exception e) {
             JOptionPane.showMessageDialog(customerView, logMessages.getMessage(MessageType.ERROR_ADD, customerView.getCustomerFromView()) + ": " + e.getMessage());
+            return outcomeOf(e);
         }
     }
 
@@ -155,15 +418,26 @@ public class CustomerControllerImpl implements EntityController {
      */
     @Override
     public void onUpdateButtonClicked() {
+        updateCustomer();
+    }
+
+    /**
+     * Actualiza el cliente de los campos de la vista a través del servicio y actualiza la vista.
+     *
+     * @return El resultado de la actualización.
+     */
+    private Outcome updateCustomer() {
         try {
             Customer customer = customerView.getCustomerFromView();
             customerService.update(customer);
-            loadEntities();
+            refreshEntities();
             customerView.clearFields();
             customerView.resetToDefaultState();
             JOptionPane.showMessageDialog(customerView, logMessages.getMessage(MessageType.SUCCESS_UPDATE, customer));
+            return Outcome.SUCCESS;
         } catch (Exception e) {
             JOptionPane.showMessageDialog(customerView, logMessages.getMessage(MessageType.ERROR_UPDATE, customerView.getCustomerFromView()) + ": " + e.getMessage());
+            return outcomeOf(e);
         }
     }
 
@@ -173,22 +447,35 @@ public class CustomerControllerImpl implements EntityController {
      */
     @Override
     public void onDeleteButtonClicked() {
+        deleteCustomer();
+    }
+
+    /**
+     * Elimina el cliente del campo de identificador a través del servicio y actualiza la vista.
+     *
+     * @return El resultado de la eliminación.
+     */
+    private Outcome deleteCustomer() {
         try {
             String customerId = customerView.getIdField().getText();
             customerService.delete(customerId);
-            loadEntities();
+            refreshEntities();
             customerView.clearFields();
             customerView.resetToDefaultState();
             JOptionPane.showMessageDialog(customerView, logMessages.getMessage(MessageType.SUCCESS_DELETE, customerId));
+            return Outcome.SUCCESS;
         } catch (Exception e) {
             JOptionPane.showMessageDialog(customerView, logMessages.getMessage(MessageType.ERROR_DELETE, customerView.getIdField().getText()) + ": " + e.getMessage());
+            return outcomeOf(e);
         }
     }
 
     /**
      * Busca un cliente por su ID y actualiza la vista con los datos del cliente encontrado.
+     *
+     * @return El resultado de la búsqueda.
      */
-    private void searchCustomer() {
+    private Outcome searchCustomer() {
         try {
             String customerId = customerView.getIdField().getText();
             Customer customer = customerService.get(customerId);
@@ -198,14 +485,26 @@ public class CustomerControllerImpl implements EntityController {
                 customerView.populateFields(customer);
                 customerView.resetSearchCustomerOrSelectedRow();
                 JOptionPane.showMessageDialog(customerView, logMessages.getMessage(MessageType.SUCCESS_GET, customer));
-            } else {
-                JOptionPane.showMessageDialog(customerView, logMessages.getMessage(MessageType.WARNING_NOT_FOUND, customerId));
+                return Outcome.SUCCESS;
             }
+            JOptionPane.showMessageDialog(customerView, logMessages.getMessage(MessageType.WARNING_NOT_FOUND, customerId));
+            return Outcome.NOT_FOUND;
         } catch (Exception e) {
             JOptionPane.showMessageDialog(customerView, logMessages.getMessage(MessageType.ERROR_GET_BY_ID, customerView.getIdField().getText()) + ": " + e.getMessage());
+            return outcomeOf(e);
         }
     }
 
+    /**
+     * Obtiene el resultado de una acción que ha fallado con una excepción.
+     *
+     * @param e La excepción.
+     * @return {@link Outcome#REJECTED} si los datos son inválidos, o {@link Outcome#ERROR} en otro caso.
+     */
+    private static Outcome outcomeOf(Exception e) {
+        return e instanceof IllegalArgumentException ? Outcome.REJECTED : Outcome.ERROR;
+    }
+
     /**
      * Acción que ocurre cuando se selecciona una fila en la tabla.
      * Actualiza los campos de la vista con los datos del cliente seleccionado.
@@ -219,4 +518,97 @@ public class CustomerControllerImpl implements EntityController {
             customerView.resetSearchCustomerOrSelectedRow();
         }
     }
+
+    /**
+     * Acción que ocurre cuando cambia el texto del campo de búsqueda mientras se escribe.
+     * Cancela la búsqueda en curso, que ya no interesa, y programa una nueva para cuando el usuario deje de escribir.
+     */
+    @Override
+    public void onLiveSearchTextChanged() {
+        cancelLiveSearch();
+        liveSearchTimer.restart();
+    }
+
+    /**
+     * Cancela la búsqueda en curso, si la hay, también en la base de datos.
+     */
+    private void cancelLiveSearch() {
+        if (liveSearchToken != null) {
+            liveSearchToken.cancel();
+            liveSearchToken = null;
+        }
+    }
+
+    /**
+     * Lanza en segundo plano la búsqueda del texto del campo de búsqueda. Los resultados se muestran en dos
+     * entregas: primero los {@value #LIVE_SEARCH_FIRST_RESULTS} primeros y después, con una segunda consulta que
+     * empieza donde terminó la primera, el resto hasta {@value #LIVE_SEARCH_MAX_RESULTS}. Si el campo está vacío,
+     * se vuelve a mostrar la lista completa. Si ya se ha cargado el almacén fuera del heap, se filtra directamente
+     * sobre él.
+     */
+    private void runLiveSearch() {
+        cancelLiveSearch();
+        if (loadedStore != null) {
+            showLoadedStore();
+            return;
+        }
+        String text = getLiveSearchText();
+        if (text.isEmpty()) {
+            loadEntities();
+            return;
+        }
+        CancellationToken token = new CancellationToken();
+        liveSearchToken = token;
+        new SwingWorker<List<Customer>, List<Customer>>() {
+            @Override
+            protected List<Customer> doInBackground() {
+                return runLoad("liveSearch", () -> {
+                    try (CancellationToken.Scope scope = token.bind()) {
+                        List<Customer> first = customerService.search(text, LIVE_SEARCH_FIRST_RESULTS);
+                        if (first.size() < LIVE_SEARCH_FIRST_RESULTS) {
+                            return first;
+                        }
+                        publish(first);
+                        // Solo se pide el resto: el orden de la búsqueda es estable (relevancia e identificador).
+                        List<Customer> rest = customerService.search(text, LIVE_SEARCH_FIRST_RESULTS,
+                                LIVE_SEARCH_MAX_RESULTS - LIVE_SEARCH_FIRST_RESULTS);
+                        List<Customer> results = new ArrayList<>(first.size() + rest.size());
+                        results.addAll(first);
+                        results.addAll(rest);
+                        return results;
+                    }
+                }, List::size);
+            }
+
+            @Override
+            protected void process(List<List<Customer>> chunks) {
+                if (!token.isCancelled()) {
+                    showEntities(chunks.get(chunks.size() - 1));
+                }
+            }
+
+            @Override
+            protected void done() {
+                if (token.isCancelled()) {
+                    return;
+                }
+                try {
+                    showEntities(get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (!(cause instanceof CancellationException)) {
+                        LOGGER.error(logMessages.getMessage(MessageType.ERROR_SEARCH, text), cause);
+                        JOptionPane.showMessageDialog(customerView,
+                                logMessages.getMessage(MessageType.ERROR_SEARCH, text) + ": " + cause.getMessage());
+                    }
+                } finally {
+                    if (liveSearchToken == token) {
+                        liveSearchToken = null;
+                    }
+                }
+            }
+        }.execute();
+    }
 }
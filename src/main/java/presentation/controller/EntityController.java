@@ -40,4 +40,9 @@ public interface EntityController {
      * Maneja el evento cuando se selecciona una fila en la tabla de clientes.
      */
     void onTableRowSelected();
+
+    /**
+     * Maneja el evento cuando cambia el texto del campo de búsqueda mientras se escribe.
+     */
+    void onLiveSearchTextChanged();
 }
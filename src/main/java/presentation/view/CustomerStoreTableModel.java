@@ -0,0 +1,141 @@
+package presentation.view;
+
+import business.entity.Customer;
+import business.store.OffHeapCustomerStore;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.List;
+
+/**
+ * Modelo de tabla que muestra los clientes de un {@link OffHeapCustomerStore}. A diferencia de
+ * {@code DefaultTableModel}, no copia cada fila en un {@code Object[]}: la tabla solo decodifica las celdas que
+ * pinta, por lo que puede mostrar millones de clientes con un heap pequeño. Los filtros se muestran como índices de
+ * filas del almacén, sin copiar los clientes encontrados.
+ */
+public class CustomerStoreTableModel extends AbstractTableModel {
+
+    private static final long serialVersionUID = 1L;
+
+    // Nombres de las columnas de la tabla.
+    private final String[] columnNames;
+
+    // Almacén propio del modelo, en el que se guardan las listas de clientes que se muestran.
+    private final OffHeapCustomerStore ownStore;
+
+    // Almacén mostrado: el propio o uno compartido, con todos los clientes cargados.
+    private OffHeapCustomerStore store;
+
+    // Filas del almacén mostradas, en orden, o null para mostrarlas todas.
+    private int[] rows;
+
+    /**
+     * Constructor que inicializa el modelo sobre un almacén de clientes.
+     *
+     * @param store       El almacén propio del modelo.
+     * @param columnNames Los nombres de las columnas: identificador, nombre, email y teléfono.
+     */
+    public CustomerStoreTableModel(OffHeapCustomerStore store, String[] columnNames) {
+        this.ownStore = store;
+        this.store = store;
+        this.columnNames = columnNames.clone();
+    }
+
+    /**
+     * Obtiene el almacén de clientes mostrado por el modelo.
+     *
+     * @return El almacén de clientes.
+     */
+    public OffHeapCustomerStore getStore() {
+        return store;
+    }
+
+    /**
+     * Muestra las filas indicadas de un almacén sin copiarlas. El modelo no modifica el almacén, que puede
+     * compartirse con otros usuarios mientras nadie lo modifique.
+     *
+     * @param store El almacén de clientes.
+     * @param rows  Las filas a mostrar, en orden, o {@code null} para mostrarlas todas.
+     */
+    public void showStore(OffHeapCustomerStore store, int[] rows) {
+        this.store = store;
+        this.rows = rows;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Sustituye los clientes mostrados y notifica a la tabla con un único evento.
+     *
+     * @param customers Los nuevos clientes.
+     */
+    public void setCustomers(List<Customer> customers) {
+        ownStore.replaceAll(customers);
+        showStore(ownStore, null);
+    }
+
+    /**
+     * Agrega un cliente al final de la tabla. Si se mostraba un almacén compartido, sus filas visibles se copian
+     * antes en el almacén propio.
+     *
+     * @param customer El cliente a agregar.
+     */
+    public void addCustomer(Customer customer) {
+        if (store != ownStore || rows != null) {
+            OffHeapCustomerStore shown = store;
+            int[] shownRows = rows;
+            ownStore.clear();
+            for (int row = 0; row < getRowCount(); row++) {
+                ownStore.add(shown.get(shownRows == null ? row : shownRows[row]));
+            }
+            store = ownStore;
+            rows = null;
+        }
+        ownStore.add(customer);
+        int row = ownStore.size() - 1;
+        fireTableRowsInserted(row, row);
+    }
+
+    /**
+     * Elimina todos los clientes de la tabla.
+     */
+    public void clear() {
+        ownStore.clear();
+        showStore(ownStore, null);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows == null ? store.size() : rows.length;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return String.class;
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int column) {
+        int row = rows == null ? rowIndex : rows[rowIndex];
+        switch (column) {
+            case 0:
+                return store.getId(row);
+            case 1:
+                return store.getName(row);
+            case 2:
+                return store.getEmail(row);
+            case 3:
+                return store.getPhone(row);
+            default:
+                throw new IndexOutOfBoundsException("Columna " + column + " fuera de rango");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package presentation.view;
 
 import business.entity.Customer;
+import business.store.OffHeapCustomerStore;
 
 import javax.swing.JFrame;
 import javax.swing.JPanel;
@@ -11,6 +12,9 @@ import javax.swing.JScrollPane;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.SwingUtilities;
 
+import java.util.List;
+import java.util.Vector;
+
 /**
  * Clase que gestiona la vista de clientes, incluyendo campos de entrada, botones y una tabla para mostrar datos.
  */
@@ -25,6 +29,7 @@ public class CustomerView extends JFrame {
     private JTextField nameField;
     private JTextField emailField;
     private JTextField phoneField;
+    private JTextField liveSearchField;
     private JButton addButton;
     private JButton updateButton;
     private JButton deleteButton;
@@ -34,6 +39,7 @@ public class CustomerView extends JFrame {
     private JTable customerTable;
     private JScrollPane customerScrollPane;
     private DefaultTableModel tableModel;
+    private CustomerStoreTableModel storeTableModel;
 
     /**
      * Método constructor para inicializar los componentes y configurar el marco.
@@ -59,6 +65,40 @@ public class CustomerView extends JFrame {
         customerTable.setModel(tableModel);
     }
 
+    /**
+     * Sustituye el modelo de la tabla por uno que guarda los clientes fuera del heap, en un
+     * {@link OffHeapCustomerStore}, para mostrar listas muy grandes sin copiar cada fila en memoria del heap.
+     *
+     * @param store El almacén en el que se guardan los clientes mostrados.
+     */
+    public void useCustomerStore(OffHeapCustomerStore store) {
+        storeTableModel = new CustomerStoreTableModel(store, COLUMN_NAMES);
+        customerTable.setModel(storeTableModel);
+    }
+
+    /**
+     * Indica si la tabla guarda los clientes fuera del heap (véase {@link #useCustomerStore(OffHeapCustomerStore)}).
+     *
+     * @return {@code true} si la tabla usa un {@link OffHeapCustomerStore}.
+     */
+    public boolean usesCustomerStore() {
+        return storeTableModel != null;
+    }
+
+    /**
+     * Muestra en la tabla las filas indicadas de un almacén de clientes, sin copiarlas. Solo puede usarse si la
+     * tabla guarda los clientes fuera del heap.
+     *
+     * @param store El almacén de clientes, que no debe modificarse mientras se muestra.
+     * @param rows  Las filas a mostrar, en orden, o {@code null} para mostrarlas todas.
+     */
+    public void showCustomerStore(OffHeapCustomerStore store, int[] rows) {
+        if (storeTableModel == null) {
+            throw new IllegalStateException("La tabla no guarda los clientes fuera del heap");
+        }
+        storeTableModel.showStore(store, rows);
+    }
+
     /**
      * Configura las propiedades del marco (JFrame).
      */
@@ -110,6 +150,14 @@ public class CustomerView extends JFrame {
         return phoneField;
     }
 
+    /**
+     * Obtiene el campo de búsqueda mientras se escribe.
+     * @return JTextField de búsqueda.
+     */
+    public JTextField getLiveSearchField() {
+        return liveSearchField;
+    }
+
     /**
      * Obtiene el botón de agregar.
      * @return JButton de agregar.
@@ -163,6 +211,10 @@ public class CustomerView extends JFrame {
      * @param customer Cliente a agregar.
      */
     public void addCustomerToTable(Customer customer) {
+        if (storeTableModel != null) {
+            storeTableModel.addCustomer(customer);
+            return;
+        }
         tableModel.addRow(new Object[]{
                 customer.getId(),
                 customer.getName(),
@@ -175,9 +227,34 @@ public class CustomerView extends JFrame {
      * Limpia todos los datos de la tabla de clientes.
      */
     public void clearTable() {
+        if (storeTableModel != null) {
+            storeTableModel.clear();
+            return;
+        }
         tableModel.setRowCount(0);
     }
 
+    /**
+     * Sustituye todos los clientes de la tabla notificando a la tabla una sola vez, en lugar de una vez por fila.
+     * @param customers Clientes a mostrar.
+     */
+    public void setCustomers(List<Customer> customers) {
+        if (storeTableModel != null) {
+            storeTableModel.setCustomers(customers);
+            return;
+        }
+        Vector<Vector<Object>> rows = new Vector<>(customers.size());
+        for (Customer customer : customers) {
+            Vector<Object> row = new Vector<>(COLUMN_NAMES.length);
+            row.add(customer.getId());
+            row.add(customer.getName());
+            row.add(customer.getEmail());
+            row.add(customer.getPhone());
+            rows.add(row);
+        }
+        tableModel.setDataVector(rows, new Vector<>(List.of(COLUMN_NAMES)));
+    }
+
     /**
      * Puebla los campos de entrada con la información del cliente proporcionada.
      * @param customer Cliente para poblar los campos.
@@ -239,6 +316,14 @@ public class CustomerView extends JFrame {
         setButtonsState(true, false, false, true, false, false);
     }
 
+    /**
+     * Deshabilita los campos y botones mientras la aplicación termina de arrancar.
+     */
+    public void resetToLoadingState() {
+        setFieldsEditable(false, false, false, false);
+        setButtonsState(false, false, false, false, false, false);
+    }
+
     /**
      * Restablece los campos para búsqueda de cliente o fila seleccionada.
      */
@@ -0,0 +1,214 @@
+package repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Señal de cancelación de las consultas del repositorio.
+ *
+ * <p>El token se asocia al hilo que ejecuta la operación con {@link #bind()}, igual que la transacción en curso, de
+ * modo que atraviesa los decoradores del servicio y del DAO sin cambiar sus firmas. El DAO JDBC registra cada
+ * consulta con {@link #register(Statement)}; al llamar a {@link #cancel()} desde otro hilo se invoca
+ * {@link Statement#cancel()} sobre las sentencias en curso, y la base de datos deja de trabajar en ellas. La
+ * operación cancelada termina con una {@link CancellationException}. Las escrituras solo comprueban el token antes
+ * de empezar, con {@link #throwIfCurrentCancelled()}: una vez enviadas, terminan o fallan por sí mismas.</p>
+ */
+public final class CancellationToken {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(CancellationToken.class);
+
+    // Token asociado a cada hilo, o null si la operación no es cancelable.
+    private static final ThreadLocal<CancellationToken> CURRENT = new ThreadLocal<>();
+
+    // Registro que no hace nada, para las operaciones sin token.
+    private static final Registration NO_REGISTRATION = new Registration(null, null);
+
+    // Sentencias en curso de las operaciones asociadas al token.
+    private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+
+    // Indica si se ha pedido la cancelación.
+    private volatile boolean cancelled;
+
+    /**
+     * Pide la cancelación: las operaciones asociadas al token que aún no han empezado fallan de inmediato y las
+     * sentencias en curso se cancelan en la base de datos. Puede invocarse desde cualquier hilo y más de una vez.
+     */
+    public void cancel() {
+        cancelled = true;
+        for (Statement statement : statements) {
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                LOGGER.debug("No se pudo cancelar la sentencia en curso: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Indica si se ha pedido la cancelación.
+     *
+     * @return {@code true} si el token está cancelado.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Lanza una {@link CancellationException} si se ha pedido la cancelación.
+     */
+    public void throwIfCancelled() {
+        if (cancelled) {
+            throw new CancellationException("Operación cancelada");
+        }
+    }
+
+    /**
+     * Asocia el token al hilo actual hasta que se cierre el ámbito devuelto, que restaura el token anterior.
+     *
+     * @return El ámbito de la asociación.
+     */
+    public Scope bind() {
+        return bind(this);
+    }
+
+    /**
+     * Asocia un token al hilo actual hasta que se cierre el ámbito devuelto, que restaura el token anterior. Sirve
+     * para propagar el token de un hilo a las tareas que lanza en otros hilos.
+     *
+     * @param token El token, o {@code null} para que las operaciones no sean cancelables.
+     * @return El ámbito de la asociación.
+     */
+    public static Scope bind(CancellationToken token) {
+        CancellationToken previous = CURRENT.get();
+        CURRENT.set(token);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Obtiene el token asociado al hilo actual.
+     *
+     * @return El token, o {@code null} si no hay ninguno.
+     */
+    public static CancellationToken current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Lanza una {@link CancellationException} si el token asociado al hilo actual está cancelado. Permite a las
+     * operaciones que no ejecutan sentencias, o que las repiten, comprobar la cancelación entre pasos.
+     */
+    public static void throwIfCurrentCancelled() {
+        CancellationToken token = CURRENT.get();
+        if (token != null) {
+            token.throwIfCancelled();
+        }
+    }
+
+    /**
+     * Registra una sentencia para que se cancele junto con el token asociado al hilo actual, si lo hay. Si el token
+     * ya está cancelado, lanza una {@link CancellationException} sin llegar a ejecutar la sentencia.
+     *
+     * <p>{@link Statement#cancel()} no tiene efecto sobre una sentencia que aún no ha empezado a ejecutarse, por lo
+     * que una cancelación entre el registro y la ejecución no la detiene. Para no perderla, las consultas llaman a
+     * {@link Registration#throwIfCancelled()} tras leer sus resultados: la consulta cancelada no devuelve resultados
+     * aunque haya llegado a ejecutarse. Las escrituras no deben registrarse: una vez ejecutadas ya se han guardado, y
+     * notificarlas como canceladas haría creer que no se aplicaron.</p>
+     *
+     * @param statement La sentencia que se va a ejecutar.
+     * @return El registro, que debe cerrarse al terminar la sentencia.
+     */
+    public static Registration register(Statement statement) {
+        CancellationToken token = CURRENT.get();
+        if (token == null) {
+            return NO_REGISTRATION;
+        }
+        token.statements.add(statement);
+        if (token.cancelled) {
+            token.statements.remove(statement);
+            token.throwIfCancelled();
+        }
+        return new Registration(token, statement);
+    }
+
+    /**
+     * Convierte el error de una sentencia en una {@link CancellationException} si se debe a la cancelación del token
+     * asociado al hilo actual.
+     *
+     * @param error El error de la sentencia.
+     * @return La excepción de cancelación, o {@code null} si el error no se debe a una cancelación.
+     */
+    public static CancellationException asCancellation(SQLException error) {
+        CancellationToken token = CURRENT.get();
+        if (token == null || !token.cancelled) {
+            return null;
+        }
+        CancellationException cancellation = new CancellationException("Operación cancelada");
+        cancellation.initCause(error);
+        return cancellation;
+    }
+
+    /**
+     * Ámbito de la asociación de un token a un hilo.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Registro de una sentencia en un token.
+     */
+    public static final class Registration implements AutoCloseable {
+
+        // Token en el que se registra la sentencia, o null si la operación no es cancelable.
+        private final CancellationToken token;
+
+        // Sentencia registrada.
+        private final Statement statement;
+
+        /**
+         * Constructor privado: los registros se crean con {@link CancellationToken#register(Statement)}.
+         *
+         * @param token     El token, o {@code null} si la operación no es cancelable.
+         * @param statement La sentencia registrada.
+         */
+        private Registration(CancellationToken token, Statement statement) {
+            this.token = token;
+            this.statement = statement;
+        }
+
+        /**
+         * Lanza una {@link CancellationException} si el token se ha cancelado, aunque la sentencia haya llegado a
+         * ejecutarse.
+         */
+        public void throwIfCancelled() {
+            if (token != null) {
+                token.throwIfCancelled();
+            }
+        }
+
+        /**
+         * Elimina el registro de la sentencia.
+         */
+        @Override
+        public void close() {
+            if (token != null) {
+                token.statements.remove(statement);
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package repository;
 
 import business.entity.Customer;
 
+import java.util.List;
+
 /**
  * Interfaz para acceder a los datos de Customer en la capa de persistencia.
  * Extiende la interfaz {@link GenericDAO} parametrizada con {@link Customer}.
@@ -9,7 +11,44 @@ import business.entity.Customer;
 public interface CustomerDAO extends GenericDAO<Customer> {
 
     /**
-     * Esta interfaz no define métodos adicionales específicos para la entidad Customer en este momento.
-     * Se utiliza para proporcionar operaciones estándar CRUD (Crear, Leer, Actualizar, Eliminar) para la entidad Customer.
+     * Busca clientes por nombre o correo electrónico y devuelve los primeros resultados.
+     *
+     * @param text  El texto a buscar.
+     * @param limit El número máximo de resultados.
+     * @return Una lista con los clientes encontrados.
+     */
+    default List<Customer> search(String text, int limit) {
+        return search(text, 0, limit);
+    }
+
+    /**
+     * Busca clientes por nombre o correo electrónico y devuelve una página de resultados. Las implementaciones con
+     * un índice de texto completo ordenan los resultados por relevancia; las demás devuelven los clientes cuyo
+     * nombre o correo contienen el texto, ordenados por identificador.
+     *
+     * @param text   El texto a buscar.
+     * @param offset El número de resultados que se omiten desde el principio.
+     * @param limit  El número máximo de resultados.
+     * @return Una lista con los clientes encontrados.
+     */
+    List<Customer> search(String text, int offset, int limit);
+
+    /**
+     * Aplica un lote de actualizaciones y eliminaciones.
+     *
+     * <p>La implementación por defecto aplica cada escritura por separado. Las implementaciones con acceso a la base
+     * de datos pueden sobrescribirla para aplicar todo el lote en una única transacción y con un solo viaje de red
+     * por tipo de sentencia.</p>
+     *
+     * @param updated    Los clientes a actualizar.
+     * @param deletedIds Los identificadores de los clientes a eliminar.
      */
+    default void writeBatch(List<Customer> updated, List<String> deletedIds) {
+        for (Customer customer : updated) {
+            update(customer);
+        }
+        for (String id : deletedIds) {
+            delete(id);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package repository;
 
 import business.entity.Customer;
 import utility.connection.DatabaseConnection;
+import utility.connection.DatabaseDialect;
 import utility.logging.LogMessages;
 import utility.logging.MessageType;
 
@@ -9,27 +10,54 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Clase concreta que implementa la interfaz CustomerDAO para la entidad Customer.
+ *
+ * <p>Cada sentencia se ejecuta con el tiempo máximo de su operación, según los {@link QueryTimeouts} configurados.
+ * Las consultas se registran en el {@link CancellationToken} asociado al hilo, de modo que pueden cancelarse en la
+ * base de datos desde otro hilo; las escrituras solo comprueban el token antes de empezar, para que una escritura ya
+ * guardada no se notifique como cancelada.</p>
  */
 public class CustomerDAOImpl implements CustomerDAO {
 
     // Logger para registrar eventos y errores.
     private static final Logger LOGGER = LoggerFactory.getLogger(CustomerDAOImpl.class);
 
+    // Código de error de MySQL cuando no hay un índice FULLTEXT para las columnas de MATCH.
+    private static final int MYSQL_FULLTEXT_INDEX_MISSING = 1191;
+
+    // Longitud mínima de las palabras que indexa FULLTEXT (innodb_ft_min_token_size por defecto).
+    private static final int MIN_FULLTEXT_WORD_LENGTH = 3;
+
+    // Separador de palabras de la búsqueda de texto completo: cualquier carácter que no sea letra ni dígito.
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     // Instancia de DatabaseConnection para gestionar las conexiones a la base de datos.
     private final DatabaseConnection dbConnection;
 
     // Instancia de LogMessages para manejar mensajes de log.
     private final LogMessages<Customer> logMessages;
 
+    // Conversor de filas de la tabla customers en objetos Customer.
+    private final RowMapper<Customer> rowMapper = new CustomerRowMapperImpl();
+
+    // Tiempos máximos de ejecución de las sentencias de cada operación.
+    private final QueryTimeouts queryTimeouts;
+
+    // Indica si la búsqueda puede usar el índice FULLTEXT; se desactiva si el índice no existe.
+    private volatile boolean fullTextAvailable = true;
+
     /**
      * Construye una instancia de {@link CustomerDAOImpl} con una conexión a la base de datos y un manejador de mensajes de log.
      *
@@ -37,30 +65,61 @@ public class CustomerDAOImpl implements CustomerDAO {
      * @param logMessages  La instancia de {@link LogMessages} utilizada para manejar los mensajes de log.
      */
     public CustomerDAOImpl(DatabaseConnection dbConnection, LogMessages<Customer> logMessages) {
+        this(dbConnection, logMessages, QueryTimeouts.none());
+    }
+
+    /**
+     * Construye una instancia de {@link CustomerDAOImpl} con una conexión a la base de datos, un manejador de mensajes
+     * de log y los tiempos máximos de ejecución de las sentencias.
+     *
+     * @param dbConnection  La instancia de {@link DatabaseConnection} utilizada para gestionar las conexiones a la base de datos.
+     * @param logMessages   La instancia de {@link LogMessages} utilizada para manejar los mensajes de log.
+     * @param queryTimeouts Los tiempos máximos de ejecución de las sentencias de cada operación.
+     */
+    public CustomerDAOImpl(DatabaseConnection dbConnection, LogMessages<Customer> logMessages,
+                           QueryTimeouts queryTimeouts) {
         this.dbConnection = dbConnection;
         this.logMessages = logMessages;
+        this.queryTimeouts = queryTimeouts;
     }
 
     /**
-     * Agrega un nuevo cliente a la base de datos.
+     * Agrega un nuevo cliente a la base de datos. Si el cliente ya tiene identificador (por ejemplo, uno generado
+     * globalmente para una base de datos fragmentada), se inserta con ese identificador; si no, lo asigna
+     * AUTO_INCREMENT y se actualiza en el objeto recibido.
      *
      * @param customer El objeto {@link Customer} a agregar.
      * @throws IllegalStateException Si ocurre un error durante la operación de inserción.
      */
     @Override
     public void add(Customer customer) {
-        String sql = "INSERT INTO customers (name, email, phone) VALUES (?, ?, ?)";
+        boolean hasId = customer.getId() != null && !customer.getId().isBlank();
+        String sql = hasId
+                ? "INSERT INTO customers (name, email, phone, id) VALUES (?, ?, ?, ?)"
+                : "INSERT INTO customers (name, email, phone) VALUES (?, ?, ?)";
 
         try (Connection conn = dbConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = hasId
+                     ? conn.prepareStatement(sql)
+                     : conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            prepareWrite(stmt, "add");
             stmt.setString(1, customer.getName());
             stmt.setString(2, customer.getEmail());
             stmt.setString(3, customer.getPhone());
+            if (hasId) {
+                stmt.setString(4, customer.getId());
+            }
             stmt.executeUpdate();
+            if (!hasId) {
+                try (ResultSet keys = stmt.getGeneratedKeys()) {
+                    if (keys.next()) {
+                        customer.setId(keys.getString(1));
+                    }
+                }
+            }
             LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_ADD, customer));
         } catch (SQLException e) {
-            LOGGER.error(logMessages.getMessage(MessageType.ERROR_ADD, customer), e);
-            throw new IllegalStateException(logMessages.getMessage(MessageType.ERROR_ADD, customer), e);
+            throw failure("add", logMessages.getMessage(MessageType.ERROR_ADD, customer), e);
         }
     }
 
@@ -75,24 +134,23 @@ public class CustomerDAOImpl implements CustomerDAO {
     public Customer get(String id) {
         String sql = "SELECT * FROM customers WHERE id = ?";
 
-        try (Connection conn = dbConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (Connection conn = dbConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             CancellationToken.Registration registration = register(stmt, "get")) {
             stmt.setString(1, id);
+            Customer customer = null;
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    Customer customer = new Customer(
-                            rs.getString("id"),
-                            rs.getString("name"),
-                            rs.getString("email"),
-                            rs.getString("phone")
-                    );
-                    LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_GET, customer));
-                    return customer;
+                    customer = rowMapper.mapRow(rs);
                 }
             }
+            registration.throwIfCancelled();
+            if (customer != null) {
+                LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_GET, customer));
+                return customer;
+            }
         } catch (SQLException e) {
-            LOGGER.error(logMessages.getMessage(MessageType.ERROR_GET_BY_ID, id), e);
-            throw new IllegalStateException(logMessages.getMessage(MessageType.ERROR_GET_BY_ID, id), e);
+            throw failure("get", logMessages.getMessage(MessageType.ERROR_GET_BY_ID, id), e);
         }
 
         LOGGER.warn(logMessages.getMessage(MessageType.WARNING_NOT_FOUND, id));
@@ -110,21 +168,196 @@ public class CustomerDAOImpl implements CustomerDAO {
         List<Customer> customers = new ArrayList<>();
         String sql = "SELECT * FROM customers";
 
-        try (Connection conn = dbConnection.getConnection();
+        try (Connection conn = dbConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
-             ResultSet rs = stmt.executeQuery()) {
-            while (rs.next()) {
-                customers.add(new Customer(
-                        rs.getString("id"),
-                        rs.getString("name"),
-                        rs.getString("email"),
-                        rs.getString("phone")
-                ));
+             CancellationToken.Registration registration = register(stmt, "getAll")) {
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    customers.add(rowMapper.mapRow(rs));
+                }
             }
+            registration.throwIfCancelled();
             LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_GET_ALL));
         } catch (SQLException e) {
-            LOGGER.error(logMessages.getMessage(MessageType.ERROR_GET_ALL), e);
-            throw new IllegalStateException(logMessages.getMessage(MessageType.ERROR_GET_ALL), e);
+            throw failure("getAll", logMessages.getMessage(MessageType.ERROR_GET_ALL), e);
+        }
+
+        return customers;
+    }
+
+    /**
+     * Obtiene una página de clientes de la base de datos, ordenados por ID.
+     *
+     * @param offset El número de clientes que se omiten desde el principio.
+     * @param limit  El número máximo de clientes de la página.
+     * @return Una lista de objetos {@link Customer} con los clientes de la página.
+     * @throws IllegalStateException Si ocurre un error durante la operación de consulta.
+     */
+    @Override
+    public List<Customer> getPage(int offset, int limit) {
+        List<Customer> customers = new ArrayList<>();
+        String sql = "SELECT * FROM customers ORDER BY id LIMIT ? OFFSET ?";
+
+        try (Connection conn = dbConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             CancellationToken.Registration registration = register(stmt, "getPage")) {
+            stmt.setInt(1, limit);
+            stmt.setInt(2, offset);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    customers.add(rowMapper.mapRow(rs));
+                }
+            }
+            registration.throwIfCancelled();
+            LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_GET_PAGE, offset, limit));
+        } catch (SQLException e) {
+            throw failure("getPage", logMessages.getMessage(MessageType.ERROR_GET_PAGE, offset, limit), e);
+        }
+
+        return customers;
+    }
+
+    /**
+     * Obtiene la página de clientes que siguen a un ID, ordenados por ID. La consulta recorre el índice de la clave
+     * primaria desde el ID indicado, de modo que su coste no depende de cuántos clientes lo preceden. Usa el tiempo
+     * máximo de la operación {@code getPage}.
+     *
+     * @param afterId El ID a partir del cual, sin incluirlo, empieza la página, o {@code null} para la primera.
+     * @param limit   El número máximo de clientes de la página.
+     * @return Una lista de objetos {@link Customer} con los clientes de la página.
+     * @throws IllegalStateException Si ocurre un error durante la operación de consulta.
+     */
+    @Override
+    public List<Customer> getPageAfter(String afterId, int limit) {
+        List<Customer> customers = new ArrayList<>();
+        String sql = afterId == null
+                ? "SELECT * FROM customers ORDER BY id LIMIT ?"
+                : "SELECT * FROM customers WHERE id > ? ORDER BY id LIMIT ?";
+
+        try (Connection conn = dbConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             CancellationToken.Registration registration = register(stmt, "getPage")) {
+            int index = 1;
+            if (afterId != null) {
+                // Se compara como número: comparado como texto, MySQL lo convertiría a DOUBLE y perdería precisión.
+                stmt.setLong(index++, Long.parseLong(afterId.trim()));
+            }
+            stmt.setInt(index, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    customers.add(rowMapper.mapRow(rs));
+                }
+            }
+            registration.throwIfCancelled();
+            LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_GET_PAGE_AFTER, afterId, limit));
+        } catch (SQLException e) {
+            throw failure("getPage", logMessages.getMessage(MessageType.ERROR_GET_PAGE_AFTER, afterId, limit), e);
+        }
+
+        return customers;
+    }
+
+    /**
+     * Busca clientes por nombre o correo electrónico y devuelve una página de resultados. La consulta se cancela en
+     * la base de datos si se cancela el {@link CancellationToken} asociado al hilo.
+     *
+     * <p>En MySQL se usa el índice FULLTEXT sobre {@code (name, email)} en modo booleano: cada palabra del texto debe
+     * aparecer, completa o como prefijo, y los resultados se ordenan por relevancia. Si ninguna palabra alcanza el
+     * tamaño mínimo de palabra del índice (por ejemplo, mientras se empieza a escribir), si el motor no admite índices
+     * de texto completo o si el índice aún no existe, se buscan los clientes cuyo nombre o correo contienen el texto,
+     * ordenados por ID.</p>
+     *
+     * @param text   El texto a buscar. Los comodines {@code %} y {@code _} se tratan como caracteres normales.
+     * @param offset El número de resultados que se omiten desde el principio.
+     * @param limit  El número máximo de resultados.
+     * @return Una lista de objetos {@link Customer} con los clientes encontrados.
+     * @throws IllegalStateException Si ocurre un error durante la operación de consulta.
+     * @throws CancellationException Si la búsqueda se cancela.
+     */
+    @Override
+    public List<Customer> search(String text, int offset, int limit) {
+        String booleanQuery = fullTextAvailable && dbConnection.getDialect() == DatabaseDialect.MYSQL
+                ? toBooleanQuery(text)
+                : null;
+        if (booleanQuery != null) {
+            List<Customer> customers = fullTextSearch(text, booleanQuery, offset, limit);
+            if (customers != null) {
+                return customers;
+            }
+        }
+        return likeSearch(text, offset, limit);
+    }
+
+    /**
+     * Busca clientes con el índice FULLTEXT de MySQL, ordenados por relevancia.
+     *
+     * @param text         El texto buscado, para los mensajes de log.
+     * @param booleanQuery La consulta en modo booleano.
+     * @param offset       El número de resultados que se omiten desde el principio.
+     * @param limit        El número máximo de resultados.
+     * @return Los clientes encontrados, o {@code null} si el índice FULLTEXT no existe.
+     */
+    private List<Customer> fullTextSearch(String text, String booleanQuery, int offset, int limit) {
+        List<Customer> customers = new ArrayList<>();
+        String sql = "SELECT id, name, email, phone FROM customers "
+                + "WHERE MATCH (name, email) AGAINST (? IN BOOLEAN MODE) "
+                + "ORDER BY MATCH (name, email) AGAINST (? IN BOOLEAN MODE) DESC, id LIMIT ? OFFSET ?";
+
+        try (Connection conn = dbConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             CancellationToken.Registration registration = register(stmt, "search")) {
+            stmt.setString(1, booleanQuery);
+            stmt.setString(2, booleanQuery);
+            stmt.setInt(3, limit);
+            stmt.setInt(4, offset);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    customers.add(rowMapper.mapRow(rs));
+                }
+            }
+            registration.throwIfCancelled();
+            LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_SEARCH, text));
+        } catch (SQLException e) {
+            if (e.getErrorCode() == MYSQL_FULLTEXT_INDEX_MISSING) {
+                fullTextAvailable = false;
+                LOGGER.warn("No existe el índice FULLTEXT de la tabla customers; las búsquedas usarán LIKE");
+                return null;
+            }
+            throw failure("search", logMessages.getMessage(MessageType.ERROR_SEARCH, text), e);
+        }
+
+        return customers;
+    }
+
+    /**
+     * Busca clientes cuyo nombre o correo electrónico contienen el texto indicado, ordenados por ID.
+     *
+     * @param text   El texto a buscar.
+     * @param offset El número de resultados que se omiten desde el principio.
+     * @param limit  El número máximo de resultados.
+     * @return Los clientes encontrados.
+     */
+    private List<Customer> likeSearch(String text, int offset, int limit) {
+        List<Customer> customers = new ArrayList<>();
+        String sql = "SELECT * FROM customers WHERE name LIKE ? OR email LIKE ? ORDER BY id LIMIT ? OFFSET ?";
+        String pattern = "%" + escapeLike(text) + "%";
+
+        try (Connection conn = dbConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             CancellationToken.Registration registration = register(stmt, "search")) {
+            stmt.setString(1, pattern);
+            stmt.setString(2, pattern);
+            stmt.setInt(3, limit);
+            stmt.setInt(4, offset);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    customers.add(rowMapper.mapRow(rs));
+                }
+            }
+            registration.throwIfCancelled();
+            LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_SEARCH, text));
+        } catch (SQLException e) {
+            throw failure("search", logMessages.getMessage(MessageType.ERROR_SEARCH, text), e);
         }
 
         return customers;
@@ -142,6 +375,7 @@ public class CustomerDAOImpl implements CustomerDAO {
 
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
+            prepareWrite(stmt, "update");
             stmt.setString(1, customer.getName());
             stmt.setString(2, customer.getEmail());
             stmt.setString(3, customer.getPhone());
@@ -149,8 +383,7 @@ public class CustomerDAOImpl implements CustomerDAO {
             stmt.executeUpdate();
             LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_UPDATE, customer));
         } catch (SQLException e) {
-            LOGGER.error(logMessages.getMessage(MessageType.ERROR_UPDATE, customer), e);
-            throw new IllegalStateException(logMessages.getMessage(MessageType.ERROR_UPDATE, customer), e);
+            throw failure("update", logMessages.getMessage(MessageType.ERROR_UPDATE, customer), e);
         }
     }
 
@@ -166,12 +399,167 @@ public class CustomerDAOImpl implements CustomerDAO {
 
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
+            prepareWrite(stmt, "delete");
             stmt.setString(1, id);
             stmt.executeUpdate();
             LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_DELETE, id));
         } catch (SQLException e) {
-            LOGGER.error(logMessages.getMessage(MessageType.ERROR_DELETE, id), e);
-            throw new IllegalStateException(logMessages.getMessage(MessageType.ERROR_DELETE, id), e);
+            throw failure("delete", logMessages.getMessage(MessageType.ERROR_DELETE, id), e);
+        }
+    }
+
+    /**
+     * Aplica un lote de actualizaciones y eliminaciones en una única transacción, enviando cada tipo de sentencia
+     * como un lote JDBC. Si alguna escritura falla, se deshace todo el lote.
+     *
+     * @param updated    Los clientes a actualizar.
+     * @param deletedIds Los identificadores de los clientes a eliminar.
+     * @throws IllegalStateException Si ocurre un error durante la transacción.
+     */
+    @Override
+    public void writeBatch(List<Customer> updated, List<String> deletedIds) {
+        if (updated.isEmpty() && deletedIds.isEmpty()) {
+            return;
+        }
+        String updateSql = "UPDATE customers SET name = ?, email = ?, phone = ? WHERE id = ?";
+        String deleteSql = "DELETE FROM customers WHERE id = ?";
+
+        try (Connection conn = dbConnection.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement updateStmt = conn.prepareStatement(updateSql);
+                 PreparedStatement deleteStmt = conn.prepareStatement(deleteSql)) {
+                prepareWrite(updateStmt, "writeBatch");
+                prepareWrite(deleteStmt, "writeBatch");
+                for (Customer customer : updated) {
+                    updateStmt.setString(1, customer.getName());
+                    updateStmt.setString(2, customer.getEmail());
+                    updateStmt.setString(3, customer.getPhone());
+                    updateStmt.setString(4, customer.getId());
+                    updateStmt.addBatch();
+                }
+                for (String id : deletedIds) {
+                    deleteStmt.setString(1, id);
+                    deleteStmt.addBatch();
+                }
+                if (!updated.isEmpty()) {
+                    updateStmt.executeBatch();
+                }
+                if (!deletedIds.isEmpty()) {
+                    deleteStmt.executeBatch();
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+            LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_BATCH, updated.size(), deletedIds.size()));
+        } catch (SQLException e) {
+            throw failure("writeBatch",
+                    logMessages.getMessage(MessageType.ERROR_BATCH, updated.size(), deletedIds.size()), e);
         }
     }
+
+    /**
+     * Aplica a una consulta el tiempo máximo de su operación y la registra en el {@link CancellationToken} asociado
+     * al hilo, si lo hay, para que pueda cancelarse desde otro hilo.
+     *
+     * @param stmt      La consulta que se va a ejecutar.
+     * @param operation El nombre de la operación.
+     * @return El registro en el token, que debe cerrarse al terminar la consulta.
+     * @throws SQLException          Si no se puede fijar el tiempo máximo.
+     * @throws CancellationException Si el token ya está cancelado.
+     */
+    private CancellationToken.Registration register(Statement stmt, String operation) throws SQLException {
+        applyTimeout(stmt, operation);
+        return CancellationToken.register(stmt);
+    }
+
+    /**
+     * Aplica a una escritura el tiempo máximo de su operación y comprueba que el {@link CancellationToken} asociado
+     * al hilo, si lo hay, no está cancelado. La escritura no se registra en el token: en modo auto-commit queda
+     * guardada en cuanto se ejecuta, y una cancelación posterior no debe notificarla como no aplicada.
+     *
+     * @param stmt      La escritura que se va a ejecutar.
+     * @param operation El nombre de la operación.
+     * @throws SQLException          Si no se puede fijar el tiempo máximo.
+     * @throws CancellationException Si el token ya está cancelado.
+     */
+    private void prepareWrite(Statement stmt, String operation) throws SQLException {
+        applyTimeout(stmt, operation);
+        CancellationToken.throwIfCurrentCancelled();
+    }
+
+    /**
+     * Aplica a una sentencia el tiempo máximo de su operación, si está configurado.
+     *
+     * @param stmt      La sentencia que se va a ejecutar.
+     * @param operation El nombre de la operación.
+     * @throws SQLException Si no se puede fijar el tiempo máximo.
+     */
+    private void applyTimeout(Statement stmt, String operation) throws SQLException {
+        int timeoutSeconds = queryTimeouts.secondsFor(operation);
+        if (timeoutSeconds > 0) {
+            stmt.setQueryTimeout(timeoutSeconds);
+        }
+    }
+
+    /**
+     * Convierte el error de una sentencia en la excepción que se propaga: una {@link CancellationException} si se
+     * canceló la operación o una {@link IllegalStateException}, que se registra, en cualquier otro caso, incluido el
+     * tiempo máximo agotado.
+     *
+     * @param operation El nombre de la operación.
+     * @param message   El mensaje de error de la operación.
+     * @param e         El error de la sentencia.
+     * @return La excepción a lanzar.
+     */
+    private static RuntimeException failure(String operation, String message, SQLException e) {
+        CancellationException cancellation = CancellationToken.asCancellation(e);
+        if (cancellation != null) {
+            LOGGER.debug("Operación {} cancelada", operation);
+            return cancellation;
+        }
+        if (e instanceof SQLTimeoutException) {
+            LOGGER.error("{} (tiempo máximo de la operación {} agotado)", message, operation, e);
+        } else {
+            LOGGER.error(message, e);
+        }
+        return new IllegalStateException(message, e);
+    }
+
+    /**
+     * Convierte el texto buscado en una consulta FULLTEXT en modo booleano en la que cada palabra es obligatoria y
+     * puede aparecer como prefijo ({@code +palabra*}). Los signos de puntuación, incluidos los operadores del modo
+     * booleano, separan palabras, igual que al indexar: {@code ana@correo} busca {@code +ana* +correo*}. Las palabras
+     * más cortas que el tamaño mínimo del índice se omiten, porque el índice no las contiene.
+     *
+     * @param text El texto buscado.
+     * @return La consulta en modo booleano, o {@code null} si ninguna palabra tiene el tamaño mínimo del índice.
+     */
+    private static String toBooleanQuery(String text) {
+        StringBuilder query = new StringBuilder();
+        for (String word : WORD_SEPARATOR.split(text)) {
+            if (word.length() < MIN_FULLTEXT_WORD_LENGTH) {
+                continue;
+            }
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            query.append('+').append(word).append('*');
+        }
+        return query.length() == 0 ? null : query.toString();
+    }
+
+    /**
+     * Escapa los comodines de LIKE para que el texto se busque literalmente.
+     *
+     * @param text El texto a escapar.
+     * @return El texto con {@code \}, {@code %} y {@code _} escapados.
+     */
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
@@ -0,0 +1,31 @@
+package repository;
+
+import business.entity.Customer;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Implementación de la interfaz {@link RowMapper} que convierte una fila de la tabla {@code customers} en un
+ * objeto {@link Customer}.
+ */
+public class CustomerRowMapperImpl implements RowMapper<Customer> {
+
+    /**
+     * Construye un {@link Customer} a partir de las columnas {@code id}, {@code name}, {@code email} y
+     * {@code phone} de la fila actual.
+     *
+     * @param resultSet El {@link ResultSet} posicionado sobre la fila a convertir.
+     * @return El cliente construido a partir de la fila.
+     * @throws SQLException Si ocurre un error al leer las columnas de la fila.
+     */
+    @Override
+    public Customer mapRow(ResultSet resultSet) throws SQLException {
+        return new Customer(
+                resultSet.getString("id"),
+                resultSet.getString("name"),
+                resultSet.getString("email"),
+                resultSet.getString("phone")
+        );
+    }
+}
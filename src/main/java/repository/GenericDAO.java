@@ -6,6 +6,12 @@ import java.util.List;
  * Interfaz genérica para las operaciones CRUD (Crear, Leer, Actualizar, Eliminar).
  * Esta interfaz proporciona métodos estándar para interactuar con entidades persistentes en la base de datos.
  *
+ * <p>Las operaciones pueden cancelarse: si el hilo que las invoca tiene asociado un {@link CancellationToken} y se
+ * cancela, la operación termina con una {@link java.util.concurrent.CancellationException}. Una escritura solo se
+ * cancela si aún no ha empezado, de modo que la excepción indica siempre que no se ha aplicado. Las
+ * implementaciones con acceso a la base de datos pueden además limitar su duración con unos
+ * {@link QueryTimeouts}.</p>
+ *
  * @param <T> Tipo de la entidad con la que interactúa este DAO.
  */
 public interface GenericDAO<T> {
@@ -13,6 +19,8 @@ public interface GenericDAO<T> {
     /**
      * Crea un nuevo objeto en la base de datos.
      *
+     * Si el objeto ya tiene identificador, se conserva; si no, la base de datos le asigna uno.
+     *
      * @param entity El objeto que se va a crear en la base de datos.
      */
     void add(T entity);
@@ -45,4 +53,25 @@ public interface GenericDAO<T> {
      * @return Una lista que contiene todos los objetos recuperados de la base de datos.
      */
     List<T> getAll();
+
+    /**
+     * Obtiene una página de objetos de la base de datos, ordenados por su identificador.
+     *
+     * @param offset El número de objetos que se omiten desde el principio.
+     * @param limit  El número máximo de objetos de la página.
+     * @return Una lista con los objetos de la página, vacía si no hay más objetos.
+     */
+    List<T> getPage(int offset, int limit);
+
+    /**
+     * Obtiene la página de objetos que siguen a un identificador, ordenados por su identificador. A diferencia de
+     * {@link #getPage(int, int)}, el coste de cada página no depende de cuántos objetos la preceden, por lo que
+     * permite recorrer todos los objetos página a página pasando el identificador del último de la anterior.
+     *
+     * @param afterId El identificador a partir del cual, sin incluirlo, empieza la página, o {@code null} para la
+     *                primera página.
+     * @param limit   El número máximo de objetos de la página.
+     * @return Una lista con los objetos de la página, vacía si no hay más objetos.
+     */
+    List<T> getPageAfter(String afterId, int limit);
 }
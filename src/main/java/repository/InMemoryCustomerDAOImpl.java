@@ -0,0 +1,368 @@
+package repository;
+
+import business.entity.Customer;
+import utility.logging.LogMessages;
+import utility.logging.MessageType;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementación concurrente en memoria de la interfaz {@link CustomerDAO}, que no necesita ninguna base de datos.
+ *
+ * <p>Reproduce la semántica de {@link CustomerDAOImpl} sobre la tabla definida en {@code schema.sql}:</p>
+ * <ul>
+ *     <li>Los identificadores se asignan de forma autoincremental y {@link #getAll()} devuelve los clientes
+ *     ordenados por identificador.</li>
+ *     <li>El correo electrónico es único sin distinguir mayúsculas de minúsculas, como con la collation por
+ *     defecto de MySQL.</li>
+ *     <li>Se respetan las columnas obligatorias y sus longitudes máximas.</li>
+ *     <li>Actualizar o eliminar un cliente inexistente no tiene efecto, igual que un UPDATE o DELETE que no
+ *     afecta a ninguna fila.</li>
+ * </ul>
+ *
+ * <p>Las lecturas no se bloquean nunca: los clientes se guardan como copias privadas en un mapa concurrente
+ * ordenado. Las escrituras sobre un mismo identificador se serializan mediante bloqueos segmentados, y la
+ * unicidad del correo se garantiza con operaciones atómicas sobre un índice concurrente.</p>
+ *
+ * <p>Los recorridos completos ({@link #getAll()} y {@link #search(String, int, int)}) comprueban periódicamente el
+ * {@link CancellationToken} asociado al hilo, igual que el DAO JDBC cancela sus sentencias.</p>
+ */
+public class InMemoryCustomerDAOImpl implements CustomerDAO {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryCustomerDAOImpl.class);
+
+    // Máscara que fija cada cuántos clientes recorridos se comprueba la cancelación (cada 1024).
+    private static final int CANCELLATION_CHECK_MASK = 1023;
+
+    // Longitudes máximas de las columnas, según schema.sql.
+    private static final int NAME_MAX_LENGTH = 100;
+    private static final int EMAIL_MAX_LENGTH = 100;
+    private static final int PHONE_MAX_LENGTH = 15;
+
+    // Número de bloqueos segmentados para las escrituras (potencia de dos).
+    private static final int LOCK_STRIPES = 64;
+
+    // Clientes almacenados, ordenados por identificador.
+    private final ConcurrentNavigableMap<Long, Customer> customers = new ConcurrentSkipListMap<>();
+
+    // Índice único de correos electrónicos normalizados al identificador del cliente.
+    private final Map<String, Long> emailIndex = new ConcurrentHashMap<>();
+
+    // Secuencia autoincremental de identificadores.
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Bloqueos segmentados por identificador.
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    // Instancia de LogMessages para manejar mensajes de log.
+    private final LogMessages<Customer> logMessages;
+
+    /**
+     * Construye una instancia de {@link InMemoryCustomerDAOImpl} vacía.
+     *
+     * @param logMessages La instancia de {@link LogMessages} utilizada para manejar los mensajes de log.
+     */
+    public InMemoryCustomerDAOImpl(LogMessages<Customer> logMessages) {
+        this.logMessages = logMessages;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Agrega un nuevo cliente. Si el cliente ya tiene identificador se conserva y la secuencia avanza más allá de
+     * él; si no, se le asigna el siguiente identificador disponible, igual que con AUTO_INCREMENT, y se actualiza en
+     * el objeto recibido.
+     *
+     * @param customer El objeto {@link Customer} a agregar.
+     * @throws IllegalStateException Si el cliente no cumple las restricciones de la tabla, el identificador ya
+     *                               existe o el correo ya existe.
+     */
+    @Override
+    public void add(Customer customer) {
+        checkConstraints(customer, MessageType.ERROR_ADD);
+        boolean hasId = customer.getId() != null && !customer.getId().isBlank();
+        Long explicitId = hasId ? parseId(customer.getId()) : null;
+        if (hasId && explicitId == null) {
+            throw error(MessageType.ERROR_ADD, customer, "identificador no numérico");
+        }
+        long id = hasId ? explicitId : sequence.incrementAndGet();
+        if (hasId) {
+            sequence.accumulateAndGet(id, Math::max);
+        }
+        synchronized (lockFor(id)) {
+            if (customers.containsKey(id)) {
+                throw error(MessageType.ERROR_ADD, customer, "identificador duplicado");
+            }
+            if (emailIndex.putIfAbsent(emailKey(customer.getEmail()), id) != null) {
+                throw error(MessageType.ERROR_ADD, customer, "correo electrónico duplicado");
+            }
+            customers.put(id, copyOf(customer, id));
+        }
+        customer.setId(String.valueOf(id));
+        LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_ADD, customer));
+    }
+
+    /**
+     * Obtiene un cliente por su ID.
+     *
+     * @param id El ID del cliente a buscar.
+     * @return Una copia del cliente correspondiente al ID especificado, o null si no se encuentra.
+     */
+    @Override
+    public Customer get(String id) {
+        Long key = parseId(id);
+        Customer stored = key != null ? customers.get(key) : null;
+        if (stored == null) {
+            LOGGER.warn(logMessages.getMessage(MessageType.WARNING_NOT_FOUND, id));
+            return null;
+        }
+        Customer customer = copyOf(stored, key);
+        LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_GET, customer));
+        return customer;
+    }
+
+    /**
+     * Obtiene todos los clientes almacenados, ordenados por identificador.
+     *
+     * @return Una lista con copias de todos los clientes almacenados.
+     */
+    @Override
+    public List<Customer> getAll() {
+        List<Customer> result = new ArrayList<>(customers.size());
+        for (Map.Entry<Long, Customer> entry : customers.entrySet()) {
+            if ((result.size() & CANCELLATION_CHECK_MASK) == 0) {
+                CancellationToken.throwIfCurrentCancelled();
+            }
+            result.add(copyOf(entry.getValue(), entry.getKey()));
+        }
+        LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_GET_ALL));
+        return result;
+    }
+
+    /**
+     * Obtiene una página de clientes, ordenados por identificador.
+     *
+     * @param offset El número de clientes que se omiten desde el principio.
+     * @param limit  El número máximo de clientes de la página.
+     * @return Una lista con copias de los clientes de la página.
+     */
+    @Override
+    public List<Customer> getPage(int offset, int limit) {
+        CancellationToken.throwIfCurrentCancelled();
+        List<Customer> result = new ArrayList<>(Math.min(limit, customers.size()));
+        Iterator<Map.Entry<Long, Customer>> iterator = customers.entrySet().iterator();
+        for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (result.size() < limit && iterator.hasNext()) {
+            Map.Entry<Long, Customer> entry = iterator.next();
+            result.add(copyOf(entry.getValue(), entry.getKey()));
+        }
+        LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_GET_PAGE, offset, limit));
+        return result;
+    }
+
+    /**
+     * Obtiene la página de clientes que siguen a un identificador, ordenados por identificador.
+     *
+     * @param afterId El identificador a partir del cual, sin incluirlo, empieza la página, o {@code null} para la
+     *                primera página.
+     * @param limit   El número máximo de clientes de la página.
+     * @return Una lista con copias de los clientes de la página.
+     */
+    @Override
+    public List<Customer> getPageAfter(String afterId, int limit) {
+        CancellationToken.throwIfCurrentCancelled();
+        Long key = afterId == null ? null : parseId(afterId);
+        if (afterId != null && key == null) {
+            throw new IllegalArgumentException("Identificador de cliente inválido: " + afterId);
+        }
+        Map<Long, Customer> tail = key == null ? customers : customers.tailMap(key, false);
+        List<Customer> result = new ArrayList<>(Math.min(limit, customers.size()));
+        Iterator<Map.Entry<Long, Customer>> iterator = tail.entrySet().iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            Map.Entry<Long, Customer> entry = iterator.next();
+            result.add(copyOf(entry.getValue(), entry.getKey()));
+        }
+        LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_GET_PAGE_AFTER, afterId, limit));
+        return result;
+    }
+
+    /**
+     * Busca clientes cuyo nombre o correo electrónico contienen el texto indicado, sin distinguir mayúsculas,
+     * ordenados por identificador.
+     *
+     * @param text   El texto a buscar.
+     * @param offset El número de resultados que se omiten desde el principio.
+     * @param limit  El número máximo de resultados.
+     * @return Una lista con copias de los clientes encontrados.
+     */
+    @Override
+    public List<Customer> search(String text, int offset, int limit) {
+        String needle = text.toLowerCase(Locale.ROOT);
+        List<Customer> result = new ArrayList<>();
+        int scanned = 0;
+        int skipped = 0;
+        for (Map.Entry<Long, Customer> entry : customers.entrySet()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if ((scanned++ & CANCELLATION_CHECK_MASK) == 0) {
+                CancellationToken.throwIfCurrentCancelled();
+            }
+            Customer customer = entry.getValue();
+            if (customer.getName().toLowerCase(Locale.ROOT).contains(needle)
+                    || customer.getEmail().toLowerCase(Locale.ROOT).contains(needle)) {
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    result.add(copyOf(customer, entry.getKey()));
+                }
+            }
+        }
+        LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_SEARCH, text));
+        return result;
+    }
+
+    /**
+     * Actualiza la información de un cliente. Si el cliente no existe, la operación no tiene efecto.
+     *
+     * @param customer El objeto {@link Customer} con la información actualizada.
+     * @throws IllegalStateException Si el cliente no cumple las restricciones de la tabla o el nuevo correo
+     *                               pertenece a otro cliente.
+     */
+    @Override
+    public void update(Customer customer) {
+        checkConstraints(customer, MessageType.ERROR_UPDATE);
+        Long id = parseId(customer.getId());
+        if (id != null) {
+            synchronized (lockFor(id)) {
+                Customer current = customers.get(id);
+                if (current != null) {
+                    String oldKey = emailKey(current.getEmail());
+                    String newKey = emailKey(customer.getEmail());
+                    if (!oldKey.equals(newKey)) {
+                        if (emailIndex.putIfAbsent(newKey, id) != null) {
+                            throw error(MessageType.ERROR_UPDATE, customer, "correo electrónico duplicado");
+                        }
+                        emailIndex.remove(oldKey, id);
+                    }
+                    customers.put(id, copyOf(customer, id));
+                }
+            }
+        }
+        LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_UPDATE, customer));
+    }
+
+    /**
+     * Elimina un cliente por su ID. Si el cliente no existe, la operación no tiene efecto.
+     *
+     * @param id El ID del cliente a eliminar.
+     */
+    @Override
+    public void delete(String id) {
+        Long key = parseId(id);
+        if (key != null) {
+            synchronized (lockFor(key)) {
+                Customer removed = customers.remove(key);
+                if (removed != null) {
+                    emailIndex.remove(emailKey(removed.getEmail()), key);
+                }
+            }
+        }
+        LOGGER.info(logMessages.getMessage(MessageType.SUCCESS_DELETE, id));
+    }
+
+    /**
+     * Comprueba que el cliente cumple las restricciones NOT NULL y de longitud de la tabla.
+     *
+     * @param customer    El cliente a comprobar.
+     * @param messageType El tipo de mensaje de error a utilizar si no las cumple.
+     * @throws IllegalStateException Si alguna restricción no se cumple.
+     */
+    private void checkConstraints(Customer customer, MessageType messageType) {
+        if (customer.getName() == null || customer.getEmail() == null) {
+            throw error(messageType, customer, "el nombre y el correo electrónico son obligatorios");
+        }
+        if (customer.getName().length() > NAME_MAX_LENGTH
+                || customer.getEmail().length() > EMAIL_MAX_LENGTH
+                || (customer.getPhone() != null && customer.getPhone().length() > PHONE_MAX_LENGTH)) {
+            throw error(messageType, customer, "valor demasiado largo para la columna");
+        }
+    }
+
+    /**
+     * Registra y construye la excepción correspondiente a una operación fallida.
+     *
+     * @param messageType El tipo de mensaje de error.
+     * @param customer    El cliente implicado en la operación.
+     * @param reason      La causa del error.
+     * @return La excepción a lanzar.
+     */
+    private IllegalStateException error(MessageType messageType, Customer customer, String reason) {
+        String message = logMessages.getMessage(messageType, customer);
+        LOGGER.error(message + ": " + reason);
+        return new IllegalStateException(message, new IllegalArgumentException(reason));
+    }
+
+    /**
+     * Obtiene el bloqueo segmentado correspondiente a un identificador.
+     *
+     * @param id El identificador del cliente.
+     * @return El objeto sobre el que sincronizar las escrituras de ese identificador.
+     */
+    private Object lockFor(long id) {
+        return locks[(int) (id ^ (id >>> 32)) & (LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * Convierte un identificador textual en numérico.
+     *
+     * @param id El identificador textual.
+     * @return El identificador numérico, o {@code null} si no es un número válido.
+     */
+    private static Long parseId(String id) {
+        if (id == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(id.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Normaliza un correo electrónico para el índice único.
+     *
+     * @param email El correo electrónico.
+     * @return El correo en minúsculas.
+     */
+    private static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Crea una copia privada de un cliente con el identificador indicado.
+     *
+     * @param customer El cliente a copiar.
+     * @param id       El identificador de la copia.
+     * @return La copia del cliente.
+     */
+    private static Customer copyOf(Customer customer, long id) {
+        return new Customer(String.valueOf(id), customer.getName(), customer.getEmail(), customer.getPhone());
+    }
+}
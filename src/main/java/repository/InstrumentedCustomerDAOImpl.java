@@ -0,0 +1,204 @@
+package repository;
+
+import business.entity.Customer;
+import utility.jfr.DaoOperationEvent;
+import utility.metrics.MetricsRegistry;
+import utility.metrics.OperationMetrics;
+import utility.metrics.Outcome;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Implementación de la interfaz {@link CustomerDAO} que decora otro DAO para registrar la latencia y el resultado
+ * de cada operación en el {@link MetricsRegistry}, bajo la capa {@value #LAYER}. Cada operación se registra
+ * además como un {@link DaoOperationEvent} de Java Flight Recorder.
+ */
+public class InstrumentedCustomerDAOImpl implements CustomerDAO {
+
+    /**
+     * Nombre de la capa con el que se registran las métricas de este DAO.
+     */
+    public static final String LAYER = "dao";
+
+    // DAO decorado.
+    private final CustomerDAO delegate;
+
+    // Métricas de cada operación.
+    private final OperationMetrics addMetrics;
+    private final OperationMetrics updateMetrics;
+    private final OperationMetrics deleteMetrics;
+    private final OperationMetrics getMetrics;
+    private final OperationMetrics getAllMetrics;
+    private final OperationMetrics getPageMetrics;
+    private final OperationMetrics getPageAfterMetrics;
+    private final OperationMetrics searchMetrics;
+    private final OperationMetrics writeBatchMetrics;
+
+    /**
+     * Constructor que inicializa el DAO decorado y las métricas de cada operación.
+     *
+     * @param delegate La instancia de {@link CustomerDAO} que se decora.
+     * @param registry El registro en el que se publican las métricas.
+     */
+    public InstrumentedCustomerDAOImpl(CustomerDAO delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.addMetrics = registry.operation(LAYER, "add");
+        this.updateMetrics = registry.operation(LAYER, "update");
+        this.deleteMetrics = registry.operation(LAYER, "delete");
+        this.getMetrics = registry.operation(LAYER, "get");
+        this.getAllMetrics = registry.operation(LAYER, "getAll");
+        this.getPageMetrics = registry.operation(LAYER, "getPage");
+        this.getPageAfterMetrics = registry.operation(LAYER, "getPageAfter");
+        this.searchMetrics = registry.operation(LAYER, "search");
+        this.writeBatchMetrics = registry.operation(LAYER, "writeBatch");
+    }
+
+    @Override
+    public void add(Customer customer) {
+        DaoOperationEvent event = DaoOperationEvent.start("add");
+        long start = System.nanoTime();
+        try {
+            delegate.add(customer);
+            record(addMetrics, event, Outcome.SUCCESS, start, 1);
+        } catch (RuntimeException e) {
+            record(addMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public void update(Customer customer) {
+        DaoOperationEvent event = DaoOperationEvent.start("update");
+        long start = System.nanoTime();
+        try {
+            delegate.update(customer);
+            record(updateMetrics, event, Outcome.SUCCESS, start, 1);
+        } catch (RuntimeException e) {
+            record(updateMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(String id) {
+        DaoOperationEvent event = DaoOperationEvent.start("delete");
+        long start = System.nanoTime();
+        try {
+            delegate.delete(id);
+            record(deleteMetrics, event, Outcome.SUCCESS, start, 1);
+        } catch (RuntimeException e) {
+            record(deleteMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public Customer get(String id) {
+        DaoOperationEvent event = DaoOperationEvent.start("get");
+        long start = System.nanoTime();
+        try {
+            Customer customer = delegate.get(id);
+            record(getMetrics, event, customer != null ? Outcome.SUCCESS : Outcome.NOT_FOUND, start,
+                    customer != null ? 1 : 0);
+            return customer;
+        } catch (RuntimeException e) {
+            record(getMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Customer> getAll() {
+        DaoOperationEvent event = DaoOperationEvent.start("getAll");
+        long start = System.nanoTime();
+        try {
+            List<Customer> customers = delegate.getAll();
+            record(getAllMetrics, event, Outcome.SUCCESS, start, customers.size());
+            return customers;
+        } catch (RuntimeException e) {
+            record(getAllMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Customer> getPage(int offset, int limit) {
+        DaoOperationEvent event = DaoOperationEvent.start("getPage");
+        long start = System.nanoTime();
+        try {
+            List<Customer> customers = delegate.getPage(offset, limit);
+            record(getPageMetrics, event, Outcome.SUCCESS, start, customers.size());
+            return customers;
+        } catch (RuntimeException e) {
+            record(getPageMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Customer> getPageAfter(String afterId, int limit) {
+        DaoOperationEvent event = DaoOperationEvent.start("getPageAfter");
+        long start = System.nanoTime();
+        try {
+            List<Customer> customers = delegate.getPageAfter(afterId, limit);
+            record(getPageAfterMetrics, event, Outcome.SUCCESS, start, customers.size());
+            return customers;
+        } catch (RuntimeException e) {
+            record(getPageAfterMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Customer> search(String text, int offset, int limit) {
+        DaoOperationEvent event = DaoOperationEvent.start("search");
+        long start = System.nanoTime();
+        try {
+            List<Customer> customers = delegate.search(text, offset, limit);
+            record(searchMetrics, event, Outcome.SUCCESS, start, customers.size());
+            return customers;
+        } catch (RuntimeException e) {
+            record(searchMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    @Override
+    public void writeBatch(List<Customer> updated, List<String> deletedIds) {
+        DaoOperationEvent event = DaoOperationEvent.start("writeBatch");
+        long start = System.nanoTime();
+        try {
+            delegate.writeBatch(updated, deletedIds);
+            record(writeBatchMetrics, event, Outcome.SUCCESS, start, updated.size() + deletedIds.size());
+        } catch (RuntimeException e) {
+            record(writeBatchMetrics, event, outcomeOf(e), start, 0);
+            throw e;
+        }
+    }
+
+    /**
+     * Registra una invocación en sus métricas y termina su evento de Java Flight Recorder.
+     *
+     * @param metrics  Las métricas de la operación.
+     * @param event    El evento de la operación.
+     * @param outcome  El resultado de la invocación.
+     * @param start    El instante (en nanosegundos) en el que empezó la invocación.
+     * @param rowCount El número de clientes afectados o devueltos.
+     */
+    private static void record(OperationMetrics metrics, DaoOperationEvent event, Outcome outcome, long start,
+                               long rowCount) {
+        metrics.record(outcome, System.nanoTime() - start);
+        event.finish(outcome, rowCount);
+    }
+
+    /**
+     * Determina el resultado que corresponde a una excepción lanzada por el DAO decorado.
+     *
+     * @param e La excepción lanzada.
+     * @return {@link Outcome#CANCELLED} para operaciones canceladas; {@link Outcome#ERROR} en otro caso.
+     */
+    private static Outcome outcomeOf(RuntimeException e) {
+        return e instanceof CancellationException ? Outcome.CANCELLED : Outcome.ERROR;
+    }
+}
@@ -0,0 +1,60 @@
+package repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tiempos máximos de ejecución de las sentencias del DAO, por operación, que se aplican con
+ * {@link java.sql.Statement#setQueryTimeout(int)}.
+ *
+ * <p>Al agotarse el tiempo el controlador cancela la sentencia en la base de datos y la operación falla, de modo que
+ * una consulta lenta no retiene indefinidamente una conexión del pool. Las operaciones se identifican por el nombre
+ * del método de {@link GenericDAO} ({@code getAll}, {@code search}...); las que no tienen un tiempo propio usan el
+ * tiempo por defecto. Un tiempo de 0 segundos significa sin límite.</p>
+ */
+public final class QueryTimeouts {
+
+    // Nombres de las operaciones del DAO que admiten un tiempo propio.
+    public static final String[] OPERATIONS = {
+            "add", "get", "getAll", "getPage", "search", "update", "delete", "writeBatch"
+    };
+
+    // Tiempos sin límite para ninguna operación.
+    private static final QueryTimeouts NONE = new QueryTimeouts(0, Map.of());
+
+    // Tiempo por defecto, en segundos.
+    private final int defaultSeconds;
+
+    // Tiempos propios de cada operación, en segundos.
+    private final Map<String, Integer> secondsByOperation;
+
+    /**
+     * Constructor que inicializa el tiempo por defecto y los tiempos propios de cada operación.
+     *
+     * @param defaultSeconds     El tiempo por defecto, en segundos, o 0 para no fijar límite.
+     * @param secondsByOperation Los tiempos propios de cada operación, en segundos, por nombre de operación.
+     */
+    public QueryTimeouts(int defaultSeconds, Map<String, Integer> secondsByOperation) {
+        this.defaultSeconds = Math.max(0, defaultSeconds);
+        this.secondsByOperation = new HashMap<>(secondsByOperation);
+    }
+
+    /**
+     * Obtiene los tiempos sin límite para ninguna operación.
+     *
+     * @return Los tiempos sin límite.
+     */
+    public static QueryTimeouts none() {
+        return NONE;
+    }
+
+    /**
+     * Obtiene el tiempo máximo de una operación.
+     *
+     * @param operation El nombre de la operación.
+     * @return El tiempo en segundos, o 0 si no tiene límite.
+     */
+    public int secondsFor(String operation) {
+        return Math.max(0, secondsByOperation.getOrDefault(operation, defaultSeconds));
+    }
+}
@@ -0,0 +1,136 @@
+package repository;
+
+import business.entity.Customer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utility.resilience.RetryPolicy;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Implementación de la interfaz {@link CustomerDAO} que decora otro DAO para reintentar las operaciones que fallan
+ * por un error SQL transitorio (pérdida de conexión, interbloqueo, tiempo de espera agotado...) según una
+ * {@link RetryPolicy} con espera exponencial y fluctuación aleatoria.
+ *
+ * <p>Solo se reintentan las operaciones idempotentes: las consultas, las actualizaciones, los borrados y los lotes
+ * transaccionales, que se deshacen por completo si fallan. Las altas no se reintentan, porque si el error llega
+ * después de confirmarse la inserción el cliente se duplicaría. Tampoco se reintenta nada dentro de una transacción
+ * abierta: tras un error la transacción completa queda anulada y es quien la abrió quien debe decidir.</p>
+ */
+public class ResilientCustomerDAOImpl implements CustomerDAO {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResilientCustomerDAOImpl.class);
+
+    // DAO decorado.
+    private final CustomerDAO delegate;
+
+    // Política de reintentos para los errores transitorios.
+    private final RetryPolicy retryPolicy;
+
+    // Indica si el hilo actual tiene una transacción abierta.
+    private final BooleanSupplier inTransaction;
+
+    /**
+     * Constructor que inicializa el DAO decorado y la política de reintentos.
+     *
+     * @param delegate    La instancia de {@link CustomerDAO} que se decora.
+     * @param retryPolicy La política de reintentos para los errores transitorios.
+     */
+    public ResilientCustomerDAOImpl(CustomerDAO delegate, RetryPolicy retryPolicy) {
+        this(delegate, retryPolicy, () -> false);
+    }
+
+    /**
+     * Constructor que inicializa el DAO decorado, la política de reintentos y la consulta de la transacción actual.
+     *
+     * @param delegate      La instancia de {@link CustomerDAO} que se decora.
+     * @param retryPolicy   La política de reintentos para los errores transitorios.
+     * @param inTransaction Indica si el hilo actual tiene una transacción abierta, en cuyo caso no se reintenta.
+     */
+    public ResilientCustomerDAOImpl(CustomerDAO delegate, RetryPolicy retryPolicy, BooleanSupplier inTransaction) {
+        this.delegate = delegate;
+        this.retryPolicy = retryPolicy;
+        this.inTransaction = inTransaction;
+    }
+
+    @Override
+    public void add(Customer customer) {
+        delegate.add(customer);
+    }
+
+    @Override
+    public void update(Customer customer) {
+        withRetry("update", () -> {
+            delegate.update(customer);
+            return null;
+        });
+    }
+
+    @Override
+    public void delete(String id) {
+        withRetry("delete", () -> {
+            delegate.delete(id);
+            return null;
+        });
+    }
+
+    @Override
+    public Customer get(String id) {
+        return withRetry("get", () -> delegate.get(id));
+    }
+
+    @Override
+    public List<Customer> getAll() {
+        return withRetry("getAll", delegate::getAll);
+    }
+
+    @Override
+    public List<Customer> getPage(int offset, int limit) {
+        return withRetry("getPage", () -> delegate.getPage(offset, limit));
+    }
+
+    @Override
+    public List<Customer> getPageAfter(String afterId, int limit) {
+        return withRetry("getPageAfter", () -> delegate.getPageAfter(afterId, limit));
+    }
+
+    @Override
+    public List<Customer> search(String text, int offset, int limit) {
+        return withRetry("search", () -> delegate.search(text, offset, limit));
+    }
+
+    @Override
+    public void writeBatch(List<Customer> updated, List<String> deletedIds) {
+        withRetry("writeBatch", () -> {
+            delegate.writeBatch(updated, deletedIds);
+            return null;
+        });
+    }
+
+    /**
+     * Ejecuta una operación, repitiéndola mientras falle por un error transitorio y queden intentos. Si la operación
+     * se cancela durante la espera entre intentos, no se vuelve a ejecutar.
+     *
+     * @param operation El nombre de la operación, para los mensajes de log.
+     * @param action    La operación a ejecutar.
+     * @param <R>       El tipo del resultado de la operación.
+     * @return El resultado de la operación.
+     */
+    private <R> R withRetry(String operation, Supplier<R> action) {
+        for (int attempt = 1; ; attempt++) {
+            CancellationToken.throwIfCurrentCancelled();
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                if (inTransaction.getAsBoolean() || !retryPolicy.awaitRetry(e, attempt)) {
+                    throw e;
+                }
+                LOGGER.warn("Error transitorio en la operación {} (intento {}); se reintenta: {}",
+                        operation, attempt, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Interfaz genérica para convertir la fila actual de un {@link ResultSet} en una entidad.
+ *
+ * @param <T> Tipo de la entidad que se construye a partir de cada fila.
+ */
+public interface RowMapper<T> {
+
+    /**
+     * Construye una entidad a partir de la fila actual del {@link ResultSet}.
+     * No avanza el cursor; es responsabilidad del llamador invocar {@link ResultSet#next()}.
+     *
+     * @param resultSet El {@link ResultSet} posicionado sobre la fila a convertir.
+     * @return La entidad construida a partir de la fila.
+     * @throws SQLException Si ocurre un error al leer las columnas de la fila.
+     */
+    T mapRow(ResultSet resultSet) throws SQLException;
+}
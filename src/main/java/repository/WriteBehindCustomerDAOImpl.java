@@ -0,0 +1,510 @@
+package repository;
+
+import business.entity.Customer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementación de la interfaz {@link CustomerDAO} que decora otro DAO con un búfer de escritura diferida
+ * (write-behind).
+ *
+ * <p>Las actualizaciones y eliminaciones se confirman en cuanto se encolan y se agrupan por identificador: si un
+ * mismo cliente se modifica varias veces antes del siguiente volcado, solo se escribe su último estado. El búfer
+ * se vuelca al DAO decorado mediante {@link CustomerDAO#writeBatch(List, List)}, en una única transacción, cuando
+ * alcanza el tamaño máximo configurado o cuando vence el intervalo de volcado, lo que ocurra antes.</p>
+ *
+ * <p>Las lecturas ven siempre el estado del búfer, incluidas las escrituras que se están volcando en ese momento.
+ * Las inserciones no se difieren, porque necesitan el identificador autoincremental y la comprobación de
+ * unicidad de la base de datos: antes de cada inserción se vuelca el búfer para conservar el orden de las
+ * escrituras.</p>
+ *
+ * <p>Si un lote falla, sus escrituras se reintentan una a una; las que siguen fallando se vuelven a encolar hasta
+ * {@value #MAX_ATTEMPTS} intentos y después se descartan registrando el error. Las escrituras descartadas ya se
+ * habían confirmado al llamador, por lo que se cuentan y se conservan las últimas {@value #MAX_DEAD_LETTERS} en una
+ * lista de escrituras fallidas, ambas expuestas a través de {@link WriteBehindCustomerDAOMXBean}.</p>
+ *
+ * <p>El búfer tiene un límite de escrituras pendientes. Al alcanzarlo, la escritura que llega vuelca el búfer en
+ * el propio hilo del llamador, lo que frena a los productores al ritmo de la base de datos; si tras el volcado el
+ * búfer sigue lleno, por ejemplo porque la base de datos no responde, la escritura se rechaza con una
+ * {@link IllegalStateException} en lugar de acumularse sin límite. {@link #close()} vuelca el búfer pendiente y
+ * detiene el volcado periódico.</p>
+ */
+public class WriteBehindCustomerDAOImpl implements CustomerDAO, WriteBehindCustomerDAOMXBean, AutoCloseable {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindCustomerDAOImpl.class);
+
+    // Número máximo de intentos de escritura antes de descartar una entrada.
+    private static final int MAX_ATTEMPTS = 3;
+
+    // Número de escrituras descartadas que se conservan en la lista de escrituras fallidas.
+    private static final int MAX_DEAD_LETTERS = 100;
+
+    // DAO decorado, que realiza las escrituras reales.
+    private final CustomerDAO delegate;
+
+    // Número de escrituras pendientes que dispara un volcado inmediato.
+    private final int maxPending;
+
+    // Número máximo de escrituras pendientes; al superarlo se rechazan nuevas escrituras.
+    private final int maxBuffered;
+
+    // Escrituras descartadas tras agotar sus intentos y escrituras rechazadas por estar lleno el búfer.
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    // Últimas escrituras descartadas, de la más antigua a la más reciente.
+    private final Deque<String> deadLetters = new ArrayDeque<>();
+
+    // Escrituras pendientes, agrupadas por identificador y en orden de llegada.
+    private final Map<String, PendingWrite> pending = new LinkedHashMap<>();
+
+    // Escrituras que se están volcando en este momento, visibles para las lecturas hasta que terminan.
+    private Map<String, PendingWrite> inFlight = Map.of();
+
+    // Cerrojo que serializa los volcados para conservar el orden de las escrituras.
+    private final Object flushLock = new Object();
+
+    // Planificador del volcado periódico y de los volcados disparados por tamaño.
+    private final ScheduledExecutorService scheduler;
+
+    // Indica si ya se ha solicitado un volcado por tamaño que aún no se ha ejecutado.
+    private boolean flushRequested;
+
+    // Indica si el DAO se ha cerrado.
+    private volatile boolean closed;
+
+    /**
+     * Construye una instancia de {@link WriteBehindCustomerDAOImpl} e inicia el volcado periódico.
+     *
+     * @param delegate        El DAO que realiza las escrituras reales.
+     * @param maxPending      El número de escrituras pendientes que dispara un volcado inmediato.
+     * @param maxBuffered     El número máximo de escrituras pendientes, a partir del cual se rechazan nuevas
+     *                        escrituras si un volcado no consigue liberar espacio.
+     * @param flushIntervalMs El intervalo máximo entre volcados, en milisegundos.
+     * @throws IllegalArgumentException Si el límite del búfer es menor que el tamaño que dispara un volcado.
+     */
+    public WriteBehindCustomerDAOImpl(CustomerDAO delegate, int maxPending, int maxBuffered, long flushIntervalMs) {
+        if (maxPending <= 0 || maxBuffered < maxPending) {
+            throw new IllegalArgumentException("Parámetros del búfer de escritura diferida inválidos");
+        }
+        this.delegate = delegate;
+        this.maxPending = maxPending;
+        this.maxBuffered = maxBuffered;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Vuelca el búfer pendiente y agrega el cliente directamente en el DAO decorado.
+     *
+     * @param customer El objeto {@link Customer} a agregar.
+     */
+    @Override
+    public void add(Customer customer) {
+        flush();
+        delegate.add(customer);
+    }
+
+    /**
+     * Encola la actualización de un cliente, sustituyendo cualquier escritura pendiente del mismo identificador.
+     *
+     * @param customer El objeto {@link Customer} con la información actualizada.
+     */
+    @Override
+    public void update(Customer customer) {
+        enqueue(customer.getId(), new PendingWrite(copyOf(customer)));
+    }
+
+    /**
+     * Encola la eliminación de un cliente, sustituyendo cualquier escritura pendiente del mismo identificador.
+     *
+     * @param id El ID del cliente a eliminar.
+     */
+    @Override
+    public void delete(String id) {
+        enqueue(id, new PendingWrite(null));
+    }
+
+    /**
+     * Obtiene un cliente por su ID, teniendo en cuenta las escrituras aún no volcadas.
+     *
+     * @param id El ID del cliente a buscar.
+     * @return El cliente con su estado más reciente, o null si no existe o tiene una eliminación pendiente.
+     */
+    @Override
+    public Customer get(String id) {
+        PendingWrite write = findBuffered(id);
+        if (write == null) {
+            return delegate.get(id);
+        }
+        if (write.isDelete()) {
+            return null;
+        }
+        // Una actualización pendiente de un cliente inexistente no tiene efecto, igual que en la base de datos.
+        return delegate.get(id) != null ? copyOf(write.customer) : null;
+    }
+
+    /**
+     * Obtiene todos los clientes, superponiendo las escrituras aún no volcadas al resultado del DAO decorado.
+     *
+     * @return Una lista con el estado más reciente de todos los clientes.
+     */
+    @Override
+    public List<Customer> getAll() {
+        return overlay(bufferedSnapshot(), delegate.getAll());
+    }
+
+    /**
+     * Superpone las escrituras del búfer a una lista de clientes leída del DAO decorado.
+     *
+     * @param buffered  Las escrituras pendientes y en curso, por identificador.
+     * @param customers Los clientes leídos del DAO decorado.
+     * @return Los clientes con su estado más reciente, sin los que tienen una eliminación pendiente.
+     */
+    private static List<Customer> overlay(Map<String, PendingWrite> buffered, List<Customer> customers) {
+        if (buffered.isEmpty()) {
+            return customers;
+        }
+        List<Customer> result = new ArrayList<>(customers.size());
+        for (Customer customer : customers) {
+            PendingWrite write = buffered.get(customer.getId());
+            if (write == null) {
+                result.add(customer);
+            } else if (!write.isDelete()) {
+                result.add(copyOf(write.customer));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Obtiene una página de clientes, superponiendo las escrituras aún no volcadas. Las eliminaciones pendientes
+     * pueden hacer que la página devuelva menos clientes que el límite hasta el siguiente volcado.
+     *
+     * @param offset El número de clientes que se omiten desde el principio.
+     * @param limit  El número máximo de clientes de la página.
+     * @return Una lista con el estado más reciente de los clientes de la página.
+     */
+    @Override
+    public List<Customer> getPage(int offset, int limit) {
+        return overlay(bufferedSnapshot(), delegate.getPage(offset, limit));
+    }
+
+    /**
+     * Vuelca el búfer y obtiene la página del DAO decorado. Superponer las eliminaciones pendientes podría dejar la
+     * página vacía aunque queden clientes detrás, y el llamador daría por terminado el recorrido.
+     *
+     * @param afterId El identificador a partir del cual, sin incluirlo, empieza la página, o {@code null} para la
+     *                primera página.
+     * @param limit   El número máximo de clientes de la página.
+     * @return Una lista con los clientes de la página.
+     */
+    @Override
+    public List<Customer> getPageAfter(String afterId, int limit) {
+        flush();
+        return delegate.getPageAfter(afterId, limit);
+    }
+
+    /**
+     * Vuelca el búfer y busca en el DAO decorado, ya que una escritura pendiente puede cambiar qué clientes
+     * coinciden con el texto buscado.
+     *
+     * @param text   El texto a buscar.
+     * @param offset El número de resultados que se omiten desde el principio.
+     * @param limit  El número máximo de resultados.
+     * @return Una lista con los clientes encontrados.
+     */
+    @Override
+    public List<Customer> search(String text, int offset, int limit) {
+        flush();
+        return delegate.search(text, offset, limit);
+    }
+
+    /**
+     * Vuelca el búfer y aplica el lote directamente en el DAO decorado.
+     *
+     * @param updated    Los clientes a actualizar.
+     * @param deletedIds Los identificadores de los clientes a eliminar.
+     */
+    @Override
+    public void writeBatch(List<Customer> updated, List<String> deletedIds) {
+        flush();
+        delegate.writeBatch(updated, deletedIds);
+    }
+
+    /**
+     * Vuelca al DAO decorado todas las escrituras pendientes.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            Map<String, PendingWrite> batch;
+            synchronized (this) {
+                flushRequested = false;
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = new LinkedHashMap<>(pending);
+                pending.clear();
+                inFlight = batch;
+            }
+            try {
+                applyBatch(batch);
+            } finally {
+                synchronized (this) {
+                    inFlight = Map.of();
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public int getMaxBuffered() {
+        return maxBuffered;
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public List<String> getDeadLetters() {
+        synchronized (deadLetters) {
+            return new ArrayList<>(deadLetters);
+        }
+    }
+
+    /**
+     * Detiene el volcado periódico y vuelca las escrituras pendientes.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        LOGGER.info("Búfer de escritura diferida cerrado");
+    }
+
+    /**
+     * Encola una escritura y, si el búfer alcanza su tamaño máximo, solicita un volcado inmediato. Si el búfer
+     * está lleno, lo vuelca antes en el hilo del llamador.
+     *
+     * @param id    El identificador del cliente.
+     * @param write La escritura pendiente.
+     * @throws IllegalStateException Si el búfer sigue lleno después de volcarlo.
+     */
+    private void enqueue(String id, PendingWrite write) {
+        if (closed) {
+            // Tras el cierre no hay volcado periódico: la escritura se aplica directamente.
+            applyBatch(Map.of(id, write));
+            return;
+        }
+        if (isFull(id)) {
+            flush();
+            if (isFull(id)) {
+                rejected.increment();
+                throw new IllegalStateException("El búfer de escritura diferida está lleno (" + maxBuffered
+                        + " escrituras pendientes); no se puede aceptar la escritura del cliente con ID " + id);
+            }
+        }
+        boolean requestFlush;
+        synchronized (this) {
+            PendingWrite previous = pending.remove(id);
+            if (previous != null) {
+                write.attempts = previous.attempts;
+            }
+            pending.put(id, write);
+            requestFlush = pending.size() >= maxPending && !flushRequested;
+            if (requestFlush) {
+                flushRequested = true;
+            }
+        }
+        if (requestFlush) {
+            scheduler.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * Indica si el búfer está lleno para una nueva escritura. Una escritura que sustituye a otra pendiente del
+     * mismo cliente no ocupa espacio adicional.
+     *
+     * @param id El identificador del cliente.
+     * @return {@code true} si la escritura no cabe en el búfer.
+     */
+    private synchronized boolean isFull(String id) {
+        return pending.size() >= maxBuffered && !pending.containsKey(id);
+    }
+
+    /**
+     * Aplica un lote de escrituras en el DAO decorado. Si el lote falla, reintenta cada escritura por separado.
+     *
+     * @param batch Las escrituras a aplicar, por identificador.
+     */
+    private void applyBatch(Map<String, PendingWrite> batch) {
+        List<Customer> updated = new ArrayList<>();
+        List<String> deletedIds = new ArrayList<>();
+        batch.forEach((id, write) -> {
+            if (write.isDelete()) {
+                deletedIds.add(id);
+            } else {
+                updated.add(write.customer);
+            }
+        });
+
+        try {
+            delegate.writeBatch(updated, deletedIds);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Error al volcar el lote de escritura diferida; se reintenta escritura por escritura", e);
+            batch.forEach(this::writeSingle);
+        }
+    }
+
+    /**
+     * Aplica una única escritura. Si falla, la vuelve a encolar o, si ha agotado sus intentos, la descarta.
+     *
+     * @param id    El identificador del cliente.
+     * @param write La escritura a aplicar.
+     */
+    private void writeSingle(String id, PendingWrite write) {
+        try {
+            if (write.isDelete()) {
+                delegate.delete(id);
+            } else {
+                delegate.update(write.customer);
+            }
+        } catch (RuntimeException e) {
+            write.attempts++;
+            if (write.attempts >= MAX_ATTEMPTS || closed) {
+                LOGGER.error("Se descarta la escritura diferida del cliente con ID " + id + " tras "
+                        + write.attempts + " intentos", e);
+                recordDropped(id, write, e);
+                return;
+            }
+            synchronized (this) {
+                // Solo se reencola si no ha llegado una escritura más reciente del mismo cliente.
+                pending.putIfAbsent(id, write);
+            }
+        }
+    }
+
+    /**
+     * Cuenta una escritura descartada y la añade a la lista de escrituras fallidas, eliminando la más antigua si
+     * la lista está llena.
+     *
+     * @param id    El identificador del cliente.
+     * @param write La escritura descartada.
+     * @param error El error del último intento.
+     */
+    private void recordDropped(String id, PendingWrite write, RuntimeException error) {
+        dropped.increment();
+        String description = (write.isDelete() ? "delete " : "update ") + id + ": " + error.getMessage();
+        synchronized (deadLetters) {
+            if (deadLetters.size() == MAX_DEAD_LETTERS) {
+                deadLetters.removeFirst();
+            }
+            deadLetters.addLast(description);
+        }
+    }
+
+    /**
+     * Vuelca el búfer registrando, en lugar de propagar, cualquier error inesperado.
+     * Se utiliza desde el planificador, donde una excepción cancelaría el volcado periódico.
+     */
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOGGER.error("Error inesperado al volcar el búfer de escritura diferida", e);
+        }
+    }
+
+    /**
+     * Busca la escritura pendiente más reciente de un cliente.
+     *
+     * @param id El identificador del cliente.
+     * @return La escritura pendiente o en curso, o null si no hay ninguna.
+     */
+    private synchronized PendingWrite findBuffered(String id) {
+        PendingWrite write = pending.get(id);
+        return write != null ? write : inFlight.get(id);
+    }
+
+    /**
+     * Obtiene una copia de todas las escrituras pendientes y en curso, con prioridad para las pendientes.
+     *
+     * @return Las escrituras del búfer, por identificador.
+     */
+    private synchronized Map<String, PendingWrite> bufferedSnapshot() {
+        if (pending.isEmpty() && inFlight.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, PendingWrite> snapshot = new LinkedHashMap<>(inFlight);
+        snapshot.putAll(pending);
+        return snapshot;
+    }
+
+    /**
+     * Crea una copia de un cliente, para que las modificaciones posteriores del llamador no alteren el búfer.
+     *
+     * @param customer El cliente a copiar.
+     * @return La copia del cliente.
+     */
+    private static Customer copyOf(Customer customer) {
+        return new Customer(customer.getId(), customer.getName(), customer.getEmail(), customer.getPhone());
+    }
+
+    /**
+     * Escritura pendiente de un cliente: una actualización con su nuevo estado o una eliminación.
+     */
+    private static final class PendingWrite {
+
+        // Nuevo estado del cliente, o null si la escritura es una eliminación.
+        private final Customer customer;
+
+        // Número de intentos fallidos de escritura.
+        private int attempts;
+
+        private PendingWrite(Customer customer) {
+            this.customer = customer;
+        }
+
+        private boolean isDelete() {
+            return customer == null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package repository;
+
+import java.util.List;
+
+/**
+ * Interfaz de gestión JMX que expone el estado del búfer de un {@link WriteBehindCustomerDAOImpl}.
+ */
+public interface WriteBehindCustomerDAOMXBean {
+
+    /**
+     * Obtiene el número de escrituras pendientes de volcar.
+     *
+     * @return El número de escrituras pendientes.
+     */
+    int getPendingCount();
+
+    /**
+     * Obtiene el número máximo de escrituras pendientes que admite el búfer antes de rechazar nuevas escrituras.
+     *
+     * @return El límite del búfer.
+     */
+    int getMaxBuffered();
+
+    /**
+     * Obtiene el número de escrituras ya confirmadas al llamador que se han descartado tras agotar sus intentos.
+     *
+     * @return El número de escrituras descartadas.
+     */
+    long getDroppedCount();
+
+    /**
+     * Obtiene el número de escrituras rechazadas por estar lleno el búfer.
+     *
+     * @return El número de escrituras rechazadas.
+     */
+    long getRejectedCount();
+
+    /**
+     * Obtiene las últimas escrituras descartadas, de la más antigua a la más reciente.
+     *
+     * @return Una descripción de cada escritura descartada con el error que la impidió.
+     */
+    List<String> getDeadLetters();
+}
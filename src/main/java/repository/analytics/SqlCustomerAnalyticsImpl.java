@@ -0,0 +1,129 @@
+package repository.analytics;
+
+import business.analytics.CustomerAnalytics;
+import business.analytics.CustomerReport;
+import business.analytics.GroupCount;
+import business.analytics.ReportListener;
+import business.analytics.ReportResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utility.connection.DatabaseConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementación de la interfaz {@link CustomerAnalytics} que delega la agregación en la base de datos con
+ * {@code GROUP BY}, de modo que solo viajan por la red los K grupos con más clientes. Las consultas se lanzan
+ * contra la conexión de lectura, que puede ser una réplica.
+ *
+ * <p>Las expresiones de agrupación reproducen las claves de {@link CustomerReport} y son compatibles con MySQL 8 y
+ * H2. En H2, que compara las cadenas carácter a carácter, el resultado coincide con el de
+ * {@code ParallelCustomerAnalyticsImpl}. En MySQL no siempre: {@code GROUP BY} compara con la intercalación de la
+ * columna, que por defecto ({@code utf8mb4_0900_ai_ci}) no distingue mayúsculas ni acentos, de modo que los valores
+ * que solo difieren en los acentos, como «José» y «Jose», forman un único grupo. Por eso, en MySQL el informe por
+ * dominio puede tener menos grupos y el de duplicados por dominio puede contar más duplicados que la versión en
+ * memoria, y la clave de cada grupo es uno cualquiera de los valores agrupados.</p>
+ */
+public class SqlCustomerAnalyticsImpl implements CustomerAnalytics {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlCustomerAnalyticsImpl.class);
+
+    // Dominio del correo electrónico, en minúsculas.
+    private static final String DOMAIN_EXPRESSION = "CASE WHEN LOCATE('@', email) > 0 "
+            + "THEN LOWER(SUBSTRING(email, LOCATE('@', email) + 1)) ELSE '" + CustomerReport.NO_DOMAIN + "' END";
+
+    // Código de país del teléfono, con los mismos prefijos que reconoce el validador.
+    private static final String COUNTRY_CODE_EXPRESSION = "CASE "
+            + "WHEN COALESCE(CHAR_LENGTH(phone), 0) = 0 THEN '" + CustomerReport.NO_PHONE + "' "
+            + "WHEN phone LIKE '+34%' OR phone LIKE '0034%' OR (phone LIKE '34%' AND CHAR_LENGTH(phone) = 11) "
+            + "THEN '" + CustomerReport.SPAIN + "' "
+            + "ELSE '" + CustomerReport.NO_PREFIX + "' END";
+
+    // Nombre normalizado como en CustomerReport: espacios en blanco agrupados en uno, sin espacios en los extremos
+    // y en minúsculas.
+    private static final String NAME_EXPRESSION = "LOWER(TRIM(REGEXP_REPLACE(name, '[ \t\n\u000B\f\r]+', ' ')))";
+
+    // Recuentos por grupo con el número total de grupos y la suma de los recuentos, ordenados de mayor a menor.
+    private static final String TOP_GROUPS_SQL = "SELECT group_key, group_count, "
+            + "COUNT(*) OVER () AS total_groups, SUM(group_count) OVER () AS total_count "
+            + "FROM (%s) grouped ORDER BY group_count DESC, group_key LIMIT ?";
+
+    // Conexión a la base de datos.
+    private final DatabaseConnection dbConnection;
+
+    /**
+     * Constructor que inicializa la conexión a la base de datos.
+     *
+     * @param dbConnection La conexión a la base de datos.
+     */
+    public SqlCustomerAnalyticsImpl(DatabaseConnection dbConnection) {
+        this.dbConnection = dbConnection;
+    }
+
+    /**
+     * Calcula un informe en la base de datos. Como el resultado llega completo en una sola consulta, el receptor
+     * se notifica una única vez, con el resultado final.
+     *
+     * @throws IllegalStateException Si ocurre un error durante la consulta.
+     */
+    @Override
+    public ReportResult run(CustomerReport report, int topK, ReportListener listener) {
+        String sql = String.format(TOP_GROUPS_SQL, groupingQuery(report));
+        List<GroupCount> topGroups = new ArrayList<>();
+        long totalGroups = 0;
+        long totalCount = 0;
+
+        try (Connection conn = dbConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, topK);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    topGroups.add(new GroupCount(rs.getString("group_key"), rs.getLong("group_count")));
+                    totalGroups = rs.getLong("total_groups");
+                    totalCount = rs.getLong("total_count");
+                }
+            }
+            LOGGER.info("Informe {} calculado en la base de datos: {} grupos", report, totalGroups);
+        } catch (SQLException e) {
+            LOGGER.error("Error al calcular el informe {} en la base de datos", report, e);
+            throw new IllegalStateException("Error al calcular el informe " + report + " en la base de datos", e);
+        }
+
+        ReportResult result = new ReportResult(report, topGroups, totalGroups, totalCount, -1, true);
+        if (listener != null) {
+            listener.onProgress(result);
+        }
+        return result;
+    }
+
+    /**
+     * Obtiene la consulta que calcula los recuentos por grupo de un informe, con las columnas
+     * {@code group_key} y {@code group_count}.
+     *
+     * @param report El informe.
+     * @return La consulta.
+     */
+    private static String groupingQuery(CustomerReport report) {
+        switch (report) {
+            case EMAIL_DOMAIN:
+                return "SELECT group_key, COUNT(*) AS group_count FROM (SELECT " + DOMAIN_EXPRESSION
+                        + " AS group_key FROM customers) keyed GROUP BY group_key";
+            case COUNTRY_CODE:
+                return "SELECT group_key, COUNT(*) AS group_count FROM (SELECT " + COUNTRY_CODE_EXPRESSION
+                        + " AS group_key FROM customers) keyed GROUP BY group_key";
+            case DUPLICATES_PER_DOMAIN:
+                return "SELECT group_key, SUM(name_count - 1) AS group_count FROM ("
+                        + "SELECT group_key, normalized_name, COUNT(*) AS name_count FROM (SELECT " + DOMAIN_EXPRESSION
+                        + " AS group_key, " + NAME_EXPRESSION + " AS normalized_name FROM customers) keyed "
+                        + "GROUP BY group_key, normalized_name HAVING COUNT(*) > 1) named GROUP BY group_key";
+            default:
+                throw new IllegalArgumentException("Informe no soportado: " + report);
+        }
+    }
+}
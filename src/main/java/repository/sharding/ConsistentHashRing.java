@@ -0,0 +1,72 @@
+package repository.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Anillo de hash consistente que asigna claves a nodos.
+ *
+ * <p>Cada nodo ocupa varias posiciones virtuales en el anillo para repartir las claves de forma uniforme. Al añadir
+ * o retirar un nodo solo cambian de nodo las claves de los tramos afectados, en lugar de redistribuirse todas como
+ * ocurriría con un simple módulo.</p>
+ *
+ * @param <T> Tipo de los nodos del anillo.
+ */
+public class ConsistentHashRing<T> {
+
+    // Posiciones virtuales del anillo, ordenadas por hash.
+    private final NavigableMap<Long, T> ring = new TreeMap<>();
+
+    /**
+     * Construye el anillo con los nodos indicados.
+     *
+     * @param nodes         Los nodos del anillo, cada uno identificado por su posición en la lista.
+     * @param virtualNodes  El número de posiciones virtuales por nodo.
+     * @throws IllegalArgumentException si no hay nodos o el número de posiciones virtuales no es positivo.
+     */
+    public ConsistentHashRing(List<T> nodes, int virtualNodes) {
+        if (nodes.isEmpty() || virtualNodes <= 0) {
+            throw new IllegalArgumentException("El anillo necesita al menos un nodo y una posición virtual por nodo");
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            for (int v = 0; v < virtualNodes; v++) {
+                ring.put(hash("shard-" + i + "#" + v), nodes.get(i));
+            }
+        }
+    }
+
+    /**
+     * Obtiene el nodo responsable de una clave: el primero en el anillo a partir del hash de la clave.
+     *
+     * @param key La clave.
+     * @return El nodo responsable de la clave.
+     */
+    public T nodeFor(String key) {
+        Map.Entry<Long, T> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * Calcula el hash de 64 bits de una cadena (FNV-1a seguido de la mezcla final de MurmurHash3), estable entre
+     * ejecuciones y versiones de la JVM.
+     *
+     * @param key La cadena.
+     * @return El hash de la cadena.
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
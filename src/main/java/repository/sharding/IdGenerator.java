@@ -0,0 +1,14 @@
+package repository.sharding;
+
+/**
+ * Interfaz para generar identificadores únicos de entidades sin depender de la secuencia de una base de datos.
+ */
+public interface IdGenerator {
+
+    /**
+     * Genera un nuevo identificador.
+     *
+     * @return Un identificador positivo que no se ha devuelto antes.
+     */
+    long nextId();
+}
@@ -0,0 +1,344 @@
+package repository.sharding;
+
+import business.entity.Customer;
+import repository.CancellationToken;
+import repository.CustomerDAO;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Implementación de la interfaz {@link CustomerDAO} que reparte los clientes entre N bases de datos (fragmentos o
+ * shards), cada una accedida a través de su propio {@link CustomerDAO}.
+ *
+ * <ul>
+ *     <li>Los identificadores se generan globalmente con un {@link IdGenerator} antes de insertar, de modo que son
+ *     únicos entre todos los fragmentos.</li>
+ *     <li>Cada identificador se asigna a un fragmento con un {@link ConsistentHashRing}, por lo que las operaciones
+ *     por identificador ({@code get}, {@code update}, {@code delete}) acceden a un único fragmento.</li>
+ *     <li>{@code getAll} y {@code getPage} consultan todos los fragmentos en paralelo y combinan los resultados, ya
+ *     ordenados por identificador en cada fragmento, con una mezcla de k vías.</li>
+ *     <li>{@code search} consulta todos los fragmentos en paralelo e intercala sus resultados, conservando el orden
+ *     de relevancia de cada fragmento: la puntuación de un índice de texto completo depende de las estadísticas de
+ *     cada base de datos y no es comparable entre fragmentos, pero como los clientes se reparten por hash, los
+ *     primeros resultados de cada fragmento son de relevancia similar.</li>
+ * </ul>
+ *
+ * <p>La unicidad del correo electrónico solo la garantiza cada fragmento por separado: dos clientes con el mismo
+ * correo en fragmentos distintos no se detectan como duplicados.</p>
+ */
+public class ShardedCustomerDAOImpl implements CustomerDAO, AutoCloseable {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardedCustomerDAOImpl.class);
+
+    // Número de posiciones virtuales por fragmento en el anillo de hash.
+    private static final int VIRTUAL_NODES = 160;
+
+    /**
+     * Número máximo de clientes ({@code offset + limit}) que {@code getPage} y {@code search} piden a cada fragmento.
+     * Las páginas más profundas deben recorrerse con {@code getPageAfter}.
+     */
+    public static final int MAX_PAGE_WINDOW = 100_000;
+
+    // Orden por identificador numérico, el mismo que aplica cada fragmento.
+    private static final Comparator<Customer> BY_ID = Comparator.comparingLong(customer -> Long.parseLong(customer.getId()));
+
+    // DAO de cada fragmento.
+    private final List<CustomerDAO> shards;
+
+    // Anillo que asigna identificadores a fragmentos.
+    private final ConsistentHashRing<CustomerDAO> ring;
+
+    // Generador de identificadores globalmente únicos.
+    private final IdGenerator idGenerator;
+
+    // Ejecutor de las consultas en paralelo a todos los fragmentos.
+    private final ExecutorService executor;
+
+    /**
+     * Construye una instancia de {@link ShardedCustomerDAOImpl}.
+     *
+     * @param shards      Los DAO de cada fragmento. El orden determina la posición de cada fragmento en el anillo,
+     *                    por lo que debe mantenerse estable entre ejecuciones.
+     * @param idGenerator El generador de identificadores globalmente únicos.
+     */
+    public ShardedCustomerDAOImpl(List<CustomerDAO> shards, IdGenerator idGenerator) {
+        this.shards = List.copyOf(shards);
+        this.ring = new ConsistentHashRing<>(this.shards, VIRTUAL_NODES);
+        this.idGenerator = idGenerator;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.shards.size(), runnable -> {
+            Thread thread = new Thread(runnable, "shard-query-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Agrega un cliente con un identificador generado globalmente en el fragmento que le corresponde.
+     * El identificador asignado se establece también en el objeto recibido.
+     *
+     * @param customer El objeto {@link Customer} a agregar.
+     */
+    @Override
+    public void add(Customer customer) {
+        String id = String.valueOf(idGenerator.nextId());
+        Customer stored = new Customer(id, customer.getName(), customer.getEmail(), customer.getPhone());
+        ring.nodeFor(id).add(stored);
+        customer.setId(id);
+    }
+
+    @Override
+    public Customer get(String id) {
+        return ring.nodeFor(id).get(id);
+    }
+
+    @Override
+    public void update(Customer customer) {
+        ring.nodeFor(customer.getId()).update(customer);
+    }
+
+    @Override
+    public void delete(String id) {
+        ring.nodeFor(id).delete(id);
+    }
+
+    /**
+     * Obtiene todos los clientes de todos los fragmentos, consultados en paralelo y ordenados por identificador.
+     *
+     * @return Una lista con todos los clientes.
+     */
+    @Override
+    public List<Customer> getAll() {
+        return merge(scatter(CustomerDAO::getAll), 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Obtiene una página global de clientes ordenados por identificador. Cada fragmento devuelve sus primeros
+     * {@code offset + limit} clientes y la página se extrae de la mezcla ordenada.
+     *
+     * @param offset El número de clientes que se omiten desde el principio.
+     * @param limit  El número máximo de clientes de la página.
+     * @return Una lista con los clientes de la página.
+     * @throws IllegalArgumentException Si {@code offset + limit} supera {@link #MAX_PAGE_WINDOW}.
+     */
+    @Override
+    public List<Customer> getPage(int offset, int limit) {
+        int perShard = pageWindow(offset, limit);
+        return merge(scatter(shard -> shard.getPage(0, perShard)), offset, limit);
+    }
+
+    /**
+     * Obtiene la página global de clientes que siguen a un identificador. Cada fragmento devuelve sus primeros
+     * {@code limit} clientes posteriores al identificador y la página se extrae de la mezcla ordenada, de modo que
+     * cada fragmento lee como mucho una página sea cual sea la posición del recorrido.
+     *
+     * @param afterId El identificador a partir del cual, sin incluirlo, empieza la página, o {@code null} para la
+     *                primera página.
+     * @param limit   El número máximo de clientes de la página.
+     * @return Una lista con los clientes de la página.
+     */
+    @Override
+    public List<Customer> getPageAfter(String afterId, int limit) {
+        return merge(scatter(shard -> shard.getPageAfter(afterId, limit)), 0, limit);
+    }
+
+    /**
+     * Busca clientes en todos los fragmentos en paralelo y devuelve una página de resultados. Cada fragmento
+     * devuelve sus primeros {@code offset + limit} resultados y la página se extrae de su intercalado.
+     *
+     * @param text   El texto a buscar.
+     * @param offset El número de resultados que se omiten desde el principio.
+     * @param limit  El número máximo de resultados.
+     * @return Una lista con los clientes encontrados.
+     * @throws IllegalArgumentException Si {@code offset + limit} supera {@link #MAX_PAGE_WINDOW}.
+     */
+    @Override
+    public List<Customer> search(String text, int offset, int limit) {
+        int perShard = pageWindow(offset, limit);
+        return interleave(scatter(shard -> shard.search(text, 0, perShard)), offset, limit);
+    }
+
+    /**
+     * Agrupa el lote por fragmento y lo aplica en paralelo, en una transacción por fragmento.
+     *
+     * @param updated    Los clientes a actualizar.
+     * @param deletedIds Los identificadores de los clientes a eliminar.
+     */
+    @Override
+    public void writeBatch(List<Customer> updated, List<String> deletedIds) {
+        Map<CustomerDAO, List<Customer>> updatesByShard = new IdentityHashMap<>();
+        Map<CustomerDAO, List<String>> deletesByShard = new IdentityHashMap<>();
+        for (Customer customer : updated) {
+            updatesByShard.computeIfAbsent(ring.nodeFor(customer.getId()), shard -> new ArrayList<>()).add(customer);
+        }
+        for (String id : deletedIds) {
+            deletesByShard.computeIfAbsent(ring.nodeFor(id), shard -> new ArrayList<>()).add(id);
+        }
+        scatter(shard -> {
+            List<Customer> shardUpdates = updatesByShard.getOrDefault(shard, List.of());
+            List<String> shardDeletes = deletesByShard.getOrDefault(shard, List.of());
+            shard.writeBatch(shardUpdates, shardDeletes);
+            return List.of();
+        });
+    }
+
+    /**
+     * Detiene el ejecutor de consultas en paralelo.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Calcula cuántos clientes se piden a cada fragmento para extraer una página de la mezcla.
+     *
+     * @param offset El número de clientes que se omiten desde el principio.
+     * @param limit  El número máximo de clientes de la página.
+     * @return El número de clientes que se piden a cada fragmento, {@code offset + limit}.
+     * @throws IllegalArgumentException Si {@code offset + limit} supera {@link #MAX_PAGE_WINDOW}.
+     */
+    private static int pageWindow(int offset, int limit) {
+        long window = (long) offset + limit;
+        if (window > MAX_PAGE_WINDOW) {
+            throw new IllegalArgumentException("Con fragmentación, offset + limit no puede superar "
+                    + MAX_PAGE_WINDOW + ": offset=" + offset + ", limit=" + limit);
+        }
+        return (int) window;
+    }
+
+    /**
+     * Ejecuta una consulta en todos los fragmentos en paralelo y espera a que terminen.
+     *
+     * @param query La consulta a ejecutar en cada fragmento.
+     * @return Los resultados de cada fragmento, en el orden de los fragmentos.
+     * @throws RuntimeException La excepción lanzada por el primer fragmento que falle.
+     */
+    private List<List<Customer>> scatter(Function<CustomerDAO, List<Customer>> query) {
+        List<CompletableFuture<List<Customer>>> futures = new ArrayList<>(shards.size());
+        // El token de cancelación del hilo llamante se propaga a las consultas de cada fragmento.
+        CancellationToken token = CancellationToken.current();
+        for (CustomerDAO shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try (CancellationToken.Scope scope = CancellationToken.bind(token)) {
+                    return query.apply(shard);
+                }
+            }, executor));
+        }
+        List<List<Customer>> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<List<Customer>> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (!(e.getCause() instanceof CancellationException)) {
+                LOGGER.error("Error al consultar los fragmentos de la base de datos", e.getCause());
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * Mezcla listas ordenadas por identificador en una única lista ordenada y extrae un tramo.
+     *
+     * @param sortedLists Las listas ordenadas de cada fragmento.
+     * @param offset      El número de elementos que se omiten del resultado mezclado.
+     * @param limit       El número máximo de elementos del resultado.
+     * @return El tramo solicitado de la mezcla ordenada.
+     */
+    private static List<Customer> merge(List<List<Customer>> sortedLists, int offset, int limit) {
+        PriorityQueue<Cursor> heads = new PriorityQueue<>((a, b) -> BY_ID.compare(a.current(), b.current()));
+        int total = 0;
+        for (List<Customer> list : sortedLists) {
+            total += list.size();
+            if (!list.isEmpty()) {
+                heads.add(new Cursor(list));
+            }
+        }
+        List<Customer> result = new ArrayList<>(Math.max(0, Math.min(limit, total - offset)));
+        int skipped = 0;
+        while (!heads.isEmpty() && result.size() < limit) {
+            Cursor cursor = heads.poll();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                result.add(cursor.current());
+            }
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Intercala listas ordenadas por relevancia, tomando por turnos el siguiente elemento de cada una, y extrae un
+     * tramo.
+     *
+     * @param rankedLists Las listas de cada fragmento, ordenadas por relevancia.
+     * @param offset      El número de elementos que se omiten del resultado intercalado.
+     * @param limit       El número máximo de elementos del resultado.
+     * @return El tramo solicitado del intercalado.
+     */
+    private static List<Customer> interleave(List<List<Customer>> rankedLists, int offset, int limit) {
+        List<Customer> result = new ArrayList<>();
+        int skipped = 0;
+        boolean remaining = true;
+        for (int position = 0; remaining && result.size() < limit; position++) {
+            remaining = false;
+            for (List<Customer> list : rankedLists) {
+                if (position >= list.size()) {
+                    continue;
+                }
+                remaining = true;
+                if (skipped < offset) {
+                    skipped++;
+                } else if (result.size() < limit) {
+                    result.add(list.get(position));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Cursor sobre una lista ordenada, utilizado en la mezcla de k vías.
+     */
+    private static final class Cursor {
+
+        private final List<Customer> list;
+        private int position;
+
+        private Cursor(List<Customer> list) {
+            this.list = list;
+        }
+
+        private Customer current() {
+            return list.get(position);
+        }
+
+        private boolean advance() {
+            return ++position < list.size();
+        }
+    }
+}
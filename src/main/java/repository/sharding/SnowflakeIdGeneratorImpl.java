@@ -0,0 +1,79 @@
+package repository.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementación de la interfaz {@link IdGenerator} con el esquema Snowflake: cada identificador de 63 bits se
+ * compone de 41 bits de marca de tiempo en milisegundos, 10 bits de nodo y 12 bits de secuencia.
+ *
+ * <p>Los identificadores son únicos globalmente siempre que cada instancia de la aplicación use un número de nodo
+ * distinto, y crecen con el tiempo, por lo que el orden por identificador coincide aproximadamente con el orden de
+ * creación. Cada nodo puede generar hasta 4096 identificadores por milisegundo.</p>
+ */
+public class SnowflakeIdGeneratorImpl implements IdGenerator {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnowflakeIdGeneratorImpl.class);
+
+    // Época personalizada (2024-01-01T00:00:00Z), para aprovechar mejor los 41 bits de marca de tiempo.
+    private static final long EPOCH_MILLIS = 1704067200000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+
+    /**
+     * Número máximo de nodo admitido.
+     */
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // Número de nodo de esta instancia.
+    private final long nodeId;
+
+    // Marca de tiempo del último identificador generado.
+    private long lastTimestamp = -1;
+
+    // Secuencia dentro del milisegundo actual.
+    private long sequence;
+
+    /**
+     * Constructor que inicializa el número de nodo.
+     *
+     * @param nodeId El número de nodo de esta instancia, entre 0 y {@value #MAX_NODE_ID}.
+     * @throws IllegalArgumentException si el número de nodo está fuera de rango.
+     */
+    public SnowflakeIdGeneratorImpl(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("El número de nodo debe estar entre 0 y " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * Genera un nuevo identificador. Si el reloj del sistema retrocede, se sigue usando la última marca de tiempo
+     * conocida hasta que el reloj la alcance, para no repetir identificadores.
+     *
+     * @return Un identificador positivo y único.
+     */
+    @Override
+    public synchronized long nextId() {
+        long now = System.currentTimeMillis();
+        if (now < lastTimestamp - 1) {
+            LOGGER.warn("El reloj del sistema ha retrocedido {} ms; se reutiliza la última marca de tiempo",
+                    lastTimestamp - now);
+        }
+        long timestamp = Math.max(now, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+}
@@ -0,0 +1,181 @@
+package repository.snapshot;
+
+import business.entity.Customer;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Instantánea local de clientes abierta en memoria con {@link FileChannel#map}, en el formato descrito en
+ * {@link CustomerSnapshotFormat}.
+ *
+ * <p>Abrir la instantánea solo proyecta el archivo y comprueba la cabecera: no se lee ni se decodifica ningún
+ * registro hasta que se accede a él, y es el sistema operativo quien carga las páginas bajo demanda. Por eso la
+ * interfaz puede mostrar los clientes de la última sincronización en cuanto arranca, sin esperar a la base de
+ * datos.</p>
+ *
+ * <p>La proyección se libera cuando el recolector de basura descarta la instantánea; Java no permite liberarla de
+ * forma explícita.</p>
+ */
+public class CustomerSnapshot {
+
+    // Archivo proyectado en memoria; solo se lee, por lo que puede compartirse entre hilos con duplicate().
+    private final MappedByteBuffer buffer;
+
+    // Número de clientes de la instantánea.
+    private final int size;
+
+    // Instante de creación de la instantánea, en milisegundos desde epoch.
+    private final long createdAt;
+
+    /**
+     * Constructor privado: se usa a través de {@link #open(Path)}.
+     *
+     * @param buffer    El archivo proyectado.
+     * @param size      El número de clientes.
+     * @param createdAt El instante de creación.
+     */
+    private CustomerSnapshot(MappedByteBuffer buffer, int size, long createdAt) {
+        this.buffer = buffer;
+        this.size = size;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Abre una instantánea y comprueba su cabecera.
+     *
+     * @param file El archivo de la instantánea.
+     * @return La instantánea abierta.
+     * @throws IOException Si el archivo no existe, no se puede leer o no es una instantánea válida.
+     */
+    public static CustomerSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < CustomerSnapshotFormat.HEADER_BYTES || length > Integer.MAX_VALUE) {
+                throw new IOException("Tamaño de instantánea inválido: " + length + " bytes");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (buffer.getInt(0) != CustomerSnapshotFormat.MAGIC) {
+                throw new IOException("El archivo no es una instantánea de clientes: " + file);
+            }
+            int version = buffer.getInt(4);
+            if (version != CustomerSnapshotFormat.VERSION) {
+                throw new IOException("Versión de instantánea no soportada: " + version);
+            }
+            int size = buffer.getInt(8);
+            if (size < 0 || CustomerSnapshotFormat.HEADER_BYTES + (long) size * Integer.BYTES > length) {
+                throw new IOException("Índice de instantánea inválido: " + size + " registros");
+            }
+            return new CustomerSnapshot(buffer, size, buffer.getLong(16));
+        }
+    }
+
+    /**
+     * Lee el instante de creación de una instantánea sin proyectarla en memoria, para elegir entre varias sin
+     * mantener abiertas las que se descartan.
+     *
+     * @param file El archivo de la instantánea.
+     * @return El instante de creación, en milisegundos desde epoch.
+     * @throws IOException Si el archivo no existe, no se puede leer o no es una instantánea válida.
+     */
+    static long readCreatedAt(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(CustomerSnapshotFormat.HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new IOException("Instantánea truncada: " + file);
+                }
+            }
+            if (header.getInt(0) != CustomerSnapshotFormat.MAGIC
+                    || header.getInt(4) != CustomerSnapshotFormat.VERSION) {
+                throw new IOException("El archivo no es una instantánea de clientes válida: " + file);
+            }
+            return header.getLong(16);
+        }
+    }
+
+    /**
+     * Obtiene el número de clientes de la instantánea.
+     *
+     * @return El número de clientes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Obtiene el instante de creación de la instantánea.
+     *
+     * @return El instante de creación, en milisegundos desde epoch.
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Decodifica el cliente de una posición de la instantánea.
+     *
+     * @param index La posición del cliente, entre 0 y {@link #size()} - 1.
+     * @return El cliente.
+     * @throws IndexOutOfBoundsException Si la posición no existe.
+     * @throws IllegalStateException     Si el registro está dañado.
+     */
+    public Customer get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Posición " + index + " fuera de la instantánea de " + size + " clientes");
+        }
+        ByteBuffer view = buffer.duplicate();
+        try {
+            view.position(buffer.getInt(CustomerSnapshotFormat.HEADER_BYTES + index * Integer.BYTES));
+            return new Customer(readField(view), readField(view), readField(view), readField(view));
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new IllegalStateException("Registro " + index + " de la instantánea dañado", e);
+        }
+    }
+
+    /**
+     * Obtiene una vista de lista de la instantánea que decodifica cada cliente al acceder a él.
+     *
+     * @return Una lista inmutable respaldada por la instantánea.
+     */
+    public List<Customer> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Customer get(int index) {
+                return CustomerSnapshot.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Lee un campo con prefijo de longitud en la posición actual.
+     *
+     * @param view La vista del archivo, situada al principio del campo.
+     * @return El texto del campo, o {@code null}.
+     */
+    private static String readField(ByteBuffer view) {
+        int length = view.getInt();
+        if (length == CustomerSnapshotFormat.NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > view.remaining()) {
+            throw new IllegalArgumentException("Longitud de campo inválida: " + length);
+        }
+        byte[] bytes = new byte[length];
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
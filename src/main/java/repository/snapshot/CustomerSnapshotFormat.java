@@ -0,0 +1,50 @@
+package repository.snapshot;
+
+/**
+ * Constantes del formato binario de las instantáneas locales de clientes.
+ *
+ * <pre>
+ * Cabecera (24 bytes):
+ *   int   MAGIC ("CSNP")
+ *   int   VERSION
+ *   int   número de clientes (N)
+ *   int   reservado (0)
+ *   long  instante de creación (milisegundos desde epoch)
+ * Índice:
+ *   int[N] posición absoluta de cada registro en el archivo
+ * Registros, cada uno con los campos id, name, email y phone:
+ *   int   longitud en bytes del texto UTF-8, o -1 si el campo es nulo
+ *   byte[] texto UTF-8
+ * </pre>
+ *
+ * <p>Todos los enteros se escriben en orden big-endian. El índice permite acceder a cualquier registro sin leer los
+ * anteriores.</p>
+ */
+final class CustomerSnapshotFormat {
+
+    /**
+     * Número mágico que identifica el archivo: los bytes ASCII "CSNP".
+     */
+    static final int MAGIC = 0x43534E50;
+
+    /**
+     * Versión del formato.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Tamaño de la cabecera, en bytes.
+     */
+    static final int HEADER_BYTES = 24;
+
+    /**
+     * Longitud con la que se codifica un campo nulo.
+     */
+    static final int NULL_LENGTH = -1;
+
+    /**
+     * Constructor privado: clase de constantes.
+     */
+    private CustomerSnapshotFormat() {
+    }
+}
@@ -0,0 +1,137 @@
+package repository.snapshot;
+
+import business.entity.Customer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Almacén de la instantánea local de clientes: la abre al arrancar y la reescribe en segundo plano tras cada
+ * sincronización con la base de datos.
+ *
+ * <p>Las escrituras se agrupan: si llegan varias sincronizaciones mientras se escribe una instantánea, solo se
+ * escribe la más reciente.</p>
+ *
+ * <p>La instantánea alterna entre dos archivos: el configurado y otro con el sufijo {@value #ALTERNATE_SUFFIX}. Al
+ * arrancar se abre el más reciente y las escrituras van siempre al otro, porque la instantánea abierta permanece
+ * proyectada en memoria hasta que el recolector de basura la descarta, y Windows no permite sustituir un archivo
+ * proyectado.</p>
+ */
+public class CustomerSnapshotStore implements AutoCloseable {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(CustomerSnapshotStore.class);
+
+    // Sufijo del segundo archivo de la instantánea.
+    private static final String ALTERNATE_SUFFIX = ".alt";
+
+    // Archivos entre los que alterna la instantánea.
+    private final Path[] files;
+
+    // Archivo en el que se escriben las instantáneas: el que no se ha abierto al arrancar.
+    private volatile Path writeFile;
+
+    // Últimos clientes pendientes de guardar, o null si no hay ninguno.
+    private final AtomicReference<List<Customer>> pending = new AtomicReference<>();
+
+    // Hilo que escribe las instantáneas.
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "snapshot-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Constructor que inicializa el archivo de la instantánea.
+     *
+     * @param file El archivo de la instantánea; el segundo archivo se crea junto a él.
+     */
+    public CustomerSnapshotStore(Path file) {
+        this.files = new Path[]{file, file.resolveSibling(file.getFileName() + ALTERNATE_SUFFIX)};
+        this.writeFile = file;
+    }
+
+    /**
+     * Abre la instantánea guardada más reciente. Las siguientes escrituras se dirigen al otro archivo.
+     *
+     * @return Los clientes de la instantánea, decodificados bajo demanda, o {@code null} si no hay ninguna
+     * instantánea válida.
+     */
+    public List<Customer> load() {
+        int newest = -1;
+        long newestCreatedAt = Long.MIN_VALUE;
+        for (int i = 0; i < files.length; i++) {
+            if (!Files.isRegularFile(files[i])) {
+                continue;
+            }
+            try {
+                long createdAt = CustomerSnapshot.readCreatedAt(files[i]);
+                if (createdAt > newestCreatedAt) {
+                    newest = i;
+                    newestCreatedAt = createdAt;
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Se ignora la instantánea local {}: {}", files[i], e.getMessage());
+            }
+        }
+        if (newest < 0) {
+            return null;
+        }
+        Path file = files[newest];
+        writeFile = files[1 - newest];
+        try {
+            CustomerSnapshot snapshot = CustomerSnapshot.open(file);
+            LOGGER.info("Instantánea local abierta: {} clientes", snapshot.size());
+            return snapshot.asList();
+        } catch (IOException e) {
+            LOGGER.warn("No se pudo abrir la instantánea local {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Programa la escritura de una nueva instantánea con los clientes indicados. La lista no se copia, para no
+     * duplicar en el heap una lista muy grande (o materializar una vista fuera del heap): el llamador no debe
+     * modificarla después.
+     *
+     * @param customers Los clientes sincronizados con la base de datos.
+     */
+    public void saveAsync(List<Customer> customers) {
+        if (pending.getAndSet(customers) == null) {
+            writer.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Deja de aceptar nuevas escrituras; la que esté en curso termina en segundo plano. Si la aplicación finaliza
+     * antes, la instantánea anterior se conserva intacta, porque cada escritura se hace sobre un archivo temporal.
+     */
+    @Override
+    public void close() {
+        writer.shutdown();
+    }
+
+    /**
+     * Escribe la instantánea pendiente más reciente.
+     */
+    private void writePending() {
+        List<Customer> customers = pending.getAndSet(null);
+        if (customers == null) {
+            return;
+        }
+        Path file = writeFile;
+        try {
+            CustomerSnapshotWriter.write(file, customers);
+            LOGGER.info("Instantánea local guardada: {} clientes", customers.size());
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("No se pudo guardar la instantánea local {}: {}", file, e.getMessage());
+        }
+    }
+}
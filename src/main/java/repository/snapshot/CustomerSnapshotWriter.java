@@ -0,0 +1,129 @@
+package repository.snapshot;
+
+import business.entity.Customer;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Escritor de instantáneas locales de clientes en el formato descrito en {@link CustomerSnapshotFormat}.
+ *
+ * <p>La instantánea se escribe en un archivo temporal junto al destino y después se mueve sobre él, de modo que un
+ * lector nunca ve un archivo a medio escribir.</p>
+ */
+public final class CustomerSnapshotWriter {
+
+    /**
+     * Constructor privado: clase de utilidad.
+     */
+    private CustomerSnapshotWriter() {
+    }
+
+    /**
+     * Escribe una instantánea con los clientes indicados, sustituyendo la existente.
+     *
+     * @param file      El archivo de la instantánea.
+     * @param customers Los clientes a guardar.
+     * @throws IOException Si ocurre un error de escritura.
+     */
+    public static void write(Path file, List<Customer> customers) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            // Primera pasada: desplazamiento de cada registro, calculado sin guardar los textos codificados.
+            long position = CustomerSnapshotFormat.HEADER_BYTES + (long) customers.size() * Integer.BYTES;
+            int[] offsets = new int[customers.size()];
+            for (int i = 0; i < customers.size(); i++) {
+                if (position > Integer.MAX_VALUE) {
+                    throw new IOException("La instantánea supera el tamaño máximo de " + Integer.MAX_VALUE + " bytes");
+                }
+                Customer customer = customers.get(i);
+                offsets[i] = (int) position;
+                position += fieldBytes(customer.getId()) + fieldBytes(customer.getName())
+                        + fieldBytes(customer.getEmail()) + fieldBytes(customer.getPhone());
+            }
+            if (position > Integer.MAX_VALUE) {
+                throw new IOException("La instantánea supera el tamaño máximo de " + Integer.MAX_VALUE + " bytes");
+            }
+            // Segunda pasada: cada registro se codifica al escribirlo.
+            try (OutputStream fileStream = Files.newOutputStream(temporary);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileStream, 64 * 1024))) {
+                out.writeInt(CustomerSnapshotFormat.MAGIC);
+                out.writeInt(CustomerSnapshotFormat.VERSION);
+                out.writeInt(customers.size());
+                out.writeInt(0);
+                out.writeLong(System.currentTimeMillis());
+                for (int offset : offsets) {
+                    out.writeInt(offset);
+                }
+                for (Customer customer : customers) {
+                    writeField(out, customer.getId());
+                    writeField(out, customer.getName());
+                    writeField(out, customer.getEmail());
+                    writeField(out, customer.getPhone());
+                }
+                out.flush();
+                if (out.size() != position) {
+                    throw new IOException("La instantánea escrita ocupa " + out.size() + " bytes en lugar de " + position);
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Calcula los bytes que ocupará un campo en el archivo sin codificarlo.
+     *
+     * @param value El valor del campo, o {@code null}.
+     * @return El tamaño del campo en el archivo, incluido su prefijo de longitud.
+     */
+    private static long fieldBytes(String value) {
+        if (value == null) {
+            return Integer.BYTES;
+        }
+        long bytes = Integer.BYTES;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                // String.getBytes sustituye un sustituto aislado por '?' (1 byte).
+                bytes += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Escribe un campo en UTF-8 precedido de su longitud.
+     *
+     * @param out   El flujo de salida.
+     * @param value El valor del campo, o {@code null}.
+     * @throws IOException Si ocurre un error de escritura.
+     */
+    private static void writeField(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(CustomerSnapshotFormat.NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
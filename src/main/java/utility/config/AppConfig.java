@@ -10,4 +10,10 @@ public class AppConfig {
      * Esta constante se utiliza para cargar la configuración de la base de datos desde un archivo de propiedades.
      */
     public static final String DATABASE_PROPERTIES_FILE = "mysql-database.properties";
+
+    /**
+     * Nombre del archivo de propiedades generales de la aplicación.
+     * Esta constante se utiliza para cargar la configuración de métricas y demás componentes opcionales.
+     */
+    public static final String APPLICATION_PROPERTIES_FILE = "application.properties";
 }
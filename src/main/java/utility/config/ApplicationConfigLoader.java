@@ -0,0 +1,46 @@
+package utility.config;
+
+/**
+ * Interfaz para cargar la configuración general de la aplicación.
+ * Proporciona métodos tipados para obtener valores opcionales con un valor por defecto.
+ */
+public interface ApplicationConfigLoader {
+
+    /**
+     * Obtiene el valor de una propiedad como cadena de texto.
+     *
+     * @param key          La clave de la propiedad.
+     * @param defaultValue El valor que se devuelve si la propiedad no está definida.
+     * @return El valor de la propiedad, o el valor por defecto si no está definida.
+     */
+    String getString(String key, String defaultValue);
+
+    /**
+     * Obtiene el valor de una propiedad como entero.
+     *
+     * @param key          La clave de la propiedad.
+     * @param defaultValue El valor que se devuelve si la propiedad no está definida.
+     * @return El valor de la propiedad, o el valor por defecto si no está definida.
+     * @throws IllegalStateException si el valor no es un número entero válido o no cabe en un {@code int}.
+     */
+    int getInt(String key, int defaultValue);
+
+    /**
+     * Obtiene el valor de una propiedad como entero largo.
+     *
+     * @param key          La clave de la propiedad.
+     * @param defaultValue El valor que se devuelve si la propiedad no está definida.
+     * @return El valor de la propiedad, o el valor por defecto si no está definida.
+     * @throws IllegalStateException si el valor no es un número entero válido.
+     */
+    long getLong(String key, long defaultValue);
+
+    /**
+     * Obtiene el valor de una propiedad como booleano.
+     *
+     * @param key          La clave de la propiedad.
+     * @param defaultValue El valor que se devuelve si la propiedad no está definida.
+     * @return El valor de la propiedad, o el valor por defecto si no está definida.
+     */
+    boolean getBoolean(String key, boolean defaultValue);
+}
@@ -0,0 +1,94 @@
+package utility.config;
+
+import utility.loader.PropertiesLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Properties;
+
+/**
+ * Implementación de la interfaz {@link ApplicationConfigLoader} que lee la configuración desde un archivo de
+ * propiedades.
+ *
+ * <p>Las propiedades del sistema (por ejemplo {@code -Dmetrics.enabled=false}) tienen prioridad sobre las del
+ * archivo, lo que permite ajustar la configuración sin volver a empaquetar la aplicación.</p>
+ */
+public class ApplicationConfigLoaderImpl implements ApplicationConfigLoader {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationConfigLoaderImpl.class);
+
+    // Cargador de propiedades.
+    private final PropertiesLoader propertiesLoader;
+
+    // Nombre del archivo de propiedades.
+    private final String propertiesFileName;
+
+    /**
+     * Constructor que inicializa el cargador de propiedades y el nombre del archivo de propiedades.
+     *
+     * @param propertiesLoader   La instancia de {@link PropertiesLoader} utilizada para cargar las propiedades.
+     * @param propertiesFileName El nombre del archivo de propiedades que contiene la configuración de la aplicación.
+     */
+    public ApplicationConfigLoaderImpl(PropertiesLoader propertiesLoader, String propertiesFileName) {
+        this.propertiesLoader = propertiesLoader;
+        this.propertiesFileName = propertiesFileName;
+    }
+
+    @Override
+    public String getString(String key, String defaultValue) {
+        String value = getProperty(key);
+        return value != null ? value : defaultValue;
+    }
+
+    @Override
+    public int getInt(String key, int defaultValue) {
+        long value = getLong(key, defaultValue);
+        try {
+            return Math.toIntExact(value);
+        } catch (ArithmeticException e) {
+            String errorMsg = "El valor de la propiedad '" + key + "' está fuera del rango de un entero: " + value;
+            logger.error(errorMsg, e);
+            throw new IllegalStateException(errorMsg, e);
+        }
+    }
+
+    @Override
+    public long getLong(String key, long defaultValue) {
+        String value = getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            String errorMsg = "El valor de la propiedad '" + key + "' no es un número válido: " + value;
+            logger.error(errorMsg, e);
+            throw new IllegalStateException(errorMsg, e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = getProperty(key);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+
+    /**
+     * Obtiene el valor de la propiedad especificada, dando prioridad a las propiedades del sistema.
+     *
+     * @param key La clave de la propiedad a obtener.
+     * @return El valor de la propiedad sin espacios en los extremos, o {@code null} si no está definida.
+     */
+    private String getProperty(String key) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            Properties properties = propertiesLoader.loadProperties(propertiesFileName);
+            value = properties.getProperty(key);
+        }
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+}
@@ -1,5 +1,7 @@
 package utility.config;
 
+import java.util.List;
+
 /**
  * Interfaz para cargar la configuración de la base de datos.
  * Proporciona métodos para obtener los detalles de configuración necesarios para establecer una conexión a la base de datos.
@@ -40,4 +42,18 @@ public interface DatabaseConfigLoader {
      * @return Las opciones adicionales de la base de datos.
      */
     String getDatabaseOptions();
+
+    /**
+     * Obtiene el nombre del dialecto de la base de datos (por ejemplo, {@code mysql} o {@code h2}).
+     *
+     * @return El nombre del dialecto de la base de datos.
+     */
+    String getDatabaseDialect();
+
+    /**
+     * Obtiene las URLs de las réplicas de solo lectura de la base de datos.
+     *
+     * @return La lista de URLs de las réplicas, vacía si no hay réplicas configuradas.
+     */
+    List<String> getReplicaUrls();
 }
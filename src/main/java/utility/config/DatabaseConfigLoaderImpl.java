@@ -4,7 +4,10 @@ import utility.loader.PropertiesLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 /**
  * Implementación de la interfaz {@link DatabaseConfigLoader} para cargar la configuración de la base de datos
@@ -82,6 +85,36 @@ public class DatabaseConfigLoaderImpl implements DatabaseConfigLoader {
         return getProperty("db.options");
     }
 
+    /**
+     * Obtiene el nombre del dialecto de la base de datos desde las propiedades cargadas.
+     * Si la propiedad no está definida, se asume {@code mysql} para mantener la compatibilidad con las
+     * configuraciones existentes.
+     *
+     * @return El nombre del dialecto de la base de datos.
+     */
+    @Override
+    public String getDatabaseDialect() {
+        Properties properties = propertiesLoader.loadProperties(propertiesFileName);
+        return properties.getProperty("db.dialect", "mysql");
+    }
+
+    /**
+     * Obtiene las URLs de las réplicas de solo lectura desde la propiedad opcional {@code db.replica.urls},
+     * separadas por comas. Las réplicas comparten usuario, contraseña, driver y opciones con la base de datos
+     * principal.
+     *
+     * @return La lista de URLs de las réplicas, vacía si la propiedad no está definida.
+     */
+    @Override
+    public List<String> getReplicaUrls() {
+        Properties properties = propertiesLoader.loadProperties(propertiesFileName);
+        String value = properties.getProperty("db.replica.urls", "");
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .collect(Collectors.toList());
+    }
+
     /**
      * Obtiene el valor de la propiedad especificada desde el archivo de propiedades.
      *
@@ -0,0 +1,67 @@
+package utility.config;
+
+import java.util.List;
+
+/**
+ * Implementación de la interfaz {@link DatabaseConfigLoader} para una réplica de solo lectura.
+ * Devuelve la URL de la réplica y delega el resto de la configuración en la de la base de datos principal.
+ */
+public class ReplicaDatabaseConfigLoaderImpl implements DatabaseConfigLoader {
+
+    // Configuración de la base de datos principal.
+    private final DatabaseConfigLoader primaryConfigLoader;
+
+    // URL de la réplica.
+    private final String replicaUrl;
+
+    /**
+     * Constructor que inicializa la configuración de la base de datos principal y la URL de la réplica.
+     *
+     * @param primaryConfigLoader La configuración de la base de datos principal.
+     * @param replicaUrl          La URL de la réplica.
+     */
+    public ReplicaDatabaseConfigLoaderImpl(DatabaseConfigLoader primaryConfigLoader, String replicaUrl) {
+        this.primaryConfigLoader = primaryConfigLoader;
+        this.replicaUrl = replicaUrl;
+    }
+
+    @Override
+    public String getDatabaseUrl() {
+        return replicaUrl;
+    }
+
+    @Override
+    public String getDatabaseUsername() {
+        return primaryConfigLoader.getDatabaseUsername();
+    }
+
+    @Override
+    public String getDatabasePassword() {
+        return primaryConfigLoader.getDatabasePassword();
+    }
+
+    @Override
+    public String getDatabaseDriverClassName() {
+        return primaryConfigLoader.getDatabaseDriverClassName();
+    }
+
+    @Override
+    public String getDatabaseOptions() {
+        return primaryConfigLoader.getDatabaseOptions();
+    }
+
+    @Override
+    public String getDatabaseDialect() {
+        return primaryConfigLoader.getDatabaseDialect();
+    }
+
+    /**
+     * Una réplica no tiene réplicas propias.
+     *
+     * @return Una lista vacía.
+     */
+    @Override
+    public List<String> getReplicaUrls() {
+        return List.of();
+    }
+}
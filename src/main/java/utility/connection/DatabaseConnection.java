@@ -17,6 +17,19 @@ public interface DatabaseConnection {
      */
     Connection getConnection() throws SQLException;
 
+    /**
+     * Obtiene una conexión para operaciones de solo lectura.
+     *
+     * <p>Las implementaciones que distribuyen la carga entre varias bases de datos pueden devolver una conexión a
+     * una réplica. Por defecto se devuelve la misma conexión que {@link #getConnection()}.</p>
+     *
+     * @return Una conexión a la base de datos apta para consultas.
+     * @throws SQLException Si ocurre un error al intentar obtener la conexión.
+     */
+    default Connection getReadConnection() throws SQLException {
+        return getConnection();
+    }
+
     /**
      * Cierra la conexión a la base de datos.
      *
@@ -24,4 +37,13 @@ public interface DatabaseConnection {
      * @throws SQLException Si ocurre un error al intentar cerrar la conexión.
      */
     void closeConnection(Connection connection) throws SQLException;
+
+    /**
+     * Obtiene el dialecto del motor de base de datos al que se conecta esta instancia.
+     *
+     * @return El dialecto de la base de datos. Por defecto, {@link DatabaseDialect#MYSQL}.
+     */
+    default DatabaseDialect getDialect() {
+        return DatabaseDialect.MYSQL;
+    }
 }
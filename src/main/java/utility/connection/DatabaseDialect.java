@@ -0,0 +1,104 @@
+package utility.connection;
+
+/**
+ * Enumeración de los dialectos de base de datos soportados por la aplicación.
+ *
+ * <p>Cada dialecto encapsula las diferencias entre motores que afectan a la aplicación: cómo se construye la URL
+ * JDBC a partir de la configuración, si el motor se ejecuta dentro del propio proceso y qué script crea el
+ * esquema cuando la base de datos se provisiona automáticamente.</p>
+ */
+public enum DatabaseDialect {
+
+    /**
+     * Servidor MySQL accesible por red. Las opciones se añaden a la URL como parámetros de consulta.
+     */
+    MYSQL("mysql", "?", "&", false, "sql/schema.sql"),
+
+    /**
+     * Motor H2 embebido en el propio proceso, en modo de compatibilidad con MySQL. No necesita servidor externo ni
+     * conexión de red. Las opciones se añaden a la URL separadas por punto y coma.
+     */
+    H2("h2", ";", ";", true, "sql/schema-h2.sql");
+
+    // Nombre del dialecto en la configuración (propiedad db.dialect).
+    private final String configName;
+
+    // Separador entre la URL y la primera opción.
+    private final String optionsPrefix;
+
+    // Separador entre opciones, utilizado para normalizar la cadena de opciones configurada.
+    private final String optionsSeparator;
+
+    // Indica si el motor se ejecuta dentro del propio proceso.
+    private final boolean embedded;
+
+    // Recurso del classpath con el script de creación del esquema.
+    private final String schemaScript;
+
+    DatabaseDialect(String configName, String optionsPrefix, String optionsSeparator, boolean embedded,
+                    String schemaScript) {
+        this.configName = configName;
+        this.optionsPrefix = optionsPrefix;
+        this.optionsSeparator = optionsSeparator;
+        this.embedded = embedded;
+        this.schemaScript = schemaScript;
+    }
+
+    /**
+     * Obtiene el dialecto correspondiente a un nombre de configuración.
+     *
+     * @param name El nombre del dialecto (por ejemplo, {@code mysql} o {@code h2}), sin distinguir mayúsculas.
+     * @return El dialecto correspondiente.
+     * @throws IllegalStateException si el nombre no corresponde a ningún dialecto soportado.
+     */
+    public static DatabaseDialect fromName(String name) {
+        for (DatabaseDialect dialect : values()) {
+            if (dialect.configName.equalsIgnoreCase(name.trim())) {
+                return dialect;
+            }
+        }
+        throw new IllegalStateException("Dialecto de base de datos no soportado: " + name);
+    }
+
+    /**
+     * Construye la URL JDBC completa a partir de la URL base y las opciones configuradas.
+     *
+     * @param url     La URL base de la base de datos.
+     * @param options Las opciones adicionales separadas por {@code &} o {@code ;}, o {@code null} si no hay.
+     * @return La URL JDBC con las opciones en el formato del dialecto.
+     */
+    public String buildJdbcUrl(String url, String options) {
+        if (options == null || options.isBlank()) {
+            return url;
+        }
+        String normalized = options.trim().replace("&", optionsSeparator).replace(";", optionsSeparator);
+        return url + optionsPrefix + normalized;
+    }
+
+    /**
+     * Indica si el motor se ejecuta dentro del propio proceso, sin servidor externo.
+     *
+     * @return {@code true} si el motor es embebido.
+     */
+    public boolean isEmbedded() {
+        return embedded;
+    }
+
+    /**
+     * Obtiene el recurso del classpath con el script de creación del esquema para este dialecto.
+     *
+     * @return La ruta del script en el classpath.
+     */
+    public String getSchemaScript() {
+        return schemaScript;
+    }
+
+    /**
+     * Obtiene el nombre del dialecto tal y como se indica en la configuración.
+     *
+     * @return El nombre del dialecto.
+     */
+    public String getConfigName() {
+        return configName;
+    }
+}
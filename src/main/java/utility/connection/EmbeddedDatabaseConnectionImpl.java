@@ -0,0 +1,159 @@
+package utility.connection;
+
+import utility.config.DatabaseConfigLoader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * Implementación de la interfaz {@link DatabaseConnection} para un motor de base de datos embebido en el propio
+ * proceso (H2), que no necesita servidor externo ni conexión de red.
+ *
+ * <p>La primera vez que se obtiene una conexión se ejecuta el script de esquema del dialecto, de modo que la
+ * base de datos queda provisionada automáticamente. Para las bases de datos en memoria ({@code jdbc:h2:mem:}) se
+ * mantiene abierta una conexión de control mientras la instancia no se cierre, para que los datos no se pierdan
+ * entre operaciones.</p>
+ */
+public class EmbeddedDatabaseConnectionImpl implements DatabaseConnection, AutoCloseable {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedDatabaseConnectionImpl.class);
+
+    // Cargador de configuración de la base de datos para obtener los detalles necesarios para la conexión.
+    private final DatabaseConfigLoader databaseConfigLoader;
+
+    // Dialecto del motor embebido.
+    private final DatabaseDialect dialect;
+
+    // Ejecutor del script de creación del esquema.
+    private final SqlScriptRunner scriptRunner = new SqlScriptRunner();
+
+    // Indica si el esquema ya se ha provisionado.
+    private volatile boolean initialized;
+
+    // Conexión de control que mantiene viva una base de datos en memoria.
+    private Connection keepAliveConnection;
+
+    /**
+     * Constructor que inicializa el cargador de configuración de la base de datos.
+     *
+     * @param databaseConfigLoader El cargador de configuración de la base de datos.
+     */
+    public EmbeddedDatabaseConnectionImpl(DatabaseConfigLoader databaseConfigLoader) {
+        this.databaseConfigLoader = databaseConfigLoader;
+        this.dialect = DatabaseDialect.fromName(databaseConfigLoader.getDatabaseDialect());
+        if (!dialect.isEmbedded()) {
+            throw new IllegalStateException("El dialecto " + dialect.getConfigName() + " no es un motor embebido");
+        }
+    }
+
+    /**
+     * Obtiene una conexión a la base de datos embebida, provisionando el esquema si es la primera.
+     *
+     * @return Una conexión a la base de datos embebida.
+     * @throws SQLException Si ocurre un error al obtener la conexión o al provisionar el esquema.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!initialized) {
+            initialize();
+        }
+        return openConnection();
+    }
+
+    /**
+     * Cierra la conexión a la base de datos.
+     *
+     * @param connection La conexión a la base de datos que se va a cerrar.
+     * @throws SQLException Si ocurre un error al cerrar la conexión.
+     */
+    @Override
+    public void closeConnection(Connection connection) throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            return;
+        }
+
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            String errorMsg = "Error al cerrar la conexión a la base de datos.";
+            logger.error(errorMsg, e);
+            throw new SQLException(errorMsg, e);
+        }
+    }
+
+    @Override
+    public DatabaseDialect getDialect() {
+        return dialect;
+    }
+
+    /**
+     * Cierra la conexión de control. En una base de datos en memoria, esto descarta todos sus datos.
+     *
+     * @throws SQLException Si ocurre un error al cerrar la conexión de control.
+     */
+    @Override
+    public synchronized void close() throws SQLException {
+        if (keepAliveConnection != null) {
+            keepAliveConnection.close();
+            keepAliveConnection = null;
+        }
+        initialized = false;
+    }
+
+    /**
+     * Provisiona el esquema de la base de datos una única vez.
+     *
+     * @throws SQLException Si ocurre un error al ejecutar el script de esquema.
+     */
+    private synchronized void initialize() throws SQLException {
+        if (initialized) {
+            return;
+        }
+        Connection connection = openConnection();
+        try {
+            scriptRunner.run(connection, dialect.getSchemaScript());
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            String errorMsg = "Error al provisionar el esquema de la base de datos embebida.";
+            logger.error(errorMsg, e);
+            throw new SQLException(errorMsg, e);
+        }
+        if (databaseConfigLoader.getDatabaseUrl().contains(":mem:")) {
+            keepAliveConnection = connection;
+        } else {
+            connection.close();
+        }
+        initialized = true;
+    }
+
+    /**
+     * Abre una nueva conexión con el driver del motor embebido.
+     *
+     * @return La nueva conexión.
+     * @throws SQLException Si ocurre un error al obtener la conexión.
+     */
+    private Connection openConnection() throws SQLException {
+        String url = dialect.buildJdbcUrl(databaseConfigLoader.getDatabaseUrl(), databaseConfigLoader.getDatabaseOptions());
+        String username = databaseConfigLoader.getDatabaseUsername();
+        String password = databaseConfigLoader.getDatabasePassword();
+        String driverClassName = databaseConfigLoader.getDatabaseDriverClassName();
+
+        try {
+            Class.forName(driverClassName);
+            return DriverManager.getConnection(url, username, password);
+        } catch (ClassNotFoundException e) {
+            String errorMsg = "No se encontró el controlador JDBC: " + driverClassName;
+            logger.error(errorMsg, e);
+            throw new SQLException(errorMsg, e);
+        } catch (SQLException e) {
+            String errorMsg = "Error al obtener la conexión a la base de datos.";
+            logger.error(errorMsg, e);
+            throw new SQLException(errorMsg, e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package utility.connection;
+
+import utility.metrics.ConnectionMetrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementación de la interfaz {@link DatabaseConnection} que decora otra conexión para registrar los indicadores
+ * de uso en un {@link ConnectionMetrics}: tiempo de obtención, conexiones activas y tiempo de uso de cada conexión.
+ *
+ * <p>Las conexiones devueltas se envuelven en un proxy ligero que detecta su cierre, tanto si se cierran con
+ * {@link Connection#close()} como con {@link #closeConnection(Connection)}.</p>
+ */
+public class InstrumentedDatabaseConnectionImpl implements DatabaseConnection {
+
+    // Conexión decorada.
+    private final DatabaseConnection delegate;
+
+    // Indicadores de uso de las conexiones.
+    private final ConnectionMetrics metrics;
+
+    /**
+     * Constructor que inicializa la conexión decorada y los indicadores de uso.
+     *
+     * @param delegate La conexión a la base de datos que se decora.
+     * @param metrics  Los indicadores en los que se registra el uso de las conexiones.
+     */
+    public InstrumentedDatabaseConnectionImpl(DatabaseConnection delegate, ConnectionMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Obtiene una conexión de la conexión decorada y registra el tiempo empleado.
+     *
+     * @return Una conexión instrumentada a la base de datos.
+     * @throws SQLException Si ocurre un error al obtener la conexión.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return acquire(false);
+    }
+
+    /**
+     * Obtiene una conexión de lectura de la conexión decorada y registra el tiempo empleado.
+     *
+     * @return Una conexión instrumentada a la base de datos.
+     * @throws SQLException Si ocurre un error al obtener la conexión.
+     */
+    @Override
+    public Connection getReadConnection() throws SQLException {
+        return acquire(true);
+    }
+
+    /**
+     * Obtiene una conexión de la conexión decorada, registrando el tiempo empleado y envolviéndola.
+     *
+     * @param readOnly {@code true} para obtener una conexión de lectura.
+     * @return Una conexión instrumentada a la base de datos.
+     * @throws SQLException Si ocurre un error al obtener la conexión.
+     */
+    private Connection acquire(boolean readOnly) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection;
+        try {
+            connection = readOnly ? delegate.getReadConnection() : delegate.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            metrics.recordFailed(System.nanoTime() - start);
+            throw e;
+        }
+        long acquiredAt = System.nanoTime();
+        metrics.recordAcquired(acquiredAt - start);
+        return wrap(connection, acquiredAt);
+    }
+
+    /**
+     * Cierra la conexión a la base de datos.
+     *
+     * @param connection La conexión a la base de datos que se va a cerrar.
+     * @throws SQLException Si ocurre un error al cerrar la conexión.
+     */
+    @Override
+    public void closeConnection(Connection connection) throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Override
+    public DatabaseDialect getDialect() {
+        return delegate.getDialect();
+    }
+
+    /**
+     * Envuelve una conexión en un proxy que registra su cierre.
+     *
+     * @param connection La conexión real.
+     * @param acquiredAt El instante (en nanosegundos) en el que se obtuvo la conexión.
+     * @return La conexión envuelta.
+     */
+    private Connection wrap(Connection connection, long acquiredAt) {
+        AtomicBoolean released = new AtomicBoolean();
+        InvocationHandler handler = (proxy, method, args) -> {
+            if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                if (released.compareAndSet(false, true)) {
+                    metrics.recordReleased(System.nanoTime() - acquiredAt);
+                }
+                delegate.closeConnection(connection);
+                return null;
+            }
+            return invoke(connection, method, args);
+        };
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    /**
+     * Invoca un método sobre la conexión real, propagando la excepción original si falla.
+     *
+     * @param connection La conexión real.
+     * @param method     El método a invocar.
+     * @param args       Los argumentos del método.
+     * @return El resultado de la invocación.
+     * @throws Throwable La excepción lanzada por la conexión real.
+     */
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
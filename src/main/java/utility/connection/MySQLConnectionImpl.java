@@ -37,7 +37,8 @@ public class MySQLConnectionImpl implements DatabaseConnection {
      */
     @Override
     public Connection getConnection() throws SQLException {
-        String url = databaseConfigLoader.getDatabaseUrl() + "?" + databaseConfigLoader.getDatabaseOptions();
+        String url = DatabaseDialect.MYSQL.buildJdbcUrl(
+                databaseConfigLoader.getDatabaseUrl(), databaseConfigLoader.getDatabaseOptions());
         String username = databaseConfigLoader.getDatabaseUsername();
         String password = databaseConfigLoader.getDatabasePassword();
         String driverClassName = databaseConfigLoader.getDatabaseDriverClassName();
@@ -0,0 +1,414 @@
+package utility.connection;
+
+import utility.jfr.SqlStatementEvent;
+import utility.metrics.StatementProfiler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementación de la interfaz {@link DatabaseConnection} que decora otra conexión para perfilar las sentencias
+ * SQL: mide el tiempo de cada fase, agrega las estadísticas por forma de sentencia en un {@link StatementProfiler}
+ * y registra en el log las sentencias que superan el umbral de sentencias lentas.
+ *
+ * <p>Las conexiones, las sentencias y los resultados devueltos se envuelven en proxies ligeros. Las fases medidas
+ * son la obtención de la conexión, la preparación de la sentencia, su ejecución, la lectura de las filas (el tiempo
+ * dentro de los métodos del {@link ResultSet}, incluidas las lecturas por red del driver) y el mapeo (el tiempo que
+ * el resultado permanece abierto fuera de esos métodos, es decir, el código de la aplicación que convierte las
+ * filas). Los parámetros de las sentencias lentas se registran sin sus valores, solo con su tipo y su longitud,
+ * para no escribir datos personales en el log. Cada ejecución se registra además como un
+ * {@link SqlStatementEvent} de Java Flight Recorder.</p>
+ */
+public class ProfilingDatabaseConnectionImpl implements DatabaseConnection {
+
+    // Logger para registrar las sentencias lentas.
+    private static final Logger logger = LoggerFactory.getLogger(ProfilingDatabaseConnectionImpl.class);
+
+    // Métodos de la conexión que preparan una sentencia.
+    private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+    // Métodos de la sentencia que la ejecutan.
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    // Número máximo de parámetros que se describen en el log de una sentencia lenta.
+    private static final int MAX_LOGGED_PARAMETERS = 10;
+
+    // Conexión decorada.
+    private final DatabaseConnection delegate;
+
+    // Perfilado en el que se agregan las estadísticas.
+    private final StatementProfiler profiler;
+
+    /**
+     * Constructor que inicializa la conexión decorada y el perfilado.
+     *
+     * @param delegate La conexión a la base de datos que se decora.
+     * @param profiler El perfilado en el que se agregan las estadísticas de las sentencias.
+     */
+    public ProfilingDatabaseConnectionImpl(DatabaseConnection delegate, StatementProfiler profiler) {
+        this.delegate = delegate;
+        this.profiler = profiler;
+    }
+
+    /**
+     * Obtiene una conexión perfilada de la conexión decorada.
+     *
+     * @return Una conexión perfilada a la base de datos.
+     * @throws SQLException Si ocurre un error al obtener la conexión.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return acquire(false);
+    }
+
+    /**
+     * Obtiene una conexión de lectura perfilada de la conexión decorada.
+     *
+     * @return Una conexión perfilada apta para consultas.
+     * @throws SQLException Si ocurre un error al obtener la conexión.
+     */
+    @Override
+    public Connection getReadConnection() throws SQLException {
+        return acquire(true);
+    }
+
+    /**
+     * Cierra la conexión a la base de datos.
+     *
+     * @param connection La conexión a la base de datos que se va a cerrar.
+     * @throws SQLException Si ocurre un error al cerrar la conexión.
+     */
+    @Override
+    public void closeConnection(Connection connection) throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Override
+    public DatabaseDialect getDialect() {
+        return delegate.getDialect();
+    }
+
+    /**
+     * Obtiene una conexión de la conexión decorada, registrando el tiempo empleado y envolviéndola.
+     *
+     * @param readOnly {@code true} para obtener una conexión de lectura.
+     * @return Una conexión perfilada.
+     * @throws SQLException Si ocurre un error al obtener la conexión.
+     */
+    private Connection acquire(boolean readOnly) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = readOnly ? delegate.getReadConnection() : delegate.getConnection();
+        long connectNanos = System.nanoTime() - start;
+        profiler.recordConnect(connectNanos);
+        return wrap(connection, connectNanos);
+    }
+
+    /**
+     * Envuelve una conexión en un proxy que perfila las sentencias que prepara. El tiempo de obtención de la
+     * conexión se atribuye a la primera sentencia ejecutada, para que el log de una operación lenta lo incluya.
+     *
+     * @param connection   La conexión real.
+     * @param connectNanos El tiempo empleado en obtener la conexión, en nanosegundos.
+     * @return La conexión envuelta.
+     */
+    private Connection wrap(Connection connection, long connectNanos) {
+        AtomicLong pendingConnectNanos = new AtomicLong(connectNanos);
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if ("close".equals(name) && method.getParameterCount() == 0) {
+                delegate.closeConnection(connection);
+                return null;
+            }
+            if (!PREPARE_METHODS.contains(name)) {
+                return invoke(connection, method, args);
+            }
+            long start = System.nanoTime();
+            Statement statement = (Statement) invoke(connection, method, args);
+            long prepareNanos = System.nanoTime() - start;
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+            ProfiledStatement profiled =
+                    new ProfiledStatement(statement, sql, prepareNanos, pendingConnectNanos.getAndSet(0));
+            return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{method.getReturnType()}, profiled);
+        };
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    /**
+     * Invoca un método sobre el objeto real, propagando la excepción original si falla.
+     *
+     * @param target El objeto real.
+     * @param method El método a invocar.
+     * @param args   Los argumentos del método.
+     * @return El resultado de la invocación.
+     * @throws Throwable La excepción lanzada por el objeto real.
+     */
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Describe un parámetro de una sentencia sin revelar su valor.
+     *
+     * @param setter El nombre del método con el que se asigna el parámetro.
+     * @param value  El valor del parámetro.
+     * @return El tipo del parámetro y, para textos y binarios, su longitud.
+     */
+    private static String describe(String setter, Object value) {
+        if (value == null || "setNull".equals(setter)) {
+            return "NULL";
+        }
+        if (value instanceof CharSequence) {
+            return "String(" + ((CharSequence) value).length() + ")";
+        }
+        if (value instanceof byte[]) {
+            return "byte[" + ((byte[]) value).length + "]";
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    /**
+     * Cuenta las filas afectadas a partir del resultado de una ejecución sin conjunto de resultados.
+     *
+     * @param result El resultado de la ejecución.
+     * @return El número de filas afectadas, o 0 si no se conoce.
+     */
+    private static long affectedRows(Object result) {
+        long rows = 0;
+        if (result instanceof Number) {
+            rows = ((Number) result).longValue();
+        } else if (result instanceof int[]) {
+            for (int count : (int[]) result) {
+                rows += Math.max(0, count);
+            }
+        } else if (result instanceof long[]) {
+            for (long count : (long[]) result) {
+                rows += Math.max(0, count);
+            }
+        }
+        return Math.max(0, rows);
+    }
+
+    /**
+     * Convierte una duración en nanosegundos en milisegundos con un decimal.
+     *
+     * @param nanos La duración en nanosegundos.
+     * @return La duración en milisegundos.
+     */
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Manejador del proxy de una sentencia: registra sus parámetros y mide cada ejecución y la lectura de su
+     * resultado. Una sentencia la usa un solo hilo, por lo que su estado no necesita sincronización.
+     */
+    private final class ProfiledStatement implements InvocationHandler {
+
+        // Sentencia real.
+        private final Statement statement;
+
+        // Texto de la sentencia preparada, o null si es una sentencia simple.
+        private final String sql;
+
+        // Descripción de los parámetros asignados, por posición o nombre, con las posiciones en orden numérico.
+        private final Map<String, String> parameters =
+                new TreeMap<>(Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()));
+
+        // Tiempos de preparación y de obtención de la conexión aún no atribuidos a ninguna ejecución.
+        private long prepareNanos;
+        private long connectNanos;
+
+        // Filas añadidas al lote actual.
+        private int batchSize;
+
+        // Resultado abierto de la última ejecución, o null si no hay ninguno.
+        private ResultSet openResult;
+        private String openSql;
+        private SqlStatementEvent openEvent;
+        private long openExecuteNanos;
+        private long openedAt;
+        private long fetchNanos;
+        private long rows;
+
+        /**
+         * Constructor que inicializa el manejador de una sentencia recién preparada.
+         *
+         * @param statement    La sentencia real.
+         * @param sql          El texto de la sentencia preparada, o {@code null} si es una sentencia simple.
+         * @param prepareNanos El tiempo de preparación, en nanosegundos.
+         * @param connectNanos El tiempo de obtención de la conexión aún no atribuido, en nanosegundos.
+         */
+        private ProfiledStatement(Statement statement, String sql, long prepareNanos, long connectNanos) {
+            this.statement = statement;
+            this.sql = sql;
+            this.prepareNanos = prepareNanos;
+            this.connectNanos = connectNanos;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (EXECUTE_METHODS.contains(name)) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2) {
+                parameters.put(String.valueOf(args[0]), describe(name, args[1]));
+            } else if ("clearParameters".equals(name)) {
+                parameters.clear();
+            } else if ("addBatch".equals(name)) {
+                batchSize++;
+            } else if ("clearBatch".equals(name)) {
+                batchSize = 0;
+            } else if ("close".equals(name)) {
+                finishResult();
+            }
+            return ProfilingDatabaseConnectionImpl.invoke(statement, method, args);
+        }
+
+        /**
+         * Ejecuta la sentencia midiendo su tiempo. Si devuelve un conjunto de resultados, la ejecución se registra
+         * cuando el resultado se cierra, para incluir la lectura y el mapeo de las filas.
+         *
+         * @param method El método de ejecución.
+         * @param args   Los argumentos del método.
+         * @return El resultado de la ejecución, envuelto si es un conjunto de resultados.
+         * @throws Throwable La excepción lanzada por la sentencia real.
+         */
+        private Object execute(Method method, Object[] args) throws Throwable {
+            finishResult();
+            String executedSql =
+                    args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : sql;
+            Object result;
+            SqlStatementEvent event = SqlStatementEvent.start();
+            long start = System.nanoTime();
+            try {
+                result = ProfilingDatabaseConnectionImpl.invoke(statement, method, args);
+            } catch (Throwable e) {
+                record(executedSql, event, System.nanoTime() - start, 0, 0, 0, true);
+                throw e;
+            }
+            long executeNanos = System.nanoTime() - start;
+            if (!(result instanceof ResultSet)) {
+                record(executedSql, event, executeNanos, 0, 0, affectedRows(result), false);
+                return result;
+            }
+            openResult = (ResultSet) result;
+            openSql = executedSql;
+            openEvent = event;
+            openExecuteNanos = executeNanos;
+            openedAt = System.nanoTime();
+            fetchNanos = 0;
+            rows = 0;
+            return Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                    this::invokeResult);
+        }
+
+        /**
+         * Invoca un método del conjunto de resultados, acumulando el tiempo de lectura y las filas leídas.
+         *
+         * @param proxy  El proxy del conjunto de resultados.
+         * @param method El método invocado.
+         * @param args   Los argumentos del método.
+         * @return El resultado de la invocación.
+         * @throws Throwable La excepción lanzada por el conjunto de resultados real.
+         */
+        private Object invokeResult(Object proxy, Method method, Object[] args) throws Throwable {
+            ResultSet resultSet = openResult;
+            if (resultSet == null) {
+                throw new SQLException("El conjunto de resultados está cerrado");
+            }
+            long start = System.nanoTime();
+            Object result = ProfilingDatabaseConnectionImpl.invoke(resultSet, method, args);
+            fetchNanos += System.nanoTime() - start;
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                rows++;
+            } else if ("close".equals(method.getName())) {
+                finishResult();
+            }
+            return result;
+        }
+
+        /**
+         * Registra la ejecución cuyo conjunto de resultados sigue abierto, si la hay.
+         */
+        private void finishResult() {
+            if (openResult == null) {
+                return;
+            }
+            long mappingNanos = Math.max(0, System.nanoTime() - openedAt - fetchNanos);
+            openResult = null;
+            record(openSql, openEvent, openExecuteNanos, fetchNanos, mappingNanos, rows, false);
+        }
+
+        /**
+         * Registra una ejecución en el perfilado y en su evento de Java Flight Recorder y, si supera el umbral, en
+         * el log de sentencias lentas.
+         *
+         * @param executedSql  El texto de la sentencia ejecutada.
+         * @param event        El evento de Java Flight Recorder de la ejecución.
+         * @param executeNanos El tiempo de ejecución, en nanosegundos.
+         * @param fetch        El tiempo de lectura de las filas, en nanosegundos.
+         * @param mappingNanos El tiempo de mapeo de las filas, en nanosegundos.
+         * @param rowCount     Las filas leídas o afectadas.
+         * @param failed       {@code true} si la ejecución ha fallado.
+         */
+        private void record(String executedSql, SqlStatementEvent event, long executeNanos, long fetch,
+                            long mappingNanos, long rowCount, boolean failed) {
+            String shape = profiler.shapeOf(executedSql);
+            long elapsed = prepareNanos + executeNanos + fetch + mappingNanos;
+            boolean slow = profiler.isSlow(elapsed);
+            profiler.statement(shape).record(prepareNanos, executeNanos, fetch, mappingNanos, rowCount, failed, slow);
+            event.finish(shape, prepareNanos, executeNanos, fetch, mappingNanos, rowCount, failed);
+            if (slow) {
+                logger.warn("Sentencia lenta{}: {} ms (conexión {} ms, preparación {} ms, ejecución {} ms, "
+                                + "lectura {} ms, mapeo {} ms, {} filas{}): {} parámetros {}",
+                        failed ? " fallida" : "", millis(elapsed), millis(connectNanos), millis(prepareNanos),
+                        millis(executeNanos), millis(fetch), millis(mappingNanos), rowCount,
+                        batchSize > 0 ? ", lote de " + batchSize : "", shape, describeParameters());
+            }
+            prepareNanos = 0;
+            connectNanos = 0;
+            batchSize = 0;
+        }
+
+        /**
+         * Describe los parámetros asignados, limitando su número.
+         *
+         * @return La descripción de los parámetros.
+         */
+        private String describeParameters() {
+            StringJoiner joiner = new StringJoiner(", ", "[", "]");
+            parameters.entrySet().stream()
+                    .limit(MAX_LOGGED_PARAMETERS)
+                    .forEach(parameter -> joiner.add(parameter.getKey() + "=" + parameter.getValue()));
+            if (parameters.size() > MAX_LOGGED_PARAMETERS) {
+                joiner.add("... (" + parameters.size() + " parámetros)");
+            }
+            return joiner.toString();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package utility.connection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementación de la interfaz {@link DatabaseConnection} que separa lecturas y escrituras entre una base de datos
+ * principal y N réplicas de solo lectura.
+ *
+ * <ul>
+ *     <li>{@link #getConnection()} devuelve siempre una conexión a la principal, que recibe todas las escrituras.</li>
+ *     <li>{@link #getReadConnection()} reparte las consultas entre las réplicas sanas por turno rotatorio
+ *     (round-robin). Si ninguna réplica está disponible, la consulta se envía a la principal.</li>
+ *     <li>Durante la ventana de lectura de las propias escrituras (read-your-writes) que sigue a cada uso de la
+ *     principal, las lecturas también se envían a la principal, para no leer datos que aún no han llegado a las
+ *     réplicas por el retardo de replicación.</li>
+ * </ul>
+ *
+ * <p>Un hilo demonio comprueba periódicamente el estado de cada réplica con {@link Connection#isValid(int)}. Una
+ * réplica que falla al obtener una conexión se marca como no disponible de inmediato y vuelve a recibir tráfico
+ * cuando supera la siguiente comprobación.</p>
+ */
+public class ReplicaRoutingConnectionImpl implements DatabaseConnection, AutoCloseable {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingConnectionImpl.class);
+
+    // Tiempo máximo de espera de cada comprobación de estado, en segundos.
+    private static final int HEALTH_CHECK_TIMEOUT_SECONDS = 2;
+
+    // Conexión a la base de datos principal.
+    private final DatabaseConnection primary;
+
+    // Réplicas de solo lectura y su estado.
+    private final List<Replica> replicas = new ArrayList<>();
+
+    // Duración de la ventana de lectura de las propias escrituras, en nanosegundos.
+    private final long readYourWritesNanos;
+
+    // Contador para el reparto rotatorio de las lecturas.
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    // Instante (System.nanoTime) del último uso de la principal para escribir.
+    private final AtomicLong lastWriteNanos = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+
+    // Planificador de las comprobaciones de estado.
+    private final ScheduledExecutorService healthChecker;
+
+    /**
+     * Constructor que inicializa la principal, las réplicas y las comprobaciones de estado.
+     *
+     * @param primary               La conexión a la base de datos principal.
+     * @param replicas              Las conexiones a las réplicas de solo lectura.
+     * @param readYourWritesMs      La duración de la ventana de lectura de las propias escrituras, en milisegundos.
+     *                              0 para desactivarla.
+     * @param healthCheckIntervalMs El intervalo entre comprobaciones de estado, en milisegundos.
+     */
+    public ReplicaRoutingConnectionImpl(DatabaseConnection primary, List<DatabaseConnection> replicas,
+                                        long readYourWritesMs, long healthCheckIntervalMs) {
+        this.primary = primary;
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica(i, replicas.get(i)));
+        }
+        this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMs);
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0, healthCheckIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Obtiene una conexión a la base de datos principal y abre la ventana de lectura de las propias escrituras.
+     *
+     * @return Una conexión a la base de datos principal.
+     * @throws SQLException Si ocurre un error al obtener la conexión.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = primary.getConnection();
+        lastWriteNanos.set(System.nanoTime());
+        return connection;
+    }
+
+    /**
+     * Obtiene una conexión de lectura: a una réplica sana o, si no hay ninguna o la ventana de lectura de las
+     * propias escrituras está abierta, a la principal.
+     *
+     * @return Una conexión apta para consultas.
+     * @throws SQLException Si ocurre un error al obtener la conexión a la principal.
+     */
+    @Override
+    public Connection getReadConnection() throws SQLException {
+        if (System.nanoTime() - lastWriteNanos.get() < readYourWritesNanos) {
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.connection.getConnection();
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    /**
+     * Cierra la conexión a la base de datos.
+     *
+     * @param connection La conexión a la base de datos que se va a cerrar.
+     * @throws SQLException Si ocurre un error al cerrar la conexión.
+     */
+    @Override
+    public void closeConnection(Connection connection) throws SQLException {
+        primary.closeConnection(connection);
+    }
+
+    @Override
+    public DatabaseDialect getDialect() {
+        return primary.getDialect();
+    }
+
+    /**
+     * Obtiene el número de réplicas que se consideran sanas en este momento.
+     *
+     * @return El número de réplicas disponibles para lecturas.
+     */
+    public int getHealthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    /**
+     * Detiene las comprobaciones de estado.
+     */
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+    }
+
+    /**
+     * Comprueba el estado de todas las réplicas.
+     */
+    private void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.connection.getConnection()) {
+                if (connection.isValid(HEALTH_CHECK_TIMEOUT_SECONDS)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown(null);
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.markDown(e);
+            }
+        }
+    }
+
+    /**
+     * Réplica de solo lectura y su estado de salud.
+     */
+    private static final class Replica {
+
+        // Índice de la réplica en la configuración, para los mensajes de log.
+        private final int index;
+
+        // Conexión a la réplica.
+        private final DatabaseConnection connection;
+
+        // Indica si la réplica puede recibir lecturas.
+        private volatile boolean healthy = true;
+
+        private Replica(int index, DatabaseConnection connection) {
+            this.index = index;
+            this.connection = connection;
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                healthy = true;
+                logger.info("La réplica {} vuelve a estar disponible", index);
+            }
+        }
+
+        private void markDown(Exception cause) {
+            if (healthy) {
+                healthy = false;
+                logger.warn("La réplica {} no está disponible; las lecturas se envían a otras bases de datos", index, cause);
+            }
+        }
+    }
+}
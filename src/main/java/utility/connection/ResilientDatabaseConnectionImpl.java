@@ -0,0 +1,273 @@
+package utility.connection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utility.resilience.CircuitBreaker;
+import utility.resilience.CircuitBreakerOpenException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementación de la interfaz {@link DatabaseConnection} que decora otra conexión para que un servidor caído o
+ * bloqueado no retenga los hilos de la aplicación.
+ *
+ * <ul>
+ *     <li>Cada intento de conexión tiene un tiempo máximo de espera propio, independiente del del driver. Si se
+ *     agota, el intento se abandona y la conexión que llegue tarde se cierra en segundo plano.</li>
+ *     <li>Las conexiones devueltas tienen un tiempo máximo de espera de red ({@link Connection#setNetworkTimeout}),
+ *     de modo que una consulta sobre un servidor que ha dejado de responder también termina con un error.</li>
+ *     <li>Un {@link CircuitBreaker} rechaza de inmediato las conexiones mientras la base de datos está caída. Un hilo
+ *     demonio comprueba periódicamente el estado del servidor para cerrar el circuito en cuanto vuelve a
+ *     responder, sin esperar a la siguiente petición del usuario.</li>
+ * </ul>
+ *
+ * <p>Los reintentos no se realizan aquí sino en la capa del DAO ({@code repository.ResilientCustomerDAOImpl}), que
+ * repite la operación completa, para no multiplicar los intentos cuando ambas capas fallan a la vez.</p>
+ */
+public class ResilientDatabaseConnectionImpl implements DatabaseConnection, AutoCloseable {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger logger = LoggerFactory.getLogger(ResilientDatabaseConnectionImpl.class);
+
+    // Tiempo máximo de espera de cada comprobación de estado, en segundos.
+    private static final int HEALTH_CHECK_TIMEOUT_SECONDS = 2;
+
+    // Conexión decorada.
+    private final DatabaseConnection delegate;
+
+    // Cortocircuito que protege la base de datos.
+    private final CircuitBreaker circuitBreaker;
+
+    // Tiempo máximo de espera de cada intento de conexión, en milisegundos.
+    private final long connectTimeoutMillis;
+
+    // Tiempo máximo de espera de red de las conexiones devueltas, en milisegundos. 0 para no fijarlo.
+    private final int networkTimeoutMillis;
+
+    // Hilos que realizan los intentos de conexión y aplican los tiempos de espera de red.
+    private final ExecutorService connector;
+
+    // Planificador de las comprobaciones de estado.
+    private final ScheduledExecutorService healthChecker;
+
+    // Indica si el driver admite tiempos de espera de red; se desactiva tras el primer rechazo.
+    private volatile boolean networkTimeoutSupported = true;
+
+    /**
+     * Constructor que inicializa la conexión decorada y los mecanismos de resiliencia.
+     *
+     * @param delegate              La conexión a la base de datos que se decora.
+     * @param circuitBreaker        El cortocircuito que protege la base de datos.
+     * @param connectTimeoutMs      El tiempo máximo de espera de cada intento de conexión, en milisegundos.
+     * @param networkTimeoutMs      El tiempo máximo de espera de red de las conexiones, en milisegundos. 0 para no
+     *                              fijarlo.
+     * @param healthCheckIntervalMs El intervalo entre comprobaciones de estado con el circuito abierto, en
+     *                              milisegundos.
+     */
+    public ResilientDatabaseConnectionImpl(DatabaseConnection delegate, CircuitBreaker circuitBreaker,
+                                           long connectTimeoutMs, int networkTimeoutMs, long healthCheckIntervalMs) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.connectTimeoutMillis = connectTimeoutMs;
+        this.networkTimeoutMillis = networkTimeoutMs;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.connector = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "db-connector-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, healthCheckIntervalMs, healthCheckIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Obtiene una conexión de la conexión decorada aplicando el cortocircuito y los tiempos de espera.
+     *
+     * @return Una conexión a la base de datos.
+     * @throws SQLException Si el circuito está abierto o si todos los intentos fallan.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return acquire(false);
+    }
+
+    /**
+     * Obtiene una conexión de lectura de la conexión decorada aplicando el cortocircuito y los tiempos de
+     * espera.
+     *
+     * @return Una conexión apta para consultas.
+     * @throws SQLException Si el circuito está abierto o si todos los intentos fallan.
+     */
+    @Override
+    public Connection getReadConnection() throws SQLException {
+        return acquire(true);
+    }
+
+    /**
+     * Cierra la conexión a la base de datos.
+     *
+     * @param connection La conexión a la base de datos que se va a cerrar.
+     * @throws SQLException Si ocurre un error al cerrar la conexión.
+     */
+    @Override
+    public void closeConnection(Connection connection) throws SQLException {
+        delegate.closeConnection(connection);
+    }
+
+    @Override
+    public DatabaseDialect getDialect() {
+        return delegate.getDialect();
+    }
+
+    /**
+     * Obtiene el cortocircuito que protege la base de datos.
+     *
+     * @return El cortocircuito.
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Detiene las comprobaciones de estado y los hilos de conexión.
+     */
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        connector.shutdownNow();
+    }
+
+    /**
+     * Obtiene una conexión si el circuito lo permite, registrando el resultado en el cortocircuito.
+     *
+     * @param readOnly {@code true} para obtener una conexión de lectura.
+     * @return Una conexión a la base de datos.
+     * @throws SQLException Si el circuito está abierto o si el intento falla.
+     */
+    private Connection acquire(boolean readOnly) throws SQLException {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new CircuitBreakerOpenException("La base de datos no está disponible; se reintentará más tarde");
+        }
+        try {
+            Connection connection = connectWithTimeout(readOnly);
+            circuitBreaker.onSuccess();
+            applyNetworkTimeout(connection);
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * Realiza un intento de conexión en un hilo aparte y espera como máximo el tiempo configurado. Si el tiempo se
+     * agota, la conexión que se obtenga más tarde se cierra en cuanto llegue.
+     *
+     * @param readOnly {@code true} para obtener una conexión de lectura.
+     * @return Una conexión a la base de datos.
+     * @throws SQLException Si el intento falla o no termina a tiempo.
+     */
+    private Connection connectWithTimeout(boolean readOnly) throws SQLException {
+        CompletableFuture<Connection> attempt = CompletableFuture.supplyAsync(() -> {
+            try {
+                return readOnly ? delegate.getReadConnection() : delegate.getConnection();
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, connector);
+        try {
+            return attempt.get(connectTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            attempt.thenAccept(this::closeQuietly);
+            throw new SQLTimeoutException("Tiempo de espera agotado al conectar con la base de datos ("
+                    + connectTimeoutMillis + " ms)", "08001");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            attempt.thenAccept(this::closeQuietly);
+            throw new SQLException("Interrumpido mientras se conectaba con la base de datos", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new SQLException("Error al conectar con la base de datos", cause);
+        }
+    }
+
+    /**
+     * Fija el tiempo máximo de espera de red de una conexión, si el driver lo admite.
+     *
+     * @param connection La conexión recién obtenida.
+     */
+    private void applyNetworkTimeout(Connection connection) {
+        if (networkTimeoutMillis <= 0 || !networkTimeoutSupported) {
+            return;
+        }
+        try {
+            connection.setNetworkTimeout(connector, networkTimeoutMillis);
+        } catch (SQLFeatureNotSupportedException e) {
+            networkTimeoutSupported = false;
+            logger.info("El driver no admite tiempos de espera de red; se omiten");
+        } catch (SQLException e) {
+            logger.warn("No se pudo fijar el tiempo de espera de red de la conexión: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Comprueba el estado de la base de datos mientras el circuito está abierto, realizando la llamada de prueba
+     * del estado semiabierto en cuanto ha pasado el tiempo de espera.
+     */
+    private void checkHealth() {
+        if (!circuitBreaker.isProbeDue() || !circuitBreaker.tryAcquirePermission()) {
+            return;
+        }
+        try {
+            Connection connection = connectWithTimeout(false);
+            try {
+                if (connection.isValid(HEALTH_CHECK_TIMEOUT_SECONDS)) {
+                    circuitBreaker.onSuccess();
+                } else {
+                    circuitBreaker.onFailure();
+                }
+            } finally {
+                closeQuietly(connection);
+            }
+        } catch (SQLException | RuntimeException e) {
+            circuitBreaker.onFailure();
+            logger.debug("La comprobación de estado de la base de datos ha fallado: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Cierra una conexión ignorando los errores.
+     *
+     * @param connection La conexión a cerrar.
+     */
+    private void closeQuietly(Connection connection) {
+        try {
+            delegate.closeConnection(connection);
+        } catch (SQLException e) {
+            logger.debug("Error al cerrar una conexión abandonada: {}", e.getMessage());
+        }
+    }
+}
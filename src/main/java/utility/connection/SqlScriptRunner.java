@@ -0,0 +1,100 @@
+package utility.connection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utilidad para ejecutar scripts SQL almacenados como recursos del classpath.
+ *
+ * <p>Los scripts se dividen en sentencias por el carácter {@code ;} al final de línea y se ignoran las líneas de
+ * comentario que empiezan por {@code --}.</p>
+ */
+public class SqlScriptRunner {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger logger = LoggerFactory.getLogger(SqlScriptRunner.class);
+
+    /**
+     * Lee un script SQL del classpath y lo divide en sentencias.
+     *
+     * @param resource La ruta del script en el classpath.
+     * @return La lista de sentencias del script, sin el punto y coma final.
+     * @throws IllegalArgumentException si no se encuentra el script.
+     * @throws IllegalStateException si ocurre un error al leer el script.
+     */
+    public List<String> readStatements(String resource) {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                String errorMsg = "No se pudo encontrar el script SQL: " + resource;
+                logger.error(errorMsg);
+                throw new IllegalArgumentException(errorMsg);
+            }
+            return splitStatements(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            String errorMsg = "Error al leer el script SQL: " + resource;
+            logger.error(errorMsg, e);
+            throw new IllegalStateException(errorMsg, e);
+        }
+    }
+
+    /**
+     * Ejecuta todas las sentencias de un script SQL del classpath sobre la conexión indicada.
+     *
+     * @param connection La conexión sobre la que se ejecuta el script.
+     * @param resource   La ruta del script en el classpath.
+     * @throws SQLException Si alguna sentencia falla.
+     */
+    public void run(Connection connection, String resource) throws SQLException {
+        List<String> statements = readStatements(resource);
+        try (Statement stmt = connection.createStatement()) {
+            for (String sql : statements) {
+                stmt.execute(sql);
+            }
+        }
+        logger.info("Script SQL ejecutado: {} ({} sentencias)", resource, statements.size());
+    }
+
+    /**
+     * Divide el contenido de un script en sentencias.
+     *
+     * @param reader El lector del script.
+     * @return La lista de sentencias.
+     * @throws IOException Si ocurre un error de lectura.
+     */
+    private static List<String> splitStatements(BufferedReader reader) throws IOException {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            if (current.length() > 0) {
+                current.append('\n');
+            }
+            if (trimmed.endsWith(";")) {
+                current.append(trimmed, 0, trimmed.length() - 1);
+                statements.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(trimmed);
+            }
+        }
+        if (current.length() > 0) {
+            statements.add(current.toString());
+        }
+        return statements;
+    }
+}
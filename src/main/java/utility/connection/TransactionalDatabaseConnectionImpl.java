@@ -0,0 +1,212 @@
+package utility.connection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+
+/**
+ * Implementación de la interfaz {@link DatabaseConnection} que decora otra conexión para que varias operaciones de
+ * un mismo hilo compartan una única conexión y una única transacción.
+ *
+ * <p>Mientras hay una transacción abierta en el hilo actual ({@link #begin()}), {@link #getConnection()} y
+ * {@link #getReadConnection()} devuelven la conexión vinculada, envuelta en un proxy que ignora {@code close},
+ * {@code commit}, {@code rollback} y {@code setAutoCommit}. Así, un DAO escrito para trabajar con una conexión por
+ * operación en modo autocommit se une a la transacción sin cambios: la confirmación o la reversión la decide quien
+ * abrió la transacción. Las lecturas también usan la conexión vinculada, para ver las escrituras aún no
+ * confirmadas. Fuera de una transacción, las llamadas se delegan sin cambios.</p>
+ */
+public class TransactionalDatabaseConnectionImpl implements DatabaseConnection {
+
+    // Métodos de la conexión que controla en exclusiva quien abrió la transacción.
+    private static final Set<String> TRANSACTION_METHODS = Set.of("close", "commit", "rollback", "setAutoCommit");
+
+    // Conexión decorada.
+    private final DatabaseConnection delegate;
+
+    // Conexión real vinculada a la transacción abierta en cada hilo.
+    private final ThreadLocal<Connection> boundConnection = new ThreadLocal<>();
+
+    // Proxy de la conexión vinculada que se entrega a los DAO.
+    private final ThreadLocal<Connection> boundProxy = new ThreadLocal<>();
+
+    /**
+     * Constructor que inicializa la conexión decorada.
+     *
+     * @param delegate La conexión a la base de datos que se decora.
+     */
+    public TransactionalDatabaseConnectionImpl(DatabaseConnection delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Obtiene la conexión vinculada a la transacción del hilo actual o, si no hay ninguna, una conexión nueva.
+     *
+     * @return Una conexión a la base de datos.
+     * @throws SQLException Si ocurre un error al obtener la conexión.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection proxy = boundProxy.get();
+        return proxy != null ? proxy : delegate.getConnection();
+    }
+
+    /**
+     * Obtiene la conexión vinculada a la transacción del hilo actual o, si no hay ninguna, una conexión de lectura.
+     *
+     * @return Una conexión apta para consultas.
+     * @throws SQLException Si ocurre un error al obtener la conexión.
+     */
+    @Override
+    public Connection getReadConnection() throws SQLException {
+        Connection proxy = boundProxy.get();
+        return proxy != null ? proxy : delegate.getReadConnection();
+    }
+
+    /**
+     * Cierra la conexión a la base de datos. La conexión vinculada a una transacción no se cierra hasta que esta
+     * termina.
+     *
+     * @param connection La conexión a la base de datos que se va a cerrar.
+     * @throws SQLException Si ocurre un error al cerrar la conexión.
+     */
+    @Override
+    public void closeConnection(Connection connection) throws SQLException {
+        if (connection != null && connection != boundProxy.get()) {
+            delegate.closeConnection(connection);
+        }
+    }
+
+    @Override
+    public DatabaseDialect getDialect() {
+        return delegate.getDialect();
+    }
+
+    /**
+     * Indica si hay una transacción abierta en el hilo actual.
+     *
+     * @return {@code true} si hay una transacción abierta.
+     */
+    public boolean isTransactionActive() {
+        return boundConnection.get() != null;
+    }
+
+    /**
+     * Abre una transacción en el hilo actual: obtiene una conexión, desactiva el autocommit y la vincula al hilo.
+     *
+     * @throws SQLException          Si ocurre un error al obtener o preparar la conexión.
+     * @throws IllegalStateException Si ya hay una transacción abierta en el hilo actual.
+     */
+    public void begin() throws SQLException {
+        if (isTransactionActive()) {
+            throw new IllegalStateException("Ya hay una transacción abierta en el hilo actual");
+        }
+        Connection connection = delegate.getConnection();
+        try {
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            delegate.closeConnection(connection);
+            throw e;
+        }
+        boundConnection.set(connection);
+        boundProxy.set(wrap(connection));
+    }
+
+    /**
+     * Confirma y cierra la transacción abierta en el hilo actual.
+     *
+     * @throws SQLException Si ocurre un error al confirmar; la transacción se da igualmente por terminada.
+     */
+    public void commit() throws SQLException {
+        Connection connection = requireBound();
+        try {
+            connection.commit();
+        } finally {
+            release(connection);
+        }
+    }
+
+    /**
+     * Deshace y cierra la transacción abierta en el hilo actual.
+     *
+     * @throws SQLException Si ocurre un error al deshacer; la transacción se da igualmente por terminada.
+     */
+    public void rollback() throws SQLException {
+        Connection connection = requireBound();
+        try {
+            connection.rollback();
+        } finally {
+            release(connection);
+        }
+    }
+
+    /**
+     * Obtiene la conexión vinculada al hilo actual.
+     *
+     * @return La conexión vinculada.
+     * @throws IllegalStateException Si no hay una transacción abierta en el hilo actual.
+     */
+    private Connection requireBound() {
+        Connection connection = boundConnection.get();
+        if (connection == null) {
+            throw new IllegalStateException("No hay ninguna transacción abierta en el hilo actual");
+        }
+        return connection;
+    }
+
+    /**
+     * Desvincula la conexión del hilo, restaura el autocommit y la cierra.
+     *
+     * @param connection La conexión vinculada.
+     * @throws SQLException Si ocurre un error al restaurar o cerrar la conexión.
+     */
+    private void release(Connection connection) throws SQLException {
+        boundConnection.remove();
+        boundProxy.remove();
+        try {
+            connection.setAutoCommit(true);
+        } finally {
+            delegate.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Envuelve la conexión vinculada en un proxy que ignora los métodos que controlan la transacción.
+     *
+     * @param connection La conexión real.
+     * @return La conexión envuelta.
+     */
+    private static Connection wrap(Connection connection) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (TRANSACTION_METHODS.contains(method.getName())) {
+                return null;
+            }
+            if ("getAutoCommit".equals(method.getName())) {
+                return false;
+            }
+            return invoke(connection, method, args);
+        };
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    /**
+     * Invoca un método sobre la conexión real, propagando la excepción original si falla.
+     *
+     * @param connection La conexión real.
+     * @param method     El método a invocar.
+     * @param args       Los argumentos del método.
+     * @return El resultado de la invocación.
+     * @throws Throwable La excepción lanzada por la conexión real.
+     */
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
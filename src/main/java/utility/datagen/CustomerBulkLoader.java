@@ -0,0 +1,282 @@
+package utility.datagen;
+
+import business.entity.Customer;
+import utility.connection.DatabaseConnection;
+import utility.connection.DatabaseDialect;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Carga masiva de clientes sintéticos en la tabla {@code customers}, para preparar bases de datos con millones de
+ * filas.
+ *
+ * <p>La carga por JDBC reparte el rango de índices en bloques que procesan varios hilos, cada uno con su propia
+ * conexión. Cada hilo inserta lotes de filas con una única sentencia {@code INSERT} de varias filas y confirma la
+ * transacción tras cada lote, de modo que el número de viajes a la base de datos y de confirmaciones es una
+ * fracción del número de filas sin depender de {@code rewriteBatchedStatements} del driver de MySQL. La base de
+ * datos embebida H2 se carga con un solo hilo, porque en modo MySQL puede asignar el mismo identificador
+ * autoincremental a inserciones concurrentes.</p>
+ *
+ * <p>Como alternativa más rápida en MySQL, los clientes pueden escribirse en un archivo separado por tabuladores
+ * para cargarlo con {@code LOAD DATA LOCAL INFILE}, lo que requiere {@code allowLoadLocalInfile=true} en
+ * {@code db.options} y {@code local_infile=ON} en el servidor.</p>
+ */
+public class CustomerBulkLoader {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(CustomerBulkLoader.class);
+
+    // Lotes que procesa cada hilo en cada bloque del rango de índices.
+    private static final int BATCHES_PER_CHUNK = 50;
+
+    // Conexión a la base de datos donde se cargan los clientes.
+    private final DatabaseConnection dbConnection;
+
+    // Generador de los clientes.
+    private final CustomerDataGenerator generator;
+
+    // Hilos que insertan en paralelo.
+    private final int threads;
+
+    // Filas de cada sentencia INSERT y de cada transacción.
+    private final int batchSize;
+
+    /**
+     * Constructor que inicializa la conexión, el generador y el paralelismo de la carga.
+     *
+     * @param dbConnection La conexión a la base de datos donde se cargan los clientes.
+     * @param generator    El generador de los clientes.
+     * @param threads      El número de hilos que insertan en paralelo.
+     * @param batchSize    El número de filas de cada sentencia INSERT y de cada transacción.
+     * @throws IllegalArgumentException Si el número de hilos o el tamaño del lote no son positivos.
+     */
+    public CustomerBulkLoader(DatabaseConnection dbConnection, CustomerDataGenerator generator,
+                              int threads, int batchSize) {
+        if (threads <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Parámetros de la carga masiva inválidos");
+        }
+        this.dbConnection = dbConnection;
+        this.generator = generator;
+        this.threads = threads;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Genera e inserta los clientes de un rango de índices.
+     *
+     * @param firstIndex El índice del primer cliente.
+     * @param count      El número de clientes.
+     * @return El número de clientes insertados.
+     * @throws IllegalStateException Si algún lote no puede insertarse; los lotes ya confirmados se conservan.
+     */
+    public long load(long firstIndex, long count) {
+        long chunkSize = (long) batchSize * BATCHES_PER_CHUNK;
+        AtomicLong nextChunkStart = new AtomicLong(firstIndex);
+        long end = firstIndex + count;
+        AtomicLong inserted = new AtomicLong();
+        AtomicInteger threadNumber = new AtomicInteger();
+        int workerCount = dbConnection.getDialect() == DatabaseDialect.MYSQL ? threads : 1;
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount,
+                runnable -> new Thread(runnable, "datagen-" + threadNumber.incrementAndGet()));
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < workerCount; i++) {
+                workers.add(executor.submit(() -> {
+                    insertChunks(nextChunkStart, chunkSize, end, inserted, count, start);
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Carga masiva interrumpida", e);
+        } catch (ExecutionException e) {
+            String errorMsg = "Error en la carga masiva de clientes tras insertar " + inserted.get() + " filas.";
+            LOGGER.error(errorMsg, e.getCause());
+            throw new IllegalStateException(errorMsg, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        LOGGER.info("Carga masiva terminada: {} clientes en {} s ({} filas/s)",
+                inserted.get(), String.format("%.1f", seconds), String.format("%.0f", inserted.get() / seconds));
+        return inserted.get();
+    }
+
+    /**
+     * Toma bloques del rango de índices hasta agotarlo y los inserta por lotes con una conexión propia.
+     *
+     * @param nextChunkStart El índice donde empieza el siguiente bloque libre, compartido entre los hilos.
+     * @param chunkSize      El número de clientes de cada bloque.
+     * @param end            El índice siguiente al último cliente.
+     * @param inserted       El contador de clientes insertados, compartido entre los hilos.
+     * @param total          El número total de clientes, para informar del progreso.
+     * @param start          El instante de inicio de la carga, en nanosegundos.
+     * @throws SQLException Si algún lote no puede insertarse.
+     */
+    private void insertChunks(AtomicLong nextChunkStart, long chunkSize, long end, AtomicLong inserted,
+                              long total, long start) throws SQLException {
+        Connection conn = dbConnection.getConnection();
+        try {
+            conn.setAutoCommit(false);
+            try (PreparedStatement fullBatch = conn.prepareStatement(insertSql(batchSize))) {
+                long chunkStart;
+                while ((chunkStart = nextChunkStart.getAndAdd(chunkSize)) < end) {
+                    long chunkEnd = Math.min(chunkStart + chunkSize, end);
+                    for (long index = chunkStart; index < chunkEnd; index += batchSize) {
+                        int rows = (int) Math.min(batchSize, chunkEnd - index);
+                        if (rows == batchSize) {
+                            insertBatch(fullBatch, index, rows);
+                        } else {
+                            try (PreparedStatement partialBatch = conn.prepareStatement(insertSql(rows))) {
+                                insertBatch(partialBatch, index, rows);
+                            }
+                        }
+                        conn.commit();
+                    }
+                    long done = inserted.addAndGet(chunkEnd - chunkStart);
+                    LOGGER.debug("Carga masiva: {}/{} clientes ({} filas/s)", done, total,
+                            String.format("%.0f", done * 1e9 / (System.nanoTime() - start)));
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } finally {
+            dbConnection.closeConnection(conn);
+        }
+    }
+
+    /**
+     * Genera los clientes de un lote, los asigna a los parámetros de la sentencia y la ejecuta.
+     *
+     * @param stmt       La sentencia INSERT con parámetros para {@code rows} filas.
+     * @param firstIndex El índice del primer cliente del lote.
+     * @param rows       El número de clientes del lote.
+     * @throws SQLException Si la sentencia falla.
+     */
+    private void insertBatch(PreparedStatement stmt, long firstIndex, int rows) throws SQLException {
+        int parameter = 1;
+        for (int i = 0; i < rows; i++) {
+            Customer customer = generator.generate(firstIndex + i);
+            stmt.setString(parameter++, customer.getName());
+            stmt.setString(parameter++, customer.getEmail());
+            stmt.setString(parameter++, customer.getPhone());
+        }
+        stmt.executeUpdate();
+    }
+
+    /**
+     * Construye la sentencia INSERT de varias filas.
+     *
+     * @param rows El número de filas.
+     * @return La sentencia SQL con tres parámetros por fila.
+     */
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(50 + rows * 11)
+                .append("INSERT INTO customers (name, email, phone) VALUES ");
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Genera en paralelo los clientes de un rango de índices y los escribe, en orden, en un archivo UTF-8 separado
+     * por tabuladores con las columnas {@code name}, {@code email} y {@code phone}. Los valores generados no
+     * contienen tabuladores, saltos de línea ni barras invertidas, por lo que no necesitan escaparse.
+     *
+     * @param file       El archivo de destino, que se sobrescribe.
+     * @param firstIndex El índice del primer cliente.
+     * @param count      El número de clientes.
+     * @return El número de clientes escritos.
+     * @throws UncheckedIOException Si el archivo no puede escribirse.
+     */
+    public long writeLoadFile(Path file, long firstIndex, long count) {
+        long start = System.nanoTime();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            generator.stream(firstIndex, count)
+                    .parallel()
+                    .map(customer -> customer.getName() + '\t' + customer.getEmail() + '\t'
+                            + customer.getPhone() + '\n')
+                    .forEachOrdered(line -> {
+                        try {
+                            writer.write(line);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (IOException e) {
+            String errorMsg = "Error al escribir el archivo de carga " + file;
+            LOGGER.error(errorMsg, e);
+            throw new UncheckedIOException(errorMsg, e);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        LOGGER.info("Archivo de carga {} escrito: {} clientes en {} s ({} filas/s). Para cargarlo en MySQL: {}",
+                file, count, String.format("%.1f", seconds), String.format("%.0f", count / seconds),
+                loadDataSql(file));
+        return count;
+    }
+
+    /**
+     * Carga en MySQL un archivo escrito con {@link #writeLoadFile(Path, long, long)} mediante
+     * {@code LOAD DATA LOCAL INFILE}, en una única sentencia.
+     *
+     * @param file El archivo de carga.
+     * @return El número de clientes cargados.
+     * @throws IllegalStateException Si la carga falla, por ejemplo porque el driver o el servidor no permiten
+     *                               cargar archivos locales.
+     */
+    public long loadFile(Path file) {
+        long start = System.nanoTime();
+        try (Connection conn = dbConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+            long loaded = stmt.executeLargeUpdate(loadDataSql(file));
+            double seconds = (System.nanoTime() - start) / 1e9;
+            LOGGER.info("Archivo de carga {} cargado: {} clientes en {} s ({} filas/s)",
+                    file, loaded, String.format("%.1f", seconds), String.format("%.0f", loaded / seconds));
+            return loaded;
+        } catch (SQLException e) {
+            String errorMsg = "Error al cargar el archivo " + file + " con LOAD DATA.";
+            LOGGER.error(errorMsg, e);
+            throw new IllegalStateException(errorMsg, e);
+        }
+    }
+
+    /**
+     * Construye la sentencia {@code LOAD DATA LOCAL INFILE} de un archivo de carga.
+     *
+     * @param file El archivo de carga.
+     * @return La sentencia SQL.
+     */
+    private static String loadDataSql(Path file) {
+        String path = file.toAbsolutePath().toString().replace("\\", "\\\\").replace("'", "\\'");
+        return "LOAD DATA LOCAL INFILE '" + path + "' INTO TABLE customers CHARACTER SET utf8mb4 "
+                + "FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n' (name, email, phone)";
+    }
+}
@@ -0,0 +1,104 @@
+package utility.datagen;
+
+import business.entity.Customer;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Generador determinista de clientes sintéticos que cumplen las reglas de {@code CustomerValidatorImpl}, para
+ * probar la aplicación con millones de filas realistas.
+ *
+ * <p>Cada cliente se obtiene solo a partir de la semilla y de su índice, con un {@link SplittableRandom} propio, de
+ * modo que los clientes pueden generarse en paralelo y en cualquier orden y el resultado es siempre el mismo. Los
+ * nombres combinan nombres y apellidos españoles; el correo incluye el índice en base 36, lo que lo hace único para
+ * cada índice, y el teléfono es un número español con prefijo {@code +34} que empieza por 6, 7, 8 o 9.</p>
+ */
+public class CustomerDataGenerator {
+
+    // Nombres y apellidos, con su versión sin tildes para el correo electrónico.
+    private static final String[] FIRST_NAMES = {
+            "Antonio", "José", "Manuel", "Francisco", "David", "Juan", "Javier", "Daniel", "Carlos", "Jesús",
+            "Alejandro", "Miguel", "Rafael", "Pablo", "Sergio", "Fernando", "Jorge", "Luis", "Alberto", "Álvaro",
+            "María", "Carmen", "Ana", "Isabel", "Laura", "Cristina", "Marta", "Lucía", "Elena", "Pilar",
+            "Sara", "Paula", "Raquel", "Rosa", "Sofía", "Nuria", "Patricia", "Beatriz", "Silvia", "Andrea"
+    };
+    private static final String[] SURNAMES = {
+            "García", "Rodríguez", "González", "Fernández", "López", "Martínez", "Sánchez", "Pérez", "Gómez",
+            "Martín", "Jiménez", "Ruiz", "Hernández", "Díaz", "Moreno", "Muñoz", "Álvarez", "Romero", "Alonso",
+            "Gutiérrez", "Navarro", "Torres", "Domínguez", "Vázquez", "Ramos", "Gil", "Ramírez", "Serrano", "Blanco",
+            "Molina", "Morales", "Suárez", "Ortega", "Delgado", "Castro", "Ortiz", "Rubio", "Marín", "Sanz", "Núñez"
+    };
+    private static final String[] ASCII_FIRST_NAMES = toEmailWords(FIRST_NAMES);
+    private static final String[] ASCII_SURNAMES = toEmailWords(SURNAMES);
+
+    // Dominios de correo electrónico.
+    private static final String[] DOMAINS = {
+            "gmail.com", "hotmail.com", "yahoo.es", "outlook.es", "telefonica.net", "correo.es", "empresa.es"
+    };
+
+    // Constante de mezcla de la semilla con el índice (la razón áurea en 64 bits).
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    // Semilla de la generación.
+    private final long seed;
+
+    /**
+     * Constructor que inicializa la semilla de la generación.
+     *
+     * @param seed La semilla; la misma semilla produce siempre los mismos clientes.
+     */
+    public CustomerDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Genera el cliente de un índice, sin identificador para que lo asigne la base de datos.
+     *
+     * @param index El índice del cliente, mayor o igual que cero.
+     * @return El cliente generado.
+     */
+    public Customer generate(long index) {
+        SplittableRandom random = new SplittableRandom(seed + index * GOLDEN_GAMMA);
+        int first = random.nextInt(FIRST_NAMES.length);
+        int surname1 = random.nextInt(SURNAMES.length);
+        int surname2 = random.nextInt(SURNAMES.length);
+
+        String name = FIRST_NAMES[first] + " " + SURNAMES[surname1] + " " + SURNAMES[surname2];
+        String email = ASCII_FIRST_NAMES[first] + "." + ASCII_SURNAMES[surname1] + "." + Long.toString(index, 36)
+                + "@" + DOMAINS[random.nextInt(DOMAINS.length)];
+        // El dígito inicial más 10^8 da un número de nueve cifras sin necesidad de rellenar con ceros.
+        String phone = "+34" + ((6 + random.nextInt(4)) * 100_000_000 + random.nextInt(100_000_000));
+        return new Customer(null, name, email, phone);
+    }
+
+    /**
+     * Genera los clientes de un rango de índices como un flujo que puede procesarse en paralelo.
+     *
+     * @param firstIndex El índice del primer cliente.
+     * @param count      El número de clientes.
+     * @return El flujo de clientes, ordenado por índice.
+     */
+    public Stream<Customer> stream(long firstIndex, long count) {
+        return LongStream.range(firstIndex, firstIndex + count).mapToObj(this::generate);
+    }
+
+    /**
+     * Convierte palabras con tildes y eñes en palabras en minúsculas válidas en un correo electrónico.
+     *
+     * @param words Las palabras originales.
+     * @return Las palabras convertidas, en el mismo orden.
+     */
+    private static String[] toEmailWords(String[] words) {
+        String[] converted = new String[words.length];
+        for (int i = 0; i < words.length; i++) {
+            converted[i] = Normalizer.normalize(words[i], Normalizer.Form.NFD)
+                    .replaceAll("\\p{M}", "")
+                    .toLowerCase(Locale.ROOT);
+        }
+        return converted;
+    }
+}
@@ -0,0 +1,30 @@
+package utility.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de Java Flight Recorder de una acción del controlador de la interfaz gráfica. Las acciones que responden a
+ * un botón se ejecutan en el hilo de eventos de Swing, por lo que su duración es el tiempo que la interfaz deja de
+ * responder, incluidos los diálogos modales que muestran; las cargas y búsquedas se ejecutan en segundo plano.
+ */
+@Name("crud.customer.ControllerAction")
+@Label("Acción del controlador")
+@Description("Acción del controlador de clientes de la interfaz gráfica")
+@Category({"CRUD Customer", "Interfaz"})
+@Enabled(false)
+public final class ControllerActionEvent extends OperationEvent {
+
+    /**
+     * Inicia la medición de una acción del controlador.
+     *
+     * @param action El nombre de la acción.
+     * @return El evento iniciado.
+     */
+    public static ControllerActionEvent start(String action) {
+        return start(new ControllerActionEvent(), action);
+    }
+}
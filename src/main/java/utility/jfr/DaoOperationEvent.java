@@ -0,0 +1,29 @@
+package utility.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de Java Flight Recorder de una operación del DAO de clientes. Las sentencias SQL que ejecuta se registran
+ * como {@link SqlStatementEvent} en el mismo hilo y dentro de su intervalo.
+ */
+@Name("crud.customer.DaoOperation")
+@Label("Operación del DAO")
+@Description("Operación del DAO de clientes, con su resultado y las filas afectadas o devueltas")
+@Category({"CRUD Customer", "DAO"})
+@Enabled(false)
+public final class DaoOperationEvent extends OperationEvent {
+
+    /**
+     * Inicia la medición de una operación del DAO.
+     *
+     * @param operation El nombre de la operación.
+     * @return El evento iniciado.
+     */
+    public static DaoOperationEvent start(String operation) {
+        return start(new DaoOperationEvent(), operation);
+    }
+}
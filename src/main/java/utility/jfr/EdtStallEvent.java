@@ -0,0 +1,54 @@
+package utility.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de Java Flight Recorder de un bloqueo del hilo de eventos de Swing: un evento cuyo despacho ha superado el
+ * umbral, con la pila del hilo capturada durante el bloqueo. La duración del evento es la del bloqueo.
+ */
+@Name("crud.customer.EdtStall")
+@Label("Bloqueo del hilo de eventos")
+@Description("Evento de la interfaz cuyo despacho ha bloqueado el hilo de eventos de Swing más allá del umbral")
+@Category({"CRUD Customer", "Interfaz"})
+@Enabled(false)
+@StackTrace(false)
+public final class EdtStallEvent extends Event {
+
+    @Label("Evento")
+    String event;
+
+    @Label("Pila durante el bloqueo")
+    String stack;
+
+    /**
+     * Inicia la medición del despacho de un evento.
+     *
+     * @return El evento iniciado.
+     */
+    public static EdtStallEvent start() {
+        EdtStallEvent stall = new EdtStallEvent();
+        stall.begin();
+        return stall;
+    }
+
+    /**
+     * Termina la medición y registra el bloqueo si la grabación lo solicita.
+     *
+     * @param dispatched La descripción del evento despachado.
+     * @param stackTrace La pila del hilo de eventos capturada durante el bloqueo, o {@code null}.
+     */
+    public void finish(String dispatched, String stackTrace) {
+        end();
+        if (shouldCommit()) {
+            event = dispatched;
+            stack = stackTrace;
+            commit();
+        }
+    }
+}
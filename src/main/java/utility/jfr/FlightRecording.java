@@ -0,0 +1,90 @@
+package utility.jfr;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Grabación continua de Java Flight Recorder con los eventos de la aplicación activados.
+ *
+ * <p>La grabación combina el perfil {@code default} del JDK (GC, bloqueos, E/S, muestreo de CPU) con el perfil de
+ * la aplicación {@value #PROFILE_RESOURCE}, que activa los eventos {@code crud.customer.*}, de modo que las
+ * operaciones de la aplicación pueden relacionarse con el resto de la actividad de la JVM con un coste muy bajo.
+ * La grabación se conserva en un búfer circular limitado por antigüedad y se vuelca al archivo configurado al
+ * finalizar la aplicación o con {@code jcmd <pid> JFR.dump}. El perfil también puede usarse sin esta clase, con
+ * {@code jcmd <pid> JFR.start settings=<ruta>/crud-customer.jfc}.</p>
+ */
+public final class FlightRecording {
+
+    /**
+     * Recurso del perfil de Java Flight Recorder de la aplicación.
+     */
+    public static final String PROFILE_RESOURCE = "jfr/crud-customer.jfc";
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlightRecording.class);
+
+    private FlightRecording() {
+    }
+
+    /**
+     * Inicia la grabación continua con los eventos de la aplicación activados.
+     *
+     * @param file   El archivo en el que se vuelca la grabación al finalizar la aplicación.
+     * @param maxAge La antigüedad máxima de los datos que se conservan.
+     * @return La grabación iniciada, o {@code null} si no ha podido iniciarse.
+     */
+    public static Recording start(Path file, Duration maxAge) {
+        try {
+            Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+            settings.putAll(loadProfile().getSettings());
+
+            Recording recording = new Recording(settings);
+            recording.setName("crud-customer");
+            recording.setMaxAge(maxAge);
+            recording.setToDisk(true);
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            recording.setDestination(file);
+            recording.setDumpOnExit(true);
+            recording.start();
+            LOGGER.info("Grabación de Java Flight Recorder iniciada; se volcará en {} al finalizar", file);
+            return recording;
+        } catch (IOException | ParseException | RuntimeException e) {
+            LOGGER.warn("No se pudo iniciar la grabación de Java Flight Recorder: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Carga el perfil de la aplicación desde el classpath.
+     *
+     * @return La configuración del perfil.
+     * @throws IOException    Si el perfil no se encuentra o no puede leerse.
+     * @throws ParseException Si el perfil no es un archivo .jfc válido.
+     */
+    private static Configuration loadProfile() throws IOException, ParseException {
+        InputStream input = FlightRecording.class.getClassLoader().getResourceAsStream(PROFILE_RESOURCE);
+        if (input == null) {
+            throw new IOException("No se encontró el perfil " + PROFILE_RESOURCE);
+        }
+        try (Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        }
+    }
+}
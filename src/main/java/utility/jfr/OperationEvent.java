@@ -0,0 +1,59 @@
+package utility.jfr;
+
+import utility.metrics.Outcome;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base de los eventos de Java Flight Recorder que miden una operación de la aplicación: nombre de la operación,
+ * resultado y número de filas o clientes afectados. La duración del evento es la de la operación.
+ *
+ * <p>Los eventos de la aplicación están desactivados por defecto y se activan con el perfil
+ * {@value FlightRecording#PROFILE_RESOURCE}, de modo que fuera de una grabación con ese perfil su coste se reduce a
+ * comprobar si el evento está activado.</p>
+ */
+@Category({"CRUD Customer"})
+@StackTrace(false)
+public abstract class OperationEvent extends Event {
+
+    @Label("Operación")
+    String operation;
+
+    @Label("Resultado")
+    String outcome;
+
+    @Label("Filas")
+    long rows;
+
+    /**
+     * Termina la medición de la operación y registra el evento si la grabación lo solicita.
+     *
+     * @param result   El resultado de la operación.
+     * @param rowCount El número de filas o clientes afectados, o devueltos.
+     */
+    public void finish(Outcome result, long rowCount) {
+        end();
+        if (shouldCommit()) {
+            outcome = result.name();
+            rows = rowCount;
+            commit();
+        }
+    }
+
+    /**
+     * Inicia la medición de una operación.
+     *
+     * @param event     El evento que mide la operación.
+     * @param operation El nombre de la operación.
+     * @param <T>       El tipo del evento.
+     * @return El evento iniciado.
+     */
+    static <T extends OperationEvent> T start(T event, String operation) {
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+}
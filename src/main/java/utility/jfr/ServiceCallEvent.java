@@ -0,0 +1,28 @@
+package utility.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de Java Flight Recorder de una llamada al servicio de clientes.
+ */
+@Name("crud.customer.ServiceCall")
+@Label("Llamada al servicio")
+@Description("Llamada al servicio de clientes, con su resultado y los clientes afectados o devueltos")
+@Category({"CRUD Customer", "Servicio"})
+@Enabled(false)
+public final class ServiceCallEvent extends OperationEvent {
+
+    /**
+     * Inicia la medición de una llamada al servicio.
+     *
+     * @param operation El nombre de la operación.
+     * @return El evento iniciado.
+     */
+    public static ServiceCallEvent start(String operation) {
+        return start(new ServiceCallEvent(), operation);
+    }
+}
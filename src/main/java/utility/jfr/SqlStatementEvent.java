@@ -0,0 +1,85 @@
+package utility.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Evento de Java Flight Recorder de la ejecución de una sentencia SQL, desde que se ejecuta hasta que se cierra su
+ * resultado, con la forma normalizada de la sentencia (sin valores) y el desglose de su tiempo por fases.
+ */
+@Name("crud.customer.SqlStatement")
+@Label("Sentencia SQL")
+@Description("Ejecución de una sentencia SQL, con su forma normalizada, las filas y el tiempo de cada fase")
+@Category({"CRUD Customer", "DAO"})
+@Enabled(false)
+@StackTrace(false)
+public final class SqlStatementEvent extends Event {
+
+    @Label("Sentencia")
+    String shape;
+
+    @Label("Filas")
+    long rows;
+
+    @Label("Fallida")
+    boolean failed;
+
+    @Label("Preparación")
+    @Timespan(Timespan.NANOSECONDS)
+    long prepareTime;
+
+    @Label("Ejecución")
+    @Timespan(Timespan.NANOSECONDS)
+    long executeTime;
+
+    @Label("Lectura")
+    @Timespan(Timespan.NANOSECONDS)
+    long fetchTime;
+
+    @Label("Mapeo")
+    @Timespan(Timespan.NANOSECONDS)
+    long mappingTime;
+
+    /**
+     * Inicia la medición de la ejecución de una sentencia.
+     *
+     * @return El evento iniciado.
+     */
+    public static SqlStatementEvent start() {
+        SqlStatementEvent event = new SqlStatementEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Termina la medición de la ejecución y registra el evento si la grabación lo solicita.
+     *
+     * @param shape        La forma normalizada de la sentencia.
+     * @param prepareNanos El tiempo de preparación, en nanosegundos.
+     * @param executeNanos El tiempo de ejecución, en nanosegundos.
+     * @param fetchNanos   El tiempo de lectura de las filas, en nanosegundos.
+     * @param mappingNanos El tiempo de mapeo de las filas, en nanosegundos.
+     * @param rowCount     Las filas leídas o afectadas.
+     * @param failed       {@code true} si la ejecución ha fallado.
+     */
+    public void finish(String shape, long prepareNanos, long executeNanos, long fetchNanos, long mappingNanos,
+                       long rowCount, boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.shape = shape;
+            this.prepareTime = prepareNanos;
+            this.executeTime = executeNanos;
+            this.fetchTime = fetchNanos;
+            this.mappingTime = mappingNanos;
+            this.rows = rowCount;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package utility.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento instantáneo de Java Flight Recorder de un dato rechazado por la validación. Solo registra el campo y la
+ * longitud del valor, nunca el valor, para no guardar datos personales en la grabación.
+ */
+@Name("crud.customer.ValidationFailure")
+@Label("Validación fallida")
+@Description("Campo de un cliente rechazado por la validación")
+@Category({"CRUD Customer", "Servicio"})
+@Enabled(false)
+@StackTrace(false)
+public final class ValidationFailureEvent extends Event {
+
+    @Label("Campo")
+    String field;
+
+    @Label("Longitud del valor")
+    int valueLength;
+
+    /**
+     * Registra un dato rechazado, si la grabación lo solicita.
+     *
+     * @param field El nombre del campo rechazado.
+     * @param value El valor rechazado, del que solo se registra la longitud.
+     */
+    public static void emit(String field, String value) {
+        ValidationFailureEvent event = new ValidationFailureEvent();
+        if (event.isEnabled()) {
+            event.field = field;
+            event.valueLength = value == null ? -1 : value.length();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,510 @@
+package utility.loadtest;
+
+import business.entity.Customer;
+import business.service.CustomerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utility.metrics.HistogramSnapshot;
+import utility.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga concurrente sobre un {@link CustomerService}, para medir cómo se comporta la aplicación con
+ * muchos usuarios a la vez y durante periodos largos.
+ *
+ * <p>Cada cliente simulado se ejecuta en su propio hilo y sigue un modelo abierto: sus operaciones están
+ * planificadas a intervalos fijos según el ritmo objetivo, de modo que, si una operación tarda, las siguientes
+ * acumulan retraso en lugar de desaparecer de la medida. La latencia se mide desde el instante planificado
+ * (corrección de la omisión coordinada); con ritmo 0 los clientes encadenan operaciones sin pausa y la latencia
+ * coincide con el tiempo de servicio.</p>
+ *
+ * <p>Cada cliente solo modifica los clientes que él mismo crea y lleva la cuenta de su estado esperado, por lo que
+ * al terminar se puede comprobar que todas las escrituras confirmadas están en la base de datos y que los clientes
+ * eliminados no reaparecen. Las escrituras que fallan dejan su cliente en estado incierto y no se comprueban.</p>
+ */
+public class LoadGenerator {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadGenerator.class);
+
+    // Número máximo de errores y discrepancias que se detallan en el log.
+    private static final int MAX_LOGGED_PROBLEMS = 10;
+
+    // Resultados por búsqueda y tamaño de los lotes de borrado al limpiar.
+    private static final int SEARCH_LIMIT = 20;
+    private static final int CLEANUP_BATCH_SIZE = 500;
+
+    // Nombres y apellidos de los clientes generados.
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Carlos", "Lucía", "Javier", "Marta", "Pablo", "Elena", "Sergio", "Laura", "Álvaro"
+    };
+    private static final String[] SURNAMES = {
+            "García", "Martínez", "López", "Sánchez", "Pérez", "Gómez", "Fernández", "Ruiz", "Díaz", "Muñoz"
+    };
+
+    // Servicio sobre el que se genera la carga.
+    private final CustomerService service;
+
+    // Parámetros de la prueba.
+    private final LoadTestConfig config;
+
+    // Identificador de la ejecución, que hace únicos los correos de los clientes generados.
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    // Latencias corregidas, tiempos de servicio y errores acumulados de cada operación.
+    private final Map<LoadOperation, LatencyHistogram> correctedLatency = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LatencyHistogram> serviceTime = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+
+    // Latencias y errores del intervalo en curso, que se reinician en cada informe.
+    private final LatencyHistogram intervalLatency = new LatencyHistogram();
+    private final LongAdder intervalErrors = new LongAdder();
+
+    // Errores detallados en el log hasta el momento.
+    private final AtomicInteger loggedErrors = new AtomicInteger();
+
+    // Instante de inicio y de fin de la fase medida, fijados cuando todos los clientes están preparados.
+    private volatile long startNanos;
+    private volatile long deadlineNanos;
+
+    /**
+     * Constructor que inicializa el servicio y los parámetros de la prueba.
+     *
+     * @param service El servicio sobre el que se genera la carga.
+     * @param config  Los parámetros de la prueba.
+     */
+    public LoadGenerator(CustomerService service, LoadTestConfig config) {
+        this.service = service;
+        this.config = config;
+        for (LoadOperation operation : LoadOperation.values()) {
+            correctedLatency.put(operation, new LatencyHistogram());
+            serviceTime.put(operation, new LatencyHistogram());
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * Ejecuta la prueba: cada cliente simulado crea sus clientes iniciales, todos empiezan a la vez, se informa del
+     * rendimiento y la latencia a intervalos regulares y, al terminar, se comprueba la integridad de los datos y se
+     * eliminan los clientes creados si así se ha configurado.
+     *
+     * @return El resultado de la prueba.
+     * @throws IllegalStateException Si la prueba se interrumpe.
+     */
+    public LoadTestResult run() {
+        LOGGER.info("Prueba de carga: {}", config);
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CyclicBarrier startBarrier = new CyclicBarrier(config.getClients(), () -> {
+            startNanos = System.nanoTime();
+            deadlineNanos = startNanos + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+            long interval = config.getReportIntervalSeconds();
+            reporter.scheduleAtFixedRate(this::reportInterval, interval, interval, TimeUnit.SECONDS);
+        });
+
+        SplittableRandom seedRandom = new SplittableRandom(config.getSeed());
+        List<SimulatedClient> clients = new ArrayList<>(config.getClients());
+        List<Thread> threads = new ArrayList<>(config.getClients());
+        for (int i = 0; i < config.getClients(); i++) {
+            SimulatedClient client = new SimulatedClient(i, seedRandom.split(), startBarrier);
+            clients.add(client);
+            Thread thread = new Thread(client, "loadtest-client-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            threads.forEach(Thread::interrupt);
+            throw new IllegalStateException("Prueba de carga interrumpida", e);
+        } finally {
+            reporter.shutdownNow();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        long checked = 0;
+        long violations = 0;
+        for (SimulatedClient client : clients) {
+            checked += client.expected.size() + client.deleted.size();
+            violations += client.verify();
+        }
+        if (config.isCleanup()) {
+            clients.forEach(SimulatedClient::cleanup);
+        }
+
+        Map<LoadOperation, HistogramSnapshot> corrected = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, HistogramSnapshot> service = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, Long> errorCounts = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : LoadOperation.values()) {
+            corrected.put(operation, correctedLatency.get(operation).snapshot());
+            service.put(operation, serviceTime.get(operation).snapshot());
+            errorCounts.put(operation, errors.get(operation).sum());
+        }
+        LoadTestResult result = new LoadTestResult(elapsedNanos, corrected, service, errorCounts, checked, violations);
+        for (LoadOperation operation : LoadOperation.values()) {
+            if (corrected.get(operation).getCount() > 0) {
+                LOGGER.info("{}: errores={}, latencia corregida [{}], tiempo de servicio [{}]", operation,
+                        errorCounts.get(operation), corrected.get(operation), service.get(operation));
+            }
+        }
+        LOGGER.info("Resultado de la prueba de carga: {}", result);
+        return result;
+    }
+
+    /**
+     * Escribe en el log el rendimiento, los errores y las latencias corregidas del último intervalo.
+     */
+    private void reportInterval() {
+        HistogramSnapshot snapshot = intervalLatency.snapshot();
+        long intervalErrorCount = intervalErrors.sumThenReset();
+        intervalLatency.reset();
+        long elapsedSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos);
+        LOGGER.info("[{}s] {} op/s, errores={}, latencia corregida [{}]", elapsedSeconds,
+                snapshot.getCount() / config.getReportIntervalSeconds(), intervalErrorCount, snapshot);
+    }
+
+    /**
+     * Cliente simulado: un hilo que ejecuta operaciones al ritmo que le corresponde y lleva la cuenta del estado
+     * esperado de los clientes que crea.
+     */
+    private final class SimulatedClient implements Runnable {
+
+        // Índice del cliente simulado.
+        private final int index;
+
+        // Generador aleatorio propio, para no compartir estado entre hilos.
+        private final SplittableRandom random;
+
+        // Barrera en la que esperan todos los clientes simulados antes de empezar a medir.
+        private final CyclicBarrier startBarrier;
+
+        // Estado esperado de los clientes creados, por identificador, y lista para elegir uno al azar.
+        private final Map<String, Customer> expected = new HashMap<>();
+        private final List<String> liveIds = new ArrayList<>();
+
+        // Clientes eliminados y clientes cuyo estado es incierto porque una escritura falló.
+        private final Set<String> deleted = new HashSet<>();
+        private final Set<String> uncertain = new HashSet<>();
+
+        // Número de clientes generados, para sus nombres y correos.
+        private int generated;
+
+        private SimulatedClient(int index, SplittableRandom random, CyclicBarrier startBarrier) {
+            this.index = index;
+            this.random = random;
+            this.startBarrier = startBarrier;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < config.getSeedPerClient(); i++) {
+                add();
+            }
+            try {
+                startBarrier.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (BrokenBarrierException e) {
+                return;
+            }
+
+            long interval = config.getTargetRate() == 0
+                    ? 0
+                    : TimeUnit.SECONDS.toNanos(config.getClients()) / config.getTargetRate();
+            // Los clientes se escalonan dentro del intervalo para no lanzar todas sus operaciones a la vez.
+            long intended = startNanos + interval * index / config.getClients();
+            while (!Thread.currentThread().isInterrupted()) {
+                if (interval == 0) {
+                    intended = System.nanoTime();
+                }
+                if (intended >= deadlineNanos) {
+                    break;
+                }
+                for (long now = System.nanoTime(); now < intended; now = System.nanoTime()) {
+                    LockSupport.parkNanos(intended - now);
+                }
+                long start = System.nanoTime();
+                LoadOperation operation = nextOperation();
+                boolean succeeded = execute(operation);
+                long end = System.nanoTime();
+                correctedLatency.get(operation).record(end - intended);
+                serviceTime.get(operation).record(end - start);
+                intervalLatency.record(end - intended);
+                if (!succeeded) {
+                    intervalErrors.increment();
+                }
+                intended += interval;
+            }
+        }
+
+        /**
+         * Elige la siguiente operación según la mezcla configurada. Las escrituras se reparten entre altas (40%),
+         * modificaciones (40%) y bajas (20%); sin clientes propios, solo se dan altas.
+         *
+         * @return La operación elegida.
+         */
+        private LoadOperation nextOperation() {
+            int roll = random.nextInt(100);
+            if (!liveIds.isEmpty()) {
+                if (roll < config.getReadPercent()) {
+                    return LoadOperation.GET;
+                }
+                if (roll < config.getReadPercent() + config.getSearchPercent()) {
+                    return LoadOperation.SEARCH;
+                }
+                int writeRoll = random.nextInt(10);
+                if (writeRoll >= 4) {
+                    return writeRoll < 8 ? LoadOperation.UPDATE : LoadOperation.DELETE;
+                }
+            }
+            return LoadOperation.ADD;
+        }
+
+        /**
+         * Ejecuta una operación y registra su error, si lo hay.
+         *
+         * @param operation La operación a ejecutar.
+         * @return {@code true} si la operación termina sin error.
+         */
+        private boolean execute(LoadOperation operation) {
+            try {
+                switch (operation) {
+                    case GET:
+                        service.get(randomLiveId());
+                        return true;
+                    case SEARCH:
+                        service.search(searchToken(expected.get(randomLiveId())), SEARCH_LIMIT);
+                        return true;
+                    case ADD:
+                        return add();
+                    case UPDATE:
+                        return update();
+                    default:
+                        return delete();
+                }
+            } catch (RuntimeException e) {
+                recordError(operation, e);
+                return false;
+            }
+        }
+
+        /**
+         * Da de alta un cliente nuevo y lo añade al estado esperado.
+         *
+         * @return {@code true} si el alta termina sin error.
+         */
+        private boolean add() {
+            int number = generated++;
+            Customer customer = new Customer(null,
+                    FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                            + SURNAMES[random.nextInt(SURNAMES.length)] + " " + letters(index, number),
+                    "carga." + runId + "." + index + "." + number + "@carga.test",
+                    "6" + (10_000_000 + random.nextInt(90_000_000)));
+            try {
+                service.add(customer);
+            } catch (RuntimeException e) {
+                recordError(LoadOperation.ADD, e);
+                return false;
+            }
+            if (customer.getId() != null) {
+                expected.put(customer.getId(), customer);
+                liveIds.add(customer.getId());
+            }
+            return true;
+        }
+
+        /**
+         * Cambia el apellido de un cliente propio y actualiza el estado esperado.
+         *
+         * @return {@code true} si la modificación termina sin error.
+         */
+        private boolean update() {
+            String id = randomLiveId();
+            Customer current = expected.get(id);
+            String[] parts = current.getName().split(" ");
+            parts[1] = SURNAMES[random.nextInt(SURNAMES.length)];
+            Customer updated = new Customer(id, String.join(" ", parts), current.getEmail(), current.getPhone());
+            try {
+                service.update(updated);
+            } catch (RuntimeException e) {
+                markUncertain(id);
+                throw e;
+            }
+            expected.put(id, updated);
+            return true;
+        }
+
+        /**
+         * Elimina un cliente propio y lo pasa a la lista de eliminados.
+         *
+         * @return {@code true} si la baja termina sin error.
+         */
+        private boolean delete() {
+            String id = randomLiveId();
+            try {
+                service.delete(id);
+            } catch (RuntimeException e) {
+                markUncertain(id);
+                throw e;
+            }
+            removeLive(id);
+            deleted.add(id);
+            return true;
+        }
+
+        /**
+         * Comprueba que los clientes propios están almacenados tal y como se esperaba y que los eliminados no existen.
+         *
+         * @return El número de discrepancias encontradas.
+         */
+        private long verify() {
+            long violations = 0;
+            for (Customer customer : expected.values()) {
+                Customer stored = readSafely(customer.getId());
+                if (stored == null || !sameData(customer, stored)) {
+                    violations++;
+                    logViolation("el cliente " + customer + " está almacenado como " + stored);
+                }
+            }
+            for (String id : deleted) {
+                Customer stored = readSafely(id);
+                if (stored != null) {
+                    violations++;
+                    logViolation("el cliente eliminado " + id + " sigue almacenado: " + stored);
+                }
+            }
+            return violations;
+        }
+
+        /**
+         * Elimina los clientes creados por este cliente simulado, incluidos los de estado incierto.
+         */
+        private void cleanup() {
+            List<String> ids = new ArrayList<>(liveIds);
+            ids.addAll(uncertain);
+            for (int from = 0; from < ids.size(); from += CLEANUP_BATCH_SIZE) {
+                try {
+                    service.deleteAll(ids.subList(from, Math.min(ids.size(), from + CLEANUP_BATCH_SIZE)));
+                } catch (RuntimeException e) {
+                    LOGGER.warn("No se pudieron eliminar los clientes de la prueba de carga: {}", e.getMessage());
+                }
+            }
+        }
+
+        private String randomLiveId() {
+            return liveIds.get(random.nextInt(liveIds.size()));
+        }
+
+        private void markUncertain(String id) {
+            removeLive(id);
+            uncertain.add(id);
+        }
+
+        private void removeLive(String id) {
+            expected.remove(id);
+            int position = liveIds.indexOf(id);
+            // Se intercambia con el último para no desplazar el resto de la lista.
+            liveIds.set(position, liveIds.get(liveIds.size() - 1));
+            liveIds.remove(liveIds.size() - 1);
+        }
+
+        private Customer readSafely(String id) {
+            try {
+                return service.get(id);
+            } catch (RuntimeException e) {
+                logViolation("no se pudo leer el cliente " + id + ": " + e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Registra el error de una operación, detallando en el log solo los primeros.
+     *
+     * @param operation La operación que ha fallado.
+     * @param error     El error.
+     */
+    private void recordError(LoadOperation operation, RuntimeException error) {
+        errors.get(operation).increment();
+        if (loggedErrors.incrementAndGet() <= MAX_LOGGED_PROBLEMS) {
+            LOGGER.warn("Error en la operación {} de la prueba de carga: {}", operation, error.toString());
+        }
+    }
+
+    /**
+     * Registra una discrepancia de integridad, detallando en el log solo las primeras.
+     *
+     * @param message La descripción de la discrepancia.
+     */
+    private void logViolation(String message) {
+        if (loggedErrors.incrementAndGet() <= MAX_LOGGED_PROBLEMS) {
+            LOGGER.error("Discrepancia de integridad: {}", message);
+        }
+    }
+
+    /**
+     * Obtiene la palabra que identifica a un cliente generado, para buscarlo.
+     *
+     * @param customer El cliente generado.
+     * @return La última palabra de su nombre.
+     */
+    private static String searchToken(Customer customer) {
+        String name = customer.getName();
+        return name.substring(name.lastIndexOf(' ') + 1);
+    }
+
+    /**
+     * Codifica el cliente simulado y el número de cliente generado como una palabra de letras, ya que los nombres
+     * no admiten dígitos.
+     *
+     * @param client El índice del cliente simulado.
+     * @param number El número de cliente generado.
+     * @return La palabra, con la inicial en mayúscula.
+     */
+    private static String letters(int client, int number) {
+        StringBuilder word = new StringBuilder();
+        long value = (long) client << 32 | number;
+        do {
+            word.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0 || word.length() < 4);
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+
+    /**
+     * Compara los datos de dos clientes, sin tener en cuenta mayúsculas en el correo.
+     *
+     * @param expected El cliente esperado.
+     * @param stored   El cliente almacenado.
+     * @return {@code true} si tienen los mismos datos.
+     */
+    private static boolean sameData(Customer expected, Customer stored) {
+        return expected.getName().equals(stored.getName())
+                && expected.getEmail().equalsIgnoreCase(stored.getEmail())
+                && expected.getPhone().equals(stored.getPhone());
+    }
+}
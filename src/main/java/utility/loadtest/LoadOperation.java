@@ -0,0 +1,32 @@
+package utility.loadtest;
+
+/**
+ * Operaciones que ejecutan los clientes simulados de una prueba de carga.
+ */
+public enum LoadOperation {
+
+    /**
+     * Lectura de un cliente por identificador.
+     */
+    GET,
+
+    /**
+     * Búsqueda por nombre.
+     */
+    SEARCH,
+
+    /**
+     * Alta de un cliente.
+     */
+    ADD,
+
+    /**
+     * Modificación de un cliente.
+     */
+    UPDATE,
+
+    /**
+     * Baja de un cliente.
+     */
+    DELETE
+}
@@ -0,0 +1,140 @@
+package utility.loadtest;
+
+import utility.config.ApplicationConfigLoader;
+
+/**
+ * Parámetros de una prueba de carga: número de clientes, ritmo objetivo, duración y mezcla de operaciones.
+ */
+public final class LoadTestConfig {
+
+    // Número de clientes simulados, cada uno en su propio hilo.
+    private final int clients;
+
+    // Operaciones por segundo entre todos los clientes, o 0 para que cada cliente encadene operaciones sin pausa.
+    private final int targetRate;
+
+    // Duración de la prueba e intervalo entre informes, en segundos.
+    private final int durationSeconds;
+    private final int reportIntervalSeconds;
+
+    // Porcentajes de lecturas, búsquedas y escrituras; deben sumar 100.
+    private final int readPercent;
+    private final int searchPercent;
+    private final int writePercent;
+
+    // Clientes que crea cada cliente simulado antes de empezar a medir.
+    private final int seedPerClient;
+
+    // Indica si los clientes creados por la prueba se eliminan al terminar.
+    private final boolean cleanup;
+
+    // Semilla de los generadores aleatorios, para que una prueba pueda repetirse.
+    private final long seed;
+
+    /**
+     * Constructor que inicializa todos los parámetros de la prueba.
+     *
+     * @param clients               El número de clientes simulados.
+     * @param targetRate            Las operaciones por segundo entre todos los clientes, o 0 para no limitarlas.
+     * @param durationSeconds       La duración de la prueba, en segundos.
+     * @param reportIntervalSeconds El intervalo entre informes, en segundos.
+     * @param readPercent           El porcentaje de lecturas por identificador.
+     * @param searchPercent         El porcentaje de búsquedas.
+     * @param writePercent          El porcentaje de escrituras (altas, modificaciones y bajas).
+     * @param seedPerClient         Los clientes que crea cada cliente simulado antes de empezar a medir.
+     * @param cleanup               Si los clientes creados por la prueba se eliminan al terminar.
+     * @param seed                  La semilla de los generadores aleatorios.
+     * @throws IllegalArgumentException Si algún parámetro no es válido o la mezcla no suma 100.
+     */
+    public LoadTestConfig(int clients, int targetRate, int durationSeconds, int reportIntervalSeconds,
+                          int readPercent, int searchPercent, int writePercent, int seedPerClient,
+                          boolean cleanup, long seed) {
+        if (clients <= 0 || targetRate < 0 || durationSeconds <= 0 || reportIntervalSeconds <= 0
+                || seedPerClient < 0) {
+            throw new IllegalArgumentException("Parámetros de la prueba de carga inválidos");
+        }
+        if (readPercent < 0 || searchPercent < 0 || writePercent < 0
+                || readPercent + searchPercent + writePercent != 100) {
+            throw new IllegalArgumentException("La mezcla de operaciones debe sumar 100: lecturas=" + readPercent
+                    + ", búsquedas=" + searchPercent + ", escrituras=" + writePercent);
+        }
+        this.clients = clients;
+        this.targetRate = targetRate;
+        this.durationSeconds = durationSeconds;
+        this.reportIntervalSeconds = reportIntervalSeconds;
+        this.readPercent = readPercent;
+        this.searchPercent = searchPercent;
+        this.writePercent = writePercent;
+        this.seedPerClient = seedPerClient;
+        this.cleanup = cleanup;
+        this.seed = seed;
+    }
+
+    /**
+     * Crea la configuración a partir de las propiedades {@code loadtest.*} de la aplicación.
+     *
+     * @param appConfig La configuración de la aplicación.
+     * @return La configuración de la prueba de carga.
+     */
+    public static LoadTestConfig from(ApplicationConfigLoader appConfig) {
+        return new LoadTestConfig(
+                appConfig.getInt("loadtest.clients", 32),
+                appConfig.getInt("loadtest.targetRate", 500),
+                appConfig.getInt("loadtest.durationSeconds", 60),
+                appConfig.getInt("loadtest.reportIntervalSeconds", 5),
+                appConfig.getInt("loadtest.mix.read", 60),
+                appConfig.getInt("loadtest.mix.search", 25),
+                appConfig.getInt("loadtest.mix.write", 15),
+                appConfig.getInt("loadtest.seedPerClient", 20),
+                appConfig.getBoolean("loadtest.cleanup", true),
+                appConfig.getLong("loadtest.seed", 42));
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    public int getTargetRate() {
+        return targetRate;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getReportIntervalSeconds() {
+        return reportIntervalSeconds;
+    }
+
+    public int getReadPercent() {
+        return readPercent;
+    }
+
+    public int getSearchPercent() {
+        return searchPercent;
+    }
+
+    public int getWritePercent() {
+        return writePercent;
+    }
+
+    public int getSeedPerClient() {
+        return seedPerClient;
+    }
+
+    public boolean isCleanup() {
+        return cleanup;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return "clients=" + clients +
+                ", targetRate=" + (targetRate == 0 ? "sin límite" : targetRate + "/s") +
+                ", duration=" + durationSeconds + "s" +
+                ", mix=" + readPercent + "/" + searchPercent + "/" + writePercent;
+    }
+}
@@ -0,0 +1,113 @@
+package utility.loadtest;
+
+import utility.metrics.HistogramSnapshot;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Resultado de una prueba de carga: rendimiento, latencias por operación, errores y comprobación de integridad.
+ *
+ * <p>Para cada operación se guardan dos latencias. La latencia corregida se mide desde el instante en que la
+ * operación debía empezar según el ritmo objetivo, e incluye por tanto el tiempo que ha esperado detrás de
+ * operaciones lentas anteriores (corrección de la omisión coordinada). El tiempo de servicio se mide desde que la
+ * operación empieza realmente y subestima la latencia que percibiría un usuario cuando el sistema se satura.</p>
+ */
+public final class LoadTestResult {
+
+    // Duración de la fase medida, en nanosegundos.
+    private final long elapsedNanos;
+
+    // Latencias corregidas, tiempos de servicio y errores de cada operación.
+    private final Map<LoadOperation, HistogramSnapshot> correctedLatency;
+    private final Map<LoadOperation, HistogramSnapshot> serviceTime;
+    private final Map<LoadOperation, Long> errors;
+
+    // Clientes comprobados al final y discrepancias encontradas.
+    private final long checkedCustomers;
+    private final long integrityViolations;
+
+    /**
+     * Constructor que inicializa el resultado.
+     *
+     * @param elapsedNanos        La duración de la fase medida, en nanosegundos.
+     * @param correctedLatency    Las latencias corregidas de cada operación.
+     * @param serviceTime         Los tiempos de servicio de cada operación.
+     * @param errors              Los errores de cada operación.
+     * @param checkedCustomers    Los clientes comprobados al final de la prueba.
+     * @param integrityViolations Las discrepancias entre el estado esperado y el almacenado.
+     */
+    LoadTestResult(long elapsedNanos, Map<LoadOperation, HistogramSnapshot> correctedLatency,
+                   Map<LoadOperation, HistogramSnapshot> serviceTime, Map<LoadOperation, Long> errors,
+                   long checkedCustomers, long integrityViolations) {
+        this.elapsedNanos = elapsedNanos;
+        this.correctedLatency = Collections.unmodifiableMap(new EnumMap<>(correctedLatency));
+        this.serviceTime = Collections.unmodifiableMap(new EnumMap<>(serviceTime));
+        this.errors = Collections.unmodifiableMap(new EnumMap<>(errors));
+        this.checkedCustomers = checkedCustomers;
+        this.integrityViolations = integrityViolations;
+    }
+
+    /**
+     * Obtiene el número total de operaciones ejecutadas.
+     *
+     * @return El número de operaciones.
+     */
+    public long getTotalOperations() {
+        return correctedLatency.values().stream().mapToLong(HistogramSnapshot::getCount).sum();
+    }
+
+    /**
+     * Obtiene el número total de operaciones fallidas.
+     *
+     * @return El número de errores.
+     */
+    public long getTotalErrors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Obtiene el rendimiento medio de la fase medida.
+     *
+     * @return Las operaciones por segundo.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : getTotalOperations() * 1e9 / elapsedNanos;
+    }
+
+    public Map<LoadOperation, HistogramSnapshot> getCorrectedLatency() {
+        return correctedLatency;
+    }
+
+    public Map<LoadOperation, HistogramSnapshot> getServiceTime() {
+        return serviceTime;
+    }
+
+    public Map<LoadOperation, Long> getErrors() {
+        return errors;
+    }
+
+    public long getCheckedCustomers() {
+        return checkedCustomers;
+    }
+
+    public long getIntegrityViolations() {
+        return integrityViolations;
+    }
+
+    /**
+     * Indica si la prueba ha terminado sin errores ni discrepancias de integridad.
+     *
+     * @return {@code true} si la prueba es correcta.
+     */
+    public boolean isSuccessful() {
+        return getTotalErrors() == 0 && integrityViolations == 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("operaciones=%d, rendimiento=%.1f/s, errores=%d, comprobados=%d, discrepancias=%d",
+                getTotalOperations(), getThroughput(), getTotalErrors(), checkedCustomers, integrityViolations);
+    }
+}
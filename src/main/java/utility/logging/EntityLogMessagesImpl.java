@@ -24,20 +24,36 @@ public class EntityLogMessagesImpl<T> implements LogMessages<T> {
                 return String.format("Error al obtener la entidad con ID: %s", params);
             case ERROR_GET_ALL:
                 return "Error al obtener todas las entidades";
+            case ERROR_GET_PAGE:
+                return String.format("Error al obtener la página de entidades: offset=%s, limit=%s", params);
+            case ERROR_GET_PAGE_AFTER:
+                return String.format("Error al obtener la página de entidades: afterId=%s, limit=%s", params);
+            case ERROR_SEARCH:
+                return String.format("Error al buscar entidades con el texto: %s", params);
             case ERROR_UPDATE:
                 return String.format("Error al actualizar la entidad: %s", params);
             case ERROR_DELETE:
                 return String.format("Error al eliminar la entidad con ID: %s", params);
+            case ERROR_BATCH:
+                return String.format("Error al aplicar el lote de %s actualizaciones y %s eliminaciones", params);
             case SUCCESS_ADD:
                 return String.format("Entidad agregada con éxito: %s", params);
             case SUCCESS_GET:
                 return String.format("Entidad obtenida con éxito: %s", params);
             case SUCCESS_GET_ALL:
                 return "Todas las entidades obtenidas con éxito";
+            case SUCCESS_GET_PAGE:
+                return String.format("Página de entidades obtenida con éxito: offset=%s, limit=%s", params);
+            case SUCCESS_GET_PAGE_AFTER:
+                return String.format("Página de entidades obtenida con éxito: afterId=%s, limit=%s", params);
+            case SUCCESS_SEARCH:
+                return String.format("Búsqueda de entidades con el texto '%s' completada con éxito", params);
             case SUCCESS_UPDATE:
                 return String.format("Entidad actualizada con éxito: %s", params);
             case SUCCESS_DELETE:
                 return String.format("Entidad eliminada con éxito: ID=%s", params);
+            case SUCCESS_BATCH:
+                return String.format("Lote de %s actualizaciones y %s eliminaciones aplicado con éxito", params);
             case WARNING_NOT_FOUND:
                 return String.format("Entidad no encontrada con ID: %s", params);
             default:
@@ -23,6 +23,24 @@ public enum MessageType {
      */
     ERROR_GET_ALL,
 
+    /**
+     * Mensaje de error al intentar obtener una página de entidades.
+     * Uso típico: cuando ocurre un error durante la consulta paginada de entidades.
+     */
+    ERROR_GET_PAGE,
+
+    /**
+     * Mensaje de error al intentar obtener la página de entidades que siguen a un identificador.
+     * Uso típico: cuando ocurre un error durante el recorrido por páginas de todas las entidades.
+     */
+    ERROR_GET_PAGE_AFTER,
+
+    /**
+     * Mensaje de error al intentar buscar entidades por texto.
+     * Uso típico: cuando ocurre un error durante la búsqueda de entidades que contienen un texto.
+     */
+    ERROR_SEARCH,
+
     /**
      * Mensaje de error al intentar actualizar una entidad.
      * Uso típico: cuando ocurre un error durante la operación de actualización de una entidad existente.
@@ -35,6 +53,12 @@ public enum MessageType {
      */
     ERROR_DELETE,
 
+    /**
+     * Mensaje de error al intentar aplicar un lote de escrituras.
+     * Uso típico: cuando falla la transacción que aplica varias actualizaciones y eliminaciones a la vez.
+     */
+    ERROR_BATCH,
+
     /**
      * Mensaje de éxito al agregar una entidad.
      * Uso típico: cuando una operación de inserción de una nueva entidad en la base de datos se completa con éxito.
@@ -53,6 +77,24 @@ public enum MessageType {
      */
     SUCCESS_GET_ALL,
 
+    /**
+     * Mensaje de éxito al obtener una página de entidades.
+     * Uso típico: cuando una consulta paginada de entidades se completa con éxito.
+     */
+    SUCCESS_GET_PAGE,
+
+    /**
+     * Mensaje de éxito al obtener la página de entidades que siguen a un identificador.
+     * Uso típico: cuando se obtiene con éxito una página del recorrido de todas las entidades.
+     */
+    SUCCESS_GET_PAGE_AFTER,
+
+    /**
+     * Mensaje de éxito al buscar entidades por texto.
+     * Uso típico: cuando una búsqueda de entidades que contienen un texto se completa con éxito.
+     */
+    SUCCESS_SEARCH,
+
     /**
      * Mensaje de éxito al actualizar una entidad.
      * Uso típico: cuando una operación de actualización de una entidad existente se completa con éxito.
@@ -65,6 +107,12 @@ public enum MessageType {
      */
     SUCCESS_DELETE,
 
+    /**
+     * Mensaje de éxito al aplicar un lote de escrituras.
+     * Uso típico: cuando una transacción con varias actualizaciones y eliminaciones se confirma con éxito.
+     */
+    SUCCESS_BATCH,
+
     /**
      * Mensaje de advertencia cuando una entidad no se encuentra.
      * Uso típico: cuando una operación de búsqueda de una entidad específica utilizando su identificador único no encuentra resultados.
@@ -0,0 +1,112 @@
+package utility.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Indicadores de uso de las conexiones a la base de datos.
+ * Implementa {@link ConnectionMetricsMXBean} para poder exponerse directamente a través de JMX.
+ */
+public class ConnectionMetrics implements ConnectionMetricsMXBean {
+
+    // Conexiones abiertas actualmente.
+    private final AtomicInteger active = new AtomicInteger();
+
+    // Máximo de conexiones abiertas simultáneamente.
+    private final AtomicInteger peakActive = new AtomicInteger();
+
+    // Conexiones obtenidas con éxito.
+    private final LongAdder acquired = new LongAdder();
+
+    // Intentos fallidos de obtener una conexión.
+    private final LongAdder failed = new LongAdder();
+
+    // Tiempo necesario para obtener una conexión.
+    private final LatencyHistogram acquireLatency = new LatencyHistogram();
+
+    // Tiempo que una conexión permanece abierta.
+    private final LatencyHistogram holdTime = new LatencyHistogram();
+
+    /**
+     * Registra la obtención de una conexión.
+     *
+     * @param durationNanos El tiempo necesario para obtener la conexión, en nanosegundos.
+     */
+    public void recordAcquired(long durationNanos) {
+        acquireLatency.record(durationNanos);
+        acquired.increment();
+        int current = active.incrementAndGet();
+        peakActive.accumulateAndGet(current, Math::max);
+    }
+
+    /**
+     * Registra un intento fallido de obtener una conexión.
+     *
+     * @param durationNanos El tiempo transcurrido hasta el fallo, en nanosegundos.
+     */
+    public void recordFailed(long durationNanos) {
+        acquireLatency.record(durationNanos);
+        failed.increment();
+    }
+
+    /**
+     * Registra el cierre de una conexión.
+     *
+     * @param heldNanos El tiempo que la conexión ha permanecido abierta, en nanosegundos.
+     */
+    public void recordReleased(long heldNanos) {
+        holdTime.record(heldNanos);
+        active.decrementAndGet();
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return active.get();
+    }
+
+    @Override
+    public int getPeakActiveConnections() {
+        return peakActive.get();
+    }
+
+    @Override
+    public long getAcquiredCount() {
+        return acquired.sum();
+    }
+
+    @Override
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public long getAcquireP99Micros() {
+        return TimeUnit.NANOSECONDS.toMicros(acquireLatency.snapshot().getP99());
+    }
+
+    @Override
+    public long getAcquireMaxMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(acquireLatency.snapshot().getMax());
+    }
+
+    @Override
+    public long getHoldP99Micros() {
+        return TimeUnit.NANOSECONDS.toMicros(holdTime.snapshot().getP99());
+    }
+
+    /**
+     * Representa los indicadores como una cadena legible.
+     *
+     * @return Una representación de cadena de los indicadores.
+     */
+    @Override
+    public String toString() {
+        return "connections [active=" + getActiveConnections() +
+                ", peak=" + getPeakActiveConnections() +
+                ", acquired=" + getAcquiredCount() +
+                ", failed=" + getFailedCount() +
+                ", acquire " + acquireLatency.snapshot() +
+                ", hold p99=" + getHoldP99Micros() + "us]";
+    }
+}
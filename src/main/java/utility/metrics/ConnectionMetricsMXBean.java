@@ -0,0 +1,56 @@
+package utility.metrics;
+
+/**
+ * Interfaz de gestión JMX que expone los indicadores de uso de las conexiones a la base de datos.
+ */
+public interface ConnectionMetricsMXBean {
+
+    /**
+     * Obtiene el número de conexiones abiertas actualmente (obtenidas y aún no cerradas).
+     *
+     * @return El número de conexiones activas.
+     */
+    int getActiveConnections();
+
+    /**
+     * Obtiene el mayor número de conexiones abiertas simultáneamente.
+     *
+     * @return El máximo de conexiones activas.
+     */
+    int getPeakActiveConnections();
+
+    /**
+     * Obtiene el número total de conexiones obtenidas con éxito.
+     *
+     * @return El número de conexiones obtenidas.
+     */
+    long getAcquiredCount();
+
+    /**
+     * Obtiene el número de intentos fallidos de obtener una conexión.
+     *
+     * @return El número de fallos al obtener una conexión.
+     */
+    long getFailedCount();
+
+    /**
+     * Obtiene el percentil 99 del tiempo necesario para obtener una conexión.
+     *
+     * @return El percentil 99 en microsegundos.
+     */
+    long getAcquireP99Micros();
+
+    /**
+     * Obtiene el tiempo máximo necesario para obtener una conexión.
+     *
+     * @return El máximo en microsegundos.
+     */
+    long getAcquireMaxMicros();
+
+    /**
+     * Obtiene el percentil 99 del tiempo que una conexión permanece abierta.
+     *
+     * @return El percentil 99 en microsegundos.
+     */
+    long getHoldP99Micros();
+}
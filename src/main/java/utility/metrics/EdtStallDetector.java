@@ -0,0 +1,300 @@
+package utility.metrics;
+
+import utility.jfr.EdtStallEvent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.InvocationEvent;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Detector de bloqueos del hilo de eventos de Swing (EDT).
+ *
+ * <p>Sustituye la cola de eventos del sistema por una que anota cuándo empieza y termina el despacho de cada
+ * evento. Un hilo vigilante comprueba periódicamente el evento en curso y, cuando su despacho supera el umbral,
+ * captura la pila del hilo de eventos mientras sigue bloqueado, que es la que señala el código responsable. Al
+ * terminar el evento, el bloqueo se registra con su duración en el log, en las métricas y como
+ * {@link EdtStallEvent} de Java Flight Recorder.
+ * Implementa {@link EdtStallDetectorMXBean} para poder exponerse directamente a través de JMX.</p>
+ *
+ * <p>Los diálogos modales despachan eventos en un bucle anidado dentro del evento que los abre. Mientras el bucle
+ * anidado espera el siguiente evento o despacha uno, el tiempo del evento exterior deja de contar y se reanuda al
+ * volver, de modo que un diálogo abierto, aunque esté inactivo, no se confunde con un bloqueo.</p>
+ */
+public class EdtStallDetector implements EdtStallDetectorMXBean, AutoCloseable {
+
+    // Logger para registrar los bloqueos.
+    private static final Logger LOGGER = LoggerFactory.getLogger(EdtStallDetector.class);
+
+    // Número máximo de marcos de la pila capturada.
+    private static final int MAX_STACK_FRAMES = 40;
+
+    // Intervalo mínimo entre comprobaciones del hilo vigilante, en milisegundos.
+    private static final long MIN_CHECK_INTERVAL_MILLIS = 10;
+
+    // Duración de los bloqueos.
+    private final LatencyHistogram stallDuration = new LatencyHistogram();
+
+    // Duración total de los bloqueos, en nanosegundos.
+    private final LongAdder stallNanos = new LongAdder();
+
+    // Eventos despachados.
+    private final LongAdder dispatched = new LongAdder();
+
+    // Planificador del hilo vigilante.
+    private final ScheduledExecutorService watchdog;
+
+    // Umbral de bloqueo, en milisegundos.
+    private volatile long stallThresholdMillis;
+
+    // Instante (en nanosegundos) desde el que se mide el evento en curso, o 0 si el hilo de eventos está libre.
+    private volatile long dispatchStart;
+
+    // Número del tramo de despacho en curso, que cambia al empezar un evento, al pausarse mientras un bucle anidado
+    // espera eventos y al reanudarse.
+    private volatile long dispatchSequence;
+
+    // Tramo de despacho cuya pila ya se ha capturado, para capturarla una sola vez por bloqueo.
+    private volatile long capturedSequence = -1;
+
+    // Pila capturada en el tramo en curso, o null si no ha superado el umbral.
+    private volatile String capturedStack;
+
+    // Pila del último bloqueo.
+    private volatile String lastStallStack = "";
+
+    // Hilo de eventos, conocido desde el primer evento despachado.
+    private volatile Thread eventDispatchThread;
+
+    /**
+     * Constructor que instala la cola de eventos monitorizada e inicia el hilo vigilante.
+     *
+     * @param stallThresholdMillis El tiempo a partir del cual un evento se considera un bloqueo, en milisegundos.
+     */
+    public EdtStallDetector(long stallThresholdMillis) {
+        setStallThresholdMillis(stallThresholdMillis);
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new MonitoredEventQueue());
+        watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "edt-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(MIN_CHECK_INTERVAL_MILLIS, stallThresholdMillis / 4);
+        watchdog.scheduleAtFixedRate(this::check, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Comprueba el evento en curso y, si supera el umbral por primera vez, captura la pila del hilo de eventos.
+     */
+    private void check() {
+        long start = dispatchStart;
+        long sequence = dispatchSequence;
+        Thread edt = eventDispatchThread;
+        if (start == 0 || edt == null || capturedSequence == sequence
+                || System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(stallThresholdMillis)) {
+            return;
+        }
+        String stack = formatStack(edt.getStackTrace());
+        if (dispatchSequence == sequence) {
+            capturedSequence = sequence;
+            capturedStack = stack;
+            LOGGER.warn("El hilo de eventos lleva más de {} ms bloqueado en:\n{}", stallThresholdMillis, stack);
+        }
+    }
+
+    /**
+     * Registra el final de un tramo de despacho que ha superado el umbral.
+     *
+     * @param event         El evento despachado.
+     * @param durationNanos La duración del tramo, en nanosegundos.
+     * @param stack         La pila capturada durante el tramo, o {@code null} si el vigilante no llegó a verlo.
+     * @param stall         El evento de Java Flight Recorder del despacho.
+     */
+    private void recordStall(AWTEvent event, long durationNanos, String stack, EdtStallEvent stall) {
+        stallDuration.record(durationNanos);
+        stallNanos.add(durationNanos);
+        String description = describe(event);
+        if (stack != null) {
+            lastStallStack = stack;
+        }
+        stall.finish(description, stack);
+        LOGGER.warn("Hilo de eventos bloqueado {} ms por {}", TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                description);
+    }
+
+    @Override
+    public long getStallThresholdMillis() {
+        return stallThresholdMillis;
+    }
+
+    @Override
+    public void setStallThresholdMillis(long stallThresholdMillis) {
+        if (stallThresholdMillis <= 0) {
+            throw new IllegalArgumentException("El umbral de bloqueo debe ser mayor que cero");
+        }
+        this.stallThresholdMillis = stallThresholdMillis;
+    }
+
+    @Override
+    public long getDispatchedCount() {
+        return dispatched.sum();
+    }
+
+    @Override
+    public long getStallCount() {
+        return stallDuration.getCount();
+    }
+
+    @Override
+    public long getStallP99Millis() {
+        return TimeUnit.NANOSECONDS.toMillis(stallDuration.snapshot().getP99());
+    }
+
+    @Override
+    public long getStallMaxMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(stallDuration.snapshot().getMax());
+    }
+
+    @Override
+    public long getStallTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(stallNanos.sum());
+    }
+
+    @Override
+    public long getCurrentDispatchMillis() {
+        long start = dispatchStart;
+        return start == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    @Override
+    public String getLastStallStack() {
+        return lastStallStack;
+    }
+
+    @Override
+    public void reset() {
+        stallDuration.reset();
+        stallNanos.reset();
+        dispatched.reset();
+        lastStallStack = "";
+    }
+
+    /**
+     * Detiene el hilo vigilante. La cola de eventos monitorizada sigue instalada, pero solo anota los tiempos.
+     */
+    @Override
+    public void close() {
+        watchdog.shutdownNow();
+    }
+
+    /**
+     * Representa los bloqueos como una cadena legible.
+     *
+     * @return Una representación de cadena de los bloqueos.
+     */
+    @Override
+    public String toString() {
+        return "edt [dispatched=" + getDispatchedCount() +
+                ", stalls=" + getStallCount() +
+                ", threshold=" + stallThresholdMillis + "ms" +
+                ", stall " + stallDuration.snapshot() + "]";
+    }
+
+    /**
+     * Describe un evento despachado por su tipo y el componente o la tarea de origen.
+     *
+     * @param event El evento despachado.
+     * @return La descripción del evento.
+     */
+    private static String describe(AWTEvent event) {
+        Object source = event instanceof InvocationEvent ? "invokeLater" : event.getSource();
+        String sourceName = source == null ? "?" : source instanceof String
+                ? (String) source : source.getClass().getName();
+        return event.getClass().getSimpleName() + "[id=" + event.getID() + "] de " + sourceName;
+    }
+
+    /**
+     * Formatea una pila de ejecución con un marco por línea, limitando su longitud.
+     *
+     * @param frames Los marcos de la pila.
+     * @return La pila formateada.
+     */
+    private static String formatStack(StackTraceElement[] frames) {
+        StringBuilder stack = new StringBuilder();
+        for (int i = 0; i < frames.length && i < MAX_STACK_FRAMES; i++) {
+            stack.append("\tat ").append(frames[i]).append('\n');
+        }
+        if (frames.length > MAX_STACK_FRAMES) {
+            stack.append("\t... ").append(frames.length - MAX_STACK_FRAMES).append(" más\n");
+        }
+        return stack.toString();
+    }
+
+    /**
+     * Cola de eventos que anota el inicio y el final del despacho de cada evento. Solo la usa el hilo de eventos.
+     */
+    private final class MonitoredEventQueue extends EventQueue {
+
+        @Override
+        public AWTEvent getNextEvent() throws InterruptedException {
+            // Si hay un evento en curso, es un bucle anidado (diálogo modal): su espera no cuenta como bloqueo.
+            boolean nested = dispatchStart != 0;
+            if (nested) {
+                dispatchSequence++;
+                dispatchStart = 0;
+                capturedStack = null;
+            }
+            try {
+                return super.getNextEvent();
+            } finally {
+                if (nested) {
+                    beginSegment(System.nanoTime());
+                }
+            }
+        }
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            eventDispatchThread = Thread.currentThread();
+            dispatched.increment();
+            long outerStart = dispatchStart;
+            EdtStallEvent stall = EdtStallEvent.start();
+            beginSegment(System.nanoTime());
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                long end = System.nanoTime();
+                long duration = end - dispatchStart;
+                String stack = capturedStack;
+                if (duration >= TimeUnit.MILLISECONDS.toNanos(stallThresholdMillis)) {
+                    recordStall(event, duration, stack, stall);
+                }
+                // El evento exterior, si lo hay, reanuda su medición desde este instante.
+                if (outerStart != 0) {
+                    beginSegment(end);
+                } else {
+                    dispatchStart = 0;
+                    capturedStack = null;
+                }
+            }
+        }
+
+        /**
+         * Empieza un nuevo tramo de despacho.
+         *
+         * @param start El instante de inicio, en nanosegundos.
+         */
+        private void beginSegment(long start) {
+            capturedStack = null;
+            dispatchSequence++;
+            dispatchStart = start;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package utility.metrics;
+
+/**
+ * Interfaz de gestión JMX que expone los bloqueos del hilo de eventos de Swing detectados por
+ * {@link EdtStallDetector}. Las duraciones se expresan en milisegundos.
+ */
+public interface EdtStallDetectorMXBean {
+
+    /**
+     * Obtiene el tiempo a partir del cual un evento se considera un bloqueo.
+     *
+     * @return El umbral en milisegundos.
+     */
+    long getStallThresholdMillis();
+
+    /**
+     * Cambia el tiempo a partir del cual un evento se considera un bloqueo.
+     *
+     * @param stallThresholdMillis El nuevo umbral en milisegundos, mayor que cero.
+     */
+    void setStallThresholdMillis(long stallThresholdMillis);
+
+    /**
+     * Obtiene el número de eventos despachados.
+     *
+     * @return El número de eventos.
+     */
+    long getDispatchedCount();
+
+    /**
+     * Obtiene el número de eventos que han superado el umbral.
+     *
+     * @return El número de bloqueos.
+     */
+    long getStallCount();
+
+    /**
+     * Obtiene el percentil 99 de la duración de los bloqueos.
+     *
+     * @return El percentil 99 en milisegundos.
+     */
+    long getStallP99Millis();
+
+    /**
+     * Obtiene la duración del bloqueo más largo.
+     *
+     * @return La duración máxima en milisegundos.
+     */
+    long getStallMaxMillis();
+
+    /**
+     * Obtiene la duración total de los bloqueos.
+     *
+     * @return La duración total en milisegundos.
+     */
+    long getStallTotalMillis();
+
+    /**
+     * Indica cuánto tiempo lleva despachándose el evento en curso.
+     *
+     * @return La duración del evento en curso en milisegundos, o 0 si el hilo de eventos está libre.
+     */
+    long getCurrentDispatchMillis();
+
+    /**
+     * Obtiene la pila del hilo de eventos capturada en el último bloqueo.
+     *
+     * @return La pila, con un marco por línea, o una cadena vacía si aún no ha habido bloqueos.
+     */
+    String getLastStallStack();
+
+    /**
+     * Restablece los contadores y el histograma de bloqueos.
+     */
+    void reset();
+}
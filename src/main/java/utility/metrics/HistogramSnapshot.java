@@ -0,0 +1,96 @@
+package utility.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instantánea inmutable de las estadísticas de un {@link LatencyHistogram}.
+ * Todos los valores de latencia se expresan en nanosegundos.
+ */
+public class HistogramSnapshot {
+
+    // Número de valores registrados.
+    private final long count;
+
+    // Latencia media.
+    private final long mean;
+
+    // Percentil 50.
+    private final long p50;
+
+    // Percentil 95.
+    private final long p95;
+
+    // Percentil 99.
+    private final long p99;
+
+    // Latencia máxima.
+    private final long max;
+
+    /**
+     * Constructor que inicializa todas las estadísticas de la instantánea.
+     *
+     * @param count Número de valores registrados.
+     * @param mean  Latencia media en nanosegundos.
+     * @param p50   Percentil 50 en nanosegundos.
+     * @param p95   Percentil 95 en nanosegundos.
+     * @param p99   Percentil 99 en nanosegundos.
+     * @param max   Latencia máxima en nanosegundos.
+     */
+    public HistogramSnapshot(long count, long mean, long p50, long p95, long p99, long max) {
+        this.count = count;
+        this.mean = mean;
+        this.p50 = p50;
+        this.p95 = p95;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMean() {
+        return mean;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public long getP95() {
+        return p95;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Representa la instantánea como una cadena legible, con las latencias en microsegundos.
+     *
+     * @return Una representación de cadena de la instantánea.
+     */
+    @Override
+    public String toString() {
+        return "count=" + count +
+                ", mean=" + toMicros(mean) + "us" +
+                ", p50=" + toMicros(p50) + "us" +
+                ", p95=" + toMicros(p95) + "us" +
+                ", p99=" + toMicros(p99) + "us" +
+                ", max=" + toMicros(max) + "us";
+    }
+
+    /**
+     * Convierte un valor en nanosegundos a microsegundos.
+     *
+     * @param nanos El valor en nanosegundos.
+     * @return El valor en microsegundos.
+     */
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
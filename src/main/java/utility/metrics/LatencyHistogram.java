@@ -0,0 +1,157 @@
+package utility.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias concurrente y sin bloqueos.
+ *
+ * <p>Los valores (en nanosegundos) se agrupan en cubetas logarítmicas con 8 subdivisiones por potencia de dos, lo que
+ * limita el error relativo de los percentiles al 12,5% con un tamaño fijo de memoria. Registrar un valor solo
+ * requiere un incremento atómico sobre su cubeta, por lo que el coste por operación es mínimo incluso con muchos
+ * hilos escribiendo a la vez.</p>
+ */
+public class LatencyHistogram {
+
+    // Bits de subdivisión dentro de cada potencia de dos.
+    private static final int SUB_BUCKET_BITS = 3;
+
+    // Número de subdivisiones dentro de cada potencia de dos.
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    // Número total de cubetas necesarias para cubrir todo el rango de valores positivos de un long.
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+
+    // Contadores de cada cubeta.
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    // Número total de valores registrados.
+    private final LongAdder count = new LongAdder();
+
+    // Suma de todos los valores registrados, para calcular la media.
+    private final LongAdder sum = new LongAdder();
+
+    // Valor máximo registrado.
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Registra un valor de latencia.
+     *
+     * @param nanos La latencia en nanosegundos. Los valores negativos se registran como cero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Obtiene una instantánea de las estadísticas actuales del histograma.
+     *
+     * <p>La instantánea no es atómica respecto a escrituras concurrentes, pero cada valor es coherente por sí mismo,
+     * lo que resulta suficiente para fines de monitorización.</p>
+     *
+     * @return Una instantánea inmutable con el recuento, la media, los percentiles y el máximo.
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long maxValue = max.get();
+        long mean = total == 0 ? 0 : sum.sum() / total;
+        return new HistogramSnapshot(
+                total,
+                mean,
+                percentile(counts, total, 0.50, maxValue),
+                percentile(counts, total, 0.95, maxValue),
+                percentile(counts, total, 0.99, maxValue),
+                maxValue
+        );
+    }
+
+    /**
+     * Restablece el histograma a su estado inicial.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * Obtiene el número total de valores registrados.
+     *
+     * @return El número de valores registrados.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Calcula el percentil indicado a partir de los contadores de las cubetas.
+     *
+     * @param counts   Los contadores de cada cubeta.
+     * @param total    El número total de valores.
+     * @param quantile El cuantil a calcular, entre 0 y 1.
+     * @param maxValue El valor máximo registrado, utilizado como cota superior.
+     * @return El límite superior de la cubeta que contiene el percentil, sin superar el máximo registrado.
+     */
+    private static long percentile(long[] counts, long total, double quantile, long maxValue) {
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * quantile));
+        long accumulated = 0;
+        for (int i = 0; i < counts.length; i++) {
+            accumulated += counts[i];
+            if (accumulated >= target) {
+                return Math.min(bucketUpperBound(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Calcula el índice de la cubeta correspondiente a un valor.
+     *
+     * @param value El valor, mayor o igual que cero.
+     * @return El índice de la cubeta.
+     */
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Calcula el mayor valor que puede contener una cubeta.
+     *
+     * @param index El índice de la cubeta.
+     * @return El límite superior (inclusive) de la cubeta.
+     */
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        long lowerBound = (1L << exponent) + (subBucket << (exponent - SUB_BUCKET_BITS));
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,144 @@
+package utility.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro central de las métricas de la aplicación.
+ *
+ * <p>Crea bajo demanda las métricas de cada operación y las publica como MXBeans en el servidor de gestión de la
+ * plataforma, bajo el dominio {@value #JMX_DOMAIN}, para que puedan consultarse con JConsole, VisualVM o cualquier
+ * cliente JMX.</p>
+ */
+public class MetricsRegistry {
+
+    /**
+     * Dominio JMX bajo el que se publican todas las métricas de la aplicación.
+     */
+    public static final String JMX_DOMAIN = "crud.customer";
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsRegistry.class);
+
+    // Umbral inicial de sentencias lentas, en milisegundos.
+    private static final long DEFAULT_SLOW_STATEMENT_MILLIS = 200;
+
+    // Métricas de cada operación, indexadas por "capa.operación".
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+    // Indicadores de uso de las conexiones a la base de datos.
+    private final ConnectionMetrics connectionMetrics = new ConnectionMetrics();
+
+    // Perfilado de las sentencias SQL.
+    private final StatementProfiler statementProfiler = new StatementProfiler(DEFAULT_SLOW_STATEMENT_MILLIS);
+
+    // Indica si las métricas deben publicarse a través de JMX.
+    private final boolean jmxEnabled;
+
+    // Nombres de los MXBeans registrados, para poder eliminarlos al cerrar.
+    private final List<ObjectName> registeredNames = new ArrayList<>();
+
+    /**
+     * Constructor que inicializa el registro.
+     *
+     * @param jmxEnabled {@code true} para publicar las métricas como MXBeans; {@code false} para mantenerlas solo
+     *                   en memoria.
+     */
+    public MetricsRegistry(boolean jmxEnabled) {
+        this.jmxEnabled = jmxEnabled;
+        register("type=Connections", connectionMetrics);
+        register("type=Statements", statementProfiler);
+    }
+
+    /**
+     * Obtiene las métricas de una operación, creándolas y publicándolas si aún no existen.
+     *
+     * @param layer     El nombre de la capa a la que pertenece la operación.
+     * @param operation El nombre de la operación.
+     * @return Las métricas de la operación.
+     */
+    public OperationMetrics operation(String layer, String operation) {
+        return operations.computeIfAbsent(layer + "." + operation, key -> {
+            OperationMetrics metrics = new OperationMetrics(layer, operation);
+            register("type=Operations,layer=" + layer + ",name=" + operation, metrics);
+            return metrics;
+        });
+    }
+
+    /**
+     * Obtiene los indicadores de uso de las conexiones a la base de datos.
+     *
+     * @return Los indicadores de conexiones.
+     */
+    public ConnectionMetrics connections() {
+        return connectionMetrics;
+    }
+
+    /**
+     * Obtiene el perfilado de las sentencias SQL.
+     *
+     * @return El perfilado de sentencias.
+     */
+    public StatementProfiler statements() {
+        return statementProfiler;
+    }
+
+    /**
+     * Obtiene todas las métricas de operaciones registradas hasta el momento.
+     *
+     * @return Una colección con las métricas de todas las operaciones.
+     */
+    public Collection<OperationMetrics> getOperations() {
+        return operations.values();
+    }
+
+    /**
+     * Publica un MXBean adicional bajo el dominio de la aplicación.
+     *
+     * @param properties Las propiedades del nombre JMX (por ejemplo, {@code "type=CircuitBreaker"}).
+     * @param mbean      El objeto que implementa la interfaz MXBean.
+     */
+    public synchronized void register(String properties, Object mbean) {
+        if (!jmxEnabled) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":" + properties);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(mbean, name);
+            registeredNames.add(name);
+        } catch (JMException e) {
+            LOGGER.warn("No se pudo registrar el MXBean de métricas: " + properties, e);
+        }
+    }
+
+    /**
+     * Elimina del servidor de gestión todos los MXBeans publicados por este registro.
+     */
+    public synchronized void unregisterAll() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registeredNames) {
+            try {
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (JMException e) {
+                LOGGER.warn("No se pudo eliminar el MXBean de métricas: " + name, e);
+            }
+        }
+        registeredNames.clear();
+    }
+}
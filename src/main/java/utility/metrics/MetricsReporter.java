@@ -0,0 +1,72 @@
+package utility.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Volcado periódico de las métricas al log de la aplicación.
+ *
+ * <p>Se ejecuta en un hilo demonio independiente, por lo que no impide que la aplicación finalice.</p>
+ */
+public class MetricsReporter implements AutoCloseable {
+
+    // Logger dedicado a las métricas, para poder redirigirlo a un archivo propio si se desea.
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsReporter.class);
+
+    // Registro de métricas que se vuelca.
+    private final MetricsRegistry registry;
+
+    // Planificador del volcado periódico.
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor que inicia el volcado periódico de las métricas.
+     *
+     * @param registry        El registro de métricas que se vuelca.
+     * @param intervalSeconds El intervalo entre volcados, en segundos.
+     */
+    public MetricsReporter(MetricsRegistry registry, long intervalSeconds) {
+        this.registry = registry;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Escribe en el log una instantánea de todas las métricas registradas.
+     */
+    public void report() {
+        try {
+            LOGGER.info("Métricas: {}", registry.connections());
+            registry.getOperations().stream()
+                    .filter(metrics -> metrics.getCount() > 0)
+                    .sorted(Comparator.comparing(OperationMetrics::getLayer).thenComparing(OperationMetrics::getOperation))
+                    .forEach(metrics -> LOGGER.info("Métricas: {}", metrics));
+            StatementProfiler statements = registry.statements();
+            if (statements.getShapeCount() > 0) {
+                LOGGER.info("Métricas: {}", statements);
+                for (String statement : statements.getTopStatements()) {
+                    LOGGER.info("Métricas: sentencia {}", statement);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Error al volcar las métricas", e);
+        }
+    }
+
+    /**
+     * Detiene el volcado periódico.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,156 @@
+package utility.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas de una operación instrumentada: histograma de latencias y contadores por resultado.
+ * Implementa {@link OperationMetricsMXBean} para poder exponerse directamente a través de JMX.
+ */
+public class OperationMetrics implements OperationMetricsMXBean {
+
+    // Nombre de la capa a la que pertenece la operación.
+    private final String layer;
+
+    // Nombre de la operación.
+    private final String operation;
+
+    // Histograma de latencias de todas las invocaciones.
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    // Contadores de invocaciones por resultado.
+    private final Map<Outcome, LongAdder> outcomes = new EnumMap<>(Outcome.class);
+
+    // Instante (en nanosegundos) desde el que se calcula el rendimiento.
+    private volatile long startNanos = System.nanoTime();
+
+    /**
+     * Constructor que inicializa las métricas de una operación.
+     *
+     * @param layer     El nombre de la capa a la que pertenece la operación.
+     * @param operation El nombre de la operación.
+     */
+    public OperationMetrics(String layer, String operation) {
+        this.layer = layer;
+        this.operation = operation;
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome, new LongAdder());
+        }
+    }
+
+    /**
+     * Registra una invocación de la operación.
+     *
+     * @param outcome       El resultado de la invocación.
+     * @param durationNanos La duración de la invocación en nanosegundos.
+     */
+    public void record(Outcome outcome, long durationNanos) {
+        latency.record(durationNanos);
+        outcomes.get(outcome).increment();
+    }
+
+    /**
+     * Obtiene una instantánea del histograma de latencias.
+     *
+     * @return La instantánea del histograma.
+     */
+    public HistogramSnapshot snapshot() {
+        return latency.snapshot();
+    }
+
+    @Override
+    public String getLayer() {
+        return layer;
+    }
+
+    @Override
+    public String getOperation() {
+        return operation;
+    }
+
+    @Override
+    public long getCount() {
+        return latency.getCount();
+    }
+
+    @Override
+    public long getSuccessCount() {
+        return outcomes.get(Outcome.SUCCESS).sum();
+    }
+
+    @Override
+    public long getNotFoundCount() {
+        return outcomes.get(Outcome.NOT_FOUND).sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return outcomes.get(Outcome.REJECTED).sum();
+    }
+
+    @Override
+    public long getCancelledCount() {
+        return outcomes.get(Outcome.CANCELLED).sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return outcomes.get(Outcome.ERROR).sum();
+    }
+
+    @Override
+    public long getMeanMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(latency.snapshot().getMean());
+    }
+
+    @Override
+    public long getP50Micros() {
+        return TimeUnit.NANOSECONDS.toMicros(latency.snapshot().getP50());
+    }
+
+    @Override
+    public long getP95Micros() {
+        return TimeUnit.NANOSECONDS.toMicros(latency.snapshot().getP95());
+    }
+
+    @Override
+    public long getP99Micros() {
+        return TimeUnit.NANOSECONDS.toMicros(latency.snapshot().getP99());
+    }
+
+    @Override
+    public long getMaxMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(latency.snapshot().getMax());
+    }
+
+    @Override
+    public double getThroughputPerSecond() {
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        return elapsedSeconds <= 0 ? 0 : getCount() / elapsedSeconds;
+    }
+
+    @Override
+    public void reset() {
+        latency.reset();
+        outcomes.values().forEach(LongAdder::reset);
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Representa las métricas como una cadena legible.
+     *
+     * @return Una representación de cadena de las métricas.
+     */
+    @Override
+    public String toString() {
+        return layer + "." + operation + " [" + latency.snapshot() +
+                ", ok=" + getSuccessCount() +
+                ", notFound=" + getNotFoundCount() +
+                ", rejected=" + getRejectedCount() +
+                ", cancelled=" + getCancelledCount() +
+                ", error=" + getErrorCount() +
+                String.format(", %.1f ops/s]", getThroughputPerSecond());
+    }
+}
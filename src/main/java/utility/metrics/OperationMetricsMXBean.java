@@ -0,0 +1,111 @@
+package utility.metrics;
+
+/**
+ * Interfaz de gestión JMX que expone las métricas de una operación instrumentada.
+ * Las latencias se expresan en microsegundos.
+ */
+public interface OperationMetricsMXBean {
+
+    /**
+     * Obtiene el nombre de la capa a la que pertenece la operación (por ejemplo, "dao" o "service").
+     *
+     * @return El nombre de la capa.
+     */
+    String getLayer();
+
+    /**
+     * Obtiene el nombre de la operación.
+     *
+     * @return El nombre de la operación.
+     */
+    String getOperation();
+
+    /**
+     * Obtiene el número total de invocaciones.
+     *
+     * @return El número de invocaciones.
+     */
+    long getCount();
+
+    /**
+     * Obtiene el número de invocaciones completadas con éxito.
+     *
+     * @return El número de éxitos.
+     */
+    long getSuccessCount();
+
+    /**
+     * Obtiene el número de invocaciones que no encontraron la entidad solicitada.
+     *
+     * @return El número de resultados no encontrados.
+     */
+    long getNotFoundCount();
+
+    /**
+     * Obtiene el número de invocaciones rechazadas por datos inválidos.
+     *
+     * @return El número de rechazos.
+     */
+    long getRejectedCount();
+
+    /**
+     * Obtiene el número de invocaciones canceladas antes de terminar.
+     *
+     * @return El número de cancelaciones.
+     */
+    long getCancelledCount();
+
+    /**
+     * Obtiene el número de invocaciones que terminaron con error.
+     *
+     * @return El número de errores.
+     */
+    long getErrorCount();
+
+    /**
+     * Obtiene la latencia media.
+     *
+     * @return La latencia media en microsegundos.
+     */
+    long getMeanMicros();
+
+    /**
+     * Obtiene el percentil 50 de latencia.
+     *
+     * @return El percentil 50 en microsegundos.
+     */
+    long getP50Micros();
+
+    /**
+     * Obtiene el percentil 95 de latencia.
+     *
+     * @return El percentil 95 en microsegundos.
+     */
+    long getP95Micros();
+
+    /**
+     * Obtiene el percentil 99 de latencia.
+     *
+     * @return El percentil 99 en microsegundos.
+     */
+    long getP99Micros();
+
+    /**
+     * Obtiene la latencia máxima.
+     *
+     * @return La latencia máxima en microsegundos.
+     */
+    long getMaxMicros();
+
+    /**
+     * Obtiene el rendimiento medio desde el último reinicio de las métricas.
+     *
+     * @return El número medio de invocaciones por segundo.
+     */
+    double getThroughputPerSecond();
+
+    /**
+     * Restablece los contadores y el histograma de latencias.
+     */
+    void reset();
+}
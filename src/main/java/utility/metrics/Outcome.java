@@ -0,0 +1,31 @@
+package utility.metrics;
+
+/**
+ * Enumeración que define los posibles resultados de una operación instrumentada.
+ */
+public enum Outcome {
+    /**
+     * La operación se completó con éxito.
+     */
+    SUCCESS,
+
+    /**
+     * La operación se completó, pero la entidad solicitada no existe.
+     */
+    NOT_FOUND,
+
+    /**
+     * La operación fue rechazada por datos inválidos (por ejemplo, un error de validación).
+     */
+    REJECTED,
+
+    /**
+     * La operación se canceló antes de terminar (por ejemplo, una búsqueda sustituida por otra más reciente).
+     */
+    CANCELLED,
+
+    /**
+     * La operación falló por un error inesperado (por ejemplo, un error de la base de datos).
+     */
+    ERROR
+}
@@ -0,0 +1,125 @@
+package utility.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cronómetro del arranque de la aplicación. Registra la duración de cada fase, el hilo en el que se ejecuta y los
+ * hitos relevantes (ventana visible, aplicación lista), y escribe al final un desglose en el log.
+ *
+ * <p>Las fases pueden ejecutarse en paralelo desde varios hilos; los tiempos se expresan como desplazamientos desde
+ * la creación del cronómetro.</p>
+ */
+public class StartupTimer {
+
+    // Logger para registrar el informe de arranque.
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupTimer.class);
+
+    // Instante (System.nanoTime) de la creación del cronómetro.
+    private final long origin = System.nanoTime();
+
+    // Fases e hitos registrados, en el orden en que terminan.
+    private final ConcurrentLinkedQueue<Phase> phases = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Ejecuta una fase del arranque y registra su duración, aunque termine con una excepción.
+     *
+     * @param name   El nombre de la fase.
+     * @param action La fase a ejecutar.
+     * @param <T>    El tipo del resultado de la fase.
+     * @return El resultado de la fase.
+     */
+    public <T> T time(String name, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            phases.add(new Phase(name, start - origin, System.nanoTime() - start, Thread.currentThread().getName()));
+        }
+    }
+
+    /**
+     * Ejecuta una fase del arranque sin resultado y registra su duración.
+     *
+     * @param name   El nombre de la fase.
+     * @param action La fase a ejecutar.
+     */
+    public void run(String name, Runnable action) {
+        time(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Registra un hito del arranque en el instante actual.
+     *
+     * @param name El nombre del hito.
+     */
+    public void mark(String name) {
+        phases.add(new Phase(name, System.nanoTime() - origin, -1, Thread.currentThread().getName()));
+    }
+
+    /**
+     * Obtiene el tiempo transcurrido desde la creación del cronómetro.
+     *
+     * @return El tiempo transcurrido, en milisegundos.
+     */
+    public long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - origin);
+    }
+
+    /**
+     * Escribe en el log el desglose de las fases y los hitos registrados, ordenados por su instante de inicio.
+     */
+    public void report() {
+        List<Phase> sorted = new ArrayList<>(phases);
+        sorted.sort(Comparator.comparingLong(phase -> phase.offsetNanos));
+        StringBuilder report = new StringBuilder("Arranque completado en ").append(elapsedMillis()).append(" ms");
+        for (Phase phase : sorted) {
+            report.append(System.lineSeparator());
+            if (phase.durationNanos < 0) {
+                report.append(String.format("  %-14s en   %6d ms             [%s]",
+                        phase.name, toMillis(phase.offsetNanos), phase.thread));
+            } else {
+                report.append(String.format("  %-14s +%6d ms  %6d ms  [%s]",
+                        phase.name, toMillis(phase.offsetNanos), toMillis(phase.durationNanos), phase.thread));
+            }
+        }
+        LOGGER.info(report.toString());
+    }
+
+    /**
+     * Convierte nanosegundos en milisegundos.
+     *
+     * @param nanos El tiempo en nanosegundos.
+     * @return El tiempo en milisegundos.
+     */
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Fase o hito registrado. Los hitos tienen una duración negativa.
+     */
+    private static final class Phase {
+        private final String name;
+        private final long offsetNanos;
+        private final long durationNanos;
+        private final String thread;
+
+        private Phase(String name, long offsetNanos, long durationNanos, String thread) {
+            this.name = name;
+            this.offsetNanos = offsetNanos;
+            this.durationNanos = durationNanos;
+            this.thread = thread;
+        }
+    }
+}
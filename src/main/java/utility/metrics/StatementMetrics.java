@@ -0,0 +1,134 @@
+package utility.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Estadísticas de las ejecuciones de una forma de sentencia SQL, con el tiempo desglosado por fases: preparación de
+ * la sentencia, ejecución en la base de datos, lectura de las filas del resultado a través del driver y mapeo de las
+ * filas por el código de la aplicación entre lectura y lectura.
+ */
+public class StatementMetrics {
+
+    // Forma normalizada de la sentencia.
+    private final String shape;
+
+    // Tiempos de cada fase y tiempo total de cada ejecución.
+    private final LatencyHistogram prepare = new LatencyHistogram();
+    private final LatencyHistogram execute = new LatencyHistogram();
+    private final LatencyHistogram fetch = new LatencyHistogram();
+    private final LatencyHistogram mapping = new LatencyHistogram();
+    private final LatencyHistogram total = new LatencyHistogram();
+
+    // Tiempo total acumulado, para ordenar las sentencias por su coste.
+    private final LongAdder totalNanos = new LongAdder();
+
+    // Filas leídas o modificadas, ejecuciones fallidas y ejecuciones lentas.
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder slow = new LongAdder();
+
+    /**
+     * Constructor que inicializa las estadísticas de una forma de sentencia.
+     *
+     * @param shape La forma normalizada de la sentencia.
+     */
+    public StatementMetrics(String shape) {
+        this.shape = shape;
+    }
+
+    /**
+     * Registra una ejecución de la sentencia.
+     *
+     * @param prepareNanos El tiempo de preparación, en nanosegundos, o 0 si la sentencia ya estaba preparada.
+     * @param executeNanos El tiempo de ejecución, en nanosegundos.
+     * @param fetchNanos   El tiempo de lectura de las filas a través del driver, en nanosegundos.
+     * @param mappingNanos El tiempo de mapeo de las filas por la aplicación, en nanosegundos.
+     * @param rowCount     Las filas leídas o modificadas.
+     * @param failed       {@code true} si la ejecución ha fallado.
+     * @param wasSlow      {@code true} si la ejecución ha superado el umbral de sentencias lentas.
+     */
+    public void record(long prepareNanos, long executeNanos, long fetchNanos, long mappingNanos, long rowCount,
+                       boolean failed, boolean wasSlow) {
+        long elapsed = prepareNanos + executeNanos + fetchNanos + mappingNanos;
+        prepare.record(prepareNanos);
+        execute.record(executeNanos);
+        fetch.record(fetchNanos);
+        mapping.record(mappingNanos);
+        total.record(elapsed);
+        totalNanos.add(elapsed);
+        rows.add(Math.max(0, rowCount));
+        if (failed) {
+            errors.increment();
+        }
+        if (wasSlow) {
+            slow.increment();
+        }
+    }
+
+    public String getShape() {
+        return shape;
+    }
+
+    public long getCount() {
+        return total.getCount();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    public long getSlowCount() {
+        return slow.sum();
+    }
+
+    /**
+     * Restablece las estadísticas.
+     */
+    public void reset() {
+        prepare.reset();
+        execute.reset();
+        fetch.reset();
+        mapping.reset();
+        total.reset();
+        totalNanos.reset();
+        rows.reset();
+        errors.reset();
+        slow.reset();
+    }
+
+    /**
+     * Representa las estadísticas como una cadena legible, con la media y el percentil 99 de cada fase en
+     * microsegundos.
+     *
+     * @return Una representación de cadena de las estadísticas.
+     */
+    @Override
+    public String toString() {
+        return shape + " [" + total.snapshot() +
+                ", total=" + TimeUnit.NANOSECONDS.toMillis(getTotalNanos()) + "ms" +
+                ", prepare " + phase(prepare) +
+                ", execute " + phase(execute) +
+                ", fetch " + phase(fetch) +
+                ", mapping " + phase(mapping) +
+                ", rows=" + rows.sum() +
+                ", error=" + getErrorCount() +
+                ", slow=" + getSlowCount() + "]";
+    }
+
+    /**
+     * Representa la media y el percentil 99 de una fase.
+     *
+     * @param histogram El histograma de la fase.
+     * @return La media y el percentil 99, en microsegundos.
+     */
+    private static String phase(LatencyHistogram histogram) {
+        HistogramSnapshot snapshot = histogram.snapshot();
+        return "mean=" + TimeUnit.NANOSECONDS.toMicros(snapshot.getMean()) + "us/p99="
+                + TimeUnit.NANOSECONDS.toMicros(snapshot.getP99()) + "us";
+    }
+}
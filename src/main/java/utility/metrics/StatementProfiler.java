@@ -0,0 +1,199 @@
+package utility.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Perfilado de las sentencias SQL: estadísticas por forma de sentencia, tiempo de obtención de las conexiones y
+ * umbral de sentencias lentas.
+ * Implementa {@link StatementProfilerMXBean} para poder exponerse directamente a través de JMX.
+ *
+ * <p>La forma de una sentencia es su texto normalizado: los literales se sustituyen por {@code ?}, los espacios se
+ * compactan y las listas de valores de longitud variable ({@code IN (?, ?, ...)} o los INSERT de varias filas) se
+ * reducen a un solo elemento, de modo que las ejecuciones de la misma consulta se agrupan aunque cambien sus
+ * valores. El número de formas está limitado; las que superan el límite se agrupan en {@value #OVERFLOW_SHAPE}.</p>
+ */
+public class StatementProfiler implements StatementProfilerMXBean {
+
+    /**
+     * Forma bajo la que se agrupan las sentencias cuando se alcanza el límite de formas distintas.
+     */
+    public static final String OVERFLOW_SHAPE = "(otras sentencias)";
+
+    // Número máximo de formas de sentencia con estadísticas propias.
+    private static final int MAX_SHAPES = 200;
+
+    // Número máximo de textos SQL cuya forma se guarda en caché.
+    private static final int MAX_CACHED_SQL = 1000;
+
+    // Número de formas que devuelve getTopStatements.
+    private static final int TOP_STATEMENTS = 10;
+
+    // Expresiones de normalización de las sentencias.
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern VALUE_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern REPEATED_TUPLES = Pattern.compile("\\(\\?\\)(?:\\s*,\\s*\\(\\?\\))+");
+
+    // Estadísticas de cada forma de sentencia.
+    private final Map<String, StatementMetrics> statements = new ConcurrentHashMap<>();
+
+    // Forma de cada texto SQL ya normalizado.
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+
+    // Tiempo de obtención de las conexiones.
+    private final LatencyHistogram connect = new LatencyHistogram();
+
+    // Umbral de sentencias lentas, en milisegundos.
+    private volatile long slowThresholdMillis;
+
+    /**
+     * Constructor que inicializa el umbral de sentencias lentas.
+     *
+     * @param slowThresholdMillis El umbral en milisegundos, o 0 para registrar todas las sentencias.
+     */
+    public StatementProfiler(long slowThresholdMillis) {
+        setSlowThresholdMillis(slowThresholdMillis);
+    }
+
+    /**
+     * Registra el tiempo de obtención de una conexión.
+     *
+     * @param durationNanos El tiempo necesario para obtener la conexión, en nanosegundos.
+     */
+    public void recordConnect(long durationNanos) {
+        connect.record(durationNanos);
+    }
+
+    /**
+     * Obtiene las estadísticas de la forma de una sentencia, creándolas si aún no existen.
+     *
+     * @param shape La forma de la sentencia, obtenida con {@link #shapeOf(String)}.
+     * @return Las estadísticas de la forma de sentencia.
+     */
+    public StatementMetrics statement(String shape) {
+        StatementMetrics metrics = statements.get(shape);
+        if (metrics != null) {
+            return metrics;
+        }
+        String key = statements.size() < MAX_SHAPES ? shape : OVERFLOW_SHAPE;
+        return statements.computeIfAbsent(key, StatementMetrics::new);
+    }
+
+    /**
+     * Obtiene la forma normalizada de una sentencia.
+     *
+     * @param sql El texto de la sentencia.
+     * @return La forma de la sentencia.
+     */
+    public String shapeOf(String sql) {
+        if (sql == null) {
+            return "(sin sentencia)";
+        }
+        String shape = shapes.get(sql);
+        if (shape == null) {
+            shape = normalize(sql);
+            if (shapes.size() < MAX_CACHED_SQL) {
+                shapes.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    /**
+     * Indica si una ejecución supera el umbral de sentencias lentas.
+     *
+     * @param elapsedNanos El tiempo de la ejecución, en nanosegundos.
+     * @return {@code true} si la ejecución es lenta.
+     */
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    /**
+     * Obtiene las estadísticas de todas las formas de sentencia, de mayor a menor tiempo total acumulado.
+     *
+     * @return La lista de estadísticas.
+     */
+    public List<StatementMetrics> getStatements() {
+        return statements.values().stream()
+                .filter(metrics -> metrics.getCount() > 0)
+                .sorted(Comparator.comparingLong(StatementMetrics::getTotalNanos).reversed())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long getSlowThresholdMillis() {
+        return slowThresholdMillis;
+    }
+
+    @Override
+    public void setSlowThresholdMillis(long slowThresholdMillis) {
+        if (slowThresholdMillis < 0) {
+            throw new IllegalArgumentException("El umbral de sentencias lentas no puede ser negativo");
+        }
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+
+    @Override
+    public int getShapeCount() {
+        return statements.size();
+    }
+
+    @Override
+    public long getSlowCount() {
+        return statements.values().stream().mapToLong(StatementMetrics::getSlowCount).sum();
+    }
+
+    @Override
+    public long getConnectP99Micros() {
+        return TimeUnit.NANOSECONDS.toMicros(connect.snapshot().getP99());
+    }
+
+    @Override
+    public String[] getTopStatements() {
+        return getStatements().stream()
+                .limit(TOP_STATEMENTS)
+                .map(StatementMetrics::toString)
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public void reset() {
+        statements.clear();
+        connect.reset();
+    }
+
+    /**
+     * Representa el perfilado como una cadena legible.
+     *
+     * @return Una representación de cadena del perfilado.
+     */
+    @Override
+    public String toString() {
+        return "statements [shapes=" + getShapeCount() +
+                ", slow=" + getSlowCount() +
+                ", threshold=" + slowThresholdMillis + "ms" +
+                ", connect " + connect.snapshot() + "]";
+    }
+
+    /**
+     * Normaliza el texto de una sentencia.
+     *
+     * @param sql El texto de la sentencia.
+     * @return La forma de la sentencia.
+     */
+    private static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMERIC_LITERAL.matcher(shape).replaceAll("?");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        shape = VALUE_LIST.matcher(shape).replaceAll("(?)");
+        return REPEATED_TUPLES.matcher(shape).replaceAll("(?), ...");
+    }
+}
@@ -0,0 +1,55 @@
+package utility.metrics;
+
+/**
+ * Interfaz de gestión JMX que expone el perfilado de las sentencias SQL: umbral de sentencias lentas y estadísticas
+ * por forma de sentencia.
+ */
+public interface StatementProfilerMXBean {
+
+    /**
+     * Obtiene el umbral a partir del cual una sentencia se registra como lenta.
+     *
+     * @return El umbral en milisegundos.
+     */
+    long getSlowThresholdMillis();
+
+    /**
+     * Cambia el umbral a partir del cual una sentencia se registra como lenta.
+     *
+     * @param slowThresholdMillis El nuevo umbral en milisegundos, o 0 para registrar todas las sentencias.
+     */
+    void setSlowThresholdMillis(long slowThresholdMillis);
+
+    /**
+     * Obtiene el número de formas de sentencia distintas con estadísticas.
+     *
+     * @return El número de formas de sentencia.
+     */
+    int getShapeCount();
+
+    /**
+     * Obtiene el número total de sentencias lentas registradas.
+     *
+     * @return El número de sentencias lentas.
+     */
+    long getSlowCount();
+
+    /**
+     * Obtiene el percentil 99 del tiempo de obtención de las conexiones.
+     *
+     * @return El percentil 99 en microsegundos.
+     */
+    long getConnectP99Micros();
+
+    /**
+     * Obtiene las estadísticas de las formas de sentencia que más tiempo total acumulan, de mayor a menor.
+     *
+     * @return Una línea legible por forma de sentencia.
+     */
+    String[] getTopStatements();
+
+    /**
+     * Restablece todas las estadísticas.
+     */
+    void reset();
+}
@@ -0,0 +1,79 @@
+package utility.migration;
+
+/**
+ * Migración versionada del esquema de la base de datos: un script SQL del classpath con un número de versión.
+ *
+ * <p>Los scripts siguen la convención {@code V<versión>__<descripción>.sql}, por ejemplo
+ * {@code V2__indices_rendimiento.sql}. Un dialecto puede tener su propia variante del script con el sufijo del
+ * dialecto, como {@code V2__indices_rendimiento-h2.sql}, igual que {@code schema-h2.sql}.</p>
+ */
+public final class Migration {
+
+    // Número de versión, que fija el orden de aplicación.
+    private final int version;
+
+    // Descripción legible de la migración.
+    private final String description;
+
+    // Ruta del script en el classpath.
+    private final String script;
+
+    // Suma de comprobación del contenido del script.
+    private final long checksum;
+
+    /**
+     * Constructor que inicializa la migración.
+     *
+     * @param version     El número de versión.
+     * @param description La descripción de la migración.
+     * @param script      La ruta del script en el classpath.
+     * @param checksum    La suma de comprobación del contenido del script.
+     */
+    public Migration(int version, String description, String script, long checksum) {
+        this.version = version;
+        this.description = description;
+        this.script = script;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Obtiene el número de versión.
+     *
+     * @return El número de versión.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Obtiene la descripción de la migración.
+     *
+     * @return La descripción.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Obtiene la ruta del script en el classpath.
+     *
+     * @return La ruta del script.
+     */
+    public String getScript() {
+        return script;
+    }
+
+    /**
+     * Obtiene la suma de comprobación del contenido del script.
+     *
+     * @return La suma de comprobación.
+     */
+    public long getChecksum() {
+        return checksum;
+    }
+
+    @Override
+    public String toString() {
+        return "V" + version + " (" + description + ")";
+    }
+}
@@ -0,0 +1,23 @@
+package utility.migration;
+
+import java.util.List;
+
+/**
+ * Interfaz para aplicar las migraciones versionadas del esquema de la base de datos.
+ */
+public interface MigrationRunner {
+
+    /**
+     * Obtiene las migraciones que aún no se han aplicado, ordenadas por versión.
+     *
+     * @return La lista de migraciones pendientes.
+     */
+    List<Migration> pending();
+
+    /**
+     * Aplica en orden las migraciones pendientes y las registra como aplicadas.
+     *
+     * @return La lista de migraciones aplicadas, vacía si el esquema ya estaba al día.
+     */
+    List<Migration> migrate();
+}
@@ -0,0 +1,389 @@
+package utility.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utility.connection.DatabaseConnection;
+import utility.connection.DatabaseDialect;
+import utility.connection.SqlScriptRunner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Implementación de la interfaz {@link MigrationRunner} que aplica scripts SQL versionados del classpath y registra
+ * las versiones aplicadas en la tabla {@code schema_version}.
+ *
+ * <p>Las migraciones disponibles se enumeran, en orden, en {@value #MIGRATIONS_INDEX}; para añadir una nueva basta
+ * con crear su script en {@code sql/migration} y añadir su nombre al índice. Cada migración se aplica una sola vez
+ * y se registra con la suma de comprobación de su script, de modo que se avisa si un script ya aplicado cambia.</p>
+ *
+ * <p>Las sentencias DDL confirman la transacción en MySQL, así que una migración no puede deshacerse a medias. Por
+ * eso los scripts deben poder repetirse: si una migración falla, se corrige y se vuelve a ejecutar entera, y los
+ * errores de columna o índice ya existentes (por ejemplo, índices creados a mano) se registran como aviso en lugar de
+ * detener la migración. Como ese error descarta la sentencia entera, cada columna o índice debe crearse en su propia
+ * sentencia. Las migraciones se ejecutan sin tiempo de espera de red, porque construir un índice sobre una
+ * tabla grande puede tardar minutos, y en MySQL se serializan entre instancias con un bloqueo con nombre.</p>
+ */
+public class SqlMigrationRunnerImpl implements MigrationRunner {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlMigrationRunnerImpl.class);
+
+    // Recurso del classpath con los nombres de las migraciones, una por línea y en orden.
+    public static final String MIGRATIONS_INDEX = "sql/migration/migrations.txt";
+
+    // Directorio del classpath con los scripts de las migraciones.
+    private static final String MIGRATIONS_DIRECTORY = "sql/migration/";
+
+    // Formato del nombre de una migración: V<versión>__<descripción>.
+    private static final Pattern MIGRATION_NAME = Pattern.compile("V(\\d+)__(\\w+)");
+
+    // Bloqueo con nombre de MySQL que serializa las migraciones de varias instancias y tiempo máximo de espera.
+    private static final String MYSQL_LOCK_NAME = "db_customer_management.schema_migration";
+    private static final int MYSQL_LOCK_TIMEOUT_SECONDS = 300;
+
+    // Códigos de error de MySQL: columna e índice duplicados.
+    private static final int MYSQL_DUPLICATE_COLUMN = 1060;
+    private static final int MYSQL_DUPLICATE_KEY_NAME = 1061;
+
+    // Sentencia que crea la tabla de versiones aplicadas.
+    private static final String CREATE_VERSION_TABLE = "CREATE TABLE IF NOT EXISTS schema_version ("
+            + "version INT PRIMARY KEY, "
+            + "description VARCHAR(200) NOT NULL, "
+            + "script VARCHAR(200) NOT NULL, "
+            + "checksum BIGINT NOT NULL, "
+            + "execution_ms BIGINT NOT NULL, "
+            + "installed_on TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)";
+
+    // Instancia de DatabaseConnection para gestionar las conexiones a la base de datos.
+    private final DatabaseConnection dbConnection;
+
+    // Recurso del classpath con el índice de migraciones.
+    private final String indexResource;
+
+    // Ejecutor que lee y divide los scripts SQL.
+    private final SqlScriptRunner scriptRunner = new SqlScriptRunner();
+
+    /**
+     * Constructor que inicializa la conexión a la base de datos, con el índice de migraciones de la aplicación.
+     *
+     * @param dbConnection La conexión a la base de datos que se migra.
+     */
+    public SqlMigrationRunnerImpl(DatabaseConnection dbConnection) {
+        this(dbConnection, MIGRATIONS_INDEX);
+    }
+
+    /**
+     * Constructor que inicializa la conexión a la base de datos y el índice de migraciones.
+     *
+     * @param dbConnection  La conexión a la base de datos que se migra.
+     * @param indexResource El recurso del classpath con los nombres de las migraciones.
+     */
+    public SqlMigrationRunnerImpl(DatabaseConnection dbConnection, String indexResource) {
+        this.dbConnection = dbConnection;
+        this.indexResource = indexResource;
+    }
+
+    /**
+     * Obtiene las migraciones que aún no se han aplicado, ordenadas por versión.
+     *
+     * @return La lista de migraciones pendientes.
+     * @throws IllegalStateException Si ocurre un error al consultar las versiones aplicadas.
+     */
+    @Override
+    public List<Migration> pending() {
+        try (Connection conn = dbConnection.getConnection()) {
+            createVersionTable(conn);
+            Map<Integer, Long> applied = appliedChecksums(conn);
+            List<Migration> pending = new ArrayList<>();
+            for (Migration migration : available()) {
+                if (!applied.containsKey(migration.getVersion())) {
+                    pending.add(migration);
+                }
+            }
+            return pending;
+        } catch (SQLException e) {
+            String errorMsg = "Error al consultar las migraciones pendientes del esquema.";
+            LOGGER.error(errorMsg, e);
+            throw new IllegalStateException(errorMsg, e);
+        }
+    }
+
+    /**
+     * Aplica en orden las migraciones pendientes y las registra como aplicadas. Si una migración falla, no se
+     * registra ni se aplican las siguientes.
+     *
+     * @return La lista de migraciones aplicadas, vacía si el esquema ya estaba al día.
+     * @throws IllegalStateException Si ocurre un error al aplicar alguna migración.
+     */
+    @Override
+    public synchronized List<Migration> migrate() {
+        List<Migration> migrated = new ArrayList<>();
+        Migration current = null;
+        try (Connection conn = dbConnection.getConnection()) {
+            disableNetworkTimeout(conn);
+            createVersionTable(conn);
+            boolean mysql = dbConnection.getDialect() == DatabaseDialect.MYSQL;
+            if (mysql) {
+                acquireLock(conn);
+            }
+            try {
+                Map<Integer, Long> applied = appliedChecksums(conn);
+                for (Migration migration : available()) {
+                    Long checksum = applied.get(migration.getVersion());
+                    if (checksum == null) {
+                        current = migration;
+                        apply(conn, migration);
+                        migrated.add(migration);
+                    } else if (checksum != migration.getChecksum()) {
+                        LOGGER.warn("El script de la migración {} ha cambiado desde que se aplicó", migration);
+                    }
+                }
+            } finally {
+                if (mysql) {
+                    releaseLock(conn);
+                }
+            }
+        } catch (SQLException e) {
+            String errorMsg = current == null
+                    ? "Error al preparar la migración del esquema."
+                    : "Error al aplicar la migración " + current + " del esquema.";
+            LOGGER.error(errorMsg, e);
+            throw new IllegalStateException(errorMsg, e);
+        }
+        if (migrated.isEmpty()) {
+            LOGGER.info("El esquema de la base de datos está al día");
+        }
+        return migrated;
+    }
+
+    /**
+     * Aplica una migración y la registra en la tabla de versiones.
+     *
+     * @param conn      La conexión sobre la que se aplica.
+     * @param migration La migración a aplicar.
+     * @throws SQLException Si alguna sentencia del script falla.
+     */
+    private void apply(Connection conn, Migration migration) throws SQLException {
+        LOGGER.info("Aplicando la migración {}: {}", migration, migration.getScript());
+        long start = System.nanoTime();
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : scriptRunner.readStatements(migration.getScript())) {
+                try {
+                    stmt.execute(sql);
+                } catch (SQLException e) {
+                    if (!isAlreadyApplied(e)) {
+                        throw e;
+                    }
+                    LOGGER.warn("La migración {} encuentra el objeto ya creado; se continúa: {}",
+                            migration, e.getMessage());
+                }
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        String sql = "INSERT INTO schema_version (version, description, script, checksum, execution_ms) "
+                + "VALUES (?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, migration.getVersion());
+            stmt.setString(2, migration.getDescription());
+            stmt.setString(3, migration.getScript());
+            stmt.setLong(4, migration.getChecksum());
+            stmt.setLong(5, elapsedMillis);
+            stmt.executeUpdate();
+        }
+        LOGGER.info("Migración {} aplicada en {} ms", migration, elapsedMillis);
+    }
+
+    /**
+     * Lee el índice de migraciones y localiza el script de cada una para el dialecto de la base de datos.
+     *
+     * @return Las migraciones disponibles, ordenadas por versión.
+     * @throws IllegalStateException Si el índice no existe, un nombre no sigue el formato o falta un script.
+     */
+    private List<Migration> available() {
+        List<Migration> migrations = new ArrayList<>();
+        int previousVersion = 0;
+        for (String name : readLines(indexResource)) {
+            Matcher matcher = MIGRATION_NAME.matcher(name);
+            if (!matcher.matches()) {
+                throw new IllegalStateException("Nombre de migración no válido en " + indexResource + ": " + name);
+            }
+            int version = Integer.parseInt(matcher.group(1));
+            if (version <= previousVersion) {
+                throw new IllegalStateException("Las migraciones de " + indexResource
+                        + " deben estar en orden de versión creciente: " + name);
+            }
+            previousVersion = version;
+            String script = resolveScript(name);
+            migrations.add(new Migration(version, matcher.group(2).replace('_', ' '), script, checksum(script)));
+        }
+        return migrations;
+    }
+
+    /**
+     * Localiza el script de una migración, dando preferencia a la variante del dialecto de la base de datos.
+     *
+     * @param name El nombre de la migración.
+     * @return La ruta del script en el classpath.
+     * @throws IllegalStateException Si no existe ningún script para la migración.
+     */
+    private String resolveScript(String name) {
+        String dialectScript = MIGRATIONS_DIRECTORY + name + "-" + dbConnection.getDialect().getConfigName() + ".sql";
+        if (getClass().getClassLoader().getResource(dialectScript) != null) {
+            return dialectScript;
+        }
+        String script = MIGRATIONS_DIRECTORY + name + ".sql";
+        if (getClass().getClassLoader().getResource(script) == null) {
+            throw new IllegalStateException("No se encontró el script de la migración " + name);
+        }
+        return script;
+    }
+
+    /**
+     * Crea la tabla de versiones aplicadas si no existe.
+     *
+     * @param conn La conexión sobre la que se crea.
+     * @throws SQLException Si ocurre un error al crear la tabla.
+     */
+    private static void createVersionTable(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(CREATE_VERSION_TABLE);
+        }
+    }
+
+    /**
+     * Obtiene las versiones aplicadas con la suma de comprobación de su script.
+     *
+     * @param conn La conexión sobre la que se consulta.
+     * @return Las sumas de comprobación por versión.
+     * @throws SQLException Si ocurre un error al consultar la tabla de versiones.
+     */
+    private static Map<Integer, Long> appliedChecksums(Connection conn) throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM schema_version")) {
+            while (rs.next()) {
+                applied.put(rs.getInt(1), rs.getLong(2));
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Espera el bloqueo con nombre de MySQL que serializa las migraciones de varias instancias.
+     *
+     * @param conn La conexión que toma el bloqueo.
+     * @throws SQLException Si no se obtiene el bloqueo a tiempo.
+     */
+    private static void acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            stmt.setString(1, MYSQL_LOCK_NAME);
+            stmt.setInt(2, MYSQL_LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("No se obtuvo el bloqueo de migración " + MYSQL_LOCK_NAME + " tras "
+                            + MYSQL_LOCK_TIMEOUT_SECONDS + " segundos");
+                }
+            }
+        }
+    }
+
+    /**
+     * Libera el bloqueo con nombre de MySQL. Un error al liberarlo solo se registra, porque el bloqueo se libera
+     * igualmente al cerrar la conexión.
+     *
+     * @param conn La conexión que tiene el bloqueo.
+     */
+    private static void releaseLock(Connection conn) {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            stmt.setString(1, MYSQL_LOCK_NAME);
+            stmt.executeQuery().close();
+        } catch (SQLException e) {
+            LOGGER.warn("No se pudo liberar el bloqueo de migración: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Quita el tiempo de espera de red de la conexión, para que la construcción de un índice no se interrumpa.
+     *
+     * @param conn La conexión de la migración.
+     * @throws SQLException Si ocurre un error al cambiar el tiempo de espera.
+     */
+    private static void disableNetworkTimeout(Connection conn) throws SQLException {
+        try {
+            conn.setNetworkTimeout(Runnable::run, 0);
+        } catch (SQLFeatureNotSupportedException e) {
+            LOGGER.debug("El driver no admite tiempos de espera de red");
+        }
+    }
+
+    /**
+     * Determina si el error de una sentencia se debe a que la columna o el índice que crea ya existen.
+     *
+     * @param e El error de la sentencia.
+     * @return {@code true} si el objeto ya existía.
+     */
+    private static boolean isAlreadyApplied(SQLException e) {
+        return e.getErrorCode() == MYSQL_DUPLICATE_COLUMN || e.getErrorCode() == MYSQL_DUPLICATE_KEY_NAME;
+    }
+
+    /**
+     * Calcula la suma de comprobación del contenido de un script.
+     *
+     * @param resource La ruta del script en el classpath.
+     * @return La suma CRC32 del script.
+     */
+    private long checksum(String resource) {
+        CRC32 crc = new CRC32();
+        for (String line : readLines(resource)) {
+            crc.update(line.getBytes(StandardCharsets.UTF_8));
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Lee las líneas no vacías de un recurso de texto del classpath, sin los espacios de los extremos ni los
+     * comentarios que empiezan por {@code --} o {@code #}.
+     *
+     * @param resource La ruta del recurso en el classpath.
+     * @return Las líneas del recurso.
+     * @throws IllegalStateException Si el recurso no existe o no puede leerse.
+     */
+    private List<String> readLines(String resource) {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("No se pudo encontrar el recurso: " + resource);
+            }
+            List<String> lines = new ArrayList<>();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String trimmed = line.trim();
+                if (!trimmed.isEmpty() && !trimmed.startsWith("--") && !trimmed.startsWith("#")) {
+                    lines.add(trimmed);
+                }
+            }
+            return lines;
+        } catch (IOException e) {
+            String errorMsg = "Error al leer el recurso: " + resource;
+            LOGGER.error(errorMsg, e);
+            throw new IllegalStateException(errorMsg, e);
+        }
+    }
+}
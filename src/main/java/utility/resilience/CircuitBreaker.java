@@ -0,0 +1,178 @@
+package utility.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cortocircuito (circuit breaker) que deja de intentar acceder a un recurso caído para fallar de inmediato.
+ *
+ * <p>Tras {@code failureThreshold} fallos consecutivos el circuito se abre y rechaza todas las llamadas durante
+ * {@code openMillis}. Después pasa a semiabierto y deja pasar una única llamada de prueba: si tiene éxito, el
+ * circuito se cierra; si falla, vuelve a abrirse. Todas las transiciones son atómicas y sin bloqueos.</p>
+ */
+public class CircuitBreaker implements CircuitBreakerMXBean {
+
+    // Logger para registrar eventos y errores.
+    private static final Logger LOGGER = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    // Nombre del recurso protegido, para los mensajes de log.
+    private final String name;
+
+    // Número de fallos consecutivos que abre el circuito.
+    private final int failureThreshold;
+
+    // Tiempo que el circuito permanece abierto antes de permitir una llamada de prueba, en nanosegundos.
+    private final long openNanos;
+
+    // Estado actual del circuito.
+    private final AtomicReference<CircuitState> state = new AtomicReference<>(CircuitState.CLOSED);
+
+    // Fallos consecutivos en estado cerrado.
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    // Indica si la llamada de prueba del estado semiabierto ya está en curso.
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+
+    // Instante (System.nanoTime) de la última apertura.
+    private volatile long openedAt;
+
+    // Contadores para las métricas.
+    private final LongAdder openedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder successCount = new LongAdder();
+
+    /**
+     * Constructor que inicializa el cortocircuito en estado cerrado.
+     *
+     * @param name             El nombre del recurso protegido.
+     * @param failureThreshold El número de fallos consecutivos que abre el circuito.
+     * @param openMillis       El tiempo que el circuito permanece abierto, en milisegundos.
+     */
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+    }
+
+    /**
+     * Solicita permiso para realizar una llamada al recurso protegido.
+     *
+     * @return {@code true} si la llamada puede realizarse; {@code false} si debe rechazarse de inmediato.
+     */
+    public boolean tryAcquirePermission() {
+        CircuitState current = state.get();
+        if (current == CircuitState.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos || !state.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN)) {
+                rejectedCount.increment();
+                return false;
+            }
+            LOGGER.info("Circuito '{}' semiabierto: se permite una llamada de prueba", name);
+            current = CircuitState.HALF_OPEN;
+        }
+        if (current == CircuitState.HALF_OPEN && !probeInFlight.compareAndSet(false, true)) {
+            rejectedCount.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Registra una llamada completada con éxito. Si era la llamada de prueba, cierra el circuito.
+     */
+    public void onSuccess() {
+        successCount.increment();
+        consecutiveFailures.set(0);
+        if (state.compareAndSet(CircuitState.HALF_OPEN, CircuitState.CLOSED)) {
+            probeInFlight.set(false);
+            LOGGER.info("Circuito '{}' cerrado: el recurso vuelve a responder", name);
+        }
+    }
+
+    /**
+     * Registra una llamada fallida. Abre el circuito si se alcanza el umbral de fallos consecutivos o si falla la
+     * llamada de prueba.
+     */
+    public void onFailure() {
+        failureCount.increment();
+        if (state.get() == CircuitState.HALF_OPEN) {
+            open(CircuitState.HALF_OPEN);
+            probeInFlight.set(false);
+        } else if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open(CircuitState.CLOSED);
+        }
+    }
+
+    /**
+     * Indica si el circuito está abierto y ya ha pasado el tiempo de espera, de modo que la siguiente llamada sería
+     * la llamada de prueba. Permite a las comprobaciones de estado no contar como rechazadas mientras esperan.
+     *
+     * @return {@code true} si se puede realizar la llamada de prueba.
+     */
+    public boolean isProbeDue() {
+        return state.get() == CircuitState.OPEN && System.nanoTime() - openedAt >= openNanos;
+    }
+
+    /**
+     * Obtiene el estado actual del circuito.
+     *
+     * @return El estado del circuito.
+     */
+    public CircuitState getCurrentState() {
+        return state.get();
+    }
+
+    @Override
+    public String getState() {
+        return state.get().name();
+    }
+
+    @Override
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    @Override
+    public long getOpenedCount() {
+        return openedCount.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    @Override
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    /**
+     * Abre el circuito si se encuentra en el estado esperado.
+     *
+     * @param expected El estado desde el que se abre el circuito.
+     */
+    private void open(CircuitState expected) {
+        // Solo la transición que abre el circuito fija el instante: un fallo tardío con el circuito ya abierto no
+        // debe prolongar la espera. Una llamada que vea el estado abierto antes de esta escritura puede, a lo sumo,
+        // adelantar la única llamada de prueba.
+        if (state.compareAndSet(expected, CircuitState.OPEN)) {
+            openedAt = System.nanoTime();
+            openedCount.increment();
+            consecutiveFailures.set(0);
+            LOGGER.warn("Circuito '{}' abierto: las llamadas fallarán de inmediato durante {} ms",
+                    name, TimeUnit.NANOSECONDS.toMillis(openNanos));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package utility.resilience;
+
+/**
+ * Interfaz de gestión JMX que expone el estado de un {@link CircuitBreaker}.
+ */
+public interface CircuitBreakerMXBean {
+
+    /**
+     * Obtiene el estado actual del circuito.
+     *
+     * @return El nombre del estado: CLOSED, OPEN o HALF_OPEN.
+     */
+    String getState();
+
+    /**
+     * Obtiene el número de fallos consecutivos registrados en estado cerrado.
+     *
+     * @return El número de fallos consecutivos.
+     */
+    int getConsecutiveFailures();
+
+    /**
+     * Obtiene el número de veces que el circuito se ha abierto.
+     *
+     * @return El número de aperturas.
+     */
+    long getOpenedCount();
+
+    /**
+     * Obtiene el número de llamadas rechazadas sin intentarse por estar el circuito abierto.
+     *
+     * @return El número de llamadas rechazadas.
+     */
+    long getRejectedCount();
+
+    /**
+     * Obtiene el número total de fallos registrados.
+     *
+     * @return El número de fallos.
+     */
+    long getFailureCount();
+
+    /**
+     * Obtiene el número total de éxitos registrados.
+     *
+     * @return El número de éxitos.
+     */
+    long getSuccessCount();
+}
@@ -0,0 +1,21 @@
+package utility.resilience;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Excepción lanzada cuando una llamada se rechaza de inmediato porque el {@link CircuitBreaker} que protege la
+ * base de datos está abierto. No debe reintentarse: el circuito volverá a probar el recurso por sí mismo.
+ */
+public class CircuitBreakerOpenException extends SQLTransientConnectionException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor que inicializa el mensaje de la excepción.
+     *
+     * @param message El mensaje de la excepción.
+     */
+    public CircuitBreakerOpenException(String message) {
+        super(message, "08001");
+    }
+}
@@ -0,0 +1,22 @@
+package utility.resilience;
+
+/**
+ * Enumeración que define los estados de un {@link CircuitBreaker}.
+ */
+public enum CircuitState {
+    /**
+     * Funcionamiento normal: todas las llamadas se permiten y se cuentan los fallos consecutivos.
+     */
+    CLOSED,
+
+    /**
+     * El recurso se considera caído: las llamadas se rechazan de inmediato sin intentar acceder a él.
+     */
+    OPEN,
+
+    /**
+     * Ha pasado el tiempo de espera tras la apertura: se permite una única llamada de prueba para decidir si el
+     * circuito se cierra o vuelve a abrirse.
+     */
+    HALF_OPEN
+}
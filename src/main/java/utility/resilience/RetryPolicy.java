@@ -0,0 +1,150 @@
+package utility.resilience;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Política de reintentos acotados con espera exponencial y fluctuación aleatoria (jitter) para errores SQL
+ * transitorios.
+ *
+ * <p>Se consideran transitorios los errores de conexión (SQLState de clase {@code 08}), los conflictos de
+ * transacción (clase {@code 40}, por ejemplo interbloqueos), los tiempos de espera de bloqueo de MySQL (códigos
+ * 1205 y 1213) y cualquier {@link SQLTransientException}. Los rechazos por circuito abierto, las operaciones
+ * canceladas y las sentencias que agotan su tiempo máximo de ejecución nunca se reintentan: repetir una consulta
+ * demasiado lenta solo retendría la conexión aún más tiempo.</p>
+ */
+public class RetryPolicy implements RetryPolicyMXBean {
+
+    // Códigos de error de MySQL: tiempo de espera de bloqueo agotado e interbloqueo.
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+    private static final int MYSQL_DEADLOCK = 1213;
+
+    // Número máximo de intentos por llamada, incluido el primero.
+    private final int maxAttempts;
+
+    // Espera base y máxima entre intentos, en milisegundos.
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    // Contadores para las métricas.
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder exhaustedCount = new LongAdder();
+
+    /**
+     * Constructor que inicializa los parámetros de la política.
+     *
+     * @param maxAttempts     El número máximo de intentos por llamada, incluido el primero.
+     * @param baseDelayMillis La espera base entre intentos, que se duplica en cada reintento.
+     * @param maxDelayMillis  La espera máxima entre intentos.
+     */
+    public RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * Determina si un error debe reintentarse y, en ese caso, espera el tiempo correspondiente.
+     *
+     * @param error   El error del intento fallido.
+     * @param attempt El número del intento fallido, empezando en 1.
+     * @return {@code true} si debe realizarse otro intento; {@code false} si el error debe propagarse.
+     */
+    public boolean awaitRetry(Throwable error, int attempt) {
+        if (!isTransient(error)) {
+            return false;
+        }
+        if (attempt >= maxAttempts) {
+            exhaustedCount.increment();
+            return false;
+        }
+        try {
+            Thread.sleep(backoffMillis(attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        retryCount.increment();
+        return true;
+    }
+
+    /**
+     * Calcula la espera antes del siguiente intento con fluctuación completa: un valor aleatorio entre cero y la
+     * espera exponencial, para que los clientes no reintenten todos a la vez.
+     *
+     * @param attempt El número del intento fallido, empezando en 1.
+     * @return La espera en milisegundos.
+     */
+    long backoffMillis(int attempt) {
+        long exponential = baseDelayMillis << Math.min(attempt - 1, 20);
+        long cap = Math.min(maxDelayMillis, exponential);
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    /**
+     * Determina si un error, o alguna de sus causas, es un error SQL transitorio.
+     *
+     * @param error El error a analizar.
+     * @return {@code true} si el error es transitorio y puede reintentarse.
+     */
+    public static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CircuitBreakerOpenException || cause instanceof CancellationException) {
+                return false;
+            }
+            if (cause instanceof SQLTimeoutException && isQueryTimeout((SQLException) cause)) {
+                return false;
+            }
+            if (cause instanceof SQLTransientException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                SQLException sqlException = (SQLException) cause;
+                String sqlState = sqlException.getSQLState();
+                if (sqlState != null && (sqlState.startsWith("08") || sqlState.startsWith("40"))) {
+                    return true;
+                }
+                int errorCode = sqlException.getErrorCode();
+                if (errorCode == MYSQL_LOCK_WAIT_TIMEOUT || errorCode == MYSQL_DEADLOCK) {
+                    return true;
+                }
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determina si un tiempo agotado corresponde al tiempo máximo de ejecución de una sentencia, y no a la espera de
+     * una conexión o de un bloqueo.
+     *
+     * @param timeout El error de tiempo agotado.
+     * @return {@code true} si la sentencia superó su tiempo máximo de ejecución.
+     */
+    private static boolean isQueryTimeout(SQLException timeout) {
+        String sqlState = timeout.getSQLState();
+        return (sqlState == null || !sqlState.startsWith("08"))
+                && timeout.getErrorCode() != MYSQL_LOCK_WAIT_TIMEOUT;
+    }
+
+    @Override
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    @Override
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    @Override
+    public long getExhaustedCount() {
+        return exhaustedCount.sum();
+    }
+}
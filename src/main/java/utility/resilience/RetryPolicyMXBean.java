@@ -0,0 +1,28 @@
+package utility.resilience;
+
+/**
+ * Interfaz de gestión JMX que expone los contadores de una {@link RetryPolicy}.
+ */
+public interface RetryPolicyMXBean {
+
+    /**
+     * Obtiene el número máximo de intentos por llamada, incluido el primero.
+     *
+     * @return El número máximo de intentos.
+     */
+    int getMaxAttempts();
+
+    /**
+     * Obtiene el número de reintentos realizados.
+     *
+     * @return El número de reintentos.
+     */
+    long getRetryCount();
+
+    /**
+     * Obtiene el número de llamadas que han fallado tras agotar todos sus intentos.
+     *
+     * @return El número de llamadas con los reintentos agotados.
+     */
+    long getExhaustedCount();
+}
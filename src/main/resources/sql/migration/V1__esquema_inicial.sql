@@ -0,0 +1,8 @@
+-- Esquema inicial: la tabla 'customers' tal y como la crean schema.sql y schema-h2.sql. En una base de datos
+-- existente no tiene efecto y solo registra la versión de partida.
+CREATE TABLE IF NOT EXISTS customers (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    phone VARCHAR(15)
+);
@@ -0,0 +1,10 @@
+-- Índices para la búsqueda por prefijo del nombre, la consulta por teléfono y el seguimiento de cambios, con la
+-- columna updated_at que mantiene la propia base de datos en cada modificación.
+ALTER TABLE customers ADD COLUMN IF NOT EXISTS
+    updated_at TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3) NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_customers_name ON customers (name);
+
+CREATE INDEX IF NOT EXISTS idx_customers_phone ON customers (phone);
+
+CREATE INDEX IF NOT EXISTS idx_customers_updated_at ON customers (updated_at);
@@ -0,0 +1,15 @@
+-- Índices para la búsqueda por prefijo del nombre, la consulta por teléfono y el seguimiento de cambios, con la
+-- columna updated_at que mantiene la propia base de datos en cada modificación.
+-- ALGORITHM=INPLACE, LOCK=NONE construye los índices en línea: la tabla sigue admitiendo lecturas y escrituras
+-- mientras se construyen, y MySQL rechaza la sentencia en lugar de bloquear la tabla si no puede hacerlo así.
+ALTER TABLE customers
+    ADD COLUMN updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- Cada índice se crea en su propia sentencia: si uno ya existe (por ejemplo, creado a mano), MySQL rechaza solo esa
+-- sentencia y el resto de índices se construyen igualmente.
+ALTER TABLE customers ADD INDEX idx_customers_name (name), ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE customers ADD INDEX idx_customers_phone (phone), ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE customers ADD INDEX idx_customers_updated_at (updated_at), ALGORITHM=INPLACE, LOCK=NONE;
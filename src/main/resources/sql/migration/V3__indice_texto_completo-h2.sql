@@ -0,0 +1 @@
+-- H2 no tiene índices de texto completo nativos: la búsqueda usa LIKE y esta migración solo registra la versión.
@@ -0,0 +1,7 @@
+-- Índice de texto completo sobre el nombre y el correo para la búsqueda por relevancia (MATCH ... AGAINST), que
+-- sustituye a los recorridos completos de LIKE '%texto%'.
+-- InnoDB construye los índices FULLTEXT en línea (ALGORITHM=INPLACE) pero no admite escrituras concurrentes
+-- mientras lo hace: LOCK=SHARED mantiene las lecturas y bloquea las escrituras durante la construcción.
+ALTER TABLE customers
+    ADD FULLTEXT INDEX ft_customers_name_email (name, email),
+    ALGORITHM=INPLACE, LOCK=SHARED;
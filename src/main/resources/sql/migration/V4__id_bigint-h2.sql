@@ -0,0 +1,4 @@
+-- Identificador de 64 bits en las bases de datos creadas antes de que el esquema inicial usara BIGINT: V1 no
+-- modifica una tabla existente, y los identificadores Snowflake de la fragmentación no caben en INT. H2 conserva
+-- la generación automática de la columna al cambiar su tipo.
+ALTER TABLE customers ALTER COLUMN id SET DATA TYPE BIGINT;
@@ -0,0 +1,7 @@
+-- Identificador de 64 bits en las bases de datos creadas antes de que el esquema inicial usara BIGINT: V1 no
+-- modifica una tabla existente, y los identificadores Snowflake de la fragmentación no caben en INT.
+-- El cambio de tipo de la clave primaria reconstruye la tabla (ALGORITHM=COPY): LOCK=SHARED mantiene las lecturas y
+-- bloquea las escrituras mientras tanto.
+ALTER TABLE customers
+    MODIFY COLUMN id BIGINT NOT NULL AUTO_INCREMENT,
+    ALGORITHM=COPY, LOCK=SHARED;
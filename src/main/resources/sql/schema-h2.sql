@@ -0,0 +1,16 @@
+-- Esquema de la base de datos embebida H2 (modo de compatibilidad con MySQL).
+-- Se ejecuta automáticamente al obtener la primera conexión, por lo que debe ser idempotente.
+
+-- Crear la tabla 'customers'
+CREATE TABLE IF NOT EXISTS customers (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    phone VARCHAR(15)
+);
+
+-- Insertar registros de ejemplo (solo si aún no existen)
+MERGE INTO customers (name, email, phone) KEY (email) VALUES
+    ('Juan Pérez', 'juanperez@example.com', '+34612345678'),
+    ('María García', 'mariagarcia@example.com', '+34987654321'),
+    ('José Martínez', 'josemartinez@example.com', '+34678901234');
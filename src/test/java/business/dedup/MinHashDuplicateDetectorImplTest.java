@@ -0,0 +1,72 @@
+package business.dedup;
+
+import business.entity.Customer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del detector de duplicados con clientes casi duplicados conocidos entre muchos clientes distintos.
+ */
+class MinHashDuplicateDetectorImplTest {
+
+    // Clientes distintos que acompañan a los duplicados, para que la detección dependa de las bandas LSH.
+    private static final int DISTINCT_CUSTOMERS = 500;
+
+    private static final String[] FIRST_NAMES = {"Pedro", "Lucía", "Carmen", "Javier", "Elena", "Sergio", "Marta",
+            "Pablo", "Irene", "Álvaro", "Nuria", "Raúl", "Sara", "Diego", "Paula", "Hugo", "Alba", "Iván", "Rocío",
+            "Óscar"};
+
+    private static final String[] LAST_NAMES = {"Sánchez", "Fernández", "Romero", "Navarro", "Torres", "Domínguez",
+            "Vázquez", "Ramos", "Gil", "Serrano", "Blanco", "Molina", "Morales", "Ortega", "Delgado", "Castro",
+            "Ortiz", "Rubio", "Marín", "Sanz", "Iglesias", "Núñez", "Medina", "Garrido", "Cortés"};
+
+    @Test
+    void groupsKnownNearDuplicatesAndNothingElse() {
+        List<Customer> customers = new ArrayList<>();
+        // Misma persona con acentos, mayúsculas, espacios, etiqueta '+' en el correo y prefijos distintos.
+        customers.add(new Customer("1", "José García", "jose.garcia@example.com", "+34612345678"));
+        customers.add(new Customer("2", "Jose Garcia", "jose.garcia+tienda@example.com", "612345678"));
+        customers.add(new Customer("3", "JOSÉ  GARCÍA", "josegarcia@example.com", "0034612345678"));
+        // Misma persona sin acentos y con otro separador en el correo, que no coincide al normalizarlo.
+        customers.add(new Customer("4", "María López", "maria.lopez@correo.es", "622222222"));
+        customers.add(new Customer("5", "Maria Lopez", "maria_lopez@correo.es", "622222222"));
+        for (int i = 0; i < DISTINCT_CUSTOMERS; i++) {
+            String first = FIRST_NAMES[i % FIRST_NAMES.length];
+            String last = LAST_NAMES[i / FIRST_NAMES.length % LAST_NAMES.length];
+            customers.add(new Customer(String.valueOf(100 + i), first + " " + last,
+                    "cliente" + i + "@dominio" + (i % 7) + ".org", String.format("6%08d", 10_000_000 + i * 7919)));
+        }
+
+        List<DuplicateCluster> clusters = new MinHashDuplicateDetectorImpl(20, 5, 0.75, 20, new ForkJoinPool(2))
+                .findClusters(customers);
+
+        assertEquals(2, clusters.size(), clusters::toString);
+        assertEquals(Set.of("1", "2", "3"), idsOf(clusters.get(0)));
+        assertEquals(Set.of("4", "5"), idsOf(clusters.get(1)));
+        assertEquals(1.0, clusters.get(0).getMaxScore());
+        assertTrue(clusters.get(1).getMaxScore() >= 0.75);
+    }
+
+    @Test
+    void findsNoClustersWithoutDuplicates() {
+        List<Customer> customers = List.of(
+                new Customer("1", "Ana Pérez", "ana@example.com", "611111111"),
+                new Customer("2", "Luis Gómez", "luis@example.com", "622222222"),
+                new Customer("3", "Eva Ruiz", "eva@correo.es", "633333333"));
+
+        assertTrue(new MinHashDuplicateDetectorImpl().findClusters(customers).isEmpty());
+    }
+
+    private static Set<String> idsOf(DuplicateCluster cluster) {
+        return cluster.getCustomers().stream().map(Customer::getId).collect(Collectors.toSet());
+    }
+}
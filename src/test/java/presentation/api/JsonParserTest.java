@@ -0,0 +1,36 @@
+package presentation.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas del límite de anidamiento del analizador JSON.
+ */
+class JsonParserTest {
+
+    @Test
+    void nestingUpToTheLimitIsAccepted() {
+        String json = "[".repeat(JsonParser.MAX_DEPTH) + "]".repeat(JsonParser.MAX_DEPTH);
+
+        Object value = JsonParser.parse(json);
+        for (int level = 1; level < JsonParser.MAX_DEPTH; level++) {
+            value = ((List<?>) value).get(0);
+        }
+        assertEquals(List.of(), value);
+    }
+
+    @Test
+    void deepNestingIsRejectedWithoutExhaustingTheStack() {
+        // Un cuerpo de 16 MB de corchetes agotaría la pila con un análisis recursivo sin límite.
+        String json = "[".repeat(1_000_000);
+
+        assertThrows(IllegalArgumentException.class, () -> JsonParser.parse(json));
+        assertThrows(IllegalArgumentException.class,
+                () -> JsonParser.parse("{\"a\":".repeat(JsonParser.MAX_DEPTH + 1) + "1"
+                        + "}".repeat(JsonParser.MAX_DEPTH + 1)));
+    }
+}
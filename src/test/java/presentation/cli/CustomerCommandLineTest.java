@@ -0,0 +1,117 @@
+package presentation.cli;
+
+import business.entity.Customer;
+import business.service.CustomerService;
+import business.service.CustomerServiceImpl;
+import business.service.JdbcUnitOfWorkImpl;
+import business.service.NonTransactionalUnitOfWorkImpl;
+import business.service.UnitOfWork;
+import business.validation.CustomerValidatorImpl;
+import repository.CustomerDAOImpl;
+import utility.config.DatabaseConfigLoaderImpl;
+import utility.connection.EmbeddedDatabaseConnectionImpl;
+import utility.connection.TransactionalDatabaseConnectionImpl;
+import utility.loader.PropertiesLoaderImpl;
+import utility.logging.EntityLogMessagesImpl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de los comandos de importación y exportación sobre una base de datos H2 en memoria, con lotes pequeños
+ * para recorrer varios lotes y páginas.
+ */
+class CustomerCommandLineTest {
+
+    // Clientes de cada lote y de cada página.
+    private static final int BATCH_SIZE = 2;
+
+    @TempDir
+    Path tempDir;
+
+    private EmbeddedDatabaseConnectionImpl dbConnection;
+    private TransactionalDatabaseConnectionImpl transactionalConnection;
+
+    @BeforeEach
+    void setUp() {
+        dbConnection = new EmbeddedDatabaseConnectionImpl(
+                new DatabaseConfigLoaderImpl(new PropertiesLoaderImpl(), "h2-test.properties"));
+        transactionalConnection = new TransactionalDatabaseConnectionImpl(dbConnection);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        dbConnection.close();
+    }
+
+    @Test
+    void importSkipsOnlyTheRowsTheDatabaseRejects() throws IOException {
+        assertImportSkipsRejectedRows(service(new JdbcUnitOfWorkImpl(transactionalConnection)));
+    }
+
+    @Test
+    void importWithoutTransactionsKeepsTheRowsAddedBeforeTheRejection() throws IOException {
+        assertImportSkipsRejectedRows(service(new NonTransactionalUnitOfWorkImpl()));
+    }
+
+    @Test
+    void exportWritesEveryCustomerOnceInIdOrder() throws IOException {
+        CustomerService customerService = service(new NonTransactionalUnitOfWorkImpl());
+        List<Customer> customers = customerService.getAll();
+        Path output = tempDir.resolve("exportados.tsv");
+
+        assertEquals(CustomerCommandLine.EXIT_OK, commandLine(customerService).run("export", output.toString()));
+
+        List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+        assertEquals(customers.size() + 1, lines.size());
+        long previousId = Long.MIN_VALUE;
+        for (String line : lines.subList(1, lines.size())) {
+            long id = Long.parseLong(line.substring(0, line.indexOf('\t')));
+            assertTrue(id > previousId, "identificadores desordenados o repetidos: " + line);
+            previousId = id;
+        }
+    }
+
+    private void assertImportSkipsRejectedRows(CustomerService customerService) throws IOException {
+        int before = customerService.getAll().size();
+        Path input = tempDir.resolve("clientes.tsv");
+        Files.write(input, List.of(
+                "name\temail\tphone",
+                "Ana Uno\tana.uno@example.com\t600111222",
+                "Beto Dos\tbeto.dos@example.com\t600111223",
+                "Carla Tres\tcarla.tres@example.com\t600111225",
+                // Mismo correo que la línea 2: la base de datos rechaza el lote de las líneas 4 y 5 tras añadir la 4.
+                "Ana Repetida\tana.uno@example.com\t600111224",
+                "Dani Cuatro\tdani.cuatro@example.com\t600111226"), StandardCharsets.UTF_8);
+
+        assertEquals(CustomerCommandLine.EXIT_REJECTED,
+                commandLine(customerService).run("import", input.toString()));
+
+        List<String> emails = customerService.getAll().stream().map(Customer::getEmail).collect(Collectors.toList());
+        assertEquals(before + 4, emails.size());
+        assertTrue(emails.containsAll(List.of("ana.uno@example.com", "beto.dos@example.com",
+                "carla.tres@example.com", "dani.cuatro@example.com")));
+    }
+
+    private CustomerService service(UnitOfWork unitOfWork) {
+        return new CustomerServiceImpl(new CustomerDAOImpl(transactionalConnection, new EntityLogMessagesImpl<>()),
+                new CustomerValidatorImpl(), unitOfWork);
+    }
+
+    private static CustomerCommandLine commandLine(CustomerService customerService) {
+        return new CustomerCommandLine(customerService, new CustomerValidatorImpl(), BATCH_SIZE);
+    }
+}
@@ -0,0 +1,85 @@
+package repository;
+
+import business.entity.Customer;
+import utility.connection.DatabaseConnection;
+import utility.logging.EntityLogMessagesImpl;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas del registro de sentencias en el token de cancelación.
+ */
+class CancellationTokenTest {
+
+    @Test
+    void cancelBetweenRegistrationAndExecutionIsNotLost() throws SQLException {
+        CancellationToken token = new CancellationToken();
+        Statement statement = mock(Statement.class);
+        try (CancellationToken.Scope scope = token.bind()) {
+            CancellationToken.Registration registration = CancellationToken.register(statement);
+            // La sentencia aún no se ejecuta: Statement.cancel() no la detendría.
+            token.cancel();
+            verify(statement).cancel();
+
+            assertThrows(CancellationException.class, registration::throwIfCancelled);
+            registration.close();
+        }
+    }
+
+    @Test
+    void registeringWithCancelledTokenFailsWithoutCancellingTheStatement() throws SQLException {
+        CancellationToken token = new CancellationToken();
+        Statement statement = mock(Statement.class);
+        token.cancel();
+        try (CancellationToken.Scope scope = token.bind()) {
+            assertThrows(CancellationException.class, () -> CancellationToken.register(statement));
+        }
+        verify(statement, never()).cancel();
+    }
+
+    @Test
+    void registrationWithoutCancellationClosesNormally() {
+        CancellationToken token = new CancellationToken();
+        try (CancellationToken.Scope scope = token.bind()) {
+            CancellationToken.register(mock(Statement.class)).close();
+        }
+        CancellationToken.register(mock(Statement.class)).close();
+    }
+
+    @Test
+    void writeSavedBeforeTheCancellationIsNotReportedAsCancelled() throws SQLException {
+        CancellationToken token = new CancellationToken();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        // La cancelación llega justo después de que la base de datos confirme la escritura.
+        when(statement.executeUpdate()).thenAnswer(invocation -> {
+            token.cancel();
+            return 1;
+        });
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        DatabaseConnection dbConnection = mock(DatabaseConnection.class);
+        when(dbConnection.getConnection()).thenReturn(connection);
+        CustomerDAOImpl dao = new CustomerDAOImpl(dbConnection, new EntityLogMessagesImpl<>());
+
+        try (CancellationToken.Scope scope = token.bind()) {
+            assertDoesNotThrow(() -> dao.update(new Customer("1", "Ana", "ana@example.com", "600111222")));
+            assertThrows(CancellationException.class, () -> dao.delete("1"));
+        }
+        verify(statement).executeUpdate();
+        verify(statement, never()).cancel();
+    }
+}
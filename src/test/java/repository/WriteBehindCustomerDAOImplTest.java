@@ -0,0 +1,159 @@
+package repository;
+
+import business.entity.Customer;
+import utility.logging.EntityLogMessagesImpl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del búfer de escritura diferida sobre el DAO en memoria: agrupación de escrituras, lecturas con el búfer
+ * superpuesto, volcado al cerrar, escrituras descartadas y rechazo de escrituras con el búfer lleno.
+ */
+class WriteBehindCustomerDAOImplTest {
+
+    // Intervalo de volcado periódico lo bastante largo para que las pruebas controlen los volcados.
+    private static final long NO_PERIODIC_FLUSH_MS = 3_600_000;
+
+    private RecordingCustomerDAO delegate;
+    private WriteBehindCustomerDAOImpl dao;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new RecordingCustomerDAO();
+        delegate.add(new Customer(null, "Ana Pérez", "ana@example.com", "612345678"));
+        delegate.add(new Customer(null, "Luis Gómez", "luis@example.com", "622345678"));
+        dao = new WriteBehindCustomerDAOImpl(delegate, 100, 1000, NO_PERIODIC_FLUSH_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dao.close();
+    }
+
+    @Test
+    void coalescesWritesOfTheSameCustomer() {
+        dao.update(new Customer("1", "Ana Uno", "ana@example.com", "612345678"));
+        dao.update(new Customer("1", "Ana Dos", "ana@example.com", "612345678"));
+        dao.update(new Customer("1", "Ana Tres", "ana@example.com", "612345678"));
+        dao.delete("2");
+        assertEquals(2, dao.getPendingCount());
+
+        dao.flush();
+
+        assertEquals(1, delegate.batches.size());
+        assertEquals(1, delegate.batches.get(0).size());
+        assertEquals("Ana Tres", delegate.get("1").getName());
+        assertNull(delegate.get("2"));
+        assertEquals(0, dao.getPendingCount());
+    }
+
+    @Test
+    void readsSeePendingWrites() {
+        dao.update(new Customer("1", "Ana Nueva", "ana@example.com", "612345678"));
+        dao.delete("2");
+
+        assertEquals("Ana Nueva", dao.get("1").getName());
+        assertNull(dao.get("2"));
+        List<Customer> all = dao.getAll();
+        assertEquals(1, all.size());
+        assertEquals("Ana Nueva", all.get(0).getName());
+        assertEquals("Ana Pérez", delegate.get("1").getName());
+    }
+
+    @Test
+    void closeFlushesPendingWrites() {
+        dao.update(new Customer("1", "Ana Cerrada", "ana@example.com", "612345678"));
+
+        dao.close();
+
+        assertEquals("Ana Cerrada", delegate.get("1").getName());
+        assertEquals(0, dao.getPendingCount());
+    }
+
+    @Test
+    void countsWritesDroppedAfterMaxAttempts() {
+        // El correo ya pertenece al cliente 1: la restricción de unicidad rechaza la actualización en cada intento.
+        dao.update(new Customer("2", "Luis Gómez", "ana@example.com", "622345678"));
+
+        dao.flush();
+        dao.flush();
+        dao.flush();
+
+        assertEquals(1, dao.getDroppedCount());
+        assertEquals(0, dao.getPendingCount());
+        assertEquals(1, dao.getDeadLetters().size());
+        assertTrue(dao.getDeadLetters().get(0).startsWith("update 2"));
+        assertEquals("luis@example.com", delegate.get("2").getEmail());
+    }
+
+    @Test
+    void rejectsWritesWhenBufferStaysFull() {
+        dao.close();
+        delegate.failing = true;
+        dao = new WriteBehindCustomerDAOImpl(delegate, 2, 2, NO_PERIODIC_FLUSH_MS);
+
+        IllegalStateException rejected = null;
+        for (int i = 1; i <= 20 && rejected == null; i++) {
+            try {
+                dao.update(new Customer(String.valueOf(i), "Cliente", "cliente" + i + "@example.com", ""));
+            } catch (IllegalStateException e) {
+                rejected = e;
+            }
+        }
+
+        assertNotNull(rejected);
+        assertEquals(1, dao.getRejectedCount());
+        assertTrue(dao.getPendingCount() <= 2);
+        delegate.failing = false;
+    }
+
+    /**
+     * DAO en memoria que registra los lotes recibidos y puede simular una base de datos caída.
+     */
+    private static final class RecordingCustomerDAO extends InMemoryCustomerDAOImpl {
+
+        private final List<List<Customer>> batches = new ArrayList<>();
+        private volatile boolean failing;
+
+        private RecordingCustomerDAO() {
+            super(new EntityLogMessagesImpl<>());
+        }
+
+        @Override
+        public void writeBatch(List<Customer> updated, List<String> deletedIds) {
+            checkAvailable();
+            synchronized (batches) {
+                batches.add(new ArrayList<>(updated));
+            }
+            super.writeBatch(updated, deletedIds);
+        }
+
+        @Override
+        public void update(Customer customer) {
+            checkAvailable();
+            super.update(customer);
+        }
+
+        @Override
+        public void delete(String id) {
+            checkAvailable();
+            super.delete(id);
+        }
+
+        private void checkAvailable() {
+            if (failing) {
+                throw new IllegalStateException("Base de datos no disponible");
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package repository.analytics;
+
+import business.analytics.CustomerReport;
+import business.analytics.GroupCount;
+import business.analytics.ParallelCustomerAnalyticsImpl;
+import business.analytics.ReportResult;
+import business.entity.Customer;
+import business.service.CustomerService;
+import business.service.CustomerServiceImpl;
+import business.validation.CustomerValidatorImpl;
+import repository.CustomerDAO;
+import repository.CustomerDAOImpl;
+import utility.config.DatabaseConfigLoaderImpl;
+import utility.connection.EmbeddedDatabaseConnectionImpl;
+import utility.loader.PropertiesLoaderImpl;
+import utility.logging.EntityLogMessagesImpl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de equivalencia de los informes: el cálculo en la base de datos (H2 en modo MySQL) debe dar los mismos
+ * grupos y recuentos que el recorrido paralelo por páginas del servicio.
+ */
+class SqlCustomerAnalyticsImplTest {
+
+    // Número de grupos pedido, mayor que el de cualquier informe de la prueba, para comparar todos los grupos.
+    private static final int ALL_GROUPS = 1000;
+
+    private EmbeddedDatabaseConnectionImpl dbConnection;
+    private CustomerService customerService;
+
+    @BeforeEach
+    void setUp() {
+        dbConnection = new EmbeddedDatabaseConnectionImpl(
+                new DatabaseConfigLoaderImpl(new PropertiesLoaderImpl(), "h2-test.properties"));
+        CustomerDAO customerDAO = new CustomerDAOImpl(dbConnection, new EntityLogMessagesImpl<>());
+        customerService = new CustomerServiceImpl(customerDAO, new CustomerValidatorImpl());
+        List<Customer> customers = new ArrayList<>();
+        customers.add(new Customer(null, "Ana Pérez", "ana@Example.com", "+34612345678"));
+        customers.add(new Customer(null, "ana  pérez ", "ana.perez@example.COM", "0034612345678"));
+        customers.add(new Customer(null, "ANA PÉREZ", "aperez@example.com", "34612345678"));
+        customers.add(new Customer(null, "Luis Gómez", "luis@example.com", "612345678"));
+        customers.add(new Customer(null, "Luis Gómez", "luis@correo.es", null));
+        customers.add(new Customer(null, "luis gómez", "lgomez@correo.es", ""));
+        customers.add(new Customer(null, "Eva Ruiz", "eva@correo.es", "3461234567"));
+        customers.add(new Customer(null, "Sin Dominio", "sin-dominio", "+34699999999"));
+        for (int i = 0; i < 20; i++) {
+            customers.add(new Customer(null, "Cliente " + (i % 7), "cliente" + i + "@dominio" + (i % 3) + ".org",
+                    i % 2 == 0 ? "+3460000" + String.format("%04d", i) : "91" + String.format("%07d", i)));
+        }
+        for (Customer customer : customers) {
+            customerDAO.add(customer);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        dbConnection.close();
+    }
+
+    @Test
+    void emailDomainReportMatchesParallelScan() {
+        assertSameResult(CustomerReport.EMAIL_DOMAIN);
+    }
+
+    @Test
+    void countryCodeReportMatchesParallelScan() {
+        assertSameResult(CustomerReport.COUNTRY_CODE);
+    }
+
+    @Test
+    void duplicatesPerDomainReportMatchesParallelScan() {
+        assertSameResult(CustomerReport.DUPLICATES_PER_DOMAIN);
+    }
+
+    private void assertSameResult(CustomerReport report) {
+        List<ReportResult> partials = new ArrayList<>();
+        ReportResult parallel = new ParallelCustomerAnalyticsImpl(customerService, 5, new ForkJoinPool(2))
+                .run(report, ALL_GROUPS, partials::add);
+        ReportResult sql = new SqlCustomerAnalyticsImpl(dbConnection).run(report, ALL_GROUPS, null);
+
+        assertTrue(parallel.getTotalCount() > 0);
+        assertEquals(countsOf(parallel), countsOf(sql));
+        assertEquals(parallel.getGroupCount(), sql.getGroupCount());
+        assertEquals(parallel.getTotalCount(), sql.getTotalCount());
+        assertTrue(partials.size() > 1);
+        assertTrue(partials.get(partials.size() - 1).isComplete());
+    }
+
+    private static Map<String, Long> countsOf(ReportResult result) {
+        Map<String, Long> counts = new HashMap<>();
+        for (GroupCount group : result.getTopGroups()) {
+            counts.put(group.getKey(), group.getCount());
+        }
+        return counts;
+    }
+}
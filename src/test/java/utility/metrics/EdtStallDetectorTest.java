@@ -0,0 +1,74 @@
+package utility.metrics;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.awt.EventQueue;
+import java.awt.SecondaryLoop;
+import java.awt.Toolkit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas del detector de bloqueos del hilo de eventos con un bucle anidado como el de los diálogos modales.
+ */
+class EdtStallDetectorTest {
+
+    // Umbral de bloqueo de las pruebas, en milisegundos.
+    private static final long THRESHOLD_MILLIS = 50;
+
+    private static EdtStallDetector detector;
+
+    @BeforeAll
+    static void installDetector() {
+        System.setProperty("java.awt.headless", "true");
+        detector = new EdtStallDetector(THRESHOLD_MILLIS);
+    }
+
+    @AfterAll
+    static void closeDetector() {
+        detector.close();
+    }
+
+    @Test
+    void idleModalLoopIsNotAStall() throws Exception {
+        detector.reset();
+        AtomicLong currentDuringIdle = new AtomicLong(-1);
+        EventQueue.invokeAndWait(() -> {
+            SecondaryLoop loop = Toolkit.getDefaultToolkit().getSystemEventQueue().createSecondaryLoop();
+            // Un evento anidado antes de la espera, como el que pinta el diálogo al abrirse.
+            EventQueue.invokeLater(() -> { });
+            Thread closer = new Thread(() -> {
+                sleep(THRESHOLD_MILLIS * 4);
+                currentDuringIdle.set(detector.getCurrentDispatchMillis());
+                loop.exit();
+            });
+            closer.start();
+            loop.enter();
+        });
+        // El despacho del evento exterior termina después de que invokeAndWait lo dé por ejecutado.
+        EventQueue.invokeAndWait(() -> { });
+
+        assertEquals(0, currentDuringIdle.get());
+        assertEquals(0, detector.getStallCount());
+    }
+
+    @Test
+    void busyEventIsAStall() throws Exception {
+        detector.reset();
+        EventQueue.invokeAndWait(() -> sleep(THRESHOLD_MILLIS * 3));
+        EventQueue.invokeAndWait(() -> { });
+
+        assertEquals(1, detector.getStallCount());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
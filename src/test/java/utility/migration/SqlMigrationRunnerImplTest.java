@@ -0,0 +1,91 @@
+package utility.migration;
+
+import utility.config.DatabaseConfigLoaderImpl;
+import utility.connection.EmbeddedDatabaseConnectionImpl;
+import utility.connection.SqlScriptRunner;
+import utility.loader.PropertiesLoaderImpl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la migración de índices sobre una base de datos en la que uno de ellos ya se creó a mano.
+ */
+class SqlMigrationRunnerImplTest {
+
+    // Índices que crea la migración V2.
+    private static final Set<String> V2_INDEXES =
+            Set.of("idx_customers_name", "idx_customers_phone", "idx_customers_updated_at");
+
+    // Índice añadido por una cláusula ADD INDEX de MySQL.
+    private static final Pattern ADD_INDEX = Pattern.compile("ADD INDEX (\\w+)");
+
+    private EmbeddedDatabaseConnectionImpl dbConnection;
+
+    @BeforeEach
+    void setUp() {
+        dbConnection = new EmbeddedDatabaseConnectionImpl(
+                new DatabaseConfigLoaderImpl(new PropertiesLoaderImpl(), "h2-test.properties"));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        dbConnection.close();
+    }
+
+    @Test
+    void indexCreatedByHandDoesNotPreventTheOthers() throws SQLException {
+        try (Connection conn = dbConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE INDEX idx_customers_phone ON customers (phone)");
+        }
+
+        new SqlMigrationRunnerImpl(dbConnection).migrate();
+
+        assertTrue(indexNames().containsAll(V2_INDEXES), "índices: " + indexNames());
+    }
+
+    @Test
+    void mysqlScriptAddsEachIndexInItsOwnStatement() {
+        List<String> statements = new SqlScriptRunner().readStatements("sql/migration/V2__indices_rendimiento.sql");
+        Set<String> added = new HashSet<>();
+        for (String statement : statements) {
+            Matcher matcher = ADD_INDEX.matcher(statement.toUpperCase(Locale.ROOT));
+            int count = 0;
+            while (matcher.find()) {
+                added.add(matcher.group(1).toLowerCase(Locale.ROOT));
+                count++;
+            }
+            assertTrue(count <= 1, "sentencia con varios índices: " + statement);
+        }
+        assertEquals(V2_INDEXES, added);
+    }
+
+    private Set<String> indexNames() throws SQLException {
+        Set<String> names = new HashSet<>();
+        try (Connection conn = dbConnection.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT index_name FROM information_schema.indexes "
+                     + "WHERE LOWER(table_name) = 'customers'")) {
+            while (rs.next()) {
+                names.add(rs.getString(1).toLowerCase(Locale.ROOT));
+            }
+        }
+        return names;
+    }
+}